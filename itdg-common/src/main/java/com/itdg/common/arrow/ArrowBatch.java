@@ -0,0 +1,39 @@
+package com.itdg.common.arrow;
+
+import java.util.List;
+
+/**
+ * 읽은 레코드 배치 - 컬럼은 배치 본문 하나를 공유한다
+ */
+public final class ArrowBatch {
+
+    private final int rowCount;
+    private final List<ArrowVector> columns;
+
+    ArrowBatch(int rowCount, List<ArrowVector> columns) {
+        this.rowCount = rowCount;
+        this.columns = List.copyOf(columns);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public List<ArrowVector> getColumns() {
+        return columns;
+    }
+
+    public ArrowVector column(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * @throws IllegalArgumentException 없는 컬럼
+     */
+    public ArrowVector column(String name) {
+        return columns.stream()
+                .filter(column -> column.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown Arrow column: " + name));
+    }
+}
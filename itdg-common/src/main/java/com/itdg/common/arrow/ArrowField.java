@@ -0,0 +1,7 @@
+package com.itdg.common.arrow;
+
+/**
+ * Arrow 스키마 필드 (항상 nullable)
+ */
+public record ArrowField(String name, ArrowType type) {
+}
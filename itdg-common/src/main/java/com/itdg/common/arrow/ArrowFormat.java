@@ -0,0 +1,165 @@
+package com.itdg.common.arrow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arrow IPC 스트림 형식 상수와 스키마 필드 인코딩/디코딩 (Message.fbs, Schema.fbs의 필요한 부분만)
+ */
+final class ArrowFormat {
+
+    static final int CONTINUATION = 0xFFFFFFFF;
+    static final short METADATA_V5 = 4;
+    static final byte HEADER_SCHEMA = 1;
+    static final byte HEADER_DICTIONARY_BATCH = 2;
+    static final byte HEADER_RECORD_BATCH = 3;
+
+    // Type 유니온 태그
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_FLOATING_POINT = 3;
+    private static final byte TYPE_BINARY = 4;
+    private static final byte TYPE_UTF8 = 5;
+    private static final byte TYPE_BOOL = 6;
+    private static final byte TYPE_DECIMAL = 7;
+    private static final byte TYPE_DATE = 8;
+    private static final byte TYPE_TIME = 9;
+    private static final byte TYPE_TIMESTAMP = 10;
+
+    private static final short PRECISION_DOUBLE = 2;
+    static final short DATE_DAY = 0;
+    static final short DATE_MILLISECOND = 1;
+    static final short UNIT_SECOND = 0;
+    static final short UNIT_MILLISECOND = 1;
+    static final short UNIT_MICROSECOND = 2;
+    static final short UNIT_NANOSECOND = 3;
+
+    private ArrowFormat() {
+    }
+
+    /**
+     * 읽은 필드 - 타입별 물리 배치 정보 포함
+     *
+     * @param byteWidth 값 버퍼의 원소 폭 (BOOL/가변 길이는 0)
+     * @param unit      DATE는 DateUnit, TIME/TIMESTAMP는 TimeUnit
+     * @param scale     DECIMAL 소수 자리수
+     */
+    record FieldLayout(ArrowField field, int byteWidth, int unit, int scale) {
+    }
+
+    static FlatBufferWriter.Table schema(List<ArrowField> fields) {
+        List<FlatBufferWriter.Table> encoded = new ArrayList<>(fields.size());
+        for (ArrowField field : fields) {
+            encoded.add(field(field));
+        }
+        return new FlatBufferWriter.Table()
+                .addShort(0, 0) // little endian
+                .addTables(1, encoded);
+    }
+
+    private static FlatBufferWriter.Table field(ArrowField field) {
+        FlatBufferWriter.Table type = new FlatBufferWriter.Table();
+        byte typeTag = switch (field.type()) {
+            case BOOL -> TYPE_BOOL;
+            case INT32 -> {
+                type.addInt(0, 32).addBool(1, true);
+                yield TYPE_INT;
+            }
+            case INT64 -> {
+                type.addInt(0, 64).addBool(1, true);
+                yield TYPE_INT;
+            }
+            case FLOAT64 -> {
+                type.addShort(0, PRECISION_DOUBLE);
+                yield TYPE_FLOATING_POINT;
+            }
+            case DECIMAL -> {
+                type.addInt(0, ArrowType.DECIMAL_PRECISION).addInt(1, ArrowType.DECIMAL_SCALE).addInt(2, 128);
+                yield TYPE_DECIMAL;
+            }
+            case DATE -> {
+                type.addShort(0, DATE_DAY);
+                yield TYPE_DATE;
+            }
+            case TIME -> {
+                type.addShort(0, UNIT_MICROSECOND).addInt(1, 64);
+                yield TYPE_TIME;
+            }
+            case TIMESTAMP -> {
+                type.addShort(0, UNIT_MICROSECOND);
+                yield TYPE_TIMESTAMP;
+            }
+            case UTF8 -> TYPE_UTF8;
+            case BINARY -> TYPE_BINARY;
+        };
+        return new FlatBufferWriter.Table()
+                .addString(0, field.name())
+                .addBool(1, true)
+                .addByte(2, typeTag)
+                .addTable(3, type)
+                .addTables(5, List.of()); // children (일부 구현은 빈 벡터라도 요구)
+    }
+
+    /**
+     * Schema 테이블의 필드 목록
+     *
+     * @throws IllegalArgumentException 지원하지 않는 타입이나 사전 인코딩 필드
+     */
+    static List<FieldLayout> readSchema(FlatBufferTable schema) {
+        if (schema.getShort(0, 0) != 0) {
+            throw new IllegalArgumentException("Big-endian Arrow streams are not supported");
+        }
+        int count = schema.vectorLength(1);
+        List<FieldLayout> fields = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fields.add(readField(schema.vectorTable(1, i)));
+        }
+        return fields;
+    }
+
+    private static FieldLayout readField(FlatBufferTable field) {
+        String name = field.string(0);
+        if (field.has(4)) {
+            throw new IllegalArgumentException("Dictionary-encoded Arrow field is not supported: " + name);
+        }
+        if (field.vectorLength(5) > 0) {
+            throw new IllegalArgumentException("Nested Arrow field is not supported: " + name);
+        }
+        byte tag = field.getByte(2, 0);
+        FlatBufferTable type = field.table(3);
+        return switch (tag) {
+            case TYPE_BOOL -> new FieldLayout(new ArrowField(name, ArrowType.BOOL), 0, 0, 0);
+            case TYPE_UTF8 -> new FieldLayout(new ArrowField(name, ArrowType.UTF8), 0, 0, 0);
+            case TYPE_BINARY -> new FieldLayout(new ArrowField(name, ArrowType.BINARY), 0, 0, 0);
+            case TYPE_INT -> switch (type.getInt(0, 0)) {
+                case 32 -> new FieldLayout(new ArrowField(name, ArrowType.INT32), 4, 0, 0);
+                case 64 -> new FieldLayout(new ArrowField(name, ArrowType.INT64), 8, 0, 0);
+                default -> throw unsupported(name, "int" + type.getInt(0, 0));
+            };
+            case TYPE_FLOATING_POINT -> {
+                if (type.getShort(0, 0) != PRECISION_DOUBLE) {
+                    throw unsupported(name, "non-double floating point");
+                }
+                yield new FieldLayout(new ArrowField(name, ArrowType.FLOAT64), 8, 0, 0);
+            }
+            case TYPE_DECIMAL -> {
+                if (type.getInt(2, 128) != 128) {
+                    throw unsupported(name, "decimal" + type.getInt(2, 128));
+                }
+                yield new FieldLayout(new ArrowField(name, ArrowType.DECIMAL), 16, 0, type.getInt(1, 0));
+            }
+            case TYPE_DATE -> {
+                short unit = type.getShort(0, DATE_MILLISECOND);
+                yield new FieldLayout(new ArrowField(name, ArrowType.DATE), unit == DATE_DAY ? 4 : 8, unit, 0);
+            }
+            case TYPE_TIME -> new FieldLayout(new ArrowField(name, ArrowType.TIME), type.getInt(1, 32) / 8,
+                    type.getShort(0, UNIT_MILLISECOND), 0);
+            case TYPE_TIMESTAMP -> new FieldLayout(new ArrowField(name, ArrowType.TIMESTAMP), 8,
+                    type.getShort(0, UNIT_SECOND), 0);
+            default -> throw unsupported(name, "type id " + tag);
+        };
+    }
+
+    private static IllegalArgumentException unsupported(String name, String type) {
+        return new IllegalArgumentException("Unsupported Arrow type for field " + name + ": " + type);
+    }
+}
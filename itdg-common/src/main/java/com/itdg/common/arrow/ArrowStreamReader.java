@@ -0,0 +1,141 @@
+package com.itdg.common.arrow;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arrow IPC 스트림 리더 - 생성기 /stream/arrow 응답 등을 행 단위 역직렬화 없이 배치로 읽는다
+ *
+ * 배치마다 본문을 한 번 읽어 두고 컬럼은 그 버퍼를 가리키므로, 배치 하나 크기만큼만 메모리를 쓴다.
+ * 지원 타입은 {@link ArrowType} (압축, 사전 인코딩, 중첩 타입은 미지원 - IllegalArgumentException).
+ *
+ * <pre>
+ * try (ArrowStreamReader reader = new ArrowStreamReader(in)) {
+ *     for (ArrowBatch batch = reader.next(); batch != null; batch = reader.next()) { ... }
+ * }
+ * </pre>
+ */
+public final class ArrowStreamReader implements Closeable {
+
+    private final InputStream in;
+    private final List<ArrowFormat.FieldLayout> layouts;
+    private final List<ArrowField> fields;
+    private boolean finished;
+
+    /**
+     * 스키마 메시지까지 읽음
+     *
+     * @throws IllegalArgumentException Arrow 스트림이 아니거나 지원하지 않는 스키마
+     */
+    public ArrowStreamReader(InputStream in) throws IOException {
+        this.in = in;
+        Message schema;
+        try {
+            schema = readMessage();
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Not an Arrow IPC stream: " + e.getMessage(), e);
+        }
+        if (schema == null || schema.headerType() != ArrowFormat.HEADER_SCHEMA) {
+            throw new IllegalArgumentException("Arrow stream must start with a schema message");
+        }
+        this.layouts = ArrowFormat.readSchema(schema.header());
+        this.fields = layouts.stream().map(ArrowFormat.FieldLayout::field).toList();
+    }
+
+    public List<ArrowField> getFields() {
+        return fields;
+    }
+
+    /**
+     * 다음 레코드 배치 (스트림 끝이면 null)
+     */
+    public ArrowBatch next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        Message message = readMessage();
+        if (message == null) {
+            finished = true;
+            return null;
+        }
+        if (message.headerType() != ArrowFormat.HEADER_RECORD_BATCH) {
+            throw new IllegalArgumentException(message.headerType() == ArrowFormat.HEADER_DICTIONARY_BATCH
+                    ? "Dictionary batches are not supported"
+                    : "Unexpected Arrow message type: " + message.headerType());
+        }
+        FlatBufferTable batch = message.header();
+        if (batch.has(3)) {
+            throw new IllegalArgumentException("Compressed Arrow record batches are not supported");
+        }
+        int rows = Math.toIntExact(batch.getLong(0, 0));
+        ByteBuffer body = ByteBuffer.wrap(in.readNBytes(message.bodyLength())).order(ByteOrder.LITTLE_ENDIAN);
+        if (body.capacity() < message.bodyLength()) {
+            throw new EOFException("Truncated Arrow record batch body");
+        }
+
+        ByteBuffer meta = batch.buffer();
+        int node = batch.vectorStart(1);
+        int buffer = batch.vectorStart(2);
+        List<ArrowVector> columns = new ArrayList<>(layouts.size());
+        for (ArrowFormat.FieldLayout layout : layouts) {
+            int nullCount = Math.toIntExact(meta.getLong(node + 8));
+            node += 16;
+            int validity = meta.getLong(buffer + 8) == 0 ? -1 : (int) meta.getLong(buffer);
+            buffer += 16;
+            int offsets = -1;
+            if (layout.field().type().isVariableWidth()) {
+                offsets = (int) meta.getLong(buffer);
+                buffer += 16;
+            }
+            int values = (int) meta.getLong(buffer);
+            buffer += 16;
+            columns.add(new ArrowVector(layout, body, rows, nullCount, nullCount == 0 ? -1 : validity, offsets,
+                    values));
+        }
+        return new ArrowBatch(rows, columns);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private record Message(byte headerType, FlatBufferTable header, int bodyLength) {
+    }
+
+    /**
+     * 캡슐화된 메시지 하나 (스트림 끝 표시 또는 EOF면 null)
+     */
+    private Message readMessage() throws IOException {
+        byte[] prefix = in.readNBytes(4);
+        if (prefix.length < 4) {
+            return null;
+        }
+        int length = ByteBuffer.wrap(prefix).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (length == ArrowFormat.CONTINUATION) {
+            prefix = in.readNBytes(4);
+            if (prefix.length < 4) {
+                return null;
+            }
+            length = ByteBuffer.wrap(prefix).order(ByteOrder.LITTLE_ENDIAN).getInt(); // 0.15 이전 형식은 바로 길이
+        }
+        if (length == 0) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid Arrow message length: " + length);
+        }
+        byte[] metadata = in.readNBytes(length);
+        if (metadata.length < length) {
+            throw new EOFException("Truncated Arrow message");
+        }
+        FlatBufferTable message = FlatBufferTable.root(ByteBuffer.wrap(metadata).order(ByteOrder.LITTLE_ENDIAN));
+        return new Message(message.getByte(1, 0), message.table(2), Math.toIntExact(message.getLong(3, 0)));
+    }
+}
@@ -0,0 +1,265 @@
+package com.itdg.common.arrow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Arrow IPC 스트림 기록기 (application/vnd.apache.arrow.stream)
+ *
+ * 생성 시 스키마 메시지를, {@link #writeBatch}마다 레코드 배치 메시지 하나를, {@link #close()} 시 스트림 끝 표시를
+ * 기록한다. 배치 본문 버퍼는 재사용하므로 메모리는 가장 큰 배치 하나 크기로 제한된다. 압축/사전 인코딩은 하지 않는다.
+ */
+public final class ArrowStreamWriter implements Closeable {
+
+    public static final String MEDIA_TYPE = "application/vnd.apache.arrow.stream";
+    private static final BigInteger MAX_UNSCALED = BigInteger.TEN.pow(ArrowType.DECIMAL_PRECISION);
+
+    private final OutputStream out;
+    private final List<ArrowField> fields;
+    private final FlatBufferWriter metadata = new FlatBufferWriter();
+    private ByteBuffer body = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+    private long rowCount;
+    private int batchCount;
+    private boolean closed;
+
+    public ArrowStreamWriter(OutputStream out, List<ArrowField> fields) throws IOException {
+        this.out = out;
+        this.fields = List.copyOf(fields);
+        writeMessage(ArrowFormat.HEADER_SCHEMA, ArrowFormat.schema(this.fields), 0);
+    }
+
+    /**
+     * 레코드 배치 기록
+     *
+     * @param columns 필드 순서의 값 벡터 (길이 rows 이상, null은 결측)
+     * @throws IllegalArgumentException 필드 타입으로 변환할 수 없는 값
+     */
+    public void writeBatch(int rows, Object[][] columns) throws IOException {
+        if (columns.length != fields.size()) {
+            throw new IllegalArgumentException("Batch has " + columns.length + " columns, expected " + fields.size());
+        }
+        body.clear();
+        long[] nodes = new long[fields.size() * 2];
+        long[] buffers = new long[fields.size() * 6];
+        int bufferIndex = 0;
+        for (int c = 0; c < fields.size(); c++) {
+            ArrowField field = fields.get(c);
+            Object[] values = columns[c];
+            int nullCount = 0;
+            for (int r = 0; r < rows; r++) {
+                if (values[r] == null) {
+                    nullCount++;
+                }
+            }
+            nodes[c * 2] = rows;
+            nodes[c * 2 + 1] = nullCount;
+
+            // 검증 비트맵 - 결측이 없으면 생략 (길이 0)
+            int validity = body.position();
+            if (nullCount > 0) {
+                reserve((rows + 7) / 8);
+                for (int r = 0; r < rows; r++) {
+                    if (values[r] != null) {
+                        setBit(validity, r);
+                    }
+                }
+            }
+            buffers[bufferIndex++] = validity;
+            buffers[bufferIndex++] = body.position() - validity;
+            pad();
+
+            int start = body.position();
+            try {
+                if (field.type() == ArrowType.BOOL) {
+                    reserve((rows + 7) / 8);
+                    for (int r = 0; r < rows; r++) {
+                        if (values[r] != null && toBoolean(values[r])) {
+                            setBit(start, r);
+                        }
+                    }
+                } else if (field.type().isVariableWidth()) {
+                    int offsets = reserve(4 * (rows + 1));
+                    buffers[bufferIndex++] = offsets;
+                    buffers[bufferIndex++] = 4L * (rows + 1);
+                    pad();
+                    start = body.position();
+                    for (int r = 0; r < rows; r++) {
+                        if (values[r] != null) {
+                            byte[] bytes = field.type() == ArrowType.UTF8
+                                    ? values[r].toString().getBytes(StandardCharsets.UTF_8)
+                                    : toBytes(values[r]);
+                            int at = reserve(bytes.length); // 버퍼가 커질 수 있으므로 먼저 확보
+                            body.put(at, bytes);
+                        }
+                        body.putInt(offsets + 4 * (r + 1), body.position() - start);
+                    }
+                } else {
+                    int width = field.type().byteWidth();
+                    reserve(width * rows);
+                    for (int r = 0; r < rows; r++) {
+                        if (values[r] != null) {
+                            putFixed(field.type(), start + width * r, values[r]);
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Value of column " + field.name() + " cannot be written as Arrow "
+                        + field.type() + ": " + e.getMessage(), e);
+            }
+            buffers[bufferIndex++] = start;
+            buffers[bufferIndex++] = body.position() - start;
+            pad();
+        }
+
+        FlatBufferWriter.Table batch = new FlatBufferWriter.Table()
+                .addLong(0, rows)
+                .addStructs(1, nodes, 2)
+                .addStructs(2, Arrays.copyOf(buffers, bufferIndex), 2);
+        writeMessage(ArrowFormat.HEADER_RECORD_BATCH, batch, body.position());
+        out.write(body.array(), 0, body.position());
+        rowCount += rows;
+        batchCount++;
+    }
+
+    /**
+     * 스트림 끝 표시를 기록 (하부 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeIntLe(ArrowFormat.CONTINUATION);
+        writeIntLe(0);
+        out.flush();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    private void writeMessage(byte headerType, FlatBufferWriter.Table header, long bodyLength) throws IOException {
+        byte[] message = metadata.finish(new FlatBufferWriter.Table()
+                .addShort(0, ArrowFormat.METADATA_V5)
+                .addByte(1, headerType)
+                .addTable(2, header)
+                .addLong(3, bodyLength));
+        writeIntLe(ArrowFormat.CONTINUATION);
+        writeIntLe(message.length); // 8의 배수라 본문이 8바이트 경계에서 시작
+        out.write(message);
+    }
+
+    private void putFixed(ArrowType type, int position, Object value) {
+        switch (type) {
+            case INT32 -> body.putInt(position, value instanceof Number n ? n.intValue()
+                    : Integer.parseInt(value.toString().trim()));
+            case INT64 -> body.putLong(position, value instanceof Number n ? n.longValue()
+                    : Long.parseLong(value.toString().trim()));
+            case FLOAT64 -> body.putDouble(position, value instanceof Number n ? n.doubleValue()
+                    : Double.parseDouble(value.toString().trim()));
+            case DATE -> body.putInt(position, (int) (value instanceof LocalDate d ? d
+                    : value instanceof LocalDateTime dt ? dt.toLocalDate()
+                    : LocalDate.parse(value.toString().trim())).toEpochDay());
+            case TIME -> body.putLong(position, (value instanceof LocalTime t ? t
+                    : LocalTime.parse(value.toString().trim())).toNanoOfDay() / 1000);
+            case TIMESTAMP -> body.putLong(position, epochMicros(value));
+            case DECIMAL -> putDecimal(position, value);
+            default -> throw new IllegalStateException("Not a fixed-width type: " + type);
+        }
+    }
+
+    /**
+     * decimal128 - 스케일을 맞춘 비스케일 값을 16바이트 리틀 엔디언 2의 보수로 기록
+     */
+    private void putDecimal(int position, Object value) {
+        BigDecimal decimal = value instanceof BigDecimal d ? d : new BigDecimal(value.toString().trim());
+        BigInteger unscaled = decimal.setScale(ArrowType.DECIMAL_SCALE, RoundingMode.HALF_UP).unscaledValue();
+        if (unscaled.abs().compareTo(MAX_UNSCALED) >= 0) {
+            throw new ArithmeticException(value + " exceeds DECIMAL(" + ArrowType.DECIMAL_PRECISION + ","
+                    + ArrowType.DECIMAL_SCALE + ")");
+        }
+        long low = unscaled.longValue();
+        body.putLong(position, low);
+        body.putLong(position + 8, unscaled.signum() < 0 ? -1L : 0L);
+    }
+
+    private static boolean toBoolean(Object value) {
+        return value instanceof Boolean b ? b
+                : value instanceof Number n ? n.doubleValue() != 0 : Boolean.parseBoolean(value.toString());
+    }
+
+    private static byte[] toBytes(Object value) {
+        return value instanceof byte[] bytes ? bytes : value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long epochMicros(Object value) {
+        LocalDateTime time;
+        if (value instanceof LocalDateTime dt) {
+            time = dt;
+        } else if (value instanceof LocalDate d) {
+            time = d.atStartOfDay();
+        } else if (value instanceof OffsetDateTime odt) {
+            time = odt.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } else if (value instanceof Instant instant) {
+            time = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        } else {
+            time = LocalDateTime.parse(value.toString().trim().replace(' ', 'T'));
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1000;
+    }
+
+    private void setBit(int bitmap, int index) {
+        int position = bitmap + (index >>> 3);
+        body.put(position, (byte) (body.get(position) | (1 << (index & 7))));
+    }
+
+    /**
+     * 버퍼를 8바이트 경계로 맞춤 (Arrow 권장 정렬)
+     */
+    private void pad() {
+        reserve((8 - body.position() % 8) % 8);
+    }
+
+    /**
+     * 0으로 채운 공간을 확보하고 시작 위치를 반환
+     */
+    private int reserve(int bytes) {
+        if (body.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(body.capacity() * 2, body.position() + bytes))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            grown.put(body.array(), 0, body.position());
+            body = grown;
+        }
+        int start = body.position();
+        Arrays.fill(body.array(), start, start + bytes, (byte) 0);
+        body.position(start + bytes);
+        return start;
+    }
+
+    private void writeIntLe(int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+}
@@ -0,0 +1,30 @@
+package com.itdg.common.arrow;
+
+/**
+ * 지원하는 Arrow 컬럼 타입
+ *
+ * DECIMAL은 decimal128(18, 4), TIME은 time64(µs), TIMESTAMP는 시간대 없는 timestamp(µs)로 기록한다.
+ * 읽을 때는 다른 정밀도/단위도 받아들인다 ({@link ArrowVector}).
+ */
+public enum ArrowType {
+    BOOL, INT32, INT64, FLOAT64, DECIMAL, DATE, TIME, TIMESTAMP, UTF8, BINARY;
+
+    public static final int DECIMAL_PRECISION = 18;
+    public static final int DECIMAL_SCALE = 4;
+
+    /**
+     * 값 버퍼의 고정 폭 (가변 길이/비트맵 타입은 0)
+     */
+    int byteWidth() {
+        return switch (this) {
+            case INT32, DATE -> 4;
+            case INT64, FLOAT64, TIME, TIMESTAMP -> 8;
+            case DECIMAL -> 16;
+            case BOOL, UTF8, BINARY -> 0;
+        };
+    }
+
+    boolean isVariableWidth() {
+        return this == UTF8 || this == BINARY;
+    }
+}
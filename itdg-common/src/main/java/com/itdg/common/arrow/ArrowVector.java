@@ -0,0 +1,181 @@
+package com.itdg.common.arrow;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * 레코드 배치의 한 컬럼 - 배치 본문 버퍼를 그대로 가리키며 접근 시점에만 값을 해석한다
+ *
+ * 타입에 맞지 않는 접근자(예: UTF8 컬럼의 {@link #getLong})는 IllegalStateException.
+ */
+public final class ArrowVector {
+
+    private final ArrowFormat.FieldLayout layout;
+    private final ByteBuffer body;
+    private final int rows;
+    private final int nullCount;
+    private final int validity; // -1이면 결측 없음
+    private final int offsets; // 가변 길이 타입만
+    private final int values;
+
+    ArrowVector(ArrowFormat.FieldLayout layout, ByteBuffer body, int rows, int nullCount, int validity,
+            int offsets, int values) {
+        this.layout = layout;
+        this.body = body;
+        this.rows = rows;
+        this.nullCount = nullCount;
+        this.validity = validity;
+        this.offsets = offsets;
+        this.values = values;
+    }
+
+    public ArrowField getField() {
+        return layout.field();
+    }
+
+    public String getName() {
+        return layout.field().name();
+    }
+
+    public ArrowType getType() {
+        return layout.field().type();
+    }
+
+    public int getRowCount() {
+        return rows;
+    }
+
+    public int getNullCount() {
+        return nullCount;
+    }
+
+    public boolean isNull(int row) {
+        return validity >= 0 && !bit(validity, row);
+    }
+
+    public boolean getBoolean(int row) {
+        require(ArrowType.BOOL);
+        return bit(values, row);
+    }
+
+    public int getInt(int row) {
+        require(ArrowType.INT32);
+        return body.getInt(values + 4 * row);
+    }
+
+    /**
+     * INT64 값, 또는 INT32/DATE/TIME/TIMESTAMP의 원시 정수 값
+     */
+    public long getLong(int row) {
+        if (layout.byteWidth() == 4) {
+            require(ArrowType.INT32, ArrowType.DATE, ArrowType.TIME);
+            return body.getInt(values + 4 * row);
+        }
+        require(ArrowType.INT64, ArrowType.DATE, ArrowType.TIME, ArrowType.TIMESTAMP);
+        return body.getLong(values + 8 * row);
+    }
+
+    public double getDouble(int row) {
+        require(ArrowType.FLOAT64);
+        return body.getDouble(values + 8 * row);
+    }
+
+    public BigDecimal getDecimal(int row) {
+        require(ArrowType.DECIMAL);
+        byte[] bigEndian = new byte[16];
+        for (int i = 0; i < 16; i++) {
+            bigEndian[15 - i] = body.get(values + 16 * row + i);
+        }
+        return new BigDecimal(new BigInteger(bigEndian), layout.scale());
+    }
+
+    public LocalDate getDate(int row) {
+        require(ArrowType.DATE);
+        long value = getLong(row);
+        return layout.unit() == ArrowFormat.DATE_DAY ? LocalDate.ofEpochDay(value)
+                : LocalDate.ofEpochDay(Math.floorDiv(value, 86_400_000L));
+    }
+
+    public LocalTime getTime(int row) {
+        require(ArrowType.TIME);
+        return LocalTime.ofNanoOfDay(getLong(row) * nanosPerUnit());
+    }
+
+    /**
+     * 시간대 없는 타임스탬프 (시간대가 있으면 UTC 기준)
+     */
+    public LocalDateTime getTimestamp(int row) {
+        require(ArrowType.TIMESTAMP);
+        long perSecond = 1_000_000_000L / nanosPerUnit();
+        long value = getLong(row);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, perSecond),
+                (int) (Math.floorMod(value, perSecond) * nanosPerUnit()), ZoneOffset.UTC);
+    }
+
+    public String getString(int row) {
+        require(ArrowType.UTF8);
+        return new String(slice(row), StandardCharsets.UTF_8);
+    }
+
+    public byte[] getBytes(int row) {
+        require(ArrowType.BINARY, ArrowType.UTF8);
+        return slice(row);
+    }
+
+    /**
+     * 타입별 자바 값 (결측이면 null) - Boolean, Integer, Long, Double, BigDecimal, LocalDate, LocalTime,
+     * LocalDateTime, String, byte[]
+     */
+    public Object getObject(int row) {
+        if (isNull(row)) {
+            return null;
+        }
+        return switch (getType()) {
+            case BOOL -> getBoolean(row);
+            case INT32 -> getInt(row);
+            case INT64 -> getLong(row);
+            case FLOAT64 -> getDouble(row);
+            case DECIMAL -> getDecimal(row);
+            case DATE -> getDate(row);
+            case TIME -> getTime(row);
+            case TIMESTAMP -> getTimestamp(row);
+            case UTF8 -> getString(row);
+            case BINARY -> getBytes(row);
+        };
+    }
+
+    private byte[] slice(int row) {
+        int start = body.getInt(offsets + 4 * row);
+        byte[] bytes = new byte[body.getInt(offsets + 4 * (row + 1)) - start];
+        body.get(values + start, bytes);
+        return bytes;
+    }
+
+    private boolean bit(int bitmap, int index) {
+        return (body.get(bitmap + (index >>> 3)) & (1 << (index & 7))) != 0;
+    }
+
+    private long nanosPerUnit() {
+        return switch (layout.unit()) {
+            case ArrowFormat.UNIT_SECOND -> 1_000_000_000L;
+            case ArrowFormat.UNIT_MILLISECOND -> 1_000_000L;
+            case ArrowFormat.UNIT_MICROSECOND -> 1_000L;
+            default -> 1L;
+        };
+    }
+
+    private void require(ArrowType... types) {
+        for (ArrowType type : types) {
+            if (getType() == type) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Column " + getName() + " is " + getType());
+    }
+}
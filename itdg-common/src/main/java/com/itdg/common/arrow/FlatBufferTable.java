@@ -0,0 +1,109 @@
+package com.itdg.common.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * FlatBuffers 테이블 읽기 (Arrow IPC 메타데이터용 최소 구현) - 필드 id로 vtable을 찾아 바로 읽는다
+ *
+ * @param buffer 리틀 엔디언 버퍼 (위치는 무관)
+ * @param position 테이블 시작 위치
+ */
+record FlatBufferTable(ByteBuffer buffer, int position) {
+
+    /**
+     * 버퍼 시작의 루트 테이블
+     */
+    static FlatBufferTable root(ByteBuffer buffer) {
+        return new FlatBufferTable(buffer, buffer.getInt(0));
+    }
+
+    byte getByte(int id, int defaultValue) {
+        int offset = fieldOffset(id);
+        return offset == 0 ? (byte) defaultValue : buffer.get(position + offset);
+    }
+
+    boolean getBool(int id, boolean defaultValue) {
+        int offset = fieldOffset(id);
+        return offset == 0 ? defaultValue : buffer.get(position + offset) != 0;
+    }
+
+    short getShort(int id, int defaultValue) {
+        int offset = fieldOffset(id);
+        return offset == 0 ? (short) defaultValue : buffer.getShort(position + offset);
+    }
+
+    int getInt(int id, int defaultValue) {
+        int offset = fieldOffset(id);
+        return offset == 0 ? defaultValue : buffer.getInt(position + offset);
+    }
+
+    long getLong(int id, long defaultValue) {
+        int offset = fieldOffset(id);
+        return offset == 0 ? defaultValue : buffer.getLong(position + offset);
+    }
+
+    boolean has(int id) {
+        return fieldOffset(id) != 0;
+    }
+
+    /**
+     * 하위 테이블 (없으면 null)
+     */
+    FlatBufferTable table(int id) {
+        int target = target(id);
+        return target < 0 ? null : new FlatBufferTable(buffer, target);
+    }
+
+    /**
+     * 문자열 (없으면 null)
+     */
+    String string(int id) {
+        int target = target(id);
+        if (target < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[buffer.getInt(target)];
+        buffer.get(target + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 벡터 길이 (없으면 0)
+     */
+    int vectorLength(int id) {
+        int target = target(id);
+        return target < 0 ? 0 : buffer.getInt(target);
+    }
+
+    /**
+     * 테이블 벡터의 i번째 원소
+     */
+    FlatBufferTable vectorTable(int id, int index) {
+        int element = target(id) + 4 + 4 * index;
+        return new FlatBufferTable(buffer, element + buffer.getInt(element));
+    }
+
+    /**
+     * 구조체 벡터의 첫 원소 위치 (원소는 연속 배치)
+     */
+    int vectorStart(int id) {
+        return target(id) + 4;
+    }
+
+    private int target(int id) {
+        int offset = fieldOffset(id);
+        if (offset == 0) {
+            return -1;
+        }
+        int field = position + offset;
+        return field + buffer.getInt(field);
+    }
+
+    private int fieldOffset(int id) {
+        int vtable = position - buffer.getInt(position);
+        int vtableSize = Short.toUnsignedInt(buffer.getShort(vtable));
+        int entry = 4 + 2 * id;
+        return entry < vtableSize ? Short.toUnsignedInt(buffer.getShort(vtable + entry)) : 0;
+    }
+}
@@ -0,0 +1,192 @@
+package com.itdg.common.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * FlatBuffers 인코더 (Arrow IPC 메타데이터용 최소 구현)
+ *
+ * 표준 빌더와 달리 앞에서부터 기록한다 - 테이블을 먼저 쓰고 자식(문자열/벡터/하위 테이블)을 뒤에 붙인 뒤
+ * 오프셋을 채우므로 uoffset은 항상 양수(앞 방향)다. vtable은 테이블 바로 앞에 두며 중복 제거는 하지 않는다.
+ */
+final class FlatBufferWriter {
+
+    private ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * 테이블 - 필드 id별 스칼라 또는 자식 참조
+     */
+    static final class Table {
+
+        private final List<Slot> slots = new ArrayList<>();
+
+        Table addByte(int id, int value) {
+            return scalar(id, 1, value);
+        }
+
+        Table addBool(int id, boolean value) {
+            return scalar(id, 1, value ? 1 : 0);
+        }
+
+        Table addShort(int id, int value) {
+            return scalar(id, 2, value);
+        }
+
+        Table addInt(int id, int value) {
+            return scalar(id, 4, value);
+        }
+
+        Table addLong(int id, long value) {
+            return scalar(id, 8, value);
+        }
+
+        Table addString(int id, String value) {
+            return child(id, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Table addTable(int id, Table table) {
+            return child(id, table);
+        }
+
+        Table addTables(int id, List<Table> tables) {
+            return child(id, new TableVector(tables));
+        }
+
+        /**
+         * 구조체 벡터 (Arrow의 FieldNode/Buffer처럼 long 필드만 가진 구조체 - 원소는 8바이트 정렬)
+         */
+        Table addStructs(int id, long[] fields, int fieldsPerStruct) {
+            return child(id, new StructVector(fields, fieldsPerStruct));
+        }
+
+        private Table scalar(int id, int size, long value) {
+            slots.add(new Slot(id, size, value, null));
+            return this;
+        }
+
+        private Table child(int id, Object child) {
+            slots.add(new Slot(id, 4, 0, child));
+            return this;
+        }
+    }
+
+    private record Slot(int id, int size, long value, Object child) {
+    }
+
+    private record TableVector(List<Table> tables) {
+    }
+
+    private record StructVector(long[] fields, int fieldsPerStruct) {
+    }
+
+    /**
+     * 루트 테이블로 버퍼를 완성 (길이는 8의 배수)
+     */
+    byte[] finish(Table root) {
+        buffer.clear();
+        int rootOffset = reserve(4);
+        int rootTable = writeTable(root); // 기록 중 버퍼가 교체될 수 있으므로 위치를 먼저 구한다
+        buffer.putInt(rootOffset, rootTable - rootOffset);
+        align(8);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private int writeTable(Table table) {
+        int fieldCount = table.slots.stream().mapToInt(Slot::id).max().orElse(-1) + 1;
+        align(2);
+        int vtable = reserve(4 + 2 * fieldCount);
+        buffer.putShort(vtable, (short) (4 + 2 * fieldCount));
+        for (int i = 0; i < fieldCount; i++) {
+            buffer.putShort(vtable + 4 + 2 * i, (short) 0); // 없는 필드는 기본값
+        }
+
+        align(8);
+        int start = reserve(4);
+        buffer.putInt(start, start - vtable);
+        int[] positions = new int[table.slots.size()];
+        for (int i = 0; i < table.slots.size(); i++) {
+            Slot slot = table.slots.get(i);
+            align(slot.size());
+            positions[i] = reserve(slot.size());
+            switch (slot.size()) {
+                case 1 -> buffer.put(positions[i], (byte) slot.value());
+                case 2 -> buffer.putShort(positions[i], (short) slot.value());
+                case 4 -> buffer.putInt(positions[i], (int) slot.value());
+                default -> buffer.putLong(positions[i], slot.value());
+            }
+            buffer.putShort(vtable + 4 + 2 * slot.id(), (short) (positions[i] - start));
+        }
+        buffer.putShort(vtable + 2, (short) (buffer.position() - start));
+
+        for (int i = 0; i < table.slots.size(); i++) {
+            Object child = table.slots.get(i).child();
+            if (child != null) {
+                int target = writeChild(child);
+                buffer.putInt(positions[i], target - positions[i]);
+            }
+        }
+        return start;
+    }
+
+    private int writeChild(Object child) {
+        if (child instanceof Table table) {
+            return writeTable(table);
+        }
+        if (child instanceof byte[] string) {
+            align(4);
+            int start = reserve(4 + string.length + 1);
+            buffer.putInt(start, string.length);
+            buffer.put(start + 4, string);
+            buffer.put(start + 4 + string.length, (byte) 0);
+            return start;
+        }
+        if (child instanceof TableVector vector) {
+            align(4);
+            int start = reserve(4 + 4 * vector.tables().size());
+            buffer.putInt(start, vector.tables().size());
+            for (int i = 0; i < vector.tables().size(); i++) {
+                int slot = start + 4 + 4 * i;
+                int target = writeTable(vector.tables().get(i));
+                buffer.putInt(slot, target - slot);
+            }
+            return start;
+        }
+        StructVector vector = (StructVector) child;
+        while (buffer.position() % 8 != 4) { // 길이 뒤의 원소가 8바이트 경계에 오도록
+            reserve(1);
+        }
+        int start = reserve(4 + 8 * vector.fields().length);
+        buffer.putInt(start, vector.fields().length / vector.fieldsPerStruct());
+        for (int i = 0; i < vector.fields().length; i++) {
+            buffer.putLong(start + 4 + 8 * i, vector.fields()[i]);
+        }
+        return start;
+    }
+
+    private void align(int alignment) {
+        while (buffer.position() % alignment != 0) {
+            reserve(1);
+        }
+    }
+
+    /**
+     * 0으로 채운 공간을 확보하고 시작 위치를 반환
+     */
+    private int reserve(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            grown.put(buffer.array(), 0, buffer.position());
+            buffer = grown;
+        }
+        int start = buffer.position();
+        for (int i = 0; i < bytes; i++) {
+            buffer.put((byte) 0);
+        }
+        return start;
+    }
+}
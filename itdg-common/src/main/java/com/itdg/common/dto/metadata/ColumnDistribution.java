@@ -0,0 +1,25 @@
+package com.itdg.common.dto.metadata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 컬럼 주변 분포 (상관 그룹의 개별 컬럼 분포)
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnDistribution {
+    private String type; // NORMAL, UNIFORM, LOGNORMAL (기본 NORMAL)
+    private Double mean; // NORMAL: 평균, LOGNORMAL: log 평균
+    private Double stdDev; // NORMAL: 표준편차, LOGNORMAL: log 표준편차
+    private Double min; // 하한 (NORMAL/LOGNORMAL은 절단, UNIFORM은 범위)
+    private Double max; // 상한
+}
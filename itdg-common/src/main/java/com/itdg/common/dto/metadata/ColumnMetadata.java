@@ -9,7 +9,7 @@ import lombok.ToString;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,4 +24,8 @@ public class ColumnMetadata {
     private Boolean isUnique;
     private String foreignKeyTargetTable;
     private String comment;
+    private String pattern; // 정규식 포맷 규칙 (예: [A-Z]{3}-\d{6})
+    private String expression; // 같은 행 기반 규칙 표현식 (예: price * 1.1)
+    private ColumnDistribution sizeDistribution; // LOB/JSON 값 크기 분포 (문자 또는 바이트 수)
+    private ColumnOrdering sorted; // 정렬 생성 (예: created_at 오름차순)
 }
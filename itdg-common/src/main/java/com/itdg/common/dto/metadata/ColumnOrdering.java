@@ -0,0 +1,23 @@
+package com.itdg.common.dto.metadata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 정렬 생성 옵션 - 값을 처음부터 정렬된 순서로 생성 (정렬 단계 없음)
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnOrdering {
+    private Boolean descending; // true면 내림차순 (기본 오름차순)
+    private String min; // 값 범위 하한 (예: 0, 2024-01-01, 2024-01-01T00:00:00). 없으면 타입 기본 범위
+    private String max; // 값 범위 상한
+}
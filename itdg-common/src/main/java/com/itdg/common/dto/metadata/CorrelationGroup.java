@@ -0,0 +1,26 @@
+package com.itdg.common.dto.metadata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상관관계를 가진 수치 컬럼 그룹 (예: age ↔ salary)
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CorrelationGroup {
+    private List<String> columns;
+    private List<List<Double>> matrix; // columns 순서의 상관계수 행렬 (대칭, 대각 1)
+    private Map<String, ColumnDistribution> marginals; // 컬럼별 분포 (없으면 컬럼 이름 기반 기본 분포)
+}
@@ -12,7 +12,7 @@ import java.util.List;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,4 +31,6 @@ public class TableMetadata {
     // ML 통합 필드
     private String mlModelId; // 학습된 ML 모델 ID (SDV)
     private Integer targetRowCount; // 생성할 행 수 (프론트엔드에서 지정)
+
+    private List<CorrelationGroup> correlationGroups; // 상관관계 컬럼 그룹
 }
@@ -0,0 +1,33 @@
+package com.itdg.common.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 생성 데이터를 대상 DB에 직접 적재하는 요청
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkLoadRequest {
+    @Valid
+    @NotNull(message = "Target database is required")
+    @ToString.Exclude
+    private DbConnectionRequest target;
+
+    @NotNull(message = "Generation request is required")
+    private GenerateDataRequest generation; // 스키마/행 수/시드/규칙/조건 (테이블마다 rowCount 행)
+
+    private Integer batchSize; // executeBatch 단위 = 커밋 단위
+    private Integer parallelism; // 동시에 적재할 테이블 수 (= 커넥션 풀 크기)
+    private String method; // auto, batch, copy (PostgreSQL 바이너리 COPY)
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -18,8 +19,10 @@ import java.util.Map;
 @AllArgsConstructor
 public class GenerateDataRequest {
     private SchemaMetadata schema;
-    private Integer rowCount;
+    private Long rowCount;
     private Long seed;
     private String outputFormat; // JSON, SQL, CSV
     private Map<String, Object> customRules;
+    private List<String> columns; // 출력 컬럼 ("column" 또는 "table.column"), 비어 있으면 전체
+    private String where; // AND로 연결한 생성 조건 (예: status = 'ACTIVE' AND age BETWEEN 20 AND 39)
 }
@@ -13,6 +13,6 @@ import lombok.ToString;
 @AllArgsConstructor
 public class OrchestrationRequest {
     private DbConnectionRequest dbConnection;
-    private Integer rowCount;
+    private Long rowCount;
     private Long seed;
 }
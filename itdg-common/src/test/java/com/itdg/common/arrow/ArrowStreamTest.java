@@ -0,0 +1,230 @@
+package com.itdg.common.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Arrow IPC 스트림 기록기/리더 테스트 - 공식 Arrow Java 구현과 상호 검증
+ */
+@DisplayName("Arrow IPC 스트림 테스트")
+class ArrowStreamTest {
+
+    private static final List<ArrowField> FIELDS = List.of(
+            new ArrowField("id", ArrowType.INT64),
+            new ArrowField("qty", ArrowType.INT32),
+            new ArrowField("ratio", ArrowType.FLOAT64),
+            new ArrowField("price", ArrowType.DECIMAL),
+            new ArrowField("ordered", ArrowType.DATE),
+            new ArrowField("at", ArrowType.TIME),
+            new ArrowField("created", ArrowType.TIMESTAMP),
+            new ArrowField("active", ArrowType.BOOL),
+            new ArrowField("name", ArrowType.UTF8),
+            new ArrowField("blob", ArrowType.BINARY));
+
+    /**
+     * from부터 rows개의 행 - 세 번째 행마다 id를 제외한 값이 결측
+     */
+    private static Object[][] batch(int from, int rows) {
+        Object[][] columns = new Object[FIELDS.size()][rows];
+        for (int r = 0; r < rows; r++) {
+            long i = from + r;
+            columns[0][r] = i;
+            if (i % 3 == 2) {
+                continue;
+            }
+            columns[1][r] = (int) (i * 7 - 100);
+            columns[2][r] = i / 8.0;
+            columns[3][r] = new BigDecimal(i * 13).movePointLeft(2).negate();
+            columns[4][r] = LocalDate.of(2024, 1, 1).plusDays(i);
+            columns[5][r] = LocalTime.of(12, 30).plusNanos(i * 1_000);
+            columns[6][r] = LocalDateTime.of(2024, 3, 1, 9, 0).plusSeconds(i).plusNanos(123_456_000);
+            columns[7][r] = i % 2 == 0;
+            columns[8][r] = "이름-" + i;
+            columns[9][r] = ("b" + i).getBytes(StandardCharsets.UTF_8);
+        }
+        return columns;
+    }
+
+    private static byte[] write(int rows, int batchSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ArrowStreamWriter writer = new ArrowStreamWriter(out, FIELDS)) {
+            for (int from = 0; from < rows; from += batchSize) {
+                writer.writeBatch(Math.min(batchSize, rows - from), batch(from, Math.min(batchSize, rows - from)));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<ArrowBatch> readAll(byte[] stream) throws IOException {
+        List<ArrowBatch> batches = new ArrayList<>();
+        try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(stream))) {
+            for (ArrowBatch batch = reader.next(); batch != null; batch = reader.next()) {
+                batches.add(batch);
+            }
+        }
+        return batches;
+    }
+
+    @Nested
+    @DisplayName("기록과 읽기")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("모든 타입과 결측값이 여러 배치에 걸쳐 그대로 복원된다")
+        void allTypes_roundTrip() throws IOException {
+            // When
+            List<ArrowBatch> batches = readAll(write(2500, 1024));
+
+            // Then
+            assertThat(batches).extracting(ArrowBatch::getRowCount).containsExactly(1024, 1024, 452);
+            int from = 0;
+            for (ArrowBatch read : batches) {
+                Object[][] expected = batch(from, read.getRowCount());
+                for (int c = 0; c < FIELDS.size(); c++) {
+                    ArrowVector column = read.column(c);
+                    assertThat(column.getField()).isEqualTo(FIELDS.get(c));
+                    for (int r = 0; r < read.getRowCount(); r++) {
+                        Object value = column.getObject(r);
+                        if (expected[c][r] instanceof BigDecimal decimal) {
+                            assertThat((BigDecimal) value).isEqualByComparingTo(decimal);
+                        } else {
+                            assertThat(value).isEqualTo(expected[c][r]);
+                        }
+                    }
+                }
+                assertThat(read.column("id").getNullCount()).isZero();
+                assertThat(read.column("name").getNullCount()).isEqualTo((read.getRowCount() + from % 3) / 3);
+                from += read.getRowCount();
+            }
+        }
+
+        @Test
+        @DisplayName("변환할 수 없는 값과 정밀도를 넘는 DECIMAL은 IllegalArgumentException")
+        void invalidValues_areRejected() throws IOException {
+            // Given
+            ArrowStreamWriter writer = new ArrowStreamWriter(OutputStream.nullOutputStream(),
+                    List.of(new ArrowField("qty", ArrowType.INT32), new ArrowField("price", ArrowType.DECIMAL)));
+
+            // When & Then
+            assertThatThrownBy(() -> writer.writeBatch(1, new Object[][] { { "many" }, { null } }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("qty");
+            assertThatThrownBy(() -> writer.writeBatch(1, new Object[][] { { 1 }, { new BigDecimal("1e15") } }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("DECIMAL(18,4)");
+        }
+
+        @Test
+        @DisplayName("Arrow 스트림이 아니면 IllegalArgumentException")
+        void garbage_isRejected() {
+            assertThatThrownBy(() -> new ArrowStreamReader(new ByteArrayInputStream(
+                    "id,name\n1,a\n".getBytes(StandardCharsets.UTF_8))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("공식 구현과의 호환성")
+    class Compatibility {
+
+        @Test
+        @DisplayName("Arrow Java가 기록한 스트림을 같은 값으로 읽는다")
+        void arrowJava_readsOurStream() throws Exception {
+            // Given
+            byte[] stream = write(1500, 1000);
+
+            // When
+            List<String> rows = new ArrayList<>();
+            try (BufferAllocator allocator = new RootAllocator();
+                 org.apache.arrow.vector.ipc.ArrowStreamReader reader = new org.apache.arrow.vector.ipc
+                         .ArrowStreamReader(new ByteArrayInputStream(stream), allocator)) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                assertThat(root.getSchema().getFields()).extracting(field -> field.getType().toString())
+                        .containsExactly("Int(64, true)", "Int(32, true)", "FloatingPoint(DOUBLE)",
+                                "Decimal(18, 4, 128)", "Date(DAY)", "Time(MICROSECOND, 64)",
+                                "Timestamp(MICROSECOND, null)", "Bool", "Utf8", "Binary");
+                while (reader.loadNextBatch()) {
+                    for (int r = 0; r < root.getRowCount(); r++) {
+                        rows.add(root.getVector("id").getObject(r) + "|" + root.getVector("price").getObject(r)
+                                + "|" + root.getVector("ordered").getObject(r) + "|"
+                                + root.getVector("created").getObject(r) + "|" + root.getVector("name").getObject(r)
+                                + "|" + root.getVector("active").getObject(r));
+                    }
+                }
+            }
+
+            // Then - DateDayVector는 epoch day 정수로 반환
+            assertThat(rows).hasSize(1500);
+            Object[][] expected = batch(1000, 500);
+            assertThat(rows.get(1003)).isEqualTo("1003|" + ((BigDecimal) expected[3][3]).setScale(4) + "|"
+                    + ((LocalDate) expected[4][3]).toEpochDay() + "|" + expected[6][3] + "|이름-1003|false");
+            assertThat(rows.get(1001)).isEqualTo("1001|null|null|null|null|null");
+        }
+
+        @Test
+        @DisplayName("Arrow Java가 기록한 스트림을 읽는다 (결측이 없어도 검증 비트맵이 있는 경우 포함)")
+        void ourReader_readsArrowJavaStream() throws Exception {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (BufferAllocator allocator = new RootAllocator();
+                 BigIntVector id = new BigIntVector("id", allocator);
+                 IntVector qty = new IntVector("qty", allocator);
+                 DecimalVector price = new DecimalVector("price", allocator, 20, 2);
+                 VarCharVector name = new VarCharVector("name", allocator)) {
+                for (int r = 0; r < 5; r++) {
+                    id.setSafe(r, r + 100L);
+                    if (r != 3) {
+                        qty.setSafe(r, r * 2);
+                    }
+                    price.setSafe(r, BigDecimal.valueOf(r * 125, 2));
+                    name.setSafe(r, ("n" + r).getBytes(StandardCharsets.UTF_8));
+                }
+                for (var vector : List.of(id, qty, price, name)) {
+                    vector.setValueCount(5);
+                }
+                try (VectorSchemaRoot root = VectorSchemaRoot.of(id, qty, price, name);
+                     org.apache.arrow.vector.ipc.ArrowStreamWriter writer =
+                             new org.apache.arrow.vector.ipc.ArrowStreamWriter(root, null, out)) {
+                    writer.start();
+                    writer.writeBatch();
+                    writer.end();
+                }
+            }
+
+            // When
+            List<ArrowBatch> batches = readAll(out.toByteArray());
+
+            // Then
+            ArrowBatch batch = batches.get(0);
+            assertThat(batch.getRowCount()).isEqualTo(5);
+            assertThat(batch.column("id").getLong(4)).isEqualTo(104L);
+            assertThat(batch.column("qty").isNull(3)).isTrue();
+            assertThat(batch.column("qty").getObject(4)).isEqualTo(8);
+            assertThat(batch.column("price").getDecimal(3)).isEqualTo(new BigDecimal("3.75"));
+            assertThat(batch.column("name").getString(2)).isEqualTo("n2");
+        }
+    }
+}
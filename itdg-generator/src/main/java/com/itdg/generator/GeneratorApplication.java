@@ -2,11 +2,13 @@ package com.itdg.generator;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {
         "com.itdg.generator",
         "com.itdg.common"
 })
+@EnableScheduling // 만료된 생성 작업 정리 (ExpiredJobCleaner)
 public class GeneratorApplication {
     public static void main(String[] args) {
         SpringApplication.run(GeneratorApplication.class, args);
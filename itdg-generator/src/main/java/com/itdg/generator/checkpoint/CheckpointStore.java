@@ -0,0 +1,213 @@
+package com.itdg.generator.checkpoint;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 생성 체크포인트 파일 저장소
+ *
+ * 바이너리(DataOutput) + GZIP 포맷으로 저장하며, Unique 값은 타입 태그와 함께 기록한다.
+ * 문자열은 길이(int) + UTF-8 바이트로 기록한다 (writeUTF는 64KB를 넘는 값을 쓰지 못함).
+ */
+@Slf4j
+@Component
+public class CheckpointStore {
+
+    private static final int MAGIC = 0x49544443; // "ITDC"
+    private static final int VERSION = 1;
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final Path directory;
+
+    public CheckpointStore(@Value("${generator.checkpoint.dir:${java.io.tmpdir}/itdg-checkpoints}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    public void save(GenerationCheckpoint checkpoint) {
+        Path target = resolve(checkpoint.getCheckpointId());
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, checkpoint.getCheckpointId(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                write(out, checkpoint);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Checkpoint saved: {}", checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save checkpoint " + checkpoint.getCheckpointId(), e);
+        }
+    }
+
+    public GenerationCheckpoint load(String checkpointId) {
+        Path source = resolve(checkpointId);
+        if (!Files.exists(source)) {
+            throw new IllegalArgumentException("Checkpoint not found: " + checkpointId);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(source))))) {
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read checkpoint " + checkpointId, e);
+        }
+    }
+
+    /**
+     * 체크포인트 삭제 (없으면 무시)
+     */
+    public void delete(String checkpointId) {
+        try {
+            Files.deleteIfExists(resolve(checkpointId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete checkpoint " + checkpointId, e);
+        }
+    }
+
+    private Path resolve(String checkpointId) {
+        if (checkpointId == null || !ID_PATTERN.matcher(checkpointId).matches()) {
+            throw new IllegalArgumentException("Invalid checkpoint id: " + checkpointId);
+        }
+        return directory.resolve(checkpointId + ".ckpt");
+    }
+
+    private void write(DataOutputStream out, GenerationCheckpoint checkpoint) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, checkpoint.getCheckpointId());
+        writeString(out, checkpoint.getTableName());
+        out.writeLong(checkpoint.getSeed());
+        out.writeLong(checkpoint.getRowsGenerated());
+        out.writeLong(checkpoint.getNextBlock());
+        out.writeLong(checkpoint.getNextPrimaryKey());
+        writeString(out, String.valueOf(checkpoint.getCreatedAt()));
+
+        out.writeInt(checkpoint.getUniqueValues().size());
+        for (Map.Entry<String, Set<Object>> entry : checkpoint.getUniqueValues().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Object value : entry.getValue()) {
+                writeValue(out, value);
+            }
+        }
+    }
+
+    private GenerationCheckpoint read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a checkpoint file");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version: " + version);
+        }
+        GenerationCheckpoint.GenerationCheckpointBuilder builder = GenerationCheckpoint.builder()
+                .checkpointId(readString(in))
+                .tableName(readString(in))
+                .seed(in.readLong())
+                .rowsGenerated(in.readLong())
+                .nextBlock(in.readLong())
+                .nextPrimaryKey(in.readLong());
+        String createdAt = readString(in);
+        builder.createdAt("null".equals(createdAt) ? null : LocalDateTime.parse(createdAt));
+
+        int columns = in.readInt();
+        Map<String, Set<Object>> uniqueValues = new HashMap<>(columns * 2);
+        for (int i = 0; i < columns; i++) {
+            String column = readString(in);
+            int size = in.readInt();
+            Set<Object> values = new HashSet<>(Math.max(16, (int) (size / 0.75f) + 1));
+            for (int j = 0; j < size; j++) {
+                values.add(readValue(in));
+            }
+            uniqueValues.put(column, values);
+        }
+        return builder.uniqueValues(uniqueValues).build();
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Long l) {
+            out.writeByte('J');
+            out.writeLong(l);
+        } else if (value instanceof Integer i) {
+            out.writeByte('I');
+            out.writeInt(i);
+        } else if (value instanceof Double d) {
+            out.writeByte('D');
+            out.writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            out.writeByte('Z');
+            out.writeBoolean(b);
+        } else if (value instanceof BigDecimal bd) {
+            out.writeByte('N');
+            writeString(out, bd.toString());
+        } else if (value instanceof LocalDateTime dt) {
+            out.writeByte('T');
+            writeString(out, dt.toString());
+        } else if (value instanceof LocalDate d) {
+            out.writeByte('d');
+            writeString(out, d.toString());
+        } else if (value instanceof LocalTime t) {
+            out.writeByte('t');
+            writeString(out, t.toString());
+        } else {
+            // 그 외 타입은 문자열로 보존
+            out.writeByte('S');
+            writeString(out, String.valueOf(value));
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case 'J' -> in.readLong();
+            case 'I' -> in.readInt();
+            case 'D' -> in.readDouble();
+            case 'Z' -> in.readBoolean();
+            case 'N' -> new BigDecimal(readString(in));
+            case 'T' -> LocalDateTime.parse(readString(in));
+            case 'd' -> LocalDate.parse(readString(in));
+            case 't' -> LocalTime.parse(readString(in));
+            case 'S' -> readString(in);
+            default -> throw new IOException("Unknown value tag: " + tag);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+package com.itdg.generator.checkpoint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 생성 작업 종료 시점의 스냅샷
+ *
+ * 후속 요청은 이 값을 기반으로 PK/Unique 충돌 없이 새 행만 이어서 생성한다.
+ */
+@Getter
+@Builder
+@ToString(exclude = "uniqueValues")
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationCheckpoint {
+    private String checkpointId;
+    private String tableName;
+    private long seed;
+    private long rowsGenerated;
+    private long nextBlock; // 다음 RNG 블록 번호
+    private long nextPrimaryKey;
+
+    @Builder.Default
+    private Map<String, Set<Object>> uniqueValues = new HashMap<>();
+
+    private LocalDateTime createdAt;
+}
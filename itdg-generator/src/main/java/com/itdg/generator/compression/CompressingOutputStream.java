@@ -0,0 +1,204 @@
+package com.itdg.generator.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
+
+/**
+ * 응답 압축 스트림 - 스트림 하나가 단일 스레드로 사용
+ *
+ * 작은 쓰기를 {@link #BUFFER_SIZE}까지 모아 인코더에 넘기고(네이티브 호출 횟수 절감), flush()는 동기 flush로
+ * 인코더에 쌓인 압축 데이터까지 하부 스트림으로 내보낸다. 그래서 출력기들의 청크 경계 flush가 그대로
+ * 압축 스트림의 경계가 되어 클라이언트가 그때까지의 행을 바로 풀 수 있다.
+ * 정상 종료는 {@link #finish()}로 트레일러를 기록하며, finish 없이 close하면 트레일러를 버려
+ * 실패한 스트림이 온전한 압축 파일처럼 보이지 않게 한다. 하부 스트림은 닫지 않는다.
+ */
+public final class CompressingOutputStream extends OutputStream {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean THREAD_CPU_TIME =
+            THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+    private final ContentCoding coding;
+    private final Sink sink;
+    private final OutputStream encoder;
+    private final Consumer<CompressingOutputStream> onFinish;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+    private long bytesIn;
+    private long cpuNanos;
+    private boolean finished;
+    private boolean closed;
+
+    CompressingOutputStream(OutputStream out, ContentCoding coding, int level,
+            Consumer<CompressingOutputStream> onFinish) throws IOException {
+        this.coding = coding;
+        this.sink = new Sink(out);
+        this.encoder = coding.encoder(sink, level);
+        this.onFinish = onFinish;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == buffer.length) {
+            drain();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len >= buffer.length) {
+            drain();
+            encode(b, off, len);
+            return;
+        }
+        if (len > buffer.length - count) {
+            drain();
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * 모은 데이터를 압축하고 동기 flush 후 하부 스트림 flush
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        long start = cpuTime();
+        encoder.flush();
+        cpuNanos += cpuTime() - start;
+    }
+
+    /**
+     * 남은 데이터를 압축하고 트레일러 기록 (하부 스트림은 flush만)
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        drain();
+        long start = cpuTime();
+        encoder.close();
+        cpuNanos += cpuTime() - start;
+        finished = true;
+        sink.flush();
+        if (onFinish != null) {
+            onFinish.accept(this);
+        }
+    }
+
+    /**
+     * finish 전에 닫으면 인코더 자원만 해제하고 남은 출력은 버린다
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!finished) {
+            sink.discard();
+            encoder.close();
+        }
+    }
+
+    public ContentCoding getCoding() {
+        return coding;
+    }
+
+    /**
+     * 압축 전 바이트 수
+     */
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * 압축 후 하부 스트림에 기록한 바이트 수
+     */
+    public long getBytesOut() {
+        return sink.bytes;
+    }
+
+    /**
+     * 압축에 쓴 스레드 CPU 시간 (스레드 CPU 시간을 잴 수 없으면 경과 시간)
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * 압축률 (압축 전 / 압축 후, 출력이 없으면 0)
+     */
+    public double getRatio() {
+        return sink.bytes > 0 ? (double) bytesIn / sink.bytes : 0;
+    }
+
+    private void drain() throws IOException {
+        if (count > 0) {
+            encode(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void encode(byte[] b, int off, int len) throws IOException {
+        long start = cpuTime();
+        encoder.write(b, off, len);
+        cpuNanos += cpuTime() - start;
+        bytesIn += len;
+    }
+
+    private static long cpuTime() {
+        return THREAD_CPU_TIME ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * 기록 바이트를 세고 close를 전달하지 않는 하부 스트림 래퍼
+     */
+    private static final class Sink extends OutputStream {
+
+        private final OutputStream out;
+        private long bytes;
+        private boolean discarding;
+
+        Sink(OutputStream out) {
+            this.out = out;
+        }
+
+        void discard() {
+            discarding = true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!discarding) {
+                out.write(b);
+                bytes++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!discarding) {
+                out.write(b, off, len);
+                bytes += len;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!discarding) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
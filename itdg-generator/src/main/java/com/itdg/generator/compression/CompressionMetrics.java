@@ -0,0 +1,66 @@
+package com.itdg.generator.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 압축 지표 (actuator /metrics, /prometheus로 노출)
+ *
+ * - itdg.compression.ratio: 응답별 압축률 (압축 전 / 압축 후, DistributionSummary)
+ * - itdg.compression.cpu: 응답별 압축에 쓴 스레드 CPU 시간 (Timer)
+ * - itdg.compression.bytes.in / itdg.compression.bytes.out: 압축 전/후 누적 바이트 (Counter)
+ * 모두 format(csv, ndjson 등)과 encoding(gzip, zstd) 태그로 구분하며, 정상 종료된 응답만 기록한다.
+ */
+@Component
+public class CompressionMetrics {
+
+    private final MeterRegistry registry;
+
+    public CompressionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 새 응답용 압축 스트림 (finish 시 지표 기록)
+     *
+     * @param level {@link ContentCoding#level(Integer)}로 검증한 압축 수준
+     */
+    public CompressingOutputStream open(OutputStream out, ContentCoding coding, int level, String format)
+            throws IOException {
+        return new CompressingOutputStream(out, coding, level, stream -> record(stream, format));
+    }
+
+    private void record(CompressingOutputStream stream, String format) {
+        String encoding = stream.getCoding().token();
+        DistributionSummary.builder("itdg.compression.ratio")
+                .description("Uncompressed to compressed size ratio per response")
+                .tags("format", format, "encoding", encoding)
+                .publishPercentiles(0.5, 0.9)
+                .register(registry)
+                .record(stream.getRatio());
+        Timer.builder("itdg.compression.cpu")
+                .description("Thread CPU time spent compressing a response")
+                .tags("format", format, "encoding", encoding)
+                .register(registry)
+                .record(stream.getCpuNanos(), TimeUnit.NANOSECONDS);
+        Counter.builder("itdg.compression.bytes.in")
+                .description("Bytes before compression")
+                .baseUnit("bytes")
+                .tags("format", format, "encoding", encoding)
+                .register(registry)
+                .increment(stream.getBytesIn());
+        Counter.builder("itdg.compression.bytes.out")
+                .description("Bytes after compression")
+                .baseUnit("bytes")
+                .tags("format", format, "encoding", encoding)
+                .register(registry)
+                .increment(stream.getBytesOut());
+    }
+}
@@ -0,0 +1,129 @@
+package com.itdg.generator.compression;
+
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 스트리밍 응답의 Content-Encoding
+ *
+ * Accept-Encoding(RFC 9110 12.5.3)의 q 값으로 협상하며, q가 같으면 zstd를 gzip보다 우선한다.
+ * 압축 수준은 코딩별 범위 안에서 지정하고, 지정하지 않으면 각 라이브러리의 기본 수준을 쓴다.
+ */
+public enum ContentCoding {
+
+    IDENTITY("identity", 0, 0, 0),
+    /** JDK Deflater, flush()마다 SYNC_FLUSH */
+    GZIP("gzip", 1, 9, 6),
+    /** zstd-jni, flush()마다 ZSTD_e_flush (블록 경계까지 내보냄) */
+    ZSTD("zstd", 1, 19, 3);
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final String token;
+    private final int minLevel;
+    private final int maxLevel;
+    private final int defaultLevel;
+
+    ContentCoding(String token, int minLevel, int maxLevel, int defaultLevel) {
+        this.token = token;
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        this.defaultLevel = defaultLevel;
+    }
+
+    /**
+     * Content-Encoding 헤더 값
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Accept-Encoding 헤더로 응답 코딩 결정 (헤더가 없거나 지원하는 코딩이 없으면 IDENTITY)
+     */
+    public static ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        double zstd = -1;
+        double gzip = -1;
+        double wildcard = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(params);
+            switch (name) {
+                case "zstd" -> zstd = q;
+                case "gzip", "x-gzip" -> gzip = Math.max(gzip, q);
+                case "*" -> wildcard = q;
+                default -> {
+                }
+            }
+        }
+        zstd = zstd < 0 ? wildcard : zstd;
+        gzip = gzip < 0 ? wildcard : gzip;
+        if (zstd > 0 && zstd >= gzip) {
+            return ZSTD;
+        }
+        return gzip > 0 ? GZIP : IDENTITY;
+    }
+
+    /**
+     * 요청한 압축 수준 검증 (null이면 기본 수준, IDENTITY는 항상 0)
+     *
+     * @throws IllegalArgumentException 코딩의 수준 범위를 벗어남
+     */
+    public int level(Integer requested) {
+        if (this == IDENTITY) {
+            return 0;
+        }
+        if (requested == null) {
+            return defaultLevel;
+        }
+        if (requested < minLevel || requested > maxLevel) {
+            throw new IllegalArgumentException("compressionLevel for " + token + " must be between "
+                    + minLevel + " and " + maxLevel + ": " + requested);
+        }
+        return requested;
+    }
+
+    /**
+     * sink로 압축해 내보내는 인코더 (close 시 트레일러/프레임 끝을 기록)
+     */
+    OutputStream encoder(OutputStream sink, int level) throws IOException {
+        return switch (this) {
+            case GZIP -> new GzipEncoder(sink, level);
+            case ZSTD -> new ZstdOutputStreamNoFinalizer(sink, level);
+            case IDENTITY -> sink;
+        };
+    }
+
+    /**
+     * 잘못된 q 값은 1로 취급 (관대한 해석)
+     */
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=") || param.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static final class GzipEncoder extends GZIPOutputStream {
+
+        GzipEncoder(OutputStream out, int level) throws IOException {
+            super(out, GZIP_BUFFER_SIZE, true);
+            def.setLevel(level);
+        }
+    }
+}
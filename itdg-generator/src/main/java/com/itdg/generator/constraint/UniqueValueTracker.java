@@ -1,17 +1,30 @@
 package com.itdg.generator.constraint;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tracks unique values for columns to enforce UNIQUE constraints.
  * This class is stateful and should be instantiated per generation
- * request/table.
+ * request/table. Different columns may be tracked from different threads
+ * (column-parallel generation); a single column is only touched by one.
  */
 public class UniqueValueTracker {
-    private final Map<String, Set<Object>> uniqueValues = new HashMap<>();
+    private final Map<String, Set<Object>> uniqueValues = new ConcurrentHashMap<>();
+
+    public UniqueValueTracker() {
+    }
+
+    /**
+     * Restores tracker state from a checkpoint snapshot so that appended rows
+     * never collide with values generated by an earlier job.
+     */
+    public UniqueValueTracker(Map<String, ? extends Set<Object>> snapshot) {
+        snapshot.forEach((column, values) -> uniqueValues.put(column, new HashSet<>(values)));
+    }
 
     public boolean isUnique(String columnName, Object value) {
         Set<Object> values = uniqueValues.computeIfAbsent(columnName, k -> new HashSet<>());
@@ -29,4 +42,11 @@ public class UniqueValueTracker {
     public void reset(String columnName) {
         uniqueValues.remove(columnName);
     }
+
+    /**
+     * Read-only view of the tracked values, used when writing checkpoints.
+     */
+    public Map<String, Set<Object>> snapshot() {
+        return Collections.unmodifiableMap(uniqueValues);
+    }
 }
@@ -0,0 +1,36 @@
+package com.itdg.generator.controller;
+
+import com.itdg.common.dto.request.BulkLoadRequest;
+import com.itdg.common.dto.response.ApiResponse;
+import com.itdg.generator.load.BulkLoadReport;
+import com.itdg.generator.load.BulkLoadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대상 DB 직접 적재 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/generator/load")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Load", description = "생성 데이터를 대상 DB에 직접 적재하는 API")
+public class BulkLoadController {
+
+    private final BulkLoadService bulkLoadService;
+
+    @Operation(summary = "대상 DB 직접 적재", description = "스키마의 테이블을 외래 키 순서로 병렬 적재하고 "
+            + "테이블별 처리량(rows/s)을 반환합니다. method: auto(PostgreSQL은 바이너리 COPY), batch, copy")
+    @PostMapping
+    public ApiResponse<BulkLoadReport> load(@Valid @RequestBody BulkLoadRequest request) {
+        log.info("Received bulk load request: {}", request);
+        return ApiResponse.success(bulkLoadService.load(request));
+    }
+}
@@ -0,0 +1,83 @@
+package com.itdg.generator.controller;
+
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.common.dto.response.ApiResponse;
+import com.itdg.generator.job.ActiveDownloads;
+import com.itdg.generator.job.ChunkJobRunner;
+import com.itdg.generator.job.GenerationJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 재시작 가능한 대용량 생성 작업 API
+ *
+ * 긴 스트리밍 다운로드 대신 서버에서 파일로 생성해 두고, 완료되면 Range 요청으로 이어받을 수 있게 내려준다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/generator/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Generation Job", description = "청크 기반 재시작 가능 생성 작업 API")
+public class GenerationJobController {
+
+    private final ChunkJobRunner jobRunner;
+    private final ActiveDownloads activeDownloads;
+
+    @Operation(summary = "생성 작업 등록", description = "CSV 또는 Parquet 파일로 백그라운드 생성하며 청크마다 진행 상황을 커밋합니다.")
+    @PostMapping
+    public ApiResponse<GenerationJob> submit(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(required = false) Integer chunkSize,
+            @RequestParam(defaultValue = "csv") String format) {
+        log.info("Received generation job request - table: {}, rows: {}", table.getTableName(), rowCount);
+        return ApiResponse.success(jobRunner.submit(table, rowCount, seed, chunkSize, format));
+    }
+
+    @Operation(summary = "작업 상태 조회", description = "진행률, 커밋된 청크 수, 처리량(rows/s)을 반환합니다.")
+    @GetMapping("/{jobId}")
+    public ApiResponse<GenerationJob> getJob(@PathVariable String jobId) {
+        return ApiResponse.success(jobRunner.getJob(jobId));
+    }
+
+    @Operation(summary = "작업 결과 다운로드", description = "완료된 작업 파일을 전송합니다. "
+            + "Range 요청(Accept-Ranges: bytes)으로 끊긴 다운로드를 이어받을 수 있고, 보존 기간이 지나면 삭제됩니다.")
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable String jobId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        // 전송이 끝날 때까지 만료 정리가 파일을 지우지 못하게 임대를 먼저 잡는다
+        try (ActiveDownloads.Lease lease = activeDownloads.acquire(jobId)) {
+            GenerationJob job = jobRunner.getCompletedJob(jobId);
+            String outputPath = job.getOutputPath();
+            String extension = outputPath.substring(outputPath.lastIndexOf('.'));
+            MediaType contentType = ".parquet".equals(extension)
+                    ? StreamingGeneratorController.PARQUET
+                    : MediaType.parseMediaType("text/csv; charset=UTF-8");
+            // 완료된 작업 파일은 바뀌지 않으므로 작업 ID가 곧 강한 ETag
+            RangeFileSender.send(Paths.get(outputPath), "\"" + jobId + "\"", job.getTableName() + extension,
+                    contentType, request, response);
+        }
+    }
+
+    @Operation(summary = "작업 재개", description = "실패하거나 중단된 작업을 마지막 커밋 청크부터 재개합니다.")
+    @PostMapping("/{jobId}/restart")
+    public ApiResponse<GenerationJob> restart(@PathVariable String jobId) {
+        return ApiResponse.success(jobRunner.restart(jobId));
+    }
+}
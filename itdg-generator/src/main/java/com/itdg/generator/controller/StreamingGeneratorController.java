@@ -1,9 +1,38 @@
 package com.itdg.generator.controller;
 
-import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.arrow.ArrowStreamWriter;
 import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.common.dto.request.GenerateDataRequest;
+import com.itdg.generator.checkpoint.CheckpointStore;
+import com.itdg.generator.checkpoint.GenerationCheckpoint;
+import com.itdg.generator.compression.CompressingOutputStream;
+import com.itdg.generator.compression.CompressionMetrics;
+import com.itdg.generator.compression.ContentCoding;
+import com.itdg.generator.output.ArrowBatchWriter;
+import com.itdg.generator.output.ByteBudget;
+import com.itdg.generator.output.CsvEncoder;
+import com.itdg.generator.output.FixedWidthExporter;
+import com.itdg.generator.output.FixedWidthLayout;
+import com.itdg.generator.output.ParquetStreamWriter;
+import com.itdg.generator.output.PgCopyWriter;
+import com.itdg.generator.output.SqlDialect;
+import com.itdg.generator.output.SqlInsertWriter;
+import com.itdg.generator.output.XlsxStreamWriter;
+import com.itdg.generator.pacing.Pacer;
+import com.itdg.generator.pacing.PacingMetrics;
+import com.itdg.generator.pacing.RateCurve;
+import com.itdg.generator.rule.CustomRules;
+import com.itdg.generator.plan.ForeignKeyOrder;
+import com.itdg.generator.plan.Selection;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.GenerationState;
 import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -14,10 +43,13 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 스트리밍 기반 데이터 생성 API (복구됨)
@@ -29,121 +61,779 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class StreamingGeneratorController {
 
+    static final String CHECKPOINT_HEADER = "X-Checkpoint-Id";
+    static final String RECORD_LENGTH_HEADER = "X-Record-Length";
+    static final String LAYOUT_HEADER = "X-Fixed-Width-Layout";
+    static final String ROW_COUNT_TRAILER = "X-Row-Count";
+    static final String BYTE_COUNT_TRAILER = "X-Byte-Count";
+    static final String COPY_COMMAND_HEADER = "X-Copy-Command";
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType XLSX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    static final MediaType PARQUET = MediaType.parseMediaType("application/vnd.apache.parquet");
+    static final MediaType ARROW_STREAM = MediaType.parseMediaType(ArrowStreamWriter.MEDIA_TYPE);
+    static final MediaType SQL = MediaType.parseMediaType("application/sql; charset=UTF-8");
+
     private final StreamingDataGeneratorService generatorService;
     private final ObjectMapper objectMapper;
+    private final CheckpointStore checkpointStore;
+    private final FixedWidthExporter fixedWidthExporter;
+    private final PacingMetrics pacingMetrics;
+    private final CompressionMetrics compressionMetrics;
 
     /**
      * CSV 스트리밍 다운로드
+     *
+     * checkpoint=true 이면 종료 시 체크포인트를 저장하고 ID를 응답 헤더로 반환한다.
+     * resumeFrom 지정 시 해당 체크포인트에서 이어서 생성하며 헤더 행은 생략한다 (append용).
+     * columns/where 지정 시 선택한 컬럼(과 그 의존 컬럼)만 생성하고 조건을 만족하는 값만 만든다.
+     * targetBytes 지정 시 rowCount 대신 응답 본문이 그 크기를 넘지 않는 선까지 생성하고,
+     * 최종 행 수/바이트 수를 HTTP 트레일러(X-Row-Count, X-Byte-Count)로 알린다.
+     * rate 지정 시 최대 속도 대신 목표 방출률 곡선({@link RateCurve}, 예: 50000, ramp:1000:50000:60)에 맞춰 행을 내보낸다.
+     * delimiter(한 글자 또는 tab)/quoting({@link CsvEncoder.Quoting})으로 형식을 바꿀 수 있다.
      */
     @PostMapping("/csv")
     public ResponseEntity<StreamingResponseBody> streamCsv(
             @RequestBody TableMetadata table,
-            @RequestParam(defaultValue = "1000") int rowCount,
-            @RequestParam(defaultValue = "0") long seed) {
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "false") boolean checkpoint,
+            @RequestParam(required = false) String resumeFrom,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestParam(required = false) Long targetBytes,
+            @RequestParam(required = false) String rate,
+            @RequestParam(defaultValue = ",") String delimiter,
+            @RequestParam(defaultValue = "MINIMAL") CsvEncoder.Quoting quoting,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel,
+            HttpServletResponse response) {
 
-        long actualSeed = seed == 0 ? System.currentTimeMillis() : seed;
         String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        List<String> columnNames = plan.getOutputColumns();
+        CsvEncoder.Format format = CsvEncoder.Format.DEFAULT.withDelimiter(delimiterChar(delimiter))
+                .withQuoting(quoting);
+        ByteBudget budget = targetBytes != null ? new ByteBudget(targetBytes) : null;
+        RateCurve curve = rate != null ? RateCurve.parse(rate) : null;
+        if (budget != null && resumeFrom == null) {
+            budget.reserve(3 + csvHeaderBytes(format, columnNames).length); // BOM + 헤더 행
+        }
+        GenerationState state = prepareState(tableName, seed, resumeFrom);
+        String checkpointId = checkpoint ? UUID.randomUUID().toString() : null;
 
-        log.info("Starting CSV streaming for table: {}, rows: {}", tableName, rowCount);
+        log.info("Starting CSV streaming for table: {}, rows: {}, targetBytes: {}", tableName, rowCount, targetBytes);
 
         StreamingResponseBody body = outputStream -> {
-            try (PrintWriter writer = new PrintWriter(
-                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            // 행을 응답 버퍼에 바로 UTF-8로 인코딩 (버퍼가 찰 때마다 flush)
+            try (CsvEncoder encoder = new CsvEncoder(outputStream, format);
+                    Pacer pacer = curve != null ? pacingMetrics.pacer(curve, "csv") : null) {
 
-                writer.write('\uFEFF'); // BOM
+                if (resumeFrom == null) {
+                    encoder.writeBom();
+                    encoder.writeHeader(columnNames);
+                    encoder.flush();
+                }
 
-                List<String> columnNames = table.getColumns().stream()
-                        .map(ColumnMetadata::getName)
-                        .collect(Collectors.toList());
-                writer.println(String.join(",", columnNames));
-                writer.flush();
+                if (budget != null) {
+                    ByteArrayOutputStream rowBytes = new ByteArrayOutputStream(256);
+                    try (CsvEncoder rowEncoder = new CsvEncoder(rowBytes, format)) {
+                        generatorService.generateWithinBudget(plan, state, budget,
+                                row -> csvBytes(rowEncoder, rowBytes, row, columnNames), bytes -> {
+                                    pace(pacer, () -> flush(outputStream));
+                                    write(outputStream, bytes);
+                                });
+                    }
+                    outputStream.flush();
+                    saveCheckpoint(checkpointId, tableName, state);
+                    return;
+                }
 
-                AtomicInteger count = new AtomicInteger(0);
-                generatorService.generateDataStream(table, rowCount, actualSeed)
+                AtomicLong count = new AtomicLong(0);
+                generatorService.generateDataStream(plan, rowCount, state)
                         .forEach(row -> {
-                            String csvLine = toCsvLine(row, columnNames);
-                            writer.println(csvLine);
-
-                            int current = count.incrementAndGet();
-                            if (current % 1000 == 0) {
-                                writer.flush();
-                                log.debug("Streamed {} rows", current);
+                            pace(pacer, () -> flush(encoder));
+                            try {
+                                encoder.writeRow(row, columnNames);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
                             }
+                            count.incrementAndGet();
                         });
 
-                log.info("CSV streaming completed: {} rows", count.get());
+                encoder.flush();
+                saveCheckpoint(checkpointId, tableName, state);
+                log.info("CSV streaming completed: {} rows, {} bytes", count.get(), encoder.getBytesWritten());
             } catch (Exception e) {
                 log.error("Error during CSV streaming", e);
                 throw new RuntimeException(e);
             }
         };
 
-        return ResponseEntity.ok()
+        withSizeTrailers(response, budget);
+        return encoded(withCheckpointHeader(ResponseEntity.ok(), checkpointId)
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"" + tableName + ".csv\"")
-                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-                .body(body);
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8")),
+                body, "csv", acceptEncoding, compressionLevel);
     }
 
     /**
-     * JSON 배열 다운로드
+     * JSON 배열 다운로드 (columns/where/targetBytes/rate는 CSV와 동일)
      */
     @PostMapping("/json")
     public ResponseEntity<StreamingResponseBody> streamJson(
             @RequestBody TableMetadata table,
-            @RequestParam(defaultValue = "1000") int rowCount,
-            @RequestParam(defaultValue = "0") long seed) {
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "false") boolean checkpoint,
+            @RequestParam(required = false) String resumeFrom,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestParam(required = false) Long targetBytes,
+            @RequestParam(required = false) String rate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel,
+            HttpServletResponse response) {
 
-        long actualSeed = seed == 0 ? System.currentTimeMillis() : seed;
         String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        ByteBudget budget = targetBytes != null ? new ByteBudget(targetBytes) : null;
+        RateCurve curve = rate != null ? RateCurve.parse(rate) : null;
+        if (budget != null) {
+            budget.reserve(2); // "[" + "]"
+        }
+        GenerationState state = prepareState(tableName, seed, resumeFrom);
+        String checkpointId = checkpoint ? UUID.randomUUID().toString() : null;
 
-        log.info("Starting JSON streaming for table: {}, rows: {}", tableName, rowCount);
+        log.info("Starting JSON streaming for table: {}, rows: {}, targetBytes: {}", tableName, rowCount, targetBytes);
+
+        // 행마다 하부 스트림을 flush하지 않도록 (flush는 응답 종료 시 수행)
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
         StreamingResponseBody body = outputStream -> {
-            try (PrintWriter writer = new PrintWriter(
-                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            // LOB/JSON 컬럼이 문자열로 구체화되지 않도록 행을 제너레이터에 직접 직렬화
+            try (JsonGenerator gen = objectMapper.getFactory().createGenerator(writer);
+                    Pacer pacer = curve != null ? pacingMetrics.pacer(curve, "json") : null) {
+                gen.setRootValueSeparator(null);
+                gen.writeRaw("[");
+                AtomicLong count = new AtomicLong(0);
+
+                if (budget != null) {
+                    // 행마다 크기를 재야 하므로 바이트로 인코딩한 뒤 기록 (구분자 포함)
+                    gen.flush();
+                    generatorService.generateWithinBudget(plan, state, budget,
+                            row -> jsonBytes(rowWriter, row, budget.getRows() > 0),
+                            bytes -> {
+                                pace(pacer, () -> flush(outputStream));
+                                write(outputStream, bytes);
+                            });
+                    count.set(budget.getRows());
+                } else {
+                    generatorService.generateDataStream(plan, rowCount, state)
+                            .forEach(row -> {
+                                pace(pacer, () -> flush(gen));
+                                try {
+                                    if (count.getAndIncrement() > 0) {
+                                        gen.writeRaw(",\n");
+                                    }
+                                    rowWriter.writeValue(gen, row);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+                }
+
+                gen.writeRaw("]");
+                gen.flush();
+                saveCheckpoint(checkpointId, tableName, state);
+
+                log.info("JSON streaming completed: {} rows", count.get());
+            }
+        };
+
+        withSizeTrailers(response, budget);
+        return encoded(withCheckpointHeader(ResponseEntity.ok(), checkpointId)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + tableName + ".json\"")
+                .contentType(MediaType.APPLICATION_JSON),
+                body, "json", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * NDJSON 스트리밍 (한 줄에 한 행, 오케스트레이터 SSE 파이프라인의 상류)
+     *
+     * 응답 OutputStream 위에 UTF-8 JsonGenerator 하나를 끝까지 유지하며 행을 바로 직렬화하므로
+     * 행마다 중간 String/byte[]를 만들지 않는다. flushRows행 또는 flushMillis가 지나면 flush한다
+     * (0 이하이면 해당 조건 미사용, 둘 다 0이면 버퍼가 찰 때와 종료 시에만 flush).
+     * 나머지 파라미터는 CSV와 동일하며, targetBytes 모드는 행 크기를 재야 하므로 행을 바이트로 인코딩한다.
+     */
+    @PostMapping("/ndjson")
+    public ResponseEntity<StreamingResponseBody> streamNdjson(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "false") boolean checkpoint,
+            @RequestParam(required = false) String resumeFrom,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestParam(required = false) Long targetBytes,
+            @RequestParam(required = false) String rate,
+            @RequestParam(defaultValue = "1000") int flushRows,
+            @RequestParam(defaultValue = "200") long flushMillis,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel,
+            HttpServletResponse response) {
+
+        String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        ByteBudget budget = targetBytes != null ? new ByteBudget(targetBytes) : null;
+        RateCurve curve = rate != null ? RateCurve.parse(rate) : null;
+        GenerationState state = prepareState(tableName, seed, resumeFrom);
+        String checkpointId = checkpoint ? UUID.randomUUID().toString() : null;
+        long flushNanos = flushMillis > 0 ? flushMillis * 1_000_000 : Long.MAX_VALUE;
+
+        log.info("Starting NDJSON streaming for table: {}, rows: {}, targetBytes: {}", tableName, rowCount,
+                targetBytes);
+
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator gen = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+                    Pacer pacer = curve != null ? pacingMetrics.pacer(curve, "ndjson") : null) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+                gen.setRootValueSeparator(null);
+
+                if (budget != null) {
+                    generatorService.generateWithinBudget(plan, state, budget,
+                            row -> ndjsonBytes(rowWriter, row),
+                            bytes -> {
+                                pace(pacer, () -> flush(outputStream));
+                                write(outputStream, bytes);
+                            });
+                } else {
+                    long[] pending = { 0, System.nanoTime() }; // flush 이후 행 수, 마지막 flush 시각
+                    generatorService.generateDataStream(plan, rowCount, state)
+                            .forEach(row -> {
+                                pace(pacer, () -> flush(gen));
+                                try {
+                                    rowWriter.writeValue(gen, row);
+                                    gen.writeRaw('\n');
+                                    pending[0]++;
+                                    if ((flushRows > 0 && pending[0] >= flushRows)
+                                            || System.nanoTime() - pending[1] >= flushNanos) {
+                                        gen.flush();
+                                        pending[0] = 0;
+                                        pending[1] = System.nanoTime();
+                                    }
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+                }
+
+                gen.flush();
+                saveCheckpoint(checkpointId, tableName, state);
+                log.info("NDJSON streaming completed for table: {}, total rows: {}", tableName,
+                        state.getRowsGenerated());
+            }
+        };
+
+        withSizeTrailers(response, budget);
+        return encoded(withCheckpointHeader(ResponseEntity.ok(), checkpointId)
+                .contentType(NDJSON),
+                body, "ndjson", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * 고정폭 파일 다운로드
+     *
+     * 레이아웃은 요청 시점에 정해지므로 임시 파일 없이 워커들이 병렬로 인코딩한 블록을 순서대로 바로 전송한다.
+     * 레코드 길이와 컬럼 폭은 응답 헤더로 알려준다 (로더 설정용, 컬럼 이름은 RFC 8187 퍼센트 인코딩).
+     */
+    @PostMapping("/fixed-width")
+    public ResponseEntity<StreamingResponseBody> streamFixedWidth(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "0") int threads,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel) {
+
+        String tableName = table.getTableName();
+        long effectiveSeed = seed == 0 ? System.currentTimeMillis() : seed;
+        FixedWidthLayout layout = FixedWidthLayout.of(table);
+
+        log.info("Starting fixed-width export for table: {}, rows: {}, threads: {}", tableName, rowCount, threads);
+
+        StreamingResponseBody body = outputStream ->
+                fixedWidthExporter.export(table, rowCount, effectiveSeed, threads, outputStream);
 
-                writer.print("[");
-                AtomicInteger count = new AtomicInteger(0);
+        return encoded(ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + tableName + ".dat\"")
+                .header(RECORD_LENGTH_HEADER, String.valueOf(layout.getRecordLength()))
+                .header(LAYOUT_HEADER, layout.describe())
+                .contentType(MediaType.parseMediaType("text/plain; charset=UTF-8")),
+                body, "fixed-width", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * XLSX 스트리밍 다운로드 (오케스트레이터 /download/xlsx의 상류)
+     *
+     * 워크북을 메모리나 임시 파일에 만들지 않고 시트 XML을 생성하는 대로 zip 엔트리로 흘려 보낸다.
+     * 시트당 행 한도를 넘으면 새 시트로 이어서 기록한다 ({@link XlsxStreamWriter}).
+     */
+    @PostMapping("/xlsx")
+    public ResponseEntity<StreamingResponseBody> streamXlsx(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where) {
 
-                generatorService.generateDataStream(table, rowCount, actualSeed)
+        String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        GenerationState state = prepareState(tableName, seed, null);
+
+        log.info("Starting XLSX streaming for table: {}, rows: {}", tableName, rowCount);
+
+        StreamingResponseBody body = outputStream -> {
+            try (XlsxStreamWriter writer = new XlsxStreamWriter(outputStream, plan.getOutputColumns(), tableName)) {
+                generatorService.generateDataStream(plan, rowCount, state)
                         .forEach(row -> {
                             try {
-                                if (count.getAndIncrement() > 0) {
-                                    writer.print(",\n");
-                                }
-                                writer.print(objectMapper.writeValueAsString(row));
-                            } catch (Exception e) {
-                                throw new RuntimeException(e);
+                                writer.writeRow(row);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
                             }
                         });
-
-                writer.print("]");
-                writer.flush();
-
-                log.info("JSON streaming completed: {} rows", count.get());
+                log.info("XLSX streaming completed for table: {}, total rows: {}, sheets: {}", tableName,
+                        writer.getRowCount(), writer.getSheetCount());
             }
         };
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + tableName + ".json\"")
-                .contentType(MediaType.APPLICATION_JSON)
+                        "attachment; filename=\"" + tableName + ".xlsx\"")
+                .contentType(XLSX)
                 .body(body);
     }
 
-    private String toCsvLine(Map<String, Object> row, List<String> columnNames) {
-        return columnNames.stream()
-                .map(col -> {
-                    Object value = row.get(col);
-                    if (value == null)
-                        return "";
-                    String str = value.toString();
-                    if (str.contains(",") || str.contains("\"") || str.contains("\n")) {
-                        str = "\"" + str.replace("\"", "\"\"") + "\"";
+    /**
+     * Parquet 스트리밍 다운로드
+     *
+     * 행 Map 대신 열 배치({@link com.itdg.generator.service.ColumnBatch})를 받아 컬럼 청크에 바로 인코딩하고,
+     * 인코딩된 크기가 rowGroupBytes에 닿을 때마다 로우 그룹을 내보낸다 ({@link ParquetStreamWriter}).
+     * compression은 none 또는 gzip. 페이지를 압축하지 않는(none) 응답은 다른 형식처럼 Accept-Encoding으로
+     * 협상한 코딩으로 전송하고, 페이지가 이미 gzip이면 이중 압축하지 않는다.
+     */
+    @PostMapping("/parquet")
+    public ResponseEntity<StreamingResponseBody> streamParquet(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestParam(defaultValue = "none") String compression,
+            @RequestParam(defaultValue = "" + ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES) long rowGroupBytes,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel) {
+
+        String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        ParquetStreamWriter.Codec codec = ParquetStreamWriter.Codec.of(compression);
+        ParquetStreamWriter.requireRowGroupBytes(rowGroupBytes);
+        GenerationState state = prepareState(tableName, seed, null);
+
+        log.info("Starting Parquet streaming for table: {}, rows: {}, codec: {}", tableName, rowCount, codec);
+
+        StreamingResponseBody body = outputStream -> {
+            try (ParquetStreamWriter writer = new ParquetStreamWriter(
+                    outputStream, plan.getOutputColumnMetadata(), codec, rowGroupBytes)) {
+                generatorService.generateBatchStream(plan, rowCount, state)
+                        .forEach(batch -> {
+                            try {
+                                writer.writeBatch(batch);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                writer.close();
+                log.info("Parquet streaming completed for table: {}, total rows: {}, row groups: {}, bytes: {}",
+                        tableName, writer.getRowCount(), writer.getRowGroups().size(), writer.getPosition());
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + tableName + ".parquet\"")
+                .contentType(PARQUET);
+        if (codec != ParquetStreamWriter.Codec.UNCOMPRESSED) {
+            return builder.body(body);
+        }
+        return encoded(builder, body, "parquet", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * Arrow IPC 스트리밍 (pandas/Polars/DuckDB 등 컬럼형 소비자용)
+     *
+     * 생성기의 열 배치를 RNG 블록마다 레코드 배치 하나로 그대로 내보낸다 ({@link ArrowBatchWriter}).
+     * 다른 서비스는 itdg-common의 ArrowStreamReader로 행 단위 역직렬화 없이 읽을 수 있다.
+     */
+    @PostMapping("/arrow")
+    public ResponseEntity<StreamingResponseBody> streamArrow(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel) {
+
+        String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        GenerationState state = prepareState(tableName, seed, null);
+
+        log.info("Starting Arrow streaming for table: {}, rows: {}", tableName, rowCount);
+
+        StreamingResponseBody body = outputStream -> {
+            try (ArrowBatchWriter writer = new ArrowBatchWriter(outputStream, plan.getOutputColumnMetadata())) {
+                generatorService.generateBatchStream(plan, rowCount, state)
+                        .forEach(batch -> {
+                            try {
+                                writer.writeBatch(batch);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                writer.close();
+                log.info("Arrow streaming completed for table: {}, total rows: {}, batches: {}", tableName,
+                        writer.getRowCount(), writer.getBatchCount());
+            }
+        };
+
+        return encoded(ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + tableName + ".arrows\"")
+                .contentType(ARROW_STREAM),
+                body, "arrow", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * PostgreSQL 바이너리 COPY 스트리밍 (COPY ... FROM STDIN (FORMAT binary) 입력)
+     *
+     * 열 배치를 문자열 변환 없이 타입별 바이너리 필드로 인코딩한다 ({@link PgCopyWriter}).
+     * 바이너리 COPY는 서버가 형 변환을 하지 않으므로 컬럼 타입이 맞아야 하며, 그대로 쓸 수 있는 COPY 문을
+     * X-Copy-Command 헤더로 알린다.
+     */
+    @PostMapping("/pgcopy")
+    public ResponseEntity<StreamingResponseBody> streamPgCopy(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel) {
+
+        String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        GenerationState state = prepareState(tableName, seed, null);
+        String copyCommand = "COPY " + SqlDialect.POSTGRESQL.quoteIdentifier(tableName) + " ("
+                + plan.getOutputColumns().stream().map(SqlDialect.POSTGRESQL::quoteIdentifier)
+                        .collect(Collectors.joining(", "))
+                + ") FROM STDIN (FORMAT binary)";
+
+        log.info("Starting PostgreSQL binary COPY streaming for table: {}, rows: {}", tableName, rowCount);
+
+        StreamingResponseBody body = outputStream -> {
+            try (PgCopyWriter writer = new PgCopyWriter(outputStream, plan.getOutputColumnMetadata())) {
+                generatorService.generateBatchStream(plan, rowCount, state)
+                        .forEach(batch -> {
+                            try {
+                                writer.writeBatch(batch);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                writer.close();
+                log.info("PostgreSQL binary COPY streaming completed for table: {}, total rows: {}, bytes: {}",
+                        tableName, writer.getRowCount(), writer.getBytesWritten());
+            }
+        };
+
+        return encoded(ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + tableName + ".pgcopy\"")
+                .header(COPY_COMMAND_HEADER, copyCommand)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM),
+                body, "pgcopy", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * SQL INSERT 스크립트 스트리밍 다운로드
+     *
+     * dialect(postgresql, mysql, h2)에 맞춰 식별자와 리터럴을 인용하고 batchRows 행씩 다중 행 INSERT로 묶는다.
+     * commitEvery > 0 이면 그 문 수마다 BEGIN/COMMIT으로 나누고, disableConstraints면 앞뒤에 제약 검사
+     * 비활성화/복원 구문을 넣는다 ({@link SqlInsertWriter}).
+     */
+    @PostMapping("/sql")
+    public ResponseEntity<StreamingResponseBody> streamSql(
+            @RequestBody TableMetadata table,
+            @RequestParam(defaultValue = "1000") long rowCount,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(required = false) String where,
+            @RequestParam(defaultValue = "postgresql") String dialect,
+            @RequestParam(defaultValue = "" + SqlInsertWriter.DEFAULT_BATCH_ROWS) int batchRows,
+            @RequestParam(defaultValue = "0") int commitEvery,
+            @RequestParam(defaultValue = "false") boolean disableConstraints,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel) {
+
+        String tableName = table.getTableName();
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where)); // 잘못된 선택/조건은 400
+        SqlInsertWriter.Options options = new SqlInsertWriter.Options(
+                SqlDialect.of(dialect), batchRows, commitEvery, disableConstraints);
+        GenerationState state = prepareState(tableName, seed, null);
+
+        log.info("Starting SQL streaming for table: {}, rows: {}, dialect: {}", tableName, rowCount, options.dialect());
+
+        StreamingResponseBody body = outputStream -> {
+            try (SqlInsertWriter writer = new SqlInsertWriter(outputStream, options)) {
+                writer.startTable(tableName, plan.getOutputColumns());
+                writeSqlRows(writer, generatorService.generateDataStream(plan, rowCount, state));
+                writer.close();
+                log.info("SQL streaming completed for table: {}, total rows: {}, statements: {}", tableName,
+                        writer.getRowCount(), writer.getStatementCount());
+            }
+        };
+
+        return encoded(ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + tableName + ".sql\"")
+                .contentType(SQL),
+                body, "sql", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * 스키마 전체의 SQL INSERT 스크립트 (GenerateDataRequest.outputFormat=SQL에 해당)
+     *
+     * 테이블은 외래 키 의존 순서로 내보내고({@link ForeignKeyOrder}), 테이블마다 rowCount 행을 만든다.
+     * 외래 키 값은 부모 테이블의 PK 범위(1..rowCount) 안에서 뽑는다.
+     * 외래 키 순환이 있으면 어떤 순서로도 제약을 지킬 수 없으므로 disableConstraints=true를 요구한다.
+     * customRules/columns/where는 /api/generator/generate와 같은 규칙으로 적용한다.
+     */
+    @PostMapping("/sql/schema")
+    public ResponseEntity<StreamingResponseBody> streamSchemaSql(
+            @RequestBody GenerateDataRequest request,
+            @RequestParam(defaultValue = "postgresql") String dialect,
+            @RequestParam(defaultValue = "" + SqlInsertWriter.DEFAULT_BATCH_ROWS) int batchRows,
+            @RequestParam(defaultValue = "0") int commitEvery,
+            @RequestParam(defaultValue = "false") boolean disableConstraints,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Integer compressionLevel) {
+
+        if (request.getSchema() == null || request.getSchema().getTables() == null) {
+            throw new IllegalArgumentException("Schema or tables cannot be null");
+        }
+        Selection selection = Selection.lenient(request.getColumns(), request.getWhere());
+        if (!disableConstraints && ForeignKeyOrder.hasCycle(request.getSchema().getTables())) {
+            throw new IllegalArgumentException("Schema has a foreign key cycle - set disableConstraints=true"
+                    + " so the script loads with foreign key checks off");
+        }
+        long rowCount = request.getRowCount() != null ? request.getRowCount() : 100;
+        Map<String, Long> keyRanges = ForeignKeyOrder.keyRanges(request.getSchema().getTables(), rowCount);
+        List<TablePlan> plans = ForeignKeyOrder.sort(request.getSchema().getTables()).stream()
+                .map(table -> TablePlan.compile(CustomRules.apply(table, request.getCustomRules()), selection)
+                        .withKeyRanges(keyRanges))
+                .toList();
+        SqlInsertWriter.Options options = new SqlInsertWriter.Options(
+                SqlDialect.of(dialect), batchRows, commitEvery, disableConstraints);
+        long seed = request.getSeed() != null ? request.getSeed() : System.currentTimeMillis();
+
+        log.info("Starting SQL streaming for {} tables, rows per table: {}, dialect: {}", plans.size(), rowCount,
+                options.dialect());
+
+        StreamingResponseBody body = outputStream -> {
+            try (SqlInsertWriter writer = new SqlInsertWriter(outputStream, options)) {
+                for (TablePlan plan : plans) {
+                    String tableName = plan.getTable().getTableName();
+                    writer.startTable(tableName, plan.getOutputColumns());
+                    writeSqlRows(writer, generatorService.generateDataStream(plan, rowCount,
+                            GenerationState.fresh(seed)));
+                }
+                writer.close();
+                log.info("SQL streaming completed for {} tables, total rows: {}, statements: {}", plans.size(),
+                        writer.getRowCount(), writer.getStatementCount());
+            }
+        };
+
+        return encoded(ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"schema.sql\"")
+                .contentType(SQL),
+                body, "sql", acceptEncoding, compressionLevel);
+    }
+
+    /**
+     * 신규 생성이면 시드로, resumeFrom 지정 시 체크포인트로부터 생성 상태 준비
+     */
+    private GenerationState prepareState(String tableName, long seed, String resumeFrom) {
+        if (resumeFrom == null) {
+            return GenerationState.fresh(seed == 0 ? System.currentTimeMillis() : seed);
+        }
+        GenerationCheckpoint checkpoint = checkpointStore.load(resumeFrom);
+        if (!checkpoint.getTableName().equals(tableName)) {
+            throw new IllegalArgumentException("Checkpoint " + resumeFrom + " belongs to table "
+                    + checkpoint.getTableName() + ", not " + tableName);
+        }
+        log.info("Resuming generation from checkpoint: {}", checkpoint);
+        return GenerationState.resume(checkpoint);
+    }
+
+    private void saveCheckpoint(String checkpointId, String tableName, GenerationState state) {
+        if (checkpointId != null) {
+            checkpointStore.save(state.toCheckpoint(checkpointId, tableName));
+        }
+    }
+
+    /**
+     * 크기 기준 생성의 최종 행 수/바이트 수를 HTTP 트레일러로 전송 (chunked 응답 종료 시 평가)
+     */
+    private void withSizeTrailers(HttpServletResponse response, ByteBudget budget) {
+        if (budget == null) {
+            return;
+        }
+        response.setHeader("Trailer", ROW_COUNT_TRAILER + ", " + BYTE_COUNT_TRAILER);
+        response.setTrailerFields(() -> Map.of(
+                ROW_COUNT_TRAILER, String.valueOf(budget.getRows()),
+                BYTE_COUNT_TRAILER, String.valueOf(budget.getBytesUsed())));
+    }
+
+    /**
+     * 구분자 파라미터 - 한 글자 또는 탭(tab, \t)
+     */
+    private static char delimiterChar(String delimiter) {
+        if ("tab".equalsIgnoreCase(delimiter) || "\\t".equals(delimiter)) {
+            return '\t';
+        }
+        if (delimiter.length() != 1) {
+            throw new IllegalArgumentException("CSV delimiter must be a single character: " + delimiter);
+        }
+        return delimiter.charAt(0);
+    }
+
+    private static byte[] csvHeaderBytes(CsvEncoder.Format format, List<String> columnNames) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (CsvEncoder encoder = new CsvEncoder(bytes, format)) {
+            encoder.writeHeader(columnNames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] csvBytes(CsvEncoder rowEncoder, ByteArrayOutputStream rowBytes, Map<String, Object> row,
+            List<String> columnNames) {
+        rowBytes.reset();
+        try {
+            rowEncoder.writeRow(row, columnNames);
+            rowEncoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rowBytes.toByteArray();
+    }
+
+    private static void writeSqlRows(SqlInsertWriter writer, Stream<Map<String, Object>> rows) {
+        rows.forEach(row -> {
+            try {
+                writer.writeRow(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static byte[] jsonBytes(ObjectWriter rowWriter, Map<String, Object> row, boolean separated) {
+        try {
+            byte[] json = rowWriter.writeValueAsBytes(row);
+            if (!separated) {
+                return json;
+            }
+            byte[] bytes = new byte[json.length + 2];
+            bytes[0] = ',';
+            bytes[1] = '\n';
+            System.arraycopy(json, 0, bytes, 2, json.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 속도 조절 모드면 다음 행 예정 시각까지 대기 (오래 쉬게 되면 먼저 flush)
+     */
+    private static void pace(Pacer pacer, Runnable flush) {
+        if (pacer != null) {
+            pacer.awaitNext(flush);
+        }
+    }
+
+    private static void flush(Flushable out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] ndjsonBytes(ObjectWriter rowWriter, Map<String, Object> row) {
+        try {
+            byte[] json = rowWriter.writeValueAsBytes(row);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(OutputStream out, byte[] bytes) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResponseEntity.BodyBuilder withCheckpointHeader(ResponseEntity.BodyBuilder builder, String checkpointId) {
+        return checkpointId != null ? builder.header(CHECKPOINT_HEADER, checkpointId) : builder;
+    }
+
+    /**
+     * Accept-Encoding으로 협상한 코딩(gzip, zstd)으로 본문을 압축 (협상 결과가 identity면 그대로)
+     *
+     * 출력기의 청크 경계 flush가 동기 flush가 되므로 압축 중에도 행이 청크 단위로 전달된다.
+     * targetBytes와 크기 트레일러는 압축 전 크기 기준이다. 잘못된 compressionLevel은 400.
+     */
+    private ResponseEntity<StreamingResponseBody> encoded(ResponseEntity.BodyBuilder builder,
+            StreamingResponseBody body, String format, String acceptEncoding, Integer compressionLevel) {
+        ContentCoding coding = ContentCoding.negotiate(acceptEncoding);
+        int level = coding.level(compressionLevel);
+        builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (coding == ContentCoding.IDENTITY) {
+            return builder.body(body);
+        }
+        return builder.header(HttpHeaders.CONTENT_ENCODING, coding.token())
+                .body(outputStream -> {
+                    try (CompressingOutputStream compressed =
+                            compressionMetrics.open(outputStream, coding, level, format)) {
+                        body.writeTo(compressed);
+                        compressed.finish();
                     }
-                    return str;
-                })
-                .collect(Collectors.joining(","));
+                });
     }
 }
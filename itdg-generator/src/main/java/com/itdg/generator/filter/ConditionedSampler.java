@@ -0,0 +1,186 @@
+package com.itdg.generator.filter;
+
+import com.itdg.common.dto.metadata.ColumnDistribution;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.statistics.NormalDistribution;
+import com.itdg.generator.statistics.ValueRange;
+import com.itdg.generator.strategy.StatisticalStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 조건부 컬럼 샘플러 - 조건을 만족하는 값만 직접 생성 (생성 후 버리는 방식 아님)
+ *
+ * 범주 조건(=, IN)은 허용 값 중 하나를 균등 추출하고, 범위 조건(&lt;, &lt;=, &gt;, &gt;=, BETWEEN)은
+ * 컬럼의 기본 분포({@link StatisticalStrategy#defaultDistribution})가 있으면 그 분포를 범위로 절단해
+ * 역CDF로, 없으면 범위 내 균등으로 뽑는다. 같은 컬럼의 조건은 모두 AND로 합친다.
+ */
+public final class ConditionedSampler {
+
+    private final Object[] choices; // 범주 조건 (null이면 범위 조건)
+    private final ValueRange range;
+    private final ColumnDistribution distribution; // 범위 내 절단 분포 (null이면 균등)
+    private final double lowerP;
+    private final double upperP;
+
+    private ConditionedSampler(Object[] choices, ValueRange range, ColumnDistribution distribution,
+            double lowerP, double upperP) {
+        this.choices = choices;
+        this.range = range;
+        this.distribution = distribution;
+        this.lowerP = lowerP;
+        this.upperP = upperP;
+    }
+
+    /**
+     * @throws IllegalArgumentException 타입에 맞지 않는 리터럴, 만족할 수 없는 조건, PK/Unique 컬럼
+     */
+    public static ConditionedSampler compile(ColumnMetadata column, List<Predicate> predicates) {
+        if (Boolean.TRUE.equals(column.getIsPrimaryKey()) || Boolean.TRUE.equals(column.getIsUnique())) {
+            throw new IllegalArgumentException(
+                    "Predicates are not supported on primary key or unique column: " + column.getName());
+        }
+        ValueRange.Kind kind = ValueRange.kindOf(column);
+        List<String> allowed = null;
+        for (Predicate predicate : predicates) {
+            if (predicate.operator().isRange() && kind == null) {
+                throw new IllegalArgumentException("Range predicates need a numeric or date column: "
+                        + column.getName());
+            }
+            if (!predicate.operator().isRange()) {
+                allowed = allowed == null ? new ArrayList<>(predicate.operands())
+                        : intersect(kind, allowed, predicate.operands());
+            }
+        }
+        double[] bounds = kind != null ? bounds(kind, predicates)
+                : new double[] { Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+        double lower = bounds[0];
+        double upper = bounds[1];
+
+        if (allowed != null) {
+            List<Object> values = new ArrayList<>();
+            for (String literal : allowed) {
+                if (kind == null) {
+                    values.add(typed(column, literal));
+                } else {
+                    double units = ValueRange.toUnits(kind, literal);
+                    if (units >= lower && units <= upper) {
+                        values.add(ValueRange.typed(kind, literal));
+                    }
+                }
+            }
+            if (values.isEmpty()) {
+                throw unsatisfiable(column);
+            }
+            return new ConditionedSampler(values.toArray(), null, null, 0, 1);
+        }
+
+        ColumnDistribution distribution = kind.isNumeric()
+                ? StatisticalStrategy.defaultDistribution(column.getName())
+                : null;
+        ValueRange base = ValueRange.of(column, null, null);
+        ValueRange range = null;
+        if (distribution != null) {
+            try {
+                // 분포 지지 구간과 조건 구간의 교집합
+                range = base.withBounds(distribution.getMin(), distribution.getMax(), column.getName())
+                        .narrow(lower, upper, column.getName());
+            } catch (IllegalArgumentException e) {
+                distribution = null; // 조건이 분포 밖이면 조건 구간 내 균등
+            }
+        }
+        if (range == null) {
+            try {
+                range = base.withBounds(lower, upper, column.getName());
+            } catch (IllegalArgumentException e) {
+                throw unsatisfiable(column);
+            }
+        }
+        if (distribution == null) {
+            return new ConditionedSampler(null, range, null, 0, 1);
+        }
+        double mean = distribution.getMean();
+        double stdDev = distribution.getStdDev();
+        // 정수형은 내림 변환이므로 [min, max + 1) 구간에서 추출
+        double hi = range.getKind().isIntegral() ? range.getMax() + 1 : range.getMax();
+        return new ConditionedSampler(null, range, distribution,
+                NormalDistribution.cdf((range.getMin() - mean) / stdDev),
+                NormalDistribution.cdf((hi - mean) / stdDev));
+    }
+
+    /**
+     * 범위 조건을 합친 [하한, 상한] (실수 단위, 양 끝 포함). 범위 조건이 없는 쪽은 무한대
+     *
+     * @throws IllegalArgumentException 타입에 맞지 않는 리터럴
+     */
+    public static double[] bounds(ValueRange.Kind kind, List<Predicate> predicates) {
+        double lower = Double.NEGATIVE_INFINITY;
+        double upper = Double.POSITIVE_INFINITY;
+        for (Predicate predicate : predicates) {
+            List<String> operands = predicate.operands();
+            switch (predicate.operator()) {
+                case BETWEEN -> {
+                    lower = Math.max(lower, ValueRange.toUnits(kind, operands.get(0)));
+                    upper = Math.min(upper, ValueRange.toUnits(kind, operands.get(1)));
+                }
+                case GE -> lower = Math.max(lower, ValueRange.toUnits(kind, operands.get(0)));
+                case GT -> lower = Math.max(lower, above(kind, ValueRange.toUnits(kind, operands.get(0))));
+                case LE -> upper = Math.min(upper, ValueRange.toUnits(kind, operands.get(0)));
+                case LT -> upper = Math.min(upper, below(kind, ValueRange.toUnits(kind, operands.get(0))));
+                case EQ, IN -> {
+                }
+            }
+        }
+        return new double[] { lower, upper };
+    }
+
+    public Object sample(Random random) {
+        if (choices != null) {
+            return choices.length == 1 ? choices[0] : choices[random.nextInt(choices.length)];
+        }
+        if (distribution == null || upperP - lowerP < 1e-12) {
+            return range.at(random.nextDouble());
+        }
+        double p = lowerP + random.nextDouble() * (upperP - lowerP);
+        return range.fromUnits(distribution.getMean() + distribution.getStdDev() * NormalDistribution.inverseCdf(p));
+    }
+
+    private static List<String> intersect(ValueRange.Kind kind, List<String> current, List<String> operands) {
+        List<String> result = new ArrayList<>();
+        for (String value : current) {
+            for (String operand : operands) {
+                boolean same = kind != null
+                        ? ValueRange.toUnits(kind, value) == ValueRange.toUnits(kind, operand)
+                        : value.equals(operand);
+                if (same) {
+                    result.add(value);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static double above(ValueRange.Kind kind, double units) {
+        return kind.isIntegral() ? Math.floor(units) + 1 : Math.nextUp(units);
+    }
+
+    private static double below(ValueRange.Kind kind, double units) {
+        return kind.isIntegral() ? Math.ceil(units) - 1 : Math.nextDown(units);
+    }
+
+    private static Object typed(ColumnMetadata column, String literal) {
+        String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase(Locale.ROOT);
+        if (type.contains("BOOL")) {
+            return Boolean.parseBoolean(literal);
+        }
+        return literal;
+    }
+
+    private static IllegalArgumentException unsatisfiable(ColumnMetadata column) {
+        return new IllegalArgumentException("Predicates on column " + column.getName() + " cannot be satisfied");
+    }
+}
@@ -0,0 +1,27 @@
+package com.itdg.generator.filter;
+
+import java.util.List;
+
+/**
+ * 단일 컬럼 조건 (예: status = 'ACTIVE', age BETWEEN 20 AND 39)
+ *
+ * @param table    "table.column" 형태로 한정한 경우 테이블 이름, 아니면 null
+ * @param operands 리터럴 목록 (문자열 리터럴은 따옴표를 벗긴 값)
+ */
+public record Predicate(String table, String column, Operator operator, List<String> operands) {
+
+    public enum Operator {
+        EQ, IN, BETWEEN, LT, LE, GT, GE;
+
+        public boolean isRange() {
+            return this != EQ && this != IN;
+        }
+    }
+
+    /**
+     * 이 테이블에 적용되는 조건인지 (한정하지 않은 조건은 같은 이름의 컬럼이 있는 모든 테이블에 적용)
+     */
+    public boolean appliesTo(String tableName) {
+        return table == null || table.equals(tableName);
+    }
+}
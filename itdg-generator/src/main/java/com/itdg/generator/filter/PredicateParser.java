@@ -0,0 +1,175 @@
+package com.itdg.generator.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성 조건식 파서 - AND로 연결된 단순 조건만 지원
+ *
+ * <pre>
+ * where     := predicate (AND predicate)*
+ * predicate := column ('=' | '&lt;' | '&lt;=' | '&gt;' | '&gt;=') literal
+ *            | column IN '(' literal (',' literal)* ')'
+ *            | column BETWEEN literal AND literal
+ * literal   := 'text' | number | true | false
+ * </pre>
+ * 예: status = 'ACTIVE' AND region IN ('SEOUL', 'BUSAN') AND orders.amount BETWEEN 1000 AND 5000
+ */
+public final class PredicateParser {
+
+    private final String source;
+    private int pos;
+
+    private PredicateParser(String source) {
+        this.source = source;
+    }
+
+    /**
+     * @return 빈 문자열/null이면 빈 목록
+     * @throws IllegalArgumentException 문법 오류
+     */
+    public static List<Predicate> parse(String where) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (where == null || where.isBlank()) {
+            return predicates;
+        }
+        PredicateParser parser = new PredicateParser(where);
+        do {
+            predicates.add(parser.predicate());
+        } while (parser.keyword("AND"));
+        parser.skipSpaces();
+        if (parser.pos < where.length()) {
+            throw parser.error(parser.keywordAhead("OR") ? "Only AND-combined predicates are supported"
+                    : "Unexpected input");
+        }
+        return predicates;
+    }
+
+    private Predicate predicate() {
+        String reference = identifier();
+        int dot = reference.lastIndexOf('.');
+        String table = dot > 0 ? reference.substring(0, dot) : null;
+        String column = dot > 0 ? reference.substring(dot + 1) : reference;
+
+        if (keyword("IN")) {
+            expect('(');
+            List<String> values = new ArrayList<>();
+            do {
+                values.add(literal());
+            } while (symbol(","));
+            expect(')');
+            return new Predicate(table, column, Predicate.Operator.IN, values);
+        }
+        if (keyword("BETWEEN")) {
+            String lower = literal();
+            if (!keyword("AND")) {
+                throw error("Expected AND in BETWEEN");
+            }
+            return new Predicate(table, column, Predicate.Operator.BETWEEN, List.of(lower, literal()));
+        }
+        Predicate.Operator operator;
+        if (symbol("<=")) {
+            operator = Predicate.Operator.LE;
+        } else if (symbol(">=")) {
+            operator = Predicate.Operator.GE;
+        } else if (symbol("<")) {
+            operator = Predicate.Operator.LT;
+        } else if (symbol(">")) {
+            operator = Predicate.Operator.GT;
+        } else if (symbol("=")) {
+            operator = Predicate.Operator.EQ;
+        } else {
+            throw error("Expected comparison operator");
+        }
+        return new Predicate(table, column, operator, List.of(literal()));
+    }
+
+    private String identifier() {
+        skipSpaces();
+        int start = pos;
+        while (pos < source.length()
+                && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '_'
+                        || source.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (start == pos || Character.isDigit(source.charAt(start))) {
+            throw error("Expected column name");
+        }
+        return source.substring(start, pos);
+    }
+
+    private String literal() {
+        skipSpaces();
+        if (pos < source.length() && source.charAt(pos) == '\'') {
+            StringBuilder text = new StringBuilder();
+            pos++;
+            while (pos < source.length()) {
+                char c = source.charAt(pos++);
+                if (c == '\'') {
+                    if (pos < source.length() && source.charAt(pos) == '\'') {
+                        text.append('\'');
+                        pos++;
+                    } else {
+                        return text.toString();
+                    }
+                } else {
+                    text.append(c);
+                }
+            }
+            throw error("Unterminated string literal");
+        }
+        int start = pos;
+        if (pos < source.length() && (source.charAt(pos) == '-' || source.charAt(pos) == '+')) {
+            pos++;
+        }
+        while (pos < source.length()
+                && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (start == pos) {
+            throw error("Expected literal");
+        }
+        return source.substring(start, pos);
+    }
+
+    private boolean keyword(String word) {
+        if (!keywordAhead(word)) {
+            return false;
+        }
+        pos += word.length();
+        return true;
+    }
+
+    private boolean keywordAhead(String word) {
+        skipSpaces();
+        int end = pos + word.length();
+        return end <= source.length()
+                && source.regionMatches(true, pos, word, 0, word.length())
+                && (end == source.length() || !Character.isLetterOrDigit(source.charAt(end)));
+    }
+
+    private boolean symbol(String symbol) {
+        skipSpaces();
+        if (source.startsWith(symbol, pos)) {
+            pos += symbol.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!symbol(String.valueOf(c))) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private void skipSpaces() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at index " + pos + " in predicate: " + source);
+    }
+}
@@ -0,0 +1,69 @@
+package com.itdg.generator.job;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전송 중인 작업 결과 다운로드 추적
+ *
+ * 다운로드는 본문을 다 보낼 때까지 임대(lease)를 잡고, 만료 정리({@link ExpiredJobCleaner})는
+ * 임대가 없는 작업만 정리 중으로 표시한 뒤 파일을 지운다. 정리 중인 작업의 새 다운로드는 거부한다.
+ */
+@Component
+public class ActiveDownloads {
+
+    private final Map<String, Integer> leases = new HashMap<>();
+    private final Set<String> retiring = new HashSet<>();
+
+    /**
+     * 다운로드 임대 - try-with-resources로 전송이 끝나면 반납
+     */
+    public interface Lease extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * @throws IllegalArgumentException 보존 기간이 지나 정리 중인 작업
+     */
+    public synchronized Lease acquire(String jobId) {
+        if (retiring.contains(jobId)) {
+            throw new IllegalArgumentException("Generation job has expired: " + jobId);
+        }
+        leases.merge(jobId, 1, Integer::sum);
+        return new Lease() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                synchronized (ActiveDownloads.this) {
+                    if (!closed) {
+                        closed = true;
+                        leases.computeIfPresent(jobId, (id, count) -> count == 1 ? null : count - 1);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 전송 중인 다운로드가 없으면 정리 중으로 표시
+     *
+     * @return 표시했으면 true (정리가 끝나면 {@link #retired}로 해제)
+     */
+    synchronized boolean retire(String jobId) {
+        if (leases.containsKey(jobId)) {
+            return false;
+        }
+        retiring.add(jobId);
+        return true;
+    }
+
+    synchronized void retired(String jobId) {
+        retiring.remove(jobId);
+    }
+}
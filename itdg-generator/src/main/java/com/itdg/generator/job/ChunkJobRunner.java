@@ -0,0 +1,458 @@
+package com.itdg.generator.job;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.checkpoint.CheckpointStore;
+import com.itdg.generator.checkpoint.GenerationCheckpoint;
+import com.itdg.generator.output.CsvLines;
+import com.itdg.generator.output.ParquetStreamWriter;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 청크 기반 재시작 가능 생성 작업 실행기 (Spring Batch 대체)
+ *
+ * 청크 단위로 CSV 파일에 기록 → fsync → 작업 저장소 커밋 순서로 진행한다.
+ * 크래시 후 재시작 시 출력 파일을 마지막 커밋 지점으로 잘라내고, 같은 RNG 블록부터 이어서 생성하므로
+ * 중단 없이 실행한 결과와 동일한 파일이 만들어진다.
+ *
+ * Parquet 작업(출력 경로가 .parquet)은 청크마다 로우 그룹을 기록하고, footer에 들어갈 로우 그룹 메타데이터를
+ * 사이드카 파일(.parquet.meta)에 한 줄씩 덧붙인다. 재시작 시 커밋 지점 이후의 줄은 버리고, 완료 시 footer를 기록한다.
+ *
+ * Unique 컬럼이 있으면 청크를 커밋할 때마다 Unique 값 집합을 작업 ID의 체크포인트({@link CheckpointStore})로
+ * 출력 파일 옆에 저장해, 재시작 시 커밋된 행을 재생성하지 않고 복원한다. 체크포인트는 만료 정리 때 함께 지운다.
+ */
+@Slf4j
+@Service
+public class ChunkJobRunner {
+
+    static final String PARQUET_EXTENSION = ".parquet";
+    static final String ROW_GROUP_SIDECAR = ".meta";
+
+    private final StreamingDataGeneratorService generatorService;
+    private final JobRepository jobRepository;
+    private final Path outputDir;
+    private final int defaultChunkSize;
+    private final boolean resumeOnStartup;
+    private final ExecutorService executor;
+    private final Map<String, Future<?>> runningJobs = new ConcurrentHashMap<>();
+
+    public ChunkJobRunner(
+            StreamingDataGeneratorService generatorService,
+            JobRepository jobRepository,
+            @Value("${generator.job.dir:./data/jobs}") String outputDir,
+            @Value("${generator.job.chunk-size:10240}") int defaultChunkSize,
+            @Value("${generator.job.resume-on-startup:true}") boolean resumeOnStartup,
+            @Value("${generator.job.threads:2}") int threads) {
+        this.generatorService = generatorService;
+        this.jobRepository = jobRepository;
+        this.outputDir = Paths.get(outputDir);
+        this.defaultChunkSize = defaultChunkSize;
+        this.resumeOnStartup = resumeOnStartup;
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * 새 작업 등록 및 백그라운드 실행
+     */
+    public GenerationJob submit(TableMetadata table, long rowCount, long seed, Integer chunkSize, String format) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("rowCount must not be negative");
+        }
+        String extension = switch (format == null ? "csv" : format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> ".csv";
+            case "parquet" -> PARQUET_EXTENSION;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported job format: " + format + " (expected csv or parquet)");
+        };
+        String jobId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        GenerationJob job = GenerationJob.builder()
+                .jobId(jobId)
+                .tableName(table.getTableName())
+                .status(JobStatus.RUNNING)
+                .seed(seed == 0 ? System.currentTimeMillis() : seed)
+                .totalRows(rowCount)
+                .chunkSize(alignChunkSize(chunkSize != null ? chunkSize : defaultChunkSize))
+                .nextPrimaryKey(1)
+                .outputPath(outputDir.resolve(jobId + extension).toAbsolutePath().toString())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        jobRepository.insert(job, table);
+        log.info("Generation job submitted: {}", job);
+
+        start(job, table);
+        return job;
+    }
+
+    /**
+     * 중단/실패한 작업을 마지막 커밋 청크부터 재개
+     */
+    public GenerationJob restart(String jobId) {
+        GenerationJob job = getJob(jobId);
+        if (job.getStatus() == JobStatus.COMPLETED) {
+            throw new IllegalArgumentException("Job already completed: " + jobId);
+        }
+        if (runningJobs.containsKey(jobId)) {
+            throw new IllegalArgumentException("Job is already running: " + jobId);
+        }
+        job.setStatus(JobStatus.RUNNING);
+        job.setErrorMessage(null);
+        job.setRestartCount(job.getRestartCount() + 1);
+        jobRepository.updateStatus(job);
+
+        start(job, jobRepository.findTable(jobId));
+        return job;
+    }
+
+    public GenerationJob getJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+    }
+
+    /**
+     * 다운로드할 완료 작업
+     *
+     * @throws IllegalArgumentException 없거나 아직 완료되지 않은 작업
+     */
+    public GenerationJob getCompletedJob(String jobId) {
+        GenerationJob job = getJob(jobId);
+        if (job.getStatus() != JobStatus.COMPLETED) {
+            throw new IllegalArgumentException("Job is not completed: " + jobId + " (" + job.getStatus() + ", "
+                    + job.getPercentComplete() + "%)");
+        }
+        if (!Files.exists(Paths.get(job.getOutputPath()))) {
+            throw new IllegalStateException("Output file of job " + jobId + " is missing: " + job.getOutputPath());
+        }
+        return job;
+    }
+
+    /**
+     * 기동 시 RUNNING 상태로 남은 작업(크래시/재시작으로 중단됨)을 자동 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        for (GenerationJob job : jobRepository.findByStatus(JobStatus.RUNNING)) {
+            if (!runningJobs.containsKey(job.getJobId())) {
+                log.info("Resuming interrupted job {} from chunk {} ({} rows)",
+                        job.getJobId(), job.getCommittedChunks(), job.getRowsWritten());
+                job.setRestartCount(job.getRestartCount() + 1);
+                jobRepository.updateStatus(job);
+                start(job, jobRepository.findTable(job.getJobId()));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 RUNNING 상태로 남아 다음 기동 시 재개된다
+        executor.shutdownNow();
+    }
+
+    private void start(GenerationJob job, TableMetadata table) {
+        runningJobs.put(job.getJobId(), executor.submit(() -> {
+            try {
+                run(job, table);
+            } finally {
+                runningJobs.remove(job.getJobId());
+            }
+        }));
+    }
+
+    void run(GenerationJob job, TableMetadata table) {
+        Path output = Paths.get(job.getOutputPath());
+
+        try {
+            Files.createDirectories(output.getParent());
+            GenerationState state = restoreState(job, table);
+            state.planRows(job.getTotalRows()); // 정렬 컬럼은 청크가 아닌 작업 전체 기준으로 정렬
+            boolean saveUniqueValues = hasUniqueColumn(table);
+
+            try (FileChannel channel = FileChannel.open(output,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // 커밋되지 않은 청크의 잔여 바이트 제거
+                channel.truncate(job.getOutputBytes());
+                channel.position(job.getOutputBytes());
+                ChunkWriter chunkWriter = job.getOutputPath().endsWith(PARQUET_EXTENSION)
+                        ? new ParquetChunkWriter(job, table, channel)
+                        : new CsvChunkWriter(job, table, channel);
+
+                while (job.getRowsWritten() < job.getTotalRows()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.info("Job {} interrupted at {} rows", job.getJobId(), job.getRowsWritten());
+                        return;
+                    }
+                    long chunkStart = System.nanoTime();
+                    int rows = (int) Math.min(job.getChunkSize(), job.getTotalRows() - job.getRowsWritten());
+
+                    chunkWriter.writeChunk(rows, state);
+
+                    long chunkMillis = Math.max(1, (System.nanoTime() - chunkStart) / 1_000_000);
+                    job.setRowsWritten(job.getRowsWritten() + rows);
+                    job.setCommittedChunks(job.getCommittedChunks() + 1);
+                    job.setNextPrimaryKey(state.getPkSequence().get());
+                    job.setOutputBytes(channel.position());
+                    job.setElapsedMillis(job.getElapsedMillis() + chunkMillis);
+                    job.setLastChunkMillis(chunkMillis);
+                    job.setLastChunkRows(rows);
+                    if (saveUniqueValues) {
+                        // 저장소 커밋보다 먼저 저장 - 그 사이 크래시면 행 수가 달라 재시작 시 재생성으로 복원
+                        uniqueCheckpoints(job).save(state.toCheckpoint(job.getJobId(), job.getTableName()));
+                    }
+                    jobRepository.commitChunk(job);
+                }
+                chunkWriter.finish();
+            }
+
+            job.setStatus(JobStatus.COMPLETED);
+            jobRepository.updateStatus(job);
+            log.info("Generation job completed: {} rows, {} rows/s", job.getRowsWritten(), job.getRowsPerSecond());
+        } catch (Exception e) {
+            if (isInterruption(e)) {
+                // 종료(shutdownNow) 중 청크 기록이 끊김 - RUNNING으로 두고 다음 기동 시 마지막 커밋 청크부터 재개
+                log.info("Job {} interrupted at {} rows", job.getJobId(), job.getRowsWritten());
+                return;
+            }
+            log.error("Generation job {} failed at {} rows", job.getJobId(), job.getRowsWritten(), e);
+            job.setStatus(JobStatus.FAILED);
+            job.setErrorMessage(e.getMessage());
+            jobRepository.updateStatus(job);
+        }
+    }
+
+    /**
+     * 인터럽트로 끊긴 실패인지 - 인터럽트된 채널은 닫히며 ClosedByInterruptException을 던진다
+     */
+    private static boolean isInterruption(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof ClosedByInterruptException
+                    || cause instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 작업 출력 형식별 청크 기록기 - 청크를 기록하고 디스크에 동기화한 뒤 반환해야 한다 (반환 후 저장소 커밋)
+     */
+    private interface ChunkWriter {
+
+        void writeChunk(int rows, GenerationState state) throws IOException;
+
+        /**
+         * 모든 청크를 커밋한 뒤 호출 (파일 마무리)
+         */
+        default void finish() throws IOException {
+        }
+    }
+
+    private final class CsvChunkWriter implements ChunkWriter {
+
+        private final GenerationJob job;
+        private final TableMetadata table;
+        private final FileChannel channel;
+        private final List<String> columnNames;
+        // 채널을 닫지 않도록 Writer는 청크마다 flush만 한다
+        private final Writer writer;
+
+        CsvChunkWriter(GenerationJob job, TableMetadata table, FileChannel channel) {
+            this.job = job;
+            this.table = table;
+            this.channel = channel;
+            this.columnNames = table.getColumns().stream()
+                    .map(ColumnMetadata::getName)
+                    .collect(Collectors.toList());
+            this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void writeChunk(int rows, GenerationState state) throws IOException {
+            if (job.getOutputBytes() == 0) {
+                writer.write(CsvLines.header(columnNames));
+                writer.write('\n');
+            }
+            generatorService.generateDataStream(table, rows, state)
+                    .forEach(row -> {
+                        try {
+                            CsvLines.write(writer, row, columnNames);
+                            writer.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            writer.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * 청크마다 로우 그룹을 닫고, 데이터 동기화 후 그 메타데이터를 사이드카 파일에 덧붙인다
+     */
+    private final class ParquetChunkWriter implements ChunkWriter {
+
+        private final TablePlan plan;
+        private final FileChannel channel;
+        private final OutputStream out;
+        private final Path sidecar;
+        private final ParquetStreamWriter writer;
+        private int committedGroups;
+
+        ParquetChunkWriter(GenerationJob job, TableMetadata table, FileChannel channel) throws IOException {
+            this.plan = TablePlan.compile(table);
+            this.channel = channel;
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            this.sidecar = Paths.get(job.getOutputPath() + ROW_GROUP_SIDECAR);
+            List<ParquetStreamWriter.RowGroup> committed = new ArrayList<>();
+            if (Files.exists(sidecar)) {
+                for (String line : Files.readAllLines(sidecar, StandardCharsets.US_ASCII)) {
+                    ParquetStreamWriter.RowGroup group = ParquetStreamWriter.RowGroup.decode(line);
+                    if (group.endOffset() <= job.getOutputBytes()) {
+                        committed.add(group);
+                    }
+                }
+            }
+            // 커밋되지 않은 로우 그룹 줄 제거
+            Files.write(sidecar, committed.stream().map(ParquetStreamWriter.RowGroup::encode).toList(),
+                    StandardCharsets.US_ASCII);
+            this.committedGroups = committed.size();
+            this.writer = ParquetStreamWriter.resume(out, plan.getOutputColumnMetadata(),
+                    ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES, committed);
+        }
+
+        @Override
+        public void writeChunk(int rows, GenerationState state) throws IOException {
+            generatorService.generateBatchStream(plan, rows, state)
+                    .forEach(batch -> {
+                        try {
+                            writer.writeBatch(batch);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            writer.flushRowGroup();
+            channel.force(false);
+
+            List<ParquetStreamWriter.RowGroup> groups = writer.getRowGroups();
+            Files.write(sidecar, groups.subList(committedGroups, groups.size()).stream()
+                            .map(ParquetStreamWriter.RowGroup::encode).toList(),
+                    StandardCharsets.US_ASCII, StandardOpenOption.APPEND);
+            committedGroups = groups.size();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.close();
+            out.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * 작업의 Unique 값 체크포인트 저장소 (출력 파일과 같은 디렉터리, 체크포인트 ID는 작업 ID)
+     */
+    static CheckpointStore uniqueCheckpoints(GenerationJob job) {
+        return new CheckpointStore(Paths.get(job.getOutputPath()).getParent().toString());
+    }
+
+    private static boolean hasUniqueColumn(TableMetadata table) {
+        return table.getColumns().stream().anyMatch(column -> Boolean.TRUE.equals(column.getIsUnique()));
+    }
+
+    /**
+     * 마지막 커밋 지점의 생성 상태 복원
+     *
+     * Unique 컬럼이 있으면 커밋 때 저장한 체크포인트에서 Unique 집합을 복원한다. 체크포인트가 없거나
+     * 커밋 지점과 맞지 않으면 커밋된 행을 출력 없이 재생성한다 (정렬 구간은 작업 전체 행 수 기준).
+     * Unique 컬럼이 없으면 PK/RNG 블록 위치만으로 바로 이어서 생성한다.
+     */
+    private GenerationState restoreState(GenerationJob job, TableMetadata table) {
+        if (job.getRowsWritten() == 0) {
+            return GenerationState.fresh(job.getSeed());
+        }
+        if (hasUniqueColumn(table)) {
+            GenerationCheckpoint saved = savedUniqueValues(job);
+            if (saved != null) {
+                return GenerationState.resume(saved);
+            }
+            GenerationState state = GenerationState.fresh(job.getSeed());
+            state.planRows(job.getTotalRows());
+            generatorService.generateDataStream(table, job.getRowsWritten(), state).forEach(row -> {
+            });
+            return state;
+        }
+        return GenerationState.resume(GenerationCheckpoint.builder()
+                .seed(job.getSeed())
+                .rowsGenerated(job.getRowsWritten())
+                .nextBlock(job.getRowsWritten() / GenerationState.RNG_BLOCK_SIZE)
+                .nextPrimaryKey(job.getNextPrimaryKey())
+                .build());
+    }
+
+    /**
+     * 커밋 지점과 행 수가 같은 Unique 값 체크포인트 (없거나 읽을 수 없으면 null)
+     */
+    private GenerationCheckpoint savedUniqueValues(GenerationJob job) {
+        try {
+            GenerationCheckpoint saved = uniqueCheckpoints(job).load(job.getJobId());
+            if (saved.getRowsGenerated() == job.getRowsWritten()) {
+                return saved;
+            }
+            log.warn("Unique value checkpoint of job {} is at {} rows, not the committed {} - replaying",
+                    job.getJobId(), saved.getRowsGenerated(), job.getRowsWritten());
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            log.warn("Unique value checkpoint of job {} is not available - replaying {} committed rows",
+                    job.getJobId(), job.getRowsWritten(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 청크 크기를 RNG 블록 크기의 배수로 맞춰 재시작 지점이 항상 블록 경계가 되도록 한다.
+     */
+    static int alignChunkSize(int chunkSize) {
+        int blocks = Math.max(1, (chunkSize + GenerationState.RNG_BLOCK_SIZE - 1) / GenerationState.RNG_BLOCK_SIZE);
+        return blocks * GenerationState.RNG_BLOCK_SIZE;
+    }
+}
@@ -0,0 +1,77 @@
+package com.itdg.generator.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보존 기간(TTL)이 지난 작업 정리
+ *
+ * 완료/실패 후 ttl이 지난 작업의 출력 파일(Parquet 사이드카, Unique 값 체크포인트 포함)과 저장소 행을 지운다.
+ * 실행 중인 작업은 건드리지 않는다. 전송 중인 다운로드({@link ActiveDownloads})가 있는 작업은 건너뛰고
+ * 다음 주기에 다시 확인하며, 정리하는 동안에는 새 다운로드를 받지 않는다.
+ */
+@Slf4j
+@Component
+public class ExpiredJobCleaner {
+
+    private final JobRepository jobRepository;
+    private final ActiveDownloads activeDownloads;
+    private final Duration ttl;
+
+    public ExpiredJobCleaner(
+            JobRepository jobRepository,
+            ActiveDownloads activeDownloads,
+            @Value("${generator.job.ttl:PT24H}") Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("generator.job.ttl must be positive: " + ttl);
+        }
+        this.jobRepository = jobRepository;
+        this.activeDownloads = activeDownloads;
+        this.ttl = ttl;
+    }
+
+    @Scheduled(fixedDelayString = "${generator.job.cleanup-interval:PT10M}")
+    public void cleanUp() {
+        int removed = removeExpired(LocalDateTime.now());
+        if (removed > 0) {
+            log.info("Removed {} generation jobs older than {}", removed, ttl);
+        }
+    }
+
+    /**
+     * @return 지운 작업 수
+     */
+    int removeExpired(LocalDateTime now) {
+        List<GenerationJob> expired = jobRepository.findFinishedBefore(now.minus(ttl));
+        int removed = 0;
+        for (GenerationJob job : expired) {
+            if (!activeDownloads.retire(job.getJobId())) {
+                log.debug("Skipping expired job {} with a download in progress", job.getJobId());
+                continue;
+            }
+            try {
+                Files.deleteIfExists(Paths.get(job.getOutputPath()));
+                Files.deleteIfExists(Paths.get(job.getOutputPath() + ChunkJobRunner.ROW_GROUP_SIDECAR));
+                ChunkJobRunner.uniqueCheckpoints(job).delete(job.getJobId());
+                jobRepository.delete(job.getJobId());
+                removed++;
+            } catch (IOException | UncheckedIOException e) {
+                // 다음 주기에 다시 시도
+                log.warn("Failed to remove output of expired job {}", job.getJobId(), e);
+            } finally {
+                activeDownloads.retired(job.getJobId());
+            }
+        }
+        return removed;
+    }
+}
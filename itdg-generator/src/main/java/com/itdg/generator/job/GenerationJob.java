@@ -0,0 +1,60 @@
+package com.itdg.generator.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 기반 생성 작업 (작업 저장소의 한 행)
+ *
+ * rowsWritten/outputBytes는 마지막으로 커밋된 청크 기준이며, 재시작 시 이 지점부터 이어서 생성한다.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationJob {
+    private String jobId;
+    private String tableName;
+    private JobStatus status;
+    private long seed;
+    private long totalRows;
+    private int chunkSize;
+    private long rowsWritten;
+    private long committedChunks;
+    private long nextPrimaryKey;
+    private String outputPath;
+    private long outputBytes;
+    private long elapsedMillis; // 재시작을 포함한 누적 실행 시간
+    private long lastChunkMillis;
+    private long lastChunkRows; // 마지막 청크의 실제 행 수 (마지막 청크는 chunkSize보다 작을 수 있음)
+    private int restartCount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 누적 처리량 (rows/s)
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? rowsWritten * 1000 / elapsedMillis : 0;
+    }
+
+    /**
+     * 마지막 청크 처리량 (rows/s)
+     */
+    public long getLastChunkRowsPerSecond() {
+        return lastChunkMillis > 0 ? lastChunkRows * 1000L / lastChunkMillis : 0;
+    }
+
+    public int getPercentComplete() {
+        return totalRows > 0 ? (int) (rowsWritten * 100 / totalRows) : 100;
+    }
+}
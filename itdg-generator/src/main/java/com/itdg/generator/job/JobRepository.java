@@ -0,0 +1,164 @@
+package com.itdg.generator.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itdg.common.dto.metadata.TableMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 생성 작업 저장소 (H2 파일 DB)
+ *
+ * 서비스 DataSource와 분리된 로컬 파일 DB를 사용하므로 Pod 재시작 후에도 진행 상황이 유지된다.
+ * 청크 커밋마다 한 행을 갱신하는 단순 구조 (Spring Batch 메타 테이블 대체).
+ */
+@Slf4j
+@Component
+public class JobRepository {
+
+    private static final String SELECT_JOB = "SELECT job_id, table_name, status, seed, total_rows, chunk_size, "
+            + "rows_written, committed_chunks, next_pk, output_path, output_bytes, elapsed_millis, "
+            + "last_chunk_millis, last_chunk_rows, restart_count, error_message, created_at, updated_at "
+            + "FROM generation_job";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public JobRepository(
+            @Value("${generator.job.repository-url:jdbc:h2:file:./data/jobs/itdg-jobs;DB_CLOSE_DELAY=-1}") String url,
+            ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        this.objectMapper = objectMapper;
+        initSchema();
+    }
+
+    private void initSchema() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS generation_job (
+                    job_id VARCHAR(64) PRIMARY KEY,
+                    table_name VARCHAR(255) NOT NULL,
+                    table_json CLOB NOT NULL,
+                    status VARCHAR(16) NOT NULL,
+                    seed BIGINT NOT NULL,
+                    total_rows BIGINT NOT NULL,
+                    chunk_size INT NOT NULL,
+                    rows_written BIGINT NOT NULL,
+                    committed_chunks BIGINT NOT NULL,
+                    next_pk BIGINT NOT NULL,
+                    output_path VARCHAR(1024) NOT NULL,
+                    output_bytes BIGINT NOT NULL,
+                    elapsed_millis BIGINT NOT NULL,
+                    last_chunk_millis BIGINT NOT NULL,
+                    last_chunk_rows BIGINT NOT NULL,
+                    restart_count INT NOT NULL,
+                    error_message VARCHAR(2048),
+                    created_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL
+                )""");
+    }
+
+    public void insert(GenerationJob job, TableMetadata table) {
+        jdbcTemplate.update("INSERT INTO generation_job (job_id, table_name, table_json, status, seed, total_rows, "
+                + "chunk_size, rows_written, committed_chunks, next_pk, output_path, output_bytes, elapsed_millis, "
+                + "last_chunk_millis, last_chunk_rows, restart_count, error_message, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                job.getJobId(), job.getTableName(), toJson(table), job.getStatus().name(), job.getSeed(),
+                job.getTotalRows(), job.getChunkSize(), job.getRowsWritten(), job.getCommittedChunks(),
+                job.getNextPrimaryKey(), job.getOutputPath(), job.getOutputBytes(), job.getElapsedMillis(),
+                job.getLastChunkMillis(), job.getLastChunkRows(), job.getRestartCount(), job.getErrorMessage(),
+                Timestamp.valueOf(job.getCreatedAt()), Timestamp.valueOf(job.getUpdatedAt()));
+    }
+
+    /**
+     * 청크 커밋 - 출력 파일이 디스크에 반영(force)된 뒤에 호출해야 한다.
+     */
+    public void commitChunk(GenerationJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        jdbcTemplate.update("UPDATE generation_job SET rows_written = ?, committed_chunks = ?, next_pk = ?, "
+                + "output_bytes = ?, elapsed_millis = ?, last_chunk_millis = ?, last_chunk_rows = ?, updated_at = ? "
+                + "WHERE job_id = ?",
+                job.getRowsWritten(), job.getCommittedChunks(), job.getNextPrimaryKey(), job.getOutputBytes(),
+                job.getElapsedMillis(), job.getLastChunkMillis(), job.getLastChunkRows(),
+                Timestamp.valueOf(job.getUpdatedAt()), job.getJobId());
+    }
+
+    public void updateStatus(GenerationJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        jdbcTemplate.update("UPDATE generation_job SET status = ?, error_message = ?, restart_count = ?, "
+                + "updated_at = ? WHERE job_id = ?",
+                job.getStatus().name(), job.getErrorMessage(), job.getRestartCount(),
+                Timestamp.valueOf(job.getUpdatedAt()), job.getJobId());
+    }
+
+    public Optional<GenerationJob> findById(String jobId) {
+        List<GenerationJob> jobs = jdbcTemplate.query(SELECT_JOB + " WHERE job_id = ?", jobRowMapper(), jobId);
+        return jobs.stream().findFirst();
+    }
+
+    public List<GenerationJob> findByStatus(JobStatus status) {
+        return jdbcTemplate.query(SELECT_JOB + " WHERE status = ? ORDER BY created_at", jobRowMapper(),
+                status.name());
+    }
+
+    /**
+     * 마지막 갱신(완료/실패 시각)이 기준 시각 이전인 종료된 작업 (실행 중인 작업은 제외)
+     */
+    public List<GenerationJob> findFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.query(SELECT_JOB + " WHERE status <> ? AND updated_at < ? ORDER BY updated_at",
+                jobRowMapper(), JobStatus.RUNNING.name(), Timestamp.valueOf(cutoff));
+    }
+
+    public void delete(String jobId) {
+        jdbcTemplate.update("DELETE FROM generation_job WHERE job_id = ?", jobId);
+    }
+
+    public TableMetadata findTable(String jobId) {
+        String json = jdbcTemplate.queryForObject("SELECT table_json FROM generation_job WHERE job_id = ?",
+                String.class, jobId);
+        try {
+            return objectMapper.readValue(json, TableMetadata.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted table metadata for job " + jobId, e);
+        }
+    }
+
+    private String toJson(TableMetadata table) {
+        try {
+            return objectMapper.writeValueAsString(table);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize table metadata", e);
+        }
+    }
+
+    private RowMapper<GenerationJob> jobRowMapper() {
+        return (rs, rowNum) -> GenerationJob.builder()
+                .jobId(rs.getString("job_id"))
+                .tableName(rs.getString("table_name"))
+                .status(JobStatus.valueOf(rs.getString("status")))
+                .seed(rs.getLong("seed"))
+                .totalRows(rs.getLong("total_rows"))
+                .chunkSize(rs.getInt("chunk_size"))
+                .rowsWritten(rs.getLong("rows_written"))
+                .committedChunks(rs.getLong("committed_chunks"))
+                .nextPrimaryKey(rs.getLong("next_pk"))
+                .outputPath(rs.getString("output_path"))
+                .outputBytes(rs.getLong("output_bytes"))
+                .elapsedMillis(rs.getLong("elapsed_millis"))
+                .lastChunkMillis(rs.getLong("last_chunk_millis"))
+                .lastChunkRows(rs.getLong("last_chunk_rows"))
+                .restartCount(rs.getInt("restart_count"))
+                .errorMessage(rs.getString("error_message"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.itdg.generator.job;
+
+/**
+ * 청크 기반 생성 작업 상태
+ */
+public enum JobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
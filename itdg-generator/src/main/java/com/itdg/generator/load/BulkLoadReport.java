@@ -0,0 +1,33 @@
+package com.itdg.generator.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 직접 적재 결과 - 테이블은 적재 순서(외래 키 의존 순서)
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkLoadReport {
+    private List<TableLoadResult> tables;
+    private long elapsedMillis;
+
+    public long getTotalRows() {
+        return tables.stream().mapToLong(TableLoadResult::getRows).sum();
+    }
+
+    /**
+     * 전체 처리량 (rows/s, 병렬 적재 포함 경과 시간 기준)
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? getTotalRows() * 1000 / elapsedMillis : getTotalRows();
+    }
+}
@@ -0,0 +1,314 @@
+package com.itdg.generator.load;
+
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.common.dto.request.BulkLoadRequest;
+import com.itdg.common.dto.request.DbConnectionRequest;
+import com.itdg.common.dto.request.GenerateDataRequest;
+import com.itdg.generator.lob.LobValue;
+import com.itdg.generator.output.PgCopyWriter;
+import com.itdg.generator.output.SqlDialect;
+import com.itdg.generator.plan.ForeignKeyOrder;
+import com.itdg.generator.plan.Selection;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.rule.CustomRules;
+import com.itdg.generator.service.ColumnBatch;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 생성 데이터를 대상 DB에 직접 적재 (생성 → 다운로드 → 적재의 이중 전송 제거)
+ *
+ * 외래 키 의존 깊이별 묶음({@link ForeignKeyOrder#levels}) 단위로, 같은 묶음의 테이블은 커넥션 풀에서 하나씩 받아
+ * 병렬로 적재하고 다음 묶음은 앞 묶음이 끝난 뒤 시작한다. 테이블마다 다음 경로 중 하나를 쓴다.
+ * <ul>
+ * <li>BATCH: PreparedStatement addBatch/executeBatch, batchSize 행마다 커밋.
+ * PostgreSQL은 stringtype=unspecified로 문자열 값을 uuid/json 등 컬럼 타입으로 서버가 변환한다</li>
+ * <li>COPY: PostgreSQL 바이너리 COPY ({@link PgCopyWriter}를 PgJDBC CopyManager 스트림에 연결).
+ * 형 변환이 없으므로 메타데이터 타입이 대상 컬럼과 같아야 한다</li>
+ * </ul>
+ * 실패한 테이블은 마지막 커밋까지 적재된 상태로 남는다 (COPY는 테이블 단위로 원자적).
+ * 대상 URL은 {@link LoadTargetPolicy}의 허용 목록을 통과해야 하며 드라이버 클래스도 URL 스킴에서 정한다.
+ * 외래 키 값은 부모 테이블이 생성한 PK 범위 안에서 뽑는다 ({@link ForeignKeyOrder#keyRanges}).
+ * 외래 키 검사를 끄지 않으므로 외래 키 순환이 있는 스키마는 거부한다.
+ */
+@Slf4j
+@Service
+public class BulkLoadService {
+
+    static final int MAX_BATCH_SIZE = 100_000;
+    static final int MAX_PARALLELISM = 32;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 적재 경로
+     */
+    public enum Method {
+        /** PostgreSQL이면 COPY, 그 외는 BATCH */
+        AUTO,
+        BATCH,
+        COPY;
+
+        /**
+         * @throws IllegalArgumentException 지원하지 않는 경로
+         */
+        public static Method of(String name) {
+            return switch (name == null ? "auto" : name.toLowerCase(Locale.ROOT)) {
+                case "auto" -> AUTO;
+                case "batch" -> BATCH;
+                case "copy" -> COPY;
+                default -> throw new IllegalArgumentException(
+                        "Unsupported load method: " + name + " (expected auto, batch or copy)");
+            };
+        }
+    }
+
+    private final StreamingDataGeneratorService generatorService;
+    private final LoadTargetPolicy targetPolicy;
+    private final int defaultBatchSize;
+    private final int defaultParallelism;
+
+    public BulkLoadService(
+            StreamingDataGeneratorService generatorService,
+            LoadTargetPolicy targetPolicy,
+            @Value("${generator.load.batch-size:1000}") int defaultBatchSize,
+            @Value("${generator.load.parallelism:4}") int defaultParallelism) {
+        this.generatorService = generatorService;
+        this.targetPolicy = targetPolicy;
+        this.defaultBatchSize = defaultBatchSize;
+        this.defaultParallelism = defaultParallelism;
+    }
+
+    /**
+     * 스키마의 모든 테이블을 외래 키 순서로 적재 (테이블마다 rowCount 행)
+     *
+     * @throws IllegalArgumentException 잘못된 요청 (대상/스키마 누락, 허용하지 않는 대상, 범위를 벗어난 옵션,
+     *                                  PostgreSQL 이외의 COPY)
+     * @throws IllegalStateException    적재 실패 (실패한 테이블과 원인 포함)
+     */
+    public BulkLoadReport load(BulkLoadRequest request) {
+        DbConnectionRequest target = request.getTarget();
+        GenerateDataRequest generation = request.getGeneration();
+        if (target == null || target.getUrl() == null || target.getUrl().isBlank()) {
+            throw new IllegalArgumentException("Target database URL is required");
+        }
+        if (generation == null || generation.getSchema() == null || generation.getSchema().getTables() == null) {
+            throw new IllegalArgumentException("Schema or tables cannot be null");
+        }
+        String driverClassName = targetPolicy.driverClassName(target);
+        int batchSize = request.getBatchSize() != null ? request.getBatchSize() : defaultBatchSize;
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batchSize must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        int parallelism = request.getParallelism() != null ? request.getParallelism() : defaultParallelism;
+        if (parallelism < 1 || parallelism > MAX_PARALLELISM) {
+            throw new IllegalArgumentException("parallelism must be between 1 and " + MAX_PARALLELISM);
+        }
+        SqlDialect dialect = SqlDialect.fromJdbcUrl(target.getUrl());
+        Method method = Method.of(request.getMethod());
+        if (method == Method.AUTO) {
+            method = dialect == SqlDialect.POSTGRESQL ? Method.COPY : Method.BATCH;
+        } else if (method == Method.COPY && dialect != SqlDialect.POSTGRESQL) {
+            throw new IllegalArgumentException("COPY load is only supported for PostgreSQL targets");
+        }
+
+        // 잘못된 선택/조건/규칙은 적재를 시작하기 전에 400
+        Selection selection = Selection.lenient(generation.getColumns(), generation.getWhere());
+        long rowCount = generation.getRowCount() != null ? generation.getRowCount() : 100;
+        List<TableMetadata> tables = generation.getSchema().getTables();
+        if (ForeignKeyOrder.hasCycle(tables)) {
+            // 순환 묶음은 외래 키 검사를 끈 스크립트로만 적재할 수 있다
+            throw new IllegalArgumentException("Direct load does not support foreign key cycles - use"
+                    + " /api/generator/stream/sql/schema with disableConstraints=true");
+        }
+        Map<String, Long> keyRanges = ForeignKeyOrder.keyRanges(tables, rowCount);
+        List<List<TablePlan>> levels = ForeignKeyOrder.levels(tables).stream()
+                .map(level -> level.stream()
+                        .map(table -> TablePlan.compile(CustomRules.apply(table, generation.getCustomRules()),
+                                selection).withKeyRanges(keyRanges))
+                        .toList())
+                .toList();
+        long seed = generation.getSeed() != null ? generation.getSeed() : System.currentTimeMillis();
+        int poolSize = Math.min(parallelism,
+                levels.stream().mapToInt(List::size).max().orElse(1));
+
+        log.info("Starting bulk load into {} - tables: {}, rows per table: {}, method: {}, batch: {}, parallelism: {}",
+                target.getUrl(), levels.stream().mapToInt(List::size).sum(), rowCount, method, batchSize, poolSize);
+
+        long started = System.nanoTime();
+        List<TableLoadResult> results = new ArrayList<>();
+        try (HikariDataSource dataSource = dataSource(target, driverClassName, dialect, poolSize);
+             ExecutorService executor = Executors.newFixedThreadPool(poolSize)) {
+            for (List<TablePlan> level : levels) {
+                List<Future<TableLoadResult>> futures = new ArrayList<>();
+                Method tableMethod = method;
+                for (TablePlan plan : level) {
+                    futures.add(executor.submit(() -> loadTable(dataSource, dialect, tableMethod, plan, rowCount,
+                            seed, batchSize)));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    try {
+                        results.add(futures.get(i).get());
+                    } catch (ExecutionException e) {
+                        futures.forEach(future -> future.cancel(true));
+                        String tableName = level.get(i).getTable().getTableName();
+                        throw new IllegalStateException("Bulk load failed for table " + tableName + ": "
+                                + e.getCause().getMessage(), e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        futures.forEach(future -> future.cancel(true));
+                        throw new IllegalStateException("Bulk load interrupted", e);
+                    }
+                }
+            }
+        }
+
+        BulkLoadReport report = BulkLoadReport.builder()
+                .tables(results)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+        log.info("Bulk load completed - rows: {}, elapsed: {}ms, rows/s: {}", report.getTotalRows(),
+                report.getElapsedMillis(), report.getRowsPerSecond());
+        return report;
+    }
+
+    private TableLoadResult loadTable(HikariDataSource dataSource, SqlDialect dialect, Method method, TablePlan plan,
+            long rowCount, long seed, int batchSize) throws SQLException, IOException {
+        String tableName = plan.getTable().getTableName();
+        long started = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            rows = method == Method.COPY
+                    ? copy(connection, dialect, plan, rowCount, seed)
+                    : insertBatches(connection, dialect, plan, rowCount, seed, batchSize);
+        }
+        TableLoadResult result = TableLoadResult.builder()
+                .tableName(tableName)
+                .method(method)
+                .rows(rows)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+        log.info("Loaded table {}: {} rows in {}ms ({} rows/s, {})", tableName, rows, result.getElapsedMillis(),
+                result.getRowsPerSecond(), method);
+        return result;
+    }
+
+    /**
+     * addBatch/executeBatch - batchSize 행마다 실행 후 커밋
+     */
+    private long insertBatches(Connection connection, SqlDialect dialect, TablePlan plan, long rowCount, long seed,
+            int batchSize) throws SQLException {
+        List<String> columns = plan.getOutputColumns();
+        String sql = "INSERT INTO " + dialect.quoteIdentifier(plan.getTable().getTableName()) + " ("
+                + columns.stream().map(dialect::quoteIdentifier).collect(Collectors.joining(", "))
+                + ") VALUES (" + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        connection.setAutoCommit(false);
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Iterator<Map<String, Object>> rows = generatorService
+                    .generateDataStream(plan, rowCount, GenerationState.fresh(seed)).iterator();
+            int pending = 0;
+            while (rows.hasNext()) {
+                Map<String, Object> row = rows.next();
+                for (int i = 0; i < columns.size(); i++) {
+                    bind(statement, i + 1, row.get(columns.get(i)));
+                }
+                statement.addBatch();
+                count++;
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+            }
+            return count;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private static void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.NULL);
+        } else if (value instanceof LobValue lob) {
+            if (lob.getKind() == LobValue.Kind.BLOB) {
+                statement.setBytes(index, lob.toBytes());
+            } else {
+                statement.setString(index, new String(lob.toBytes(), StandardCharsets.UTF_8));
+            }
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    /**
+     * PostgreSQL 바이너리 COPY - 열 배치를 CopyManager 스트림에 바로 인코딩
+     */
+    private long copy(Connection connection, SqlDialect dialect, TablePlan plan, long rowCount, long seed)
+            throws SQLException, IOException {
+        String sql = "COPY " + dialect.quoteIdentifier(plan.getTable().getTableName()) + " ("
+                + plan.getOutputColumns().stream().map(dialect::quoteIdentifier).collect(Collectors.joining(", "))
+                + ") FROM STDIN (FORMAT binary)";
+        connection.setAutoCommit(true); // COPY 한 번이 한 트랜잭션
+        PGCopyOutputStream out = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, COPY_BUFFER_SIZE);
+        try (PgCopyWriter writer = new PgCopyWriter(out, plan.getOutputColumnMetadata())) {
+            Iterator<ColumnBatch> batches = generatorService
+                    .generateBatchStream(plan, rowCount, GenerationState.fresh(seed)).iterator();
+            while (batches.hasNext()) {
+                writer.writeBatch(batches.next());
+            }
+            writer.close();
+            out.close(); // endCopy
+            return writer.getRowCount();
+        } catch (IOException | RuntimeException e) {
+            if (out.isActive()) {
+                out.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    private static HikariDataSource dataSource(DbConnectionRequest target, String driverClassName,
+            SqlDialect dialect, int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("itdg-bulk-load");
+        config.setJdbcUrl(target.getUrl().trim());
+        config.setUsername(target.getUsername());
+        config.setPassword(target.getPassword());
+        config.setDriverClassName(driverClassName);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(0);
+        if (dialect == SqlDialect.POSTGRESQL) {
+            config.addDataSourceProperty("stringtype", "unspecified");
+        }
+        return new HikariDataSource(config);
+    }
+}
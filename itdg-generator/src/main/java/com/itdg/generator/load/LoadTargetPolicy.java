@@ -0,0 +1,147 @@
+package com.itdg.generator.load;
+
+import com.itdg.common.dto.request.DbConnectionRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 직접 적재 대상 허용 정책 - 호출자가 보낸 JDBC URL을 커넥션 풀에 넘기기 전에 검사
+ *
+ * JDBC URL과 드라이버 속성은 드라이버 안에서 코드를 실행시킬 수 있다
+ * (H2 INIT=RUNSCRIPT, PostgreSQL socketFactory/sslfactory 등).
+ * 그래서 스킴, 호스트, 쿼리 파라미터를 모두 허용 목록으로만 받는다.
+ * <ul>
+ * <li>스킴: jdbc:postgresql:// (드라이버 클래스는 스킴에서 정하고 요청 값은 쓰지 않음).
+ * 이 모듈이 싣는 드라이버는 PostgreSQL과 H2뿐이므로 MySQL/MariaDB는 받지 않는다</li>
+ * <li>호스트: generator.load.allowed-hosts에 설정한 호스트만 (기본값은 비어 있어 모든 원격 대상 거부)</li>
+ * <li>파라미터: 연결/타임아웃/SSL/문자셋 같은 무해한 속성만</li>
+ * <li>H2: generator.load.allow-h2-memory가 켜져 있을 때 이름만 있는 인메모리 DB(jdbc:h2:mem:name)만</li>
+ * </ul>
+ */
+@Component
+public class LoadTargetPolicy {
+
+    private static final Pattern H2_MEMORY = Pattern.compile("jdbc:h2:mem:[A-Za-z0-9_\\-]+");
+
+    /**
+     * 허용 스킴 - 접두사, 드라이버 클래스, 허용 파라미터 (소문자 비교)
+     */
+    private enum Scheme {
+        POSTGRESQL("jdbc:postgresql://", "org.postgresql.Driver", Set.of(
+                "ssl", "sslmode", "currentschema", "applicationname", "connecttimeout", "sockettimeout",
+                "logintimeout", "tcpkeepalive", "rewritebatchedinserts"));
+
+        private final String prefix;
+        private final String driverClassName;
+        private final Set<String> parameters;
+
+        Scheme(String prefix, String driverClassName, Set<String> parameters) {
+            this.prefix = prefix;
+            this.driverClassName = driverClassName;
+            this.parameters = parameters;
+        }
+    }
+
+    private final Set<String> allowedHosts;
+    private final boolean allowH2Memory;
+
+    public LoadTargetPolicy(
+            @Value("${generator.load.allowed-hosts:}") List<String> allowedHosts,
+            @Value("${generator.load.allow-h2-memory:false}") boolean allowH2Memory) {
+        this.allowedHosts = allowedHosts.stream()
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.allowH2Memory = allowH2Memory;
+    }
+
+    /**
+     * 대상을 검사하고 URL 스킴에 맞는 드라이버 클래스를 반환
+     *
+     * @throws IllegalArgumentException 허용하지 않는 스킴/호스트/파라미터, 스킴과 다른 driverClassName
+     */
+    public String driverClassName(DbConnectionRequest target) {
+        String url = target.getUrl();
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("Target database URL is required");
+        }
+        String driver = verify(url.trim());
+        String requested = target.getDriverClassName();
+        if (requested != null && !requested.isBlank() && !requested.trim().equals(driver)) {
+            throw new IllegalArgumentException("driverClassName " + requested + " does not match the target URL"
+                    + " (expected " + driver + ")");
+        }
+        return driver;
+    }
+
+    private String verify(String url) {
+        if (url.chars().anyMatch(c -> c <= ' ' || c == '#' || c == ';')) {
+            throw new IllegalArgumentException("Target database URL must not contain whitespace, ';' or '#'");
+        }
+        if (url.regionMatches(true, 0, "jdbc:h2:", 0, "jdbc:h2:".length())) {
+            if (!allowH2Memory || !H2_MEMORY.matcher(url).matches()) {
+                throw new IllegalArgumentException("H2 targets are limited to named in-memory databases"
+                        + " (jdbc:h2:mem:name) and must be enabled with generator.load.allow-h2-memory");
+            }
+            return "org.h2.Driver";
+        }
+        for (Scheme scheme : Scheme.values()) {
+            if (url.regionMatches(true, 0, scheme.prefix, 0, scheme.prefix.length())) {
+                verifyRemote(url.substring(scheme.prefix.length()), scheme);
+                return scheme.driverClassName;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported target database URL scheme"
+                + " (expected jdbc:postgresql://)");
+    }
+
+    /**
+     * host[:port][,host[:port]...][/database][?name=value&...]
+     */
+    private void verifyRemote(String rest, Scheme scheme) {
+        int query = rest.indexOf('?');
+        String address = query < 0 ? rest : rest.substring(0, query);
+        int slash = address.indexOf('/');
+        String authority = slash < 0 ? address : address.substring(0, slash);
+        if (authority.isEmpty() || authority.chars().anyMatch(c -> "()=@[]".indexOf(c) >= 0)) {
+            throw new IllegalArgumentException("Target database URL must list plain host[:port] addresses");
+        }
+        for (String hostPort : authority.split(",")) {
+            int colon = hostPort.indexOf(':');
+            String host = (colon < 0 ? hostPort : hostPort.substring(0, colon)).toLowerCase(Locale.ROOT);
+            if (colon >= 0 && !hostPort.substring(colon + 1).matches("\\d{1,5}")) {
+                throw new IllegalArgumentException("Invalid port in target database URL: " + hostPort);
+            }
+            if (!allowedHosts.contains(host)) {
+                throw new IllegalArgumentException("Target host " + host
+                        + " is not allowed (configure generator.load.allowed-hosts)");
+            }
+        }
+        if (query < 0 || query == rest.length() - 1) {
+            return;
+        }
+        for (String parameter : rest.substring(query + 1).split("&")) {
+            int equals = parameter.indexOf('=');
+            String name = equals < 0 ? parameter : parameter.substring(0, equals);
+            String decoded;
+            try {
+                decoded = URLDecoder.decode(name, StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid parameter in target database URL: " + name, e);
+            }
+            if (!scheme.parameters.contains(decoded)) {
+                throw new IllegalArgumentException("Connection parameter " + name + " is not allowed for "
+                        + scheme.name().toLowerCase(Locale.ROOT) + " targets");
+            }
+        }
+    }
+}
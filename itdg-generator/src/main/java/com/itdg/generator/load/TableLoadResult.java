@@ -0,0 +1,29 @@
+package com.itdg.generator.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 테이블 하나의 적재 결과
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableLoadResult {
+    private String tableName;
+    private BulkLoadService.Method method;
+    private long rows;
+    private long elapsedMillis;
+
+    /**
+     * 적재 처리량 (rows/s)
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? rows * 1000 / elapsedMillis : rows;
+    }
+}
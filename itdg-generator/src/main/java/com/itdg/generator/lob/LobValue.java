@@ -0,0 +1,322 @@
+package com.itdg.generator.lob;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * 지연 생성 LOB/JSON 값
+ *
+ * 행에는 (종류, 시드, 크기)만 담기고 실제 내용은 출력 싱크에 쓰일 때 시드로부터 청크 단위로
+ * 다시 만들어진다. 페이로드 크기와 무관하게 행당 힙 사용량이 일정하며, 같은 값은 몇 번을 써도
+ * 같은 내용이 나온다.
+ *
+ * <ul>
+ * <li>TEXT: 소문자/공백 텍스트 (size = 문자 수)</li>
+ * <li>JSON: {@link JsonGenerator}로 바로 쓰는 중첩 문서 (size ≈ 직렬화 문자 수)</li>
+ * <li>BLOB: 임의 바이트 (size = 바이트 수, 텍스트 싱크에는 Base64)</li>
+ * </ul>
+ */
+public final class LobValue implements JsonSerializable {
+
+    public enum Kind {
+        TEXT, JSON, BLOB
+    }
+
+    private static final int CHUNK = 8192;
+    private static final int BASE64_CHUNK = 6144; // 3의 배수 → 청크 사이 패딩 없음
+    private static final int MAX_JSON_DEPTH = 4;
+    private static final String[] FIELD_NAMES = { "id", "name", "type", "status", "value", "items", "meta",
+            "tags", "score", "created", "owner", "detail" };
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .disable(StreamWriteFeature.FLUSH_PASSED_TO_STREAM)
+            .build();
+
+    private final Kind kind;
+    private final long seed;
+    private final int size;
+
+    public LobValue(Kind kind, long seed, int size) {
+        this.kind = Objects.requireNonNull(kind);
+        this.seed = seed;
+        this.size = size;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 텍스트 형태로 스트리밍 (TEXT/JSON은 그대로, BLOB은 Base64)
+     */
+    public void writeTo(Writer out) throws IOException {
+        switch (kind) {
+            case TEXT -> {
+                try (Reader reader = openReader()) {
+                    char[] buffer = new char[Math.min(CHUNK, Math.max(1, size))];
+                    int n;
+                    while ((n = reader.read(buffer)) > 0) {
+                        out.write(buffer, 0, n);
+                    }
+                }
+            }
+            case JSON -> {
+                try (JsonGenerator gen = JSON_FACTORY.createGenerator(out)) {
+                    writeJsonDocument(gen);
+                }
+            }
+            case BLOB -> {
+                Base64.Encoder encoder = Base64.getEncoder();
+                try (InputStream in = openStream()) {
+                    byte[] buffer = new byte[BASE64_CHUNK];
+                    int n;
+                    while ((n = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                        byte[] chunk = n == buffer.length ? buffer : Arrays.copyOf(buffer, n);
+                        out.write(new String(encoder.encode(chunk), StandardCharsets.ISO_8859_1));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 바이트 형태로 스트리밍 (BLOB은 원본 바이트, TEXT/JSON은 UTF-8)
+     */
+    public void writeBytes(OutputStream out) throws IOException {
+        if (kind == Kind.BLOB) {
+            try (InputStream in = openStream()) {
+                in.transferTo(out);
+            }
+            return;
+        }
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writeTo(writer);
+        writer.flush();
+    }
+
+    /**
+     * 바이트 배열로 구체화 ({@link #writeBytes}와 같은 내용 - 크기만큼 힙 사용)
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size);
+        try {
+            writeBytes(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * TEXT 내용 Reader (TEXT 전용)
+     */
+    public Reader openReader() {
+        if (kind != Kind.TEXT) {
+            throw new IllegalStateException("Reader is only available for TEXT values");
+        }
+        return new TextReader(seed, size);
+    }
+
+    /**
+     * BLOB 내용 InputStream (BLOB 전용)
+     */
+    public InputStream openStream() {
+        if (kind != Kind.BLOB) {
+            throw new IllegalStateException("InputStream is only available for BLOB values");
+        }
+        return new BlobStream(seed, size);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        switch (kind) {
+            case TEXT -> gen.writeString(openReader(), size);
+            case JSON -> writeJsonDocument(gen);
+            case BLOB -> gen.writeBinary(openStream(), size);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    /**
+     * 문자열로 구체화 (스트리밍 싱크가 아닌 경로용 - 크기만큼 힙 사용)
+     */
+    @Override
+    public String toString() {
+        StringWriter writer = new StringWriter(Math.min(size, 1 << 20));
+        try {
+            writeTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LobValue other && kind == other.kind && seed == other.seed && size == other.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, seed, size);
+    }
+
+    // ---- JSON ----
+
+    private void writeJsonDocument(JsonGenerator gen) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] budget = { size - 2L };
+        gen.writeStartObject();
+        int field = 0;
+        while (budget[0] > 0) {
+            writeField(gen, random, budget, 1, field++);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeField(JsonGenerator gen, SplittableRandom random, long[] budget, int depth, int index)
+            throws IOException {
+        String name = FIELD_NAMES[random.nextInt(FIELD_NAMES.length)] + "_" + index;
+        gen.writeFieldName(name);
+        budget[0] -= name.length() + 4;
+        writeJsonValue(gen, random, budget, depth);
+    }
+
+    private void writeJsonValue(JsonGenerator gen, SplittableRandom random, long[] budget, int depth)
+            throws IOException {
+        int choice = random.nextInt(depth < MAX_JSON_DEPTH ? 6 : 4);
+        switch (choice) {
+            case 0 -> {
+                int length = 8 + random.nextInt(57);
+                char[] chars = new char[length];
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char) ('a' + random.nextInt(26));
+                }
+                gen.writeString(chars, 0, length);
+                budget[0] -= length + 3;
+            }
+            case 1 -> {
+                gen.writeNumber(random.nextLong(1_000_000));
+                budget[0] -= 7;
+            }
+            case 2 -> {
+                gen.writeNumber(Math.round(random.nextDouble() * 1_000_000) / 100.0);
+                budget[0] -= 9;
+            }
+            case 3 -> {
+                gen.writeBoolean(random.nextBoolean());
+                budget[0] -= 5;
+            }
+            case 4 -> {
+                gen.writeStartObject();
+                int fields = 1 + random.nextInt(5);
+                for (int i = 0; i < fields && budget[0] > 0; i++) {
+                    writeField(gen, random, budget, depth + 1, i);
+                }
+                gen.writeEndObject();
+                budget[0] -= 2;
+            }
+            default -> {
+                gen.writeStartArray();
+                int items = 1 + random.nextInt(8);
+                for (int i = 0; i < items && budget[0] > 0; i++) {
+                    writeJsonValue(gen, random, budget, depth + 1);
+                    budget[0] -= 1;
+                }
+                gen.writeEndArray();
+                budget[0] -= 2;
+            }
+        }
+    }
+
+    // ---- 청크 소스 ----
+
+    private static final class TextReader extends Reader {
+        private final SplittableRandom random;
+        private int remaining;
+
+        TextReader(long seed, int size) {
+            this.random = new SplittableRandom(seed);
+            this.remaining = size;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = Math.min(length, remaining);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = random.nextInt(7) == 0 ? ' ' : (char) ('a' + random.nextInt(26));
+            }
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            remaining = 0;
+        }
+    }
+
+    private static final class BlobStream extends InputStream {
+        private final SplittableRandom random;
+        private int remaining;
+
+        BlobStream(long seed, int size) {
+            this.random = new SplittableRandom(seed);
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return random.nextInt(256);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = Math.min(length, remaining);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = (byte) random.nextInt(256);
+            }
+            remaining -= n;
+            return n;
+        }
+    }
+}
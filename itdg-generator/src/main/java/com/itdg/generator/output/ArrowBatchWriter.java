@@ -0,0 +1,90 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.arrow.ArrowField;
+import com.itdg.common.arrow.ArrowStreamWriter;
+import com.itdg.common.arrow.ArrowType;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.lob.LobValue;
+import com.itdg.generator.service.ColumnBatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 열 배치를 Arrow IPC 레코드 배치로 기록 - RNG 블록 하나가 레코드 배치 하나
+ *
+ * 컬럼 타입은 Parquet 출력과 같은 규칙({@link ParquetStreamWriter#typeOf})을 따르므로 두 형식의 스키마가 일치한다.
+ * 소비자는 itdg-common의 {@link com.itdg.common.arrow.ArrowStreamReader}로 읽을 수 있다.
+ */
+public final class ArrowBatchWriter implements Closeable {
+
+    private final ArrowStreamWriter writer;
+    private final List<ArrowField> fields;
+
+    public ArrowBatchWriter(OutputStream out, List<ColumnMetadata> columns) throws IOException {
+        this.fields = columns.stream()
+                .map(column -> new ArrowField(column.getName(), typeOf(column)))
+                .toList();
+        this.writer = new ArrowStreamWriter(out, fields);
+    }
+
+    static ArrowType typeOf(ColumnMetadata column) {
+        return switch (ParquetStreamWriter.typeOf(column)) {
+            case BOOLEAN -> ArrowType.BOOL;
+            case INT32 -> ArrowType.INT32;
+            case INT64 -> ArrowType.INT64;
+            case DOUBLE -> ArrowType.FLOAT64;
+            case DECIMAL -> ArrowType.DECIMAL;
+            case DATE -> ArrowType.DATE;
+            case TIME -> ArrowType.TIME;
+            case TIMESTAMP -> ArrowType.TIMESTAMP;
+            case STRING -> ArrowType.UTF8;
+            case BINARY -> ArrowType.BINARY;
+        };
+    }
+
+    /**
+     * @throws IllegalArgumentException 컬럼 타입으로 변환할 수 없는 값
+     */
+    public void writeBatch(ColumnBatch batch) throws IOException {
+        Object[][] vectors = batch.vectors().clone();
+        for (int c = 0; c < fields.size(); c++) {
+            if (fields.get(c).type() == ArrowType.BINARY) {
+                vectors[c] = lobsToBytes(vectors[c], batch.rows());
+            }
+        }
+        writer.writeBatch(batch.rows(), vectors);
+    }
+
+    /**
+     * 스트림 끝 표시 기록 (하부 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    public long getRowCount() {
+        return writer.getRowCount();
+    }
+
+    public int getBatchCount() {
+        return writer.getBatchCount();
+    }
+
+    public List<ArrowField> getFields() {
+        return fields;
+    }
+
+    private static Object[] lobsToBytes(Object[] values, int rows) {
+        Object[] converted = values.clone();
+        for (int r = 0; r < rows; r++) {
+            if (converted[r] instanceof LobValue lob) {
+                converted[r] = lob.toBytes();
+            }
+        }
+        return converted;
+    }
+}
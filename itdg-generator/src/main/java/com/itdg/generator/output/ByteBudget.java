@@ -0,0 +1,94 @@
+package com.itdg.generator.output;
+
+/**
+ * 출력 크기 기준 생성의 바이트 예산 (행 수 대신 목표 바이트까지 생성)
+ *
+ * 보정 배치로 잰 평균 행 크기로 시작하고, 실제 기록된 행이 쌓이면 그 평균으로 남은 행 수 추정을 계속 보정한다.
+ * 행은 통째로만 기록하므로 결과 크기는 목표 이하이며, 다음 행이 들어가지 않는 시점에 소진된다.
+ * 단일 스트림에서만 사용한다 (스레드 안전하지 않음).
+ */
+public final class ByteBudget {
+
+    private final long targetBytes;
+    private long reservedBytes; // 헤더/BOM/배열 괄호 등 행 외 고정 바이트
+    private long rowBytes;
+    private long rows;
+    private double calibratedRowBytes;
+    private boolean exhausted;
+
+    /**
+     * @throws IllegalArgumentException targetBytes가 양수가 아님
+     */
+    public ByteBudget(long targetBytes) {
+        if (targetBytes <= 0) {
+            throw new IllegalArgumentException("targetBytes must be positive");
+        }
+        this.targetBytes = targetBytes;
+    }
+
+    /**
+     * 행 외 고정 바이트 예약
+     *
+     * @throws IllegalArgumentException 예약만으로 목표를 넘음
+     */
+    public void reserve(long bytes) {
+        if (getBytesUsed() + bytes > targetBytes) {
+            throw new IllegalArgumentException("targetBytes " + targetBytes
+                    + " is smaller than the fixed output overhead (" + (getBytesUsed() + bytes) + " bytes)");
+        }
+        reservedBytes += bytes;
+    }
+
+    /**
+     * 보정 배치의 평균 행 크기 설정 (실제 행이 기록되기 전의 추정 기준)
+     */
+    public void calibrate(double averageRowBytes) {
+        this.calibratedRowBytes = Math.max(1.0, averageRowBytes);
+    }
+
+    /**
+     * 행 하나를 예산에서 차감
+     *
+     * @return 들어가면 true, 넘치면 false (이후 항상 소진 상태)
+     */
+    public boolean tryConsume(int bytes) {
+        if (exhausted || getBytesUsed() + bytes > targetBytes) {
+            exhausted = true;
+            return false;
+        }
+        rowBytes += bytes;
+        rows++;
+        return true;
+    }
+
+    /**
+     * 남은 바이트를 채우는 데 필요한 행 수 추정 (최소 1)
+     */
+    public long estimateRemainingRows() {
+        double average = rows > 0 ? (double) rowBytes / rows : Math.max(1.0, calibratedRowBytes);
+        return Math.max(1, (long) Math.ceil(getRemainingBytes() / average));
+    }
+
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    public long getTargetBytes() {
+        return targetBytes;
+    }
+
+    public long getBytesUsed() {
+        return reservedBytes + rowBytes;
+    }
+
+    public long getRemainingBytes() {
+        return targetBytes - getBytesUsed();
+    }
+
+    /**
+     * 기록된 행 수
+     */
+    public long getRows() {
+        return rows;
+    }
+}
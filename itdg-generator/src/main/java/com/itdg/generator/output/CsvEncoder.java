@@ -0,0 +1,375 @@
+package com.itdg.generator.output;
+
+import com.itdg.generator.lob.LobValue;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 바이트 단위 UTF-8 CSV 인코더 - 행을 재사용 바이트 버퍼에 직접 인코딩
+ *
+ * 행마다 String을 조립해 Writer의 문자셋 인코딩을 거치는 {@link CsvLines} 경로와 달리,
+ * 필드를 버퍼에 바로 UTF-8로 쓴다. 정수는 문자열을 만들지 않고 자릿수를 직접 기록하며, 문자열은 한 번의 스캔으로
+ * 따옴표 필요 여부와 ASCII 여부를 판별해 ASCII면 문자를 그대로 바이트로 복사한다.
+ * 버퍼({@link #BUFFER_SIZE})가 차면 하부 스트림에 쓰고 flush하므로 flush 주기는 행 수가 아니라 바이트 기준이다.
+ * 버퍼는 인코더 간에 풀링되며 {@link #close()} 시 반환된다 (하부 스트림은 닫지 않음). 단일 스레드에서만 사용한다.
+ */
+public final class CsvEncoder implements Flushable, Closeable {
+
+    /** 버퍼 크기 = flush 단위 */
+    public static final int BUFFER_SIZE = 64 * 1024;
+    private static final ArrayBlockingQueue<byte[]> BUFFER_POOL = new ArrayBlockingQueue<>(32);
+
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+    /**
+     * 따옴표 정책
+     */
+    public enum Quoting {
+        /** 구분자/따옴표/줄바꿈을 포함한 필드만 */
+        MINIMAL,
+        /** 숫자/불리언이 아닌 모든 필드 */
+        NON_NUMERIC,
+        /** null을 제외한 모든 필드 */
+        ALL
+    }
+
+    /**
+     * CSV 형식 (구분자/따옴표 문자는 ASCII만 허용)
+     */
+    public record Format(char delimiter, char quote, Quoting quoting, String lineSeparator) {
+
+        /** RFC 4180 - 쉼표, 큰따옴표, 필요 시 인용, CRLF */
+        public static final Format RFC4180 = new Format(',', '"', Quoting.MINIMAL, "\r\n");
+        /** 기존 스트리밍 다운로드와 같은 형식 (줄바꿈만 플랫폼 기본값) */
+        public static final Format DEFAULT = new Format(',', '"', Quoting.MINIMAL, System.lineSeparator());
+
+        /**
+         * @throws IllegalArgumentException ASCII가 아니거나 줄바꿈인 구분자/따옴표, 같은 구분자와 따옴표
+         */
+        public Format {
+            if (!isSeparatorChar(delimiter) || !isSeparatorChar(quote) || delimiter == quote) {
+                throw new IllegalArgumentException("CSV delimiter and quote must be distinct ASCII characters"
+                        + " other than CR/LF: delimiter=" + printable(delimiter) + ", quote=" + printable(quote));
+            }
+            if (quoting == null || lineSeparator == null || lineSeparator.isEmpty()) {
+                throw new IllegalArgumentException("CSV quoting and line separator are required");
+            }
+        }
+
+        public Format withDelimiter(char delimiter) {
+            return new Format(delimiter, quote, quoting, lineSeparator);
+        }
+
+        public Format withQuoting(Quoting quoting) {
+            return new Format(delimiter, quote, quoting, lineSeparator);
+        }
+
+        private static boolean isSeparatorChar(char c) {
+            return c > 0 && c < 0x80 && c != '\n' && c != '\r';
+        }
+
+        private static String printable(char c) {
+            return c < 0x20 ? String.format("\\u%04x", (int) c) : String.valueOf(c);
+        }
+    }
+
+    private final OutputStream out;
+    private final byte delimiter;
+    private final byte quote;
+    private final char quoteChar;
+    private final char delimiterChar;
+    private final Quoting quoting;
+    private final byte[] lineSeparator;
+    private byte[] buffer;
+    private int position;
+    private long bytesWritten;
+
+    public CsvEncoder(OutputStream out, Format format) {
+        this.out = out;
+        this.delimiterChar = format.delimiter();
+        this.quoteChar = format.quote();
+        this.delimiter = (byte) delimiterChar;
+        this.quote = (byte) quoteChar;
+        this.quoting = format.quoting();
+        this.lineSeparator = format.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        byte[] pooled = BUFFER_POOL.poll();
+        this.buffer = pooled != null ? pooled : new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * UTF-8 BOM (Excel 호환용)
+     */
+    public void writeBom() throws IOException {
+        ensure(BOM.length);
+        System.arraycopy(BOM, 0, buffer, position, BOM.length);
+        position += BOM.length;
+    }
+
+    /**
+     * 헤더 행 기록 (컬럼명도 필드와 같은 규칙으로 인용)
+     */
+    public void writeHeader(List<String> columnNames) throws IOException {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                writeByte(delimiter);
+            }
+            writeText(columnNames.get(i), quoting != Quoting.MINIMAL);
+        }
+        endRow();
+    }
+
+    /**
+     * 행 기록 (줄바꿈 포함)
+     */
+    public void writeRow(Map<String, Object> row, List<String> columnNames) throws IOException {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                writeByte(delimiter);
+            }
+            writeValue(row.get(columnNames.get(i)));
+        }
+        endRow();
+    }
+
+    /**
+     * 버퍼의 바이트를 하부 스트림에 쓰고 flush
+     */
+    @Override
+    public void flush() throws IOException {
+        if (position > 0) {
+            drain();
+        } else {
+            out.flush();
+        }
+    }
+
+    /**
+     * 남은 바이트를 flush하고 버퍼를 풀에 반환 (하부 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            BUFFER_POOL.offer(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * 하부 스트림에 넘긴 바이트 수 (버퍼에 남은 바이트 제외)
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quoteAll = quoting == Quoting.ALL;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            if (quoteAll) {
+                writeByte(quote);
+            }
+            writeLong(((Number) value).longValue());
+            if (quoteAll) {
+                writeByte(quote);
+            }
+        } else if (value instanceof Boolean bool) {
+            writeAscii(bool ? TRUE : FALSE, quoteAll);
+        } else if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            writeText(value.toString(), quoteAll); // 숫자 표기는 구분자 외 특수 문자가 없음
+        } else if (value instanceof LobValue lob) {
+            // LOB은 문자열로 만들지 않고 항상 따옴표로 감싼 채 청크 단위로 흘려 쓴다
+            writeByte(quote);
+            lob.writeTo(new QuotedFieldWriter());
+            writeByte(quote);
+        } else {
+            writeText(value.toString(), quoting != Quoting.MINIMAL);
+        }
+    }
+
+    private void endRow() throws IOException {
+        ensure(lineSeparator.length);
+        System.arraycopy(lineSeparator, 0, buffer, position, lineSeparator.length);
+        position += lineSeparator.length;
+    }
+
+    /**
+     * 문자열 필드 - 한 번의 스캔으로 인용 필요 여부와 ASCII 여부를 판별
+     */
+    @SuppressWarnings("deprecation") // String.getBytes(int, int, byte[], int): 할당 없는 하위 바이트 복사
+    private void writeText(String text, boolean forceQuote) throws IOException {
+        int length = text.length();
+        boolean needsQuote = forceQuote;
+        boolean ascii = true;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                ascii = false;
+            } else if (c == delimiterChar || c == quoteChar || c == '\n' || c == '\r') {
+                needsQuote = true;
+            }
+        }
+        if (!needsQuote && ascii) {
+            ensure(Math.min(length, buffer.length));
+            if (length <= buffer.length - position) {
+                text.getBytes(0, length, buffer, position); // ASCII 확인 후이므로 하위 바이트 복사 = UTF-8
+                position += length;
+                return;
+            }
+        }
+        if (needsQuote) {
+            writeByte(quote);
+            encode(text, 0, length, true);
+            writeByte(quote);
+        } else {
+            encode(text, 0, length, false);
+        }
+    }
+
+    private void writeAscii(byte[] bytes, boolean quoted) throws IOException {
+        ensure(bytes.length + 2);
+        if (quoted) {
+            buffer[position++] = quote;
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        if (quoted) {
+            buffer[position++] = quote;
+        }
+    }
+
+    /**
+     * 정수를 문자열 없이 자릿수로 기록
+     */
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(MIN_LONG, false);
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * UTF-8 인코딩 (escapeQuotes면 따옴표 문자를 두 번 기록). 버퍼보다 긴 값은 나눠서 기록하며,
+     * 짝이 맞지 않는 서로게이트는 '?'로 바꾼다
+     */
+    private void encode(CharSequence text, int start, int end, boolean escapeQuotes) throws IOException {
+        int i = start;
+        while (i < end) {
+            if (buffer.length - position < 8) {
+                drain();
+            }
+            // 문자당 최대 3바이트 (서로게이트 쌍은 2문자 4바이트, 따옴표 이스케이프는 2바이트)
+            int limit = Math.min(end, i + (buffer.length - position - 4) / 3);
+            for (; i < limit; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                    if (escapeQuotes && c == quoteChar) {
+                        buffer[position++] = (byte) c;
+                    }
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                        int cp = Character.toCodePoint(c, text.charAt(++i));
+                        buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                        buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                        buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                        buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+                    } else {
+                        buffer[position++] = '?';
+                    }
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+    }
+
+    private void writeByte(byte b) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = b;
+    }
+
+    /**
+     * n바이트를 쓸 공간이 없으면 버퍼를 비움 (n은 버퍼 크기 이하)
+     */
+    private void ensure(int n) throws IOException {
+        if (buffer.length - position < n) {
+            drain();
+        }
+    }
+
+    /**
+     * 버퍼 내용을 하부 스트림에 쓰고 클라이언트로 밀어냄 (버퍼가 찰 때마다 호출되는 바이트 기준 flush)
+     */
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        bytesWritten += position;
+        position = 0;
+        out.flush();
+    }
+
+    /**
+     * LOB 청크를 따옴표 필드 내부로 인코딩
+     */
+    private final class QuotedFieldWriter extends Writer {
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            encode(CharBuffer.wrap(chars), offset, offset + length, true);
+        }
+
+        @Override
+        public void write(String text) throws IOException {
+            encode(text, 0, text.length(), true);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
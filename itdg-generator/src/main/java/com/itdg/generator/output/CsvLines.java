@@ -0,0 +1,95 @@
+package com.itdg.generator.output;
+
+import com.itdg.generator.lob.LobValue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 행 변환 유틸리티 (스트리밍 다운로드와 파일 작업에서 공용)
+ */
+public final class CsvLines {
+
+    private CsvLines() {
+    }
+
+    public static String header(List<String> columnNames) {
+        return String.join(",", columnNames);
+    }
+
+    public static String line(Map<String, Object> row, List<String> columnNames) {
+        return columnNames.stream()
+                .map(col -> {
+                    Object value = row.get(col);
+                    if (value == null)
+                        return "";
+                    return escape(value.toString());
+                })
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 행을 Writer에 바로 기록 (줄바꿈 제외)
+     *
+     * {@link LobValue}는 문자열로 만들지 않고 항상 따옴표로 감싼 채 청크 단위로 흘려 쓴다.
+     */
+    public static void write(Writer out, Map<String, Object> row, List<String> columnNames) throws IOException {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = row.get(columnNames.get(i));
+            if (value instanceof LobValue lob) {
+                out.write('"');
+                lob.writeTo(new QuoteEscapingWriter(out));
+                out.write('"');
+            } else if (value != null) {
+                out.write(escape(value.toString()));
+            }
+        }
+    }
+
+    private static String escape(String str) {
+        if (str.contains(",") || str.contains("\"") || str.contains("\n")) {
+            return "\"" + str.replace("\"", "\"\"") + "\"";
+        }
+        return str;
+    }
+
+    /**
+     * 따옴표 필드 내부용 - " 를 "" 로 바꿔 전달 (close는 전파하지 않음)
+     */
+    private static final class QuoteEscapingWriter extends Writer {
+        private final Writer out;
+
+        QuoteEscapingWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            int start = offset;
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                if (buffer[i] == '"') {
+                    out.write(buffer, start, i - start + 1);
+                    out.write('"');
+                    start = i + 1;
+                }
+            }
+            out.write(buffer, start, end - start);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.checkpoint.GenerationCheckpoint;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 고정폭 파일 병렬 생성기
+ *
+ * 레코드 길이가 고정이라 행 위치로 파일 오프셋이 정해지므로, 워커마다 서로 겹치지 않는 RNG 블록 구간을 맡아
+ * 생성하고 {@link FileChannel#write(ByteBuffer, long)} 위치 지정 쓰기로 미리 크기를 잡아 둔 한 파일에 직접 기록한다.
+ * 재정렬 버퍼나 단일 writer가 없고, 블록 단위 난수 스트림 덕분에 결과 파일은 워커 수와 무관하게 같다.
+ * 응답 스트림으로 보낼 때는 임시 파일 없이 워커들이 블록을 인코딩하고 블록 순서대로 내보낸다
+ * (미리 인코딩하는 블록은 워커 수의 두 배까지). 출력 바이트는 파일로 만든 결과와 같다.
+ * Unique 컬럼은 워커 간 중복 검사를 공유할 수 없어 단일 워커로 생성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FixedWidthExporter {
+
+    private final StreamingDataGeneratorService generatorService;
+
+    /**
+     * @param threads 워커 수 (0 이하이면 CPU 코어 수)
+     * @return 사용한 레코드 레이아웃
+     */
+    public FixedWidthLayout export(TableMetadata table, long rowCount, long seed, int threads, Path target)
+            throws IOException {
+        FixedWidthLayout layout = FixedWidthLayout.of(table);
+        long blocks = blocks(rowCount);
+        int workers = workers(table, threads, blocks);
+        long started = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (rowCount > 0) {
+                // 마지막 바이트를 먼저 써서 전체 크기를 확보
+                channel.write(ByteBuffer.wrap(new byte[] { '\n' }), rowCount * layout.getRecordLength() - 1);
+            }
+            List<Callable<Void>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                long startBlock = blocks * w / workers;
+                long endBlock = blocks * (w + 1) / workers;
+                tasks.add(() -> {
+                    writeRange(table, layout, seed, rowCount, startBlock, endBlock, channel);
+                    return null;
+                });
+            }
+            runAll(tasks, workers);
+            channel.force(false);
+        }
+        log.info("Fixed-width export completed: {} rows x {} bytes, {} workers, {} ms", rowCount,
+                layout.getRecordLength(), workers, (System.nanoTime() - started) / 1_000_000);
+        return layout;
+    }
+
+    /**
+     * 응답 스트림으로 바로 기록 (파일로 만든 결과와 같은 바이트)
+     *
+     * @param threads 워커 수 (0 이하이면 CPU 코어 수)
+     * @return 사용한 레코드 레이아웃
+     */
+    public FixedWidthLayout export(TableMetadata table, long rowCount, long seed, int threads, OutputStream out)
+            throws IOException {
+        FixedWidthLayout layout = FixedWidthLayout.of(table);
+        long blocks = blocks(rowCount);
+        int workers = workers(table, threads, blocks);
+        long started = System.nanoTime();
+
+        if (workers == 1) {
+            ByteBuffer buffer = ByteBuffer.allocate(GenerationState.RNG_BLOCK_SIZE * layout.getRecordLength());
+            try {
+                generatorService.generateDataStream(table, rowCount, stateAt(seed, rowCount, 0)).forEach(row -> {
+                    layout.encode(row, buffer);
+                    if (!buffer.hasRemaining()) {
+                        drain(buffer, out);
+                    }
+                });
+                drain(buffer, out);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } else {
+            TablePlan plan = TablePlan.compile(table);
+            ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                // 블록 순서대로 내보내며, 앞선 블록을 기다리는 동안 뒤 블록을 미리 인코딩
+                Deque<Future<byte[]>> pending = new ArrayDeque<>();
+                long next = 0;
+                while (next < blocks || !pending.isEmpty()) {
+                    while (next < blocks && pending.size() < workers * 2) {
+                        long block = next++;
+                        pending.add(executor.submit(() -> encodeBlock(plan, layout, seed, rowCount, block)));
+                    }
+                    out.write(pending.poll().get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Fixed-width export interrupted", e);
+            } catch (ExecutionException e) {
+                throw rethrow(e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        out.flush();
+        log.info("Fixed-width stream completed: {} rows x {} bytes, {} workers, {} ms", rowCount,
+                layout.getRecordLength(), workers, (System.nanoTime() - started) / 1_000_000);
+        return layout;
+    }
+
+    private static long blocks(long rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("rowCount must not be negative");
+        }
+        return (rowCount + GenerationState.RNG_BLOCK_SIZE - 1) / GenerationState.RNG_BLOCK_SIZE;
+    }
+
+    private static int workers(TableMetadata table, int threads, long blocks) {
+        boolean hasUniqueColumn = table.getColumns().stream()
+                .anyMatch(column -> Boolean.TRUE.equals(column.getIsUnique()));
+        int requested = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return (int) Math.max(1, Math.min(hasUniqueColumn ? 1 : requested, blocks));
+    }
+
+    /**
+     * 단일 실행에서 firstRow 행째(블록 경계)에 도달했을 때와 같은 블록 번호/PK/정렬 범위의 상태
+     */
+    private static GenerationState stateAt(long seed, long rowCount, long firstRow) {
+        GenerationState state = GenerationState.resume(GenerationCheckpoint.builder()
+                .seed(seed)
+                .rowsGenerated(firstRow)
+                .nextBlock(firstRow / GenerationState.RNG_BLOCK_SIZE)
+                .nextPrimaryKey(firstRow + 1)
+                .build());
+        state.planRows(rowCount);
+        return state;
+    }
+
+    /**
+     * RNG 블록 하나를 인코딩한 레코드 바이트
+     */
+    private byte[] encodeBlock(TablePlan plan, FixedWidthLayout layout, long seed, long rowCount, long block) {
+        long firstRow = block * GenerationState.RNG_BLOCK_SIZE;
+        int rows = (int) Math.min(GenerationState.RNG_BLOCK_SIZE, rowCount - firstRow);
+        ByteBuffer buffer = ByteBuffer.allocate(rows * layout.getRecordLength());
+        generatorService.generateDataStream(plan, rows, stateAt(seed, rowCount, firstRow))
+                .forEach(row -> layout.encode(row, buffer));
+        return buffer.array();
+    }
+
+    /**
+     * [startBlock, endBlock) 구간 생성 - 단일 실행과 같은 블록 번호/PK/정렬 범위로 상태를 맞춘다
+     */
+    private void writeRange(TableMetadata table, FixedWidthLayout layout, long seed, long rowCount,
+            long startBlock, long endBlock, FileChannel channel) {
+        long firstRow = startBlock * GenerationState.RNG_BLOCK_SIZE;
+        long rows = Math.min(rowCount, endBlock * GenerationState.RNG_BLOCK_SIZE) - firstRow;
+        GenerationState state = stateAt(seed, rowCount, firstRow);
+
+        ByteBuffer buffer = ByteBuffer.allocate(GenerationState.RNG_BLOCK_SIZE * layout.getRecordLength());
+        long[] position = { firstRow * layout.getRecordLength() };
+        generatorService.generateDataStream(table, rows, state).forEach(row -> {
+            layout.encode(row, buffer);
+            if (!buffer.hasRemaining()) {
+                position[0] = flush(buffer, channel, position[0]);
+            }
+        });
+        flush(buffer, channel, position[0]);
+    }
+
+    private static long flush(ByteBuffer buffer, FileChannel channel, long position) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+        return position;
+    }
+
+    private static void drain(ByteBuffer buffer, OutputStream out) {
+        try {
+            out.write(buffer.array(), 0, buffer.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private static void runAll(List<Callable<Void>> tasks, int workers) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Fixed-width export interrupted", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 워커 실패의 원인을 다시 던짐 (입출력 오류는 IOException, 잘못된 값 등은 그대로)
+     */
+    private static IOException rethrow(ExecutionException e) {
+        if (e.getCause() instanceof UncheckedIOException io) {
+            return io.getCause();
+        }
+        if (e.getCause() instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException("Fixed-width export failed", e.getCause());
+    }
+}
@@ -0,0 +1,213 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.lob.LobValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 고정폭 레코드 레이아웃
+ *
+ * 필드 폭은 UTF-8 바이트 단위이며 레코드 끝에 '\n'이 붙는다. 모든 레코드 길이가 같으므로
+ * n번째 행의 파일 위치는 n * {@link #getRecordLength()}로 계산된다.
+ * 값은 왼쪽 정렬 후 공백으로 채우고, 폭을 넘으면 문자 경계에서 자른다. 값 안의 줄바꿈은 공백으로 바꾼다.
+ */
+public final class FixedWidthLayout {
+
+    private static final byte PAD = ' ';
+
+    private final String[] names;
+    private final int[] widths;
+    private final int recordLength;
+
+    private FixedWidthLayout(String[] names, int[] widths) {
+        this.names = names;
+        this.widths = widths;
+        int length = 1; // '\n'
+        for (int width : widths) {
+            length += width;
+        }
+        this.recordLength = length;
+    }
+
+    public static FixedWidthLayout of(TableMetadata table) {
+        List<ColumnMetadata> columns = table.getColumns() != null ? table.getColumns() : List.of();
+        String[] names = new String[columns.size()];
+        int[] widths = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            names[i] = columns.get(i).getName();
+            widths[i] = widthOf(columns.get(i));
+        }
+        return new FixedWidthLayout(names, widths);
+    }
+
+    /**
+     * 컬럼 폭 - length가 있으면 그대로, 없으면 타입별 최대 표기 길이
+     */
+    static int widthOf(ColumnMetadata column) {
+        if (column.getLength() != null && column.getLength() > 0) {
+            return column.getLength();
+        }
+        String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase();
+        if (type.contains("BOOL")) {
+            return 5;
+        }
+        if (type.contains("BIGINT") || type.contains("LONG")) {
+            return 20;
+        }
+        if (type.contains("INT") || type.contains("SERIAL")) {
+            return 11;
+        }
+        if (type.contains("DOUBLE") || type.contains("FLOAT") || type.contains("REAL") || type.contains("DECIMAL")
+                || type.contains("NUMERIC") || type.contains("NUMBER")) {
+            return 24;
+        }
+        if (type.equals("DATE")) {
+            return 10;
+        }
+        if (type.startsWith("TIME") && !type.contains("STAMP")) {
+            return 18;
+        }
+        if (type.contains("DATE") || type.contains("TIME")) {
+            return 29;
+        }
+        if (type.contains("UUID")) {
+            return 36;
+        }
+        if (type.contains("LOB") || type.contains("JSON") || type.contains("TEXT") || type.contains("BYTEA")) {
+            return 256;
+        }
+        return 64;
+    }
+
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    /**
+     * 레이아웃 설명 (예: "id:20,name:64") - 로더 설정용 HTTP 헤더 값
+     *
+     * 컬럼 이름은 RFC 8187 attr-char 밖의 문자(비ASCII, ':', ',' 등)를 UTF-8 퍼센트 인코딩하므로
+     * 값은 항상 ASCII이고 ':'와 ','는 구분자로만 쓰인다 (예: "고객명" → "%EA%B3%A0%EA%B0%9D%EB%AA%85").
+     */
+    public String describe() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < names.length; i++) {
+            joiner.add(percentEncode(names[i]) + ":" + widths[i]);
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * RFC 8187 value-chars 인코딩 (attr-char는 그대로, 나머지 UTF-8 바이트는 %XX)
+     */
+    static String percentEncode(String text) {
+        StringBuilder encoded = new StringBuilder(text.length());
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            int c = b & 0xFF;
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || "!#$&+-.^_`|~".indexOf(c) >= 0) {
+                encoded.append((char) c);
+            } else {
+                encoded.append('%').append(Character.toUpperCase(Character.forDigit(c >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * 행 하나를 정확히 {@link #getRecordLength()} 바이트로 인코딩
+     */
+    public void encode(Map<String, Object> row, ByteBuffer out) {
+        for (int i = 0; i < names.length; i++) {
+            int start = out.position();
+            Object value = row.get(names[i]);
+            if (value != null) {
+                putTruncated(text(value, widths[i]), widths[i], out);
+            }
+            while (out.position() - start < widths[i]) {
+                out.put(PAD);
+            }
+        }
+        out.put((byte) '\n');
+    }
+
+    private static String text(Object value, int width) {
+        if (value instanceof LobValue lob) {
+            // LOB은 폭만큼만 필요하므로 전체를 문자열로 만들지 않는다
+            StringBuilder prefix = new StringBuilder(width);
+            try {
+                lob.writeTo(new PrefixWriter(prefix, width));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return prefix.toString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * 폭을 넘지 않는 범위에서 UTF-8로 기록 (멀티바이트 문자는 통째로 넣거나 뺀다)
+     */
+    private static void putTruncated(String text, int width, ByteBuffer out) {
+        int written = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (written + size > width) {
+                return;
+            }
+            if (codePoint == '\n' || codePoint == '\r') {
+                out.put(PAD);
+            } else if (size == 1) {
+                out.put((byte) codePoint);
+            } else {
+                out.put(new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8));
+            }
+            written += size;
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    /**
+     * 앞부분 limit 글자만 보관하는 Writer
+     */
+    private static final class PrefixWriter extends Writer {
+        private final StringBuilder target;
+        private final int limit;
+
+        PrefixWriter(StringBuilder target, int limit) {
+            this.target = target;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            int room = limit - target.length();
+            if (room > 0) {
+                target.append(buffer, offset, Math.min(room, length));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.itdg.generator.output;
+
+import com.itdg.generator.lob.LobValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Parquet 컬럼 청크 버퍼 - 한 로우 그룹 동안 한 컬럼의 정의 레벨과 값을 인코딩된 형태로 모은다
+ *
+ * 사전 인코딩 가능한 컬럼은 값마다 사전 인덱스만 쌓다가, 사전의 PLAIN 인코딩 크기가
+ * {@link #MAX_DICTIONARY_BYTES}를 넘으면(카디널리티가 높으면) 그때까지의 인덱스를 PLAIN 값으로 풀어 PLAIN으로 전환한다.
+ * 기록 시 (사전 페이지 +) 데이터 페이지 하나로 청크를 쓰고 버퍼를 비운다. 모든 컬럼은 OPTIONAL이다.
+ */
+final class ParquetColumnChunk {
+
+    /** 사전 PLAIN 인코딩 크기 한도 (parquet-mr 기본 사전 페이지 크기와 같음) */
+    static final int MAX_DICTIONARY_BYTES = 1 << 20;
+
+    static final int ENCODING_PLAIN = 0;
+    static final int ENCODING_PLAIN_DICTIONARY = 2;
+    static final int ENCODING_RLE = 3;
+
+    private static final int PAGE_DATA = 0;
+    private static final int PAGE_DICTIONARY = 2;
+
+    /**
+     * 컬럼 타입 (Parquet 물리 타입 + 논리 타입)
+     */
+    enum Type {
+        BOOLEAN(0), INT32(1), INT64(2), DOUBLE(5), DECIMAL(2), DATE(1), TIME(2), TIMESTAMP(2), STRING(6), BINARY(6);
+
+        final int physical;
+
+        Type(int physical) {
+            this.physical = physical;
+        }
+    }
+
+    /** DECIMAL 컬럼의 정밀도/스케일 (INT64 unscaled 값) */
+    static final int DECIMAL_PRECISION = 18;
+    static final int DECIMAL_SCALE = 4;
+
+    private final String name;
+    private final Type type;
+    private final boolean dictionaryEnabled;
+
+    private byte[] definitions = new byte[1024];
+    private int rows;
+    private int values;
+    private final Bytes plain = new Bytes();
+
+    private Map<Object, Integer> dictionary;
+    private Bytes dictionaryPlain;
+    private int[] dictionaryOffsets;
+    private int[] indices;
+
+    ParquetColumnChunk(String name, Type type, boolean dictionaryEnabled) {
+        this.name = name;
+        this.type = type;
+        this.dictionaryEnabled = dictionaryEnabled && type != Type.BOOLEAN && type != Type.BINARY;
+        resetDictionary();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * 버퍼에 쌓인 인코딩 바이트 수 (로우 그룹 크기 판단용)
+     */
+    long bufferedBytes() {
+        long bytes = rows + plain.size;
+        if (dictionary != null) {
+            bytes += dictionaryPlain.size + (long) values * Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * @throws IllegalArgumentException 컬럼 타입으로 변환할 수 없는 값
+     */
+    void add(Object value) {
+        if (rows == definitions.length) {
+            definitions = Arrays.copyOf(definitions, rows * 2);
+        }
+        if (value == null) {
+            definitions[rows++] = 0;
+            return;
+        }
+        Object coerced = coerce(value);
+        definitions[rows++] = 1;
+        values++;
+        if (type == Type.BOOLEAN) {
+            plain.write((Boolean) coerced ? 1 : 0); // 페이지 기록 시 비트 단위로 압축
+            return;
+        }
+        if (dictionary != null) {
+            Integer index = dictionary.get(coerced);
+            if (index == null) {
+                index = dictionary.size();
+                dictionary.put(coerced, index);
+                if (index + 1 >= dictionaryOffsets.length) {
+                    dictionaryOffsets = Arrays.copyOf(dictionaryOffsets, dictionaryOffsets.length * 2);
+                }
+                encodePlain(coerced, dictionaryPlain);
+                dictionaryOffsets[index + 1] = dictionaryPlain.size;
+                if (dictionaryPlain.size > MAX_DICTIONARY_BYTES) {
+                    fallBackToPlain(values - 1);
+                    encodePlain(coerced, plain);
+                    return;
+                }
+            }
+            if (values > indices.length) {
+                indices = Arrays.copyOf(indices, indices.length * 2);
+            }
+            indices[values - 1] = index;
+            return;
+        }
+        encodePlain(coerced, plain);
+    }
+
+    /**
+     * 청크를 (사전 페이지 +) 데이터 페이지로 기록하고 버퍼를 비움
+     *
+     * @param offset 파일 내 현재 위치
+     */
+    ChunkMeta write(OutputStream out, long offset, boolean gzip) throws IOException {
+        boolean dictionaryEncoded = dictionary != null && !dictionary.isEmpty();
+        long position = offset;
+        long dictionaryPageOffset = -1;
+        long compressed = 0;
+        long uncompressed = 0;
+
+        if (dictionaryEncoded) {
+            ThriftCompactWriter header = new ThriftCompactWriter();
+            byte[] body = dictionaryPlain.toByteArray();
+            byte[] stored = gzip ? gzip(body) : body;
+            header.structBegin();
+            header.fieldI32(1, PAGE_DICTIONARY);
+            header.fieldI32(2, body.length);
+            header.fieldI32(3, stored.length);
+            header.fieldStructBegin(7);
+            header.fieldI32(1, dictionary.size());
+            header.fieldI32(2, ENCODING_PLAIN_DICTIONARY);
+            header.structEnd();
+            header.structEnd();
+            byte[] headerBytes = header.toByteArray();
+            out.write(headerBytes);
+            out.write(stored);
+            dictionaryPageOffset = position;
+            position += headerBytes.length + stored.length;
+            compressed += headerBytes.length + stored.length;
+            uncompressed += headerBytes.length + body.length;
+        }
+
+        Bytes page = new Bytes();
+        Bytes levels = new Bytes();
+        byte[] defs = definitions;
+        rleHybrid(i -> defs[i], rows, 1, levels);
+        page.writeIntLe(levels.size);
+        page.write(levels);
+        if (dictionaryEncoded) {
+            int bitWidth = Math.max(1, 32 - Integer.numberOfLeadingZeros(dictionary.size() - 1));
+            page.write(bitWidth);
+            int[] ids = indices;
+            rleHybrid(i -> ids[i], values, bitWidth, page);
+        } else if (type == Type.BOOLEAN) {
+            byte[] flags = plain.data;
+            bitPack(i -> flags[i], values, 1, page);
+        } else {
+            page.write(plain);
+        }
+
+        ThriftCompactWriter header = new ThriftCompactWriter();
+        byte[] body = page.toByteArray();
+        byte[] stored = gzip ? gzip(body) : body;
+        header.structBegin();
+        header.fieldI32(1, PAGE_DATA);
+        header.fieldI32(2, body.length);
+        header.fieldI32(3, stored.length);
+        header.fieldStructBegin(5);
+        header.fieldI32(1, rows);
+        header.fieldI32(2, dictionaryEncoded ? ENCODING_PLAIN_DICTIONARY : ENCODING_PLAIN);
+        header.fieldI32(3, ENCODING_RLE);
+        header.fieldI32(4, ENCODING_RLE);
+        header.structEnd();
+        header.structEnd();
+        byte[] headerBytes = header.toByteArray();
+        out.write(headerBytes);
+        out.write(stored);
+        compressed += headerBytes.length + stored.length;
+        uncompressed += headerBytes.length + body.length;
+
+        ChunkMeta meta = new ChunkMeta(dictionaryPageOffset, position, rows, compressed, uncompressed,
+                dictionaryEncoded);
+        reset();
+        return meta;
+    }
+
+    /**
+     * 기록된 청크의 위치/크기 (컬럼 메타데이터용)
+     */
+    record ChunkMeta(long dictionaryPageOffset, long dataPageOffset, long numValues, long compressedSize,
+            long uncompressedSize, boolean dictionaryEncoded) {
+    }
+
+    private void reset() {
+        rows = 0;
+        values = 0;
+        plain.size = 0;
+        resetDictionary();
+    }
+
+    /**
+     * 로우 그룹마다 사전을 새로 시작 (이전 그룹에서 PLAIN으로 전환했어도 다시 시도)
+     */
+    private void resetDictionary() {
+        if (!dictionaryEnabled) {
+            return;
+        }
+        dictionary = new HashMap<>();
+        dictionaryPlain = new Bytes();
+        dictionaryOffsets = new int[1024];
+        indices = new int[1024];
+    }
+
+    /**
+     * 앞서 사전 인덱스로 쌓은 값을 PLAIN으로 풀고 사전을 버림
+     */
+    private void fallBackToPlain(int encodedValues) {
+        for (int v = 0; v < encodedValues; v++) {
+            int index = indices[v];
+            plain.write(dictionaryPlain.data, dictionaryOffsets[index], dictionaryOffsets[index + 1]
+                    - dictionaryOffsets[index]);
+        }
+        dictionary = null;
+        dictionaryPlain = null;
+        dictionaryOffsets = null;
+        indices = null;
+    }
+
+    /**
+     * 값 → 타입별 자바 값 (INT32 계열 Integer, INT64 계열 Long, DOUBLE Double, STRING String, BINARY byte[])
+     */
+    private Object coerce(Object value) {
+        try {
+            return switch (type) {
+                case BOOLEAN -> value instanceof Boolean b ? b
+                        : value instanceof Number n ? n.doubleValue() != 0 : Boolean.parseBoolean(value.toString());
+                case INT32 -> value instanceof Number n ? Math.toIntExact(n.longValue()) // 잘림 대신 거부
+                        : Integer.parseInt(value.toString().trim());
+                case INT64 -> value instanceof Number n ? n.longValue() : Long.parseLong(value.toString().trim());
+                case DOUBLE -> value instanceof Number n ? n.doubleValue()
+                        : Double.parseDouble(value.toString().trim());
+                case DECIMAL -> (value instanceof BigDecimal d ? d : new BigDecimal(value.toString().trim()))
+                        .setScale(DECIMAL_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+                case DATE -> (int) (value instanceof LocalDate d ? d
+                        : value instanceof LocalDateTime dt ? dt.toLocalDate()
+                        : LocalDate.parse(value.toString().trim())).toEpochDay();
+                case TIME -> (value instanceof LocalTime t ? t : LocalTime.parse(value.toString().trim()))
+                        .toNanoOfDay() / 1000;
+                case TIMESTAMP -> epochMicros(value);
+                case STRING -> value.toString();
+                case BINARY -> value instanceof byte[] b ? b
+                        : value instanceof LobValue lob ? lob.toBytes()
+                        : value.toString().getBytes(StandardCharsets.UTF_8);
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Value of column " + name + " cannot be written as Parquet "
+                    + type + ": " + value, e);
+        }
+    }
+
+    private static long epochMicros(Object value) {
+        LocalDateTime time;
+        if (value instanceof LocalDateTime dt) {
+            time = dt;
+        } else if (value instanceof LocalDate d) {
+            time = d.atStartOfDay();
+        } else if (value instanceof OffsetDateTime odt) {
+            time = odt.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } else if (value instanceof Instant instant) {
+            time = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        } else {
+            time = LocalDateTime.parse(value.toString().trim().replace(' ', 'T'));
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1000;
+    }
+
+    private void encodePlain(Object value, Bytes out) {
+        switch (type) {
+            case INT32, DATE -> out.writeIntLe((Integer) value);
+            case INT64, DECIMAL, TIME, TIMESTAMP -> out.writeLongLe((Long) value);
+            case DOUBLE -> out.writeLongLe(Double.doubleToRawLongBits((Double) value));
+            case STRING -> {
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                out.writeIntLe(bytes.length);
+                out.write(bytes, 0, bytes.length);
+            }
+            case BINARY -> {
+                byte[] bytes = (byte[]) value;
+                out.writeIntLe(bytes.length);
+                out.write(bytes, 0, bytes.length);
+            }
+            case BOOLEAN -> throw new IllegalStateException("BOOLEAN values are bit-packed");
+        }
+    }
+
+    /**
+     * RLE/비트 패킹 하이브리드 인코딩 - 같은 값이 8개 이상 이어지면 RLE 런, 나머지는 8개 단위 비트 패킹 런
+     */
+    static void rleHybrid(IntUnaryOperator values, int count, int bitWidth, Bytes out) {
+        int packedStart = 0;
+        int i = 0;
+        while (i < count) {
+            int value = values.applyAsInt(i);
+            int run = 1;
+            while (i + run < count && values.applyAsInt(i + run) == value) {
+                run++;
+            }
+            if (run >= 8) {
+                // 비트 패킹 런은 8개 단위여야 하므로 앞 그룹을 런의 앞부분으로 채운다
+                int pad = (8 - (i - packedStart) % 8) % 8;
+                if (run - pad >= 8) {
+                    i += pad;
+                    run -= pad;
+                    packedRun(values, packedStart, i, bitWidth, out);
+                    out.writeVarint((long) run << 1);
+                    for (int b = 0; b < (bitWidth + 7) / 8; b++) {
+                        out.write(value >>> (8 * b));
+                    }
+                    i += run;
+                    packedStart = i;
+                    continue;
+                }
+            }
+            i += run;
+        }
+        packedRun(values, packedStart, count, bitWidth, out);
+    }
+
+    private static void packedRun(IntUnaryOperator values, int from, int to, int bitWidth, Bytes out) {
+        if (to <= from) {
+            return;
+        }
+        int groups = (to - from + 7) / 8;
+        out.writeVarint(((long) groups << 1) | 1);
+        bitPack(i -> from + i < to ? values.applyAsInt(from + i) : 0, groups * 8, bitWidth, out);
+    }
+
+    /**
+     * LSB 우선 비트 패킹 (마지막 바이트는 0으로 채움)
+     */
+    private static void bitPack(IntUnaryOperator values, int count, int bitWidth, Bytes out) {
+        long buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < count; i++) {
+            buffer |= ((long) values.applyAsInt(i) & ((1L << bitWidth) - 1)) << bits;
+            bits += bitWidth;
+            while (bits >= 8) {
+                out.write((int) buffer);
+                buffer >>>= 8;
+                bits -= 8;
+            }
+        }
+        if (bits > 0) {
+            out.write((int) buffer);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 64 * 1024)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * 확장 가능한 바이트 버퍼 (리틀 엔디언 쓰기)
+     */
+    static final class Bytes {
+        byte[] data = new byte[1024];
+        int size;
+
+        void write(int b) {
+            ensure(1);
+            data[size++] = (byte) b;
+        }
+
+        void write(byte[] bytes, int offset, int length) {
+            ensure(length);
+            System.arraycopy(bytes, offset, data, size, length);
+            size += length;
+        }
+
+        void write(Bytes other) {
+            write(other.data, 0, other.size);
+        }
+
+        void writeIntLe(int value) {
+            ensure(4);
+            data[size++] = (byte) value;
+            data[size++] = (byte) (value >>> 8);
+            data[size++] = (byte) (value >>> 16);
+            data[size++] = (byte) (value >>> 24);
+        }
+
+        void writeLongLe(long value) {
+            ensure(8);
+            for (int i = 0; i < 8; i++) {
+                data[size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        private void ensure(int length) {
+            if (size + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + length));
+            }
+        }
+    }
+}
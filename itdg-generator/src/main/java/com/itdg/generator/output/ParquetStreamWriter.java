@@ -0,0 +1,366 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.service.ColumnBatch;
+import com.itdg.generator.statistics.ValueRange;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 스트리밍 Parquet 기록기 - 열 배치를 컬럼 청크 버퍼에 바로 인코딩하고, 로우 그룹 크기에 닿으면 그룹을 출력
+ *
+ * 파일 앞에서부터 순서대로만 쓰므로(탐색 없음) HTTP 응답에 바로 흘려 보낼 수 있고, 메모리는 로우 그룹 하나
+ * ({@code rowGroupBytes}, 인코딩 기준)로 제한된다. 파일 메타데이터(footer)는 {@link #close()} 시 기록한다.
+ * 컬럼 타입은 {@link #typeOf(ColumnMetadata)} 규칙으로 정하며 모든 컬럼은 OPTIONAL이다.
+ * PK/Unique와 BOOLEAN/BINARY를 제외한 컬럼은 사전 인코딩을 시도한다 ({@link ParquetColumnChunk}).
+ *
+ * 완료된 로우 그룹의 메타데이터({@link RowGroup})로 기록기를 다시 열 수 있어, 청크 작업처럼
+ * 파일을 커밋 지점으로 잘라낸 뒤 이어 쓰는 용도에도 쓸 수 있다.
+ */
+public final class ParquetStreamWriter implements Closeable {
+
+    public static final long DEFAULT_ROW_GROUP_BYTES = 64L << 20;
+    private static final long MIN_ROW_GROUP_BYTES = 64L << 10;
+    private static final long MAX_ROW_GROUP_BYTES = 1L << 30; // 페이지 크기가 i32라 한 청크 = 한 페이지 제한
+    private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+    private static final String CREATED_BY = "itdg-generator";
+
+    /**
+     * 페이지 압축 코덱 (Parquet CompressionCodec 값)
+     */
+    public enum Codec {
+        UNCOMPRESSED(0), GZIP(2);
+
+        private final int id;
+
+        Codec(int id) {
+            this.id = id;
+        }
+
+        /**
+         * 요청 파라미터 값(none, gzip; 대소문자 무시)으로부터 코덱 결정
+         *
+         * @throws IllegalArgumentException 지원하지 않는 코덱
+         */
+        public static Codec of(String name) {
+            return switch (name == null ? "none" : name.toLowerCase(Locale.ROOT)) {
+                case "none", "uncompressed" -> UNCOMPRESSED;
+                case "gzip" -> GZIP;
+                default -> throw new IllegalArgumentException(
+                        "Unsupported Parquet compression: " + name + " (expected none or gzip)");
+            };
+        }
+    }
+
+    /**
+     * 완료된 로우 그룹 - 끝 오프셋, 행 수, compact protocol로 인코딩한 RowGroup 구조체
+     */
+    public record RowGroup(long endOffset, long rows, byte[] metadata) {
+
+        /**
+         * 한 줄 텍스트 (작업 사이드카 파일용)
+         */
+        public String encode() {
+            return endOffset + " " + rows + " " + Base64.getEncoder().encodeToString(metadata);
+        }
+
+        public static RowGroup decode(String line) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed Parquet row group record: " + line);
+            }
+            return new RowGroup(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Base64.getDecoder().decode(parts[2]));
+        }
+    }
+
+    private final OutputStream out;
+    private final List<ParquetColumnChunk> chunks = new ArrayList<>();
+    private final Codec codec;
+    private final long rowGroupBytes;
+    private final List<RowGroup> rowGroups;
+    private long position;
+    private long rowCount;
+    private int bufferedRows;
+    private boolean closed;
+
+    public ParquetStreamWriter(OutputStream out, List<ColumnMetadata> columns, Codec codec, long rowGroupBytes)
+            throws IOException {
+        this(out, columns, codec, rowGroupBytes, 0, List.of());
+    }
+
+    private ParquetStreamWriter(OutputStream out, List<ColumnMetadata> columns, Codec codec, long rowGroupBytes,
+            long position, List<RowGroup> committed) throws IOException {
+        this.out = out;
+        this.codec = codec;
+        this.rowGroupBytes = requireRowGroupBytes(rowGroupBytes);
+        this.rowGroups = new ArrayList<>(committed);
+        for (ColumnMetadata column : columns) {
+            boolean distinct = Boolean.TRUE.equals(column.getIsPrimaryKey())
+                    || Boolean.TRUE.equals(column.getIsUnique());
+            chunks.add(new ParquetColumnChunk(column.getName(), typeOf(column), !distinct));
+        }
+        this.position = position;
+        this.rowCount = committed.stream().mapToLong(RowGroup::rows).sum();
+        if (position == 0) {
+            out.write(MAGIC);
+            this.position = MAGIC.length;
+        }
+    }
+
+    /**
+     * 완료된 로우 그룹 뒤에서 이어 쓰기 (out은 마지막 그룹의 끝 오프셋에 위치해야 함)
+     */
+    public static ParquetStreamWriter resume(OutputStream out, List<ColumnMetadata> columns, Codec codec,
+            long rowGroupBytes, List<RowGroup> committed) throws IOException {
+        long position = committed.isEmpty() ? 0 : committed.get(committed.size() - 1).endOffset();
+        return new ParquetStreamWriter(out, columns, codec, rowGroupBytes, position, committed);
+    }
+
+    /**
+     * 로우 그룹 크기 검증 (64 KiB ~ 1 GiB)
+     *
+     * @throws IllegalArgumentException 범위를 벗어난 크기
+     */
+    public static long requireRowGroupBytes(long rowGroupBytes) {
+        if (rowGroupBytes < MIN_ROW_GROUP_BYTES || rowGroupBytes > MAX_ROW_GROUP_BYTES) {
+            throw new IllegalArgumentException("rowGroupBytes must be between " + MIN_ROW_GROUP_BYTES + " and "
+                    + MAX_ROW_GROUP_BYTES);
+        }
+        return rowGroupBytes;
+    }
+
+    /**
+     * 컬럼 타입 규칙 - BOOL/BIT는 BOOLEAN, BLOB/BINARY/BYTEA는 BINARY, 숫자/날짜는 {@link ValueRange#kindOf}에 따라
+     * INT32/INT64/DOUBLE/DECIMAL(18,4)/DATE/TIME(µs)/TIMESTAMP(µs, UTC 비조정), 그 외는 STRING
+     */
+    static ParquetColumnChunk.Type typeOf(ColumnMetadata column) {
+        String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase(Locale.ROOT);
+        if (type.contains("BOOL") || type.equals("BIT")) {
+            return ParquetColumnChunk.Type.BOOLEAN;
+        }
+        if (type.contains("BLOB") || type.contains("BINARY") || type.contains("BYTEA")) {
+            return ParquetColumnChunk.Type.BINARY;
+        }
+        ValueRange.Kind kind = ValueRange.kindOf(column);
+        if (kind == null) {
+            return ParquetColumnChunk.Type.STRING;
+        }
+        return switch (kind) {
+            case INTEGER -> ParquetColumnChunk.Type.INT32;
+            case LONG -> ParquetColumnChunk.Type.INT64;
+            case DOUBLE -> ParquetColumnChunk.Type.DOUBLE;
+            case DECIMAL -> ParquetColumnChunk.Type.DECIMAL;
+            case DATE -> ParquetColumnChunk.Type.DATE;
+            case TIME -> ParquetColumnChunk.Type.TIME;
+            case TIMESTAMP -> ParquetColumnChunk.Type.TIMESTAMP;
+        };
+    }
+
+    /**
+     * 열 배치 기록 (배치 컬럼 순서 = 기록기 컬럼 순서)
+     *
+     * @throws IllegalArgumentException 컬럼 타입으로 변환할 수 없는 값
+     */
+    public void writeBatch(ColumnBatch batch) throws IOException {
+        if (batch.vectors().length != chunks.size()) {
+            throw new IllegalArgumentException("Batch has " + batch.vectors().length + " columns, expected "
+                    + chunks.size());
+        }
+        for (int c = 0; c < chunks.size(); c++) {
+            ParquetColumnChunk chunk = chunks.get(c);
+            Object[] values = batch.column(c);
+            for (int r = 0; r < batch.rows(); r++) {
+                chunk.add(values[r]);
+            }
+        }
+        bufferedRows += batch.rows();
+        rowCount += batch.rows();
+        if (bufferedBytes() >= rowGroupBytes) {
+            flushRowGroup();
+        }
+    }
+
+    /**
+     * 버퍼의 행을 로우 그룹으로 기록 (비어 있으면 무시). 크기 한도 외에 호출하면 그룹 경계를 직접 정할 수 있다
+     */
+    public void flushRowGroup() throws IOException {
+        if (bufferedRows == 0) {
+            return;
+        }
+        long groupStart = position;
+        ThriftCompactWriter group = new ThriftCompactWriter();
+        group.structBegin();
+        group.fieldListBegin(1, ThriftCompactWriter.TYPE_STRUCT, chunks.size());
+        long totalUncompressed = 0;
+        long totalCompressed = 0;
+        for (ParquetColumnChunk chunk : chunks) {
+            ParquetColumnChunk.ChunkMeta meta = chunk.write(out, position, codec == Codec.GZIP);
+            long chunkStart = meta.dictionaryPageOffset() >= 0 ? meta.dictionaryPageOffset()
+                    : meta.dataPageOffset();
+            position += meta.compressedSize();
+            totalUncompressed += meta.uncompressedSize();
+            totalCompressed += meta.compressedSize();
+
+            group.structBegin(); // ColumnChunk
+            group.fieldI64(2, chunkStart);
+            group.fieldStructBegin(3); // ColumnMetaData
+            group.fieldI32(1, chunk.getType().physical);
+            group.fieldListBegin(2, ThriftCompactWriter.TYPE_I32, 2);
+            group.i32(meta.dictionaryEncoded() ? ParquetColumnChunk.ENCODING_PLAIN_DICTIONARY
+                    : ParquetColumnChunk.ENCODING_PLAIN);
+            group.i32(ParquetColumnChunk.ENCODING_RLE);
+            group.fieldListBegin(3, ThriftCompactWriter.TYPE_BINARY, 1);
+            group.string(chunk.getName());
+            group.fieldI32(4, codec.id);
+            group.fieldI64(5, meta.numValues());
+            group.fieldI64(6, meta.uncompressedSize());
+            group.fieldI64(7, meta.compressedSize());
+            group.fieldI64(9, meta.dataPageOffset());
+            if (meta.dictionaryPageOffset() >= 0) {
+                group.fieldI64(11, meta.dictionaryPageOffset());
+            }
+            group.structEnd();
+            group.structEnd();
+        }
+        group.fieldI64(2, totalUncompressed);
+        group.fieldI64(3, bufferedRows);
+        group.fieldI64(5, groupStart);
+        group.fieldI64(6, totalCompressed);
+        group.structEnd();
+
+        rowGroups.add(new RowGroup(position, bufferedRows, group.toByteArray()));
+        bufferedRows = 0;
+        out.flush();
+    }
+
+    /**
+     * 남은 행을 기록하고 파일 메타데이터로 마무리 (하부 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flushRowGroup();
+        byte[] footer = footer();
+        out.write(footer);
+        out.write(new byte[] { (byte) footer.length, (byte) (footer.length >>> 8), (byte) (footer.length >>> 16),
+                (byte) (footer.length >>> 24) });
+        out.write(MAGIC);
+        position += footer.length + 4 + MAGIC.length;
+        out.flush();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 지금까지 출력한 바이트 수 (버퍼의 행 제외)
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    public List<RowGroup> getRowGroups() {
+        return List.copyOf(rowGroups);
+    }
+
+    private long bufferedBytes() {
+        long bytes = 0;
+        for (ParquetColumnChunk chunk : chunks) {
+            bytes += chunk.bufferedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * FileMetaData - 스키마, 전체 행 수, 로우 그룹 목록
+     */
+    private byte[] footer() {
+        ThriftCompactWriter meta = new ThriftCompactWriter();
+        meta.structBegin();
+        meta.fieldI32(1, 1); // version
+        meta.fieldListBegin(2, ThriftCompactWriter.TYPE_STRUCT, chunks.size() + 1);
+        meta.structBegin(); // 루트
+        meta.fieldString(4, "schema");
+        meta.fieldI32(5, chunks.size());
+        meta.structEnd();
+        for (ParquetColumnChunk chunk : chunks) {
+            schemaElement(meta, chunk);
+        }
+        meta.fieldI64(3, rowCount);
+        meta.fieldListBegin(4, ThriftCompactWriter.TYPE_STRUCT, rowGroups.size());
+        for (RowGroup group : rowGroups) {
+            meta.raw(group.metadata());
+        }
+        meta.fieldString(6, CREATED_BY);
+        meta.structEnd();
+        return meta.toByteArray();
+    }
+
+    private static void schemaElement(ThriftCompactWriter meta, ParquetColumnChunk chunk) {
+        ParquetColumnChunk.Type type = chunk.getType();
+        meta.structBegin();
+        meta.fieldI32(1, type.physical);
+        meta.fieldI32(3, 1); // OPTIONAL
+        meta.fieldString(4, chunk.getName());
+        switch (type) {
+            case STRING -> meta.fieldI32(6, 0); // UTF8
+            case DECIMAL -> {
+                meta.fieldI32(6, 5);
+                meta.fieldI32(7, ParquetColumnChunk.DECIMAL_SCALE);
+                meta.fieldI32(8, ParquetColumnChunk.DECIMAL_PRECISION);
+            }
+            case DATE -> meta.fieldI32(6, 6);
+            default -> {
+            }
+        }
+        // LogicalType (union) - TIME/TIMESTAMP는 UTC 비조정이라 ConvertedType 없이 논리 타입만 기록
+        switch (type) {
+            case STRING -> {
+                meta.fieldStructBegin(10);
+                meta.fieldStructBegin(1);
+                meta.structEnd();
+                meta.structEnd();
+            }
+            case DECIMAL -> {
+                meta.fieldStructBegin(10);
+                meta.fieldStructBegin(5);
+                meta.fieldI32(1, ParquetColumnChunk.DECIMAL_SCALE);
+                meta.fieldI32(2, ParquetColumnChunk.DECIMAL_PRECISION);
+                meta.structEnd();
+                meta.structEnd();
+            }
+            case DATE -> {
+                meta.fieldStructBegin(10);
+                meta.fieldStructBegin(6);
+                meta.structEnd();
+                meta.structEnd();
+            }
+            case TIME, TIMESTAMP -> {
+                meta.fieldStructBegin(10);
+                meta.fieldStructBegin(type == ParquetColumnChunk.Type.TIME ? 7 : 8);
+                meta.fieldBool(1, false); // isAdjustedToUTC
+                meta.fieldStructBegin(2); // unit
+                meta.fieldStructBegin(2); // MICROS
+                meta.structEnd();
+                meta.structEnd();
+                meta.structEnd();
+                meta.structEnd();
+            }
+            default -> {
+            }
+        }
+        meta.structEnd();
+    }
+}
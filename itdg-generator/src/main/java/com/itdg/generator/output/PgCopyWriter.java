@@ -0,0 +1,479 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.lob.LobValue;
+import com.itdg.generator.service.ColumnBatch;
+import com.itdg.generator.statistics.ValueRange;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * PostgreSQL 바이너리 COPY 기록기 - COPY ... FROM STDIN (FORMAT binary) 입력
+ *
+ * 헤더(서명, 플래그, 확장 길이) 뒤에 튜플마다 필드 수(int16)와 필드별 길이(int32, NULL은 -1)·값을 빅엔디언으로 쓰고,
+ * 끝에 -1(int16)을 쓴다. 값은 문자열로 만들지 않고 타입별 바이너리 표현(numeric은 10000진 자릿수)으로 버퍼에
+ * 직접 인코딩한다. 바이너리 COPY는 서버가 형 변환을 하지 않으므로 대상 컬럼 타입이 {@link #typeOf} 결과와 같아야 한다.
+ * 단일 스레드에서만 사용한다.
+ */
+public final class PgCopyWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** 1970-01-01 → 2000-01-01 (PostgreSQL 날짜/시각 기준점) */
+    private static final long PG_EPOCH_DAYS = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long PG_EPOCH_MICROS = PG_EPOCH_DAYS * 86_400_000_000L;
+    private static final BigInteger NBASE = BigInteger.valueOf(10_000);
+    private static final short NUMERIC_NEG = 0x4000;
+
+    /**
+     * 컬럼의 PostgreSQL 타입 (바이너리 표현 단위)
+     */
+    public enum PgType {
+        BOOL, INT2, INT4, INT8, FLOAT4, FLOAT8, NUMERIC, DATE, TIME, TIMESTAMP, UUID, TEXT, JSONB, BYTEA
+    }
+
+    private final OutputStream out;
+    private final List<String> names;
+    private final List<PgType> types;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer view = ByteBuffer.wrap(buffer); // 빅엔디언 절대 위치 쓰기
+    private final short[] digits = new short[64];
+    private int position;
+    private long rowCount;
+    private long bytesWritten;
+    private boolean closed;
+
+    public PgCopyWriter(OutputStream out, List<ColumnMetadata> columns) throws IOException {
+        if (columns.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Binary COPY supports at most " + Short.MAX_VALUE + " columns");
+        }
+        this.out = out;
+        this.names = columns.stream().map(ColumnMetadata::getName).toList();
+        this.types = columns.stream().map(PgCopyWriter::typeOf).toList();
+        ensure(SIGNATURE.length + 8);
+        System.arraycopy(SIGNATURE, 0, buffer, 0, SIGNATURE.length);
+        position = SIGNATURE.length;
+        putInt(0); // 플래그 (OID 없음)
+        putInt(0); // 헤더 확장 길이
+    }
+
+    /**
+     * 컬럼 타입 규칙 - {@link ParquetStreamWriter#typeOf}와 같되 PostgreSQL에서 바이너리 표현이 다른
+     * SMALLINT(int2), REAL/FLOAT4(float4), UUID, JSONB를 구분한다. VARCHAR/TEXT/JSON 등 나머지 문자열은 TEXT
+     */
+    public static PgType typeOf(ColumnMetadata column) {
+        String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase(Locale.ROOT);
+        if (type.contains("BOOL") || type.equals("BIT")) {
+            return PgType.BOOL;
+        }
+        if (type.contains("BLOB") || type.contains("BINARY") || type.contains("BYTEA")) {
+            return PgType.BYTEA;
+        }
+        if (type.contains("UUID")) {
+            return PgType.UUID;
+        }
+        if (type.equals("JSONB")) {
+            return PgType.JSONB;
+        }
+        if (type.contains("SMALLINT") || type.equals("INT2") || type.equals("SMALLSERIAL")) {
+            return PgType.INT2;
+        }
+        if (type.equals("REAL") || type.equals("FLOAT4")) {
+            return PgType.FLOAT4;
+        }
+        ValueRange.Kind kind = ValueRange.kindOf(column);
+        if (kind == null) {
+            return PgType.TEXT;
+        }
+        return switch (kind) {
+            case INTEGER -> PgType.INT4;
+            case LONG -> PgType.INT8;
+            case DOUBLE -> PgType.FLOAT8;
+            case DECIMAL -> PgType.NUMERIC;
+            case DATE -> PgType.DATE;
+            case TIME -> PgType.TIME;
+            case TIMESTAMP -> PgType.TIMESTAMP; // timestamptz도 같은 표현 (UTC µs)
+        };
+    }
+
+    /**
+     * 열 배치를 튜플로 기록 (배치 컬럼 순서 = 기록기 컬럼 순서)
+     *
+     * @throws IllegalArgumentException 컬럼 타입으로 변환할 수 없는 값
+     */
+    public void writeBatch(ColumnBatch batch) throws IOException {
+        if (batch.vectors().length != types.size()) {
+            throw new IllegalArgumentException("Batch has " + batch.vectors().length + " columns, expected "
+                    + types.size());
+        }
+        for (int r = 0; r < batch.rows(); r++) {
+            ensure(2);
+            putShort(types.size());
+            for (int c = 0; c < types.size(); c++) {
+                Object value = batch.vectors()[c][r];
+                try {
+                    writeField(types.get(c), value);
+                } catch (ArithmeticException | ClassCastException | IllegalArgumentException
+                        | DateTimeException e) {
+                    throw new IllegalArgumentException("Value of column " + names.get(c)
+                            + " cannot be written as PostgreSQL " + types.get(c) + ": " + value, e);
+                }
+            }
+        }
+        rowCount += batch.rows();
+    }
+
+    /**
+     * 끝 표시(-1)를 쓰고 flush (하부 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ensure(2);
+        putShort(-1);
+        drain();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 하부 스트림에 넘긴 바이트 수
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public List<PgType> getTypes() {
+        return types;
+    }
+
+    private void writeField(PgType type, Object value) throws IOException {
+        if (value == null) {
+            ensure(4);
+            putInt(-1);
+            return;
+        }
+        switch (type) {
+            case BOOL -> {
+                ensure(5);
+                putInt(1);
+                buffer[position++] = (byte) (toBoolean(value) ? 1 : 0);
+            }
+            case INT2 -> {
+                long number = toLong(value);
+                if (number < Short.MIN_VALUE || number > Short.MAX_VALUE) {
+                    throw new ArithmeticException("smallint out of range");
+                }
+                ensure(6);
+                putInt(2);
+                putShort((int) number);
+            }
+            case INT4 -> {
+                int number = Math.toIntExact(toLong(value));
+                ensure(8);
+                putInt(4);
+                putInt(number);
+            }
+            case INT8 -> {
+                long number = toLong(value);
+                ensure(12);
+                putInt(8);
+                putLong(number);
+            }
+            case FLOAT4 -> {
+                ensure(8);
+                putInt(4);
+                putInt(Float.floatToRawIntBits(value instanceof Number n ? n.floatValue()
+                        : Float.parseFloat(value.toString().trim())));
+            }
+            case FLOAT8 -> {
+                ensure(12);
+                putInt(8);
+                putLong(Double.doubleToRawLongBits(value instanceof Number n ? n.doubleValue()
+                        : Double.parseDouble(value.toString().trim())));
+            }
+            case NUMERIC -> writeNumeric(toDecimal(value));
+            case DATE -> {
+                LocalDate date = value instanceof LocalDate d ? d
+                        : value instanceof LocalDateTime dt ? dt.toLocalDate() : LocalDate.parse(value.toString().trim());
+                ensure(8);
+                putInt(4);
+                putInt(Math.toIntExact(date.toEpochDay() - PG_EPOCH_DAYS));
+            }
+            case TIME -> {
+                LocalTime time = value instanceof LocalTime t ? t : LocalTime.parse(value.toString().trim());
+                ensure(12);
+                putInt(8);
+                putLong(time.toNanoOfDay() / 1000);
+            }
+            case TIMESTAMP -> {
+                long micros = epochMicros(value) - PG_EPOCH_MICROS;
+                ensure(12);
+                putInt(8);
+                putLong(micros);
+            }
+            case UUID -> {
+                UUID uuid = value instanceof UUID u ? u : UUID.fromString(value.toString().trim());
+                ensure(20);
+                putInt(16);
+                putLong(uuid.getMostSignificantBits());
+                putLong(uuid.getLeastSignificantBits());
+            }
+            case TEXT -> {
+                if (value instanceof LobValue lob) {
+                    writeBytes(lob.toBytes(), false);
+                } else {
+                    writeText(value.toString(), false);
+                }
+            }
+            case JSONB -> {
+                if (value instanceof LobValue lob) {
+                    writeBytes(lob.toBytes(), true);
+                } else {
+                    writeText(value.toString(), true);
+                }
+            }
+            case BYTEA -> writeBytes(value instanceof byte[] b ? b
+                    : value instanceof LobValue lob ? lob.toBytes()
+                    : value.toString().getBytes(StandardCharsets.UTF_8), false);
+        }
+    }
+
+    /**
+     * numeric 바이너리 표현 - ndigits, weight, sign, dscale(int16 각각)과 최상위부터의 10000진 자릿수
+     */
+    private void writeNumeric(BigDecimal decimal) throws IOException {
+        int dscale = Math.max(decimal.scale(), 0);
+        if (dscale > 0x3FFF) {
+            throw new ArithmeticException("numeric scale out of range");
+        }
+        BigInteger unscaled = decimal.scale() < 0 ? decimal.setScale(0).unscaledValue() : decimal.unscaledValue();
+        int sign = unscaled.signum();
+        unscaled = unscaled.abs();
+        // 소수점이 10000진 자릿수 경계에 오도록 소수 자릿수를 4의 배수로 맞춘다
+        int fractionGroups = (dscale + 3) / 4;
+        int pad = fractionGroups * 4 - dscale;
+        if (pad > 0) {
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(pad));
+        }
+
+        // 최하위 자릿수부터 구한다
+        int count = 0;
+        short[] groups = digits;
+        if (unscaled.bitLength() < 63) {
+            for (long v = unscaled.longValue(); v != 0; v /= 10_000) {
+                groups = grow(groups, count);
+                groups[count++] = (short) (v % 10_000);
+            }
+        } else {
+            for (BigInteger v = unscaled; v.signum() != 0; ) {
+                BigInteger[] qr = v.divideAndRemainder(NBASE);
+                groups = grow(groups, count);
+                groups[count++] = qr[1].shortValue();
+                v = qr[0];
+            }
+        }
+        int weight = count - 1 - fractionGroups;
+        int low = 0;
+        while (low < count && groups[low] == 0) { // 끝의 0 자릿수는 생략 (weight는 그대로)
+            low++;
+        }
+        int ndigits = count - low;
+        if (ndigits == 0) {
+            weight = 0;
+            sign = 0;
+        }
+
+        ensure(12 + 2 * ndigits);
+        putInt(8 + 2 * ndigits);
+        putShort(ndigits);
+        putShort(weight);
+        putShort(sign < 0 ? NUMERIC_NEG : 0);
+        putShort(dscale);
+        for (int i = count - 1; i >= low; i--) {
+            putShort(groups[i]);
+        }
+    }
+
+    private static short[] grow(short[] groups, int count) {
+        return count < groups.length ? groups : Arrays.copyOf(groups, groups.length * 2);
+    }
+
+    /**
+     * 문자열을 UTF-8 길이를 먼저 센 뒤 버퍼에 바로 인코딩 (jsonb는 버전 바이트 1을 앞에 붙임)
+     */
+    private void writeText(String text, boolean jsonb) throws IOException {
+        int length = utf8Length(text) + (jsonb ? 1 : 0);
+        if (length + 4 > buffer.length) {
+            writeBytes(text.getBytes(StandardCharsets.UTF_8), jsonb);
+            return;
+        }
+        ensure(4 + length);
+        putInt(length);
+        if (jsonb) {
+            buffer[position++] = 1;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, text.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * {@link #writeText}가 쓸 바이트 수 (짝 없는 서로게이트는 '?' 1바이트)
+     */
+    private static int utf8Length(String text) {
+        int length = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    length += 2; // 2문자 → 4바이트
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private void writeBytes(byte[] bytes, boolean jsonb) throws IOException {
+        int length = bytes.length + (jsonb ? 1 : 0);
+        ensure(5);
+        putInt(length);
+        if (jsonb) {
+            buffer[position++] = 1;
+        }
+        if (bytes.length <= buffer.length - position) {
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        } else {
+            drain();
+            out.write(bytes);
+            bytesWritten += bytes.length;
+        }
+    }
+
+    private static boolean toBoolean(Object value) {
+        return value instanceof Boolean b ? b
+                : value instanceof Number n ? n.doubleValue() != 0 : Boolean.parseBoolean(value.toString().trim());
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.longValueExact();
+        }
+        return value instanceof Number n ? n.longValue() : Long.parseLong(value.toString().trim());
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (!Double.isFinite(number)) {
+                throw new ArithmeticException("non-finite numeric");
+            }
+            return BigDecimal.valueOf(number);
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static long epochMicros(Object value) {
+        LocalDateTime time;
+        if (value instanceof LocalDateTime dt) {
+            time = dt;
+        } else if (value instanceof LocalDate d) {
+            time = d.atStartOfDay();
+        } else if (value instanceof OffsetDateTime odt) {
+            time = odt.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } else if (value instanceof Instant instant) {
+            time = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        } else {
+            time = LocalDateTime.parse(value.toString().trim().replace(' ', 'T'));
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1000;
+    }
+
+    private void putShort(int value) {
+        view.putShort(position, (short) value);
+        position += 2;
+    }
+
+    private void putInt(int value) {
+        view.putInt(position, value);
+        position += 4;
+    }
+
+    private void putLong(long value) {
+        view.putLong(position, value);
+        position += 8;
+    }
+
+    /**
+     * n바이트를 쓸 공간이 없으면 버퍼를 비움 (n은 버퍼 크기 이하)
+     */
+    private void ensure(int n) throws IOException {
+        if (buffer.length - position < n) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        bytesWritten += position;
+        position = 0;
+        out.flush();
+    }
+}
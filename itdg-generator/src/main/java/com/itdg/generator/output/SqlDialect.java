@@ -0,0 +1,111 @@
+package com.itdg.generator.output;
+
+import java.util.List;
+
+/**
+ * SQL 출력 방언 - 식별자 인용, 문자열/바이너리 리터럴, 트랜잭션/제약 비활성화 구문
+ */
+public enum SqlDialect {
+
+    /**
+     * standard_conforming_strings=on(9.1부터 기본) 기준. 제약 비활성화(session_replication_role)는 슈퍼유저 권한 필요.
+     * text 값에 NUL(U+0000)을 저장할 수 없으므로 문자열 리터럴에서 뺀다
+     */
+    POSTGRESQL('"', false, "BEGIN;", List.of("SET session_replication_role = replica;"),
+            List.of("SET session_replication_role = DEFAULT;")),
+    /** 기본 sql_mode 기준 (NO_BACKSLASH_ESCAPES가 꺼져 있으므로 백슬래시도 이스케이프) */
+    MYSQL('`', true, "START TRANSACTION;", List.of("SET FOREIGN_KEY_CHECKS = 0;", "SET UNIQUE_CHECKS = 0;"),
+            List.of("SET UNIQUE_CHECKS = 1;", "SET FOREIGN_KEY_CHECKS = 1;")),
+    H2('"', false, "BEGIN;", List.of("SET REFERENTIAL_INTEGRITY FALSE;"),
+            List.of("SET REFERENTIAL_INTEGRITY TRUE;"));
+
+    private final char identifierQuote;
+    private final boolean backslashEscapes;
+    private final String beginTransaction;
+    private final List<String> disableConstraints;
+    private final List<String> enableConstraints;
+
+    SqlDialect(char identifierQuote, boolean backslashEscapes, String beginTransaction,
+            List<String> disableConstraints, List<String> enableConstraints) {
+        this.identifierQuote = identifierQuote;
+        this.backslashEscapes = backslashEscapes;
+        this.beginTransaction = beginTransaction;
+        this.disableConstraints = disableConstraints;
+        this.enableConstraints = enableConstraints;
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 방언
+     */
+    public static SqlDialect of(String name) {
+        return switch (name == null ? "" : name.toLowerCase()) {
+            case "postgresql", "postgres", "pg" -> POSTGRESQL;
+            case "mysql", "mariadb" -> MYSQL;
+            case "h2" -> H2;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported SQL dialect: " + name + " (expected postgresql, mysql or h2)");
+        };
+    }
+
+    /**
+     * JDBC URL로부터 방언 결정 (그 외 DB는 표준 인용 규칙을 따르는 H2로 취급)
+     */
+    public static SqlDialect fromJdbcUrl(String url) {
+        String lower = url == null ? "" : url.toLowerCase();
+        if (lower.startsWith("jdbc:postgresql:")) {
+            return POSTGRESQL;
+        }
+        if (lower.startsWith("jdbc:mysql:") || lower.startsWith("jdbc:mariadb:")) {
+            return MYSQL;
+        }
+        return H2;
+    }
+
+    /**
+     * 인용한 식별자 (인용 문자는 두 번)
+     */
+    public String quoteIdentifier(String identifier) {
+        String quote = String.valueOf(identifierQuote);
+        return quote + identifier.replace(quote, quote + quote) + quote;
+    }
+
+    /**
+     * 문자열 리터럴 안에서 이스케이프할 문자면 대체 문자열(빈 문자열이면 뺌), 아니면 null
+     */
+    String escape(char c) {
+        if (c == '\'') {
+            return "''";
+        }
+        if (c == 0 && this == POSTGRESQL) {
+            return "";
+        }
+        if (backslashEscapes) {
+            if (c == '\\') {
+                return "\\\\";
+            }
+            if (c == 0) {
+                return "\\0";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 16진수 바이너리 리터럴의 앞/뒤 (PostgreSQL은 bytea hex 입력 형식)
+     */
+    String binaryPrefix() {
+        return this == POSTGRESQL ? "'\\x" : "X'";
+    }
+
+    String beginTransaction() {
+        return beginTransaction;
+    }
+
+    List<String> disableConstraints() {
+        return disableConstraints;
+    }
+
+    List<String> enableConstraints() {
+        return enableConstraints;
+    }
+}
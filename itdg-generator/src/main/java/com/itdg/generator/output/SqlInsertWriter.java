@@ -0,0 +1,272 @@
+package com.itdg.generator.output;
+
+import com.itdg.generator.lob.LobValue;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 행 INSERT 스크립트 기록기
+ *
+ * 행을 받는 대로 "INSERT INTO t (...) VALUES (...),(...);" 문으로 묶어 흘려 쓴다 (문당 batchRows 행).
+ * commitEvery > 0 이면 그 문 수마다 트랜잭션을 나누고, disableConstraints면 스크립트 앞뒤에서
+ * 방언별로 FK/유일 제약 검사를 끄고 되돌린다. LOB은 문자열로 만들지 않고 리터럴 안에 청크 단위로 쓴다.
+ * {@link #close()}는 열린 문과 트랜잭션을 마무리하고 flush한다 (하부 스트림은 닫지 않음).
+ */
+public final class SqlInsertWriter implements Closeable {
+
+    public static final int DEFAULT_BATCH_ROWS = 500;
+    public static final int MAX_BATCH_ROWS = 10_000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * @param batchRows          INSERT 문 하나에 묶을 행 수
+     * @param commitEvery        트랜잭션당 INSERT 문 수 (0이면 트랜잭션 구문 없음)
+     * @param disableConstraints 스크립트 앞뒤에 제약 검사 비활성화/복원 구문
+     */
+    public record Options(SqlDialect dialect, int batchRows, int commitEvery, boolean disableConstraints) {
+
+        /**
+         * @throws IllegalArgumentException 범위를 벗어난 batchRows 또는 음수 commitEvery
+         */
+        public Options {
+            if (dialect == null) {
+                throw new IllegalArgumentException("SQL dialect is required");
+            }
+            if (batchRows < 1 || batchRows > MAX_BATCH_ROWS) {
+                throw new IllegalArgumentException(
+                        "SQL batch rows must be between 1 and " + MAX_BATCH_ROWS + ": " + batchRows);
+            }
+            if (commitEvery < 0) {
+                throw new IllegalArgumentException("SQL commitEvery must not be negative: " + commitEvery);
+            }
+        }
+    }
+
+    private final Writer out;
+    private final Options options;
+    private final SqlDialect dialect;
+    private final LiteralWriter literalWriter = new LiteralWriter();
+    private String insertPrefix;
+    private List<String> columns;
+    private boolean started;
+    private boolean inTransaction;
+    private int rowsInStatement;
+    private int statementsInTransaction;
+    private long rowCount;
+    private long statementCount;
+
+    public SqlInsertWriter(OutputStream out, Options options) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.options = options;
+        this.dialect = options.dialect();
+    }
+
+    /**
+     * 이후 행을 넣을 테이블 (이전 테이블의 열린 문은 닫는다)
+     */
+    public void startTable(String tableName, List<String> columnNames) throws IOException {
+        endStatement();
+        if (!started) {
+            started = true;
+            if (options.disableConstraints()) {
+                writeLines(dialect.disableConstraints());
+            }
+        }
+        this.columns = columnNames;
+        this.insertPrefix = "INSERT INTO " + dialect.quoteIdentifier(tableName) + " ("
+                + columnNames.stream().map(dialect::quoteIdentifier).collect(Collectors.joining(", "))
+                + ") VALUES\n";
+    }
+
+    public void writeRow(Map<String, Object> row) throws IOException {
+        if (columns == null) {
+            throw new IllegalStateException("startTable must be called before writeRow");
+        }
+        if (rowsInStatement == 0) {
+            if (options.commitEvery() > 0 && !inTransaction) {
+                out.write(dialect.beginTransaction());
+                out.write('\n');
+                inTransaction = true;
+            }
+            out.write(insertPrefix);
+        } else {
+            out.write(",\n");
+        }
+        out.write('(');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(", ");
+            }
+            writeValue(row.get(columns.get(i)));
+        }
+        out.write(')');
+        rowCount++;
+        if (++rowsInStatement == options.batchRows()) {
+            endStatement();
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * 열린 문/트랜잭션을 마무리하고 제약 검사를 복원한 뒤 flush
+     */
+    @Override
+    public void close() throws IOException {
+        endStatement();
+        if (inTransaction) {
+            out.write("COMMIT;\n");
+            inTransaction = false;
+        }
+        if (started && options.disableConstraints()) {
+            writeLines(dialect.enableConstraints());
+            started = false;
+        }
+        out.flush();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    private void endStatement() throws IOException {
+        if (rowsInStatement == 0) {
+            return;
+        }
+        out.write(";\n");
+        rowsInStatement = 0;
+        statementCount++;
+        if (inTransaction && ++statementsInTransaction == options.commitEvery()) {
+            out.write("COMMIT;\n");
+            inTransaction = false;
+            statementsInTransaction = 0;
+        }
+    }
+
+    private void writeLines(List<String> lines) throws IOException {
+        for (String line : lines) {
+            out.write(line);
+            out.write('\n');
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("NULL");
+        } else if (value instanceof Boolean bool) {
+            out.write(bool ? "TRUE" : "FALSE");
+        } else if (value instanceof BigDecimal decimal) {
+            out.write(decimal.toPlainString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            out.write(Double.isFinite(number) ? value.toString() : "NULL"); // NaN/Infinity는 세 방언 공통 리터럴이 없음
+        } else if (value instanceof Number) {
+            out.write(value.toString());
+        } else if (value instanceof LocalDateTime timestamp) {
+            out.write("TIMESTAMP '");
+            out.write(timestamp.toLocalDate().toString());
+            out.write(' ');
+            out.write(timestamp.toLocalTime().toString());
+            out.write('\'');
+        } else if (value instanceof LocalDate date) {
+            out.write("DATE '" + date + "'");
+        } else if (value instanceof LocalTime time) {
+            out.write("TIME '" + time + "'");
+        } else if (value instanceof byte[] bytes) {
+            out.write(dialect.binaryPrefix());
+            writeHex(bytes, bytes.length);
+            out.write('\'');
+        } else if (value instanceof LobValue lob && lob.getKind() == LobValue.Kind.BLOB) {
+            out.write(dialect.binaryPrefix());
+            try (InputStream in = lob.openStream()) {
+                byte[] chunk = new byte[8192];
+                for (int n = in.read(chunk); n > 0; n = in.read(chunk)) {
+                    writeHex(chunk, n);
+                }
+            }
+            out.write('\'');
+        } else if (value instanceof LobValue lob) {
+            out.write('\'');
+            lob.writeTo(literalWriter);
+            out.write('\'');
+        } else {
+            out.write('\'');
+            writeEscaped(value.toString());
+            out.write('\'');
+        }
+    }
+
+    private void writeHex(byte[] bytes, int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            out.write(HEX[(bytes[i] >> 4) & 0x0F]);
+            out.write(HEX[bytes[i] & 0x0F]);
+        }
+    }
+
+    private void writeEscaped(CharSequence text) throws IOException {
+        writeEscaped(text, 0, text.length());
+    }
+
+    /**
+     * 이스케이프가 필요 없는 구간은 한 번에 쓴다
+     */
+    private void writeEscaped(CharSequence text, int start, int end) throws IOException {
+        int run = start;
+        for (int i = start; i < end; i++) {
+            String escaped = dialect.escape(text.charAt(i));
+            if (escaped != null) {
+                out.append(text, run, i);
+                out.write(escaped);
+                run = i + 1;
+            }
+        }
+        out.append(text, run, end);
+    }
+
+    /**
+     * LOB 청크를 문자열 리터럴 내부로 이스케이프해 기록
+     */
+    private final class LiteralWriter extends Writer {
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            writeEscaped(CharBuffer.wrap(chars), offset, offset + length);
+        }
+
+        @Override
+        public void write(String text) throws IOException {
+            writeEscaped(text);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.itdg.generator.output;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Thrift compact protocol 인코더 (Parquet 페이지 헤더/파일 메타데이터용 최소 구현)
+ *
+ * 필드 id는 구조체 안에서 오름차순으로 기록해야 한다 (델타 인코딩). 리스트 원소가 구조체면
+ * {@link #structBegin()}/{@link #structEnd()}로 감싼다.
+ */
+final class ThriftCompactWriter {
+
+    static final int TYPE_BOOLEAN_TRUE = 1;
+    static final int TYPE_BOOLEAN_FALSE = 2;
+    static final int TYPE_I32 = 5;
+    static final int TYPE_I64 = 6;
+    static final int TYPE_BINARY = 8;
+    static final int TYPE_LIST = 9;
+    static final int TYPE_STRUCT = 12;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    private final Deque<Integer> fieldIds = new ArrayDeque<>();
+    private int lastFieldId;
+
+    void structBegin() {
+        fieldIds.push(lastFieldId);
+        lastFieldId = 0;
+    }
+
+    void structEnd() {
+        out.write(0); // STOP
+        lastFieldId = fieldIds.pop();
+    }
+
+    void fieldStructBegin(int id) {
+        fieldHeader(id, TYPE_STRUCT);
+        structBegin();
+    }
+
+    void fieldI32(int id, int value) {
+        fieldHeader(id, TYPE_I32);
+        i32(value);
+    }
+
+    void fieldI64(int id, long value) {
+        fieldHeader(id, TYPE_I64);
+        varint((value << 1) ^ (value >> 63));
+    }
+
+    void fieldBool(int id, boolean value) {
+        fieldHeader(id, value ? TYPE_BOOLEAN_TRUE : TYPE_BOOLEAN_FALSE);
+    }
+
+    void fieldString(int id, String value) {
+        fieldHeader(id, TYPE_BINARY);
+        string(value);
+    }
+
+    void fieldListBegin(int id, int elementType, int size) {
+        fieldHeader(id, TYPE_LIST);
+        if (size < 15) {
+            out.write((size << 4) | elementType);
+        } else {
+            out.write(0xF0 | elementType);
+            varint(size);
+        }
+    }
+
+    void i32(int value) {
+        varint(Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+    }
+
+    void string(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        varint(bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    /**
+     * 미리 인코딩한 구조체 바이트를 그대로 덧붙임 (리스트 원소로 재사용)
+     */
+    void raw(byte[] encoded) {
+        out.writeBytes(encoded);
+    }
+
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private void fieldHeader(int id, int type) {
+        int delta = id - lastFieldId;
+        if (delta > 0 && delta <= 15) {
+            out.write((delta << 4) | type);
+        } else {
+            out.write(type);
+            i32(id);
+        }
+        lastFieldId = id;
+    }
+
+    private void varint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
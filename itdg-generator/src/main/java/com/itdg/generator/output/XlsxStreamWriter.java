@@ -0,0 +1,279 @@
+package com.itdg.generator.output;
+
+import com.itdg.generator.lob.LobValue;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 스트리밍 XLSX 기록기 - 워크북을 메모리에 두지 않고 OOXML zip 파트를 순서대로 바로 출력
+ *
+ * 문자열은 공유 문자열 테이블 없이 인라인 문자열(t="inlineStr")로 기록하므로 행 수와 무관하게 힙 사용량이 일정하다.
+ * 시트가 Excel 행 한도({@link #MAX_SHEET_ROWS}, 헤더 포함)에 닿으면 같은 헤더로 새 시트를 시작한다.
+ * 시트 목록을 알아야 하는 workbook.xml, 관계 파일, [Content_Types].xml은 {@link #close()} 시 마지막에 기록한다.
+ * 날짜/시간은 스타일 파트 없이 ISO 문자열로 기록한다.
+ */
+public final class XlsxStreamWriter implements Closeable {
+
+    /** Excel 시트당 최대 행 수 */
+    public static final int MAX_SHEET_ROWS = 1_048_576;
+    /** Excel 셀당 최대 문자 수 */
+    static final int MAX_CELL_CHARS = 32_767;
+    /** 이 절댓값을 넘는 정수는 Excel 숫자(배정밀도)로 정확히 표현되지 않아 문자열로 기록 */
+    private static final long MAX_EXACT_NUMBER = 999_999_999_999_999L;
+    private static final int MAX_SHEET_NAME = 31;
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final List<String> columns;
+    private final String baseName;
+    private final int maxSheetRows;
+    private final List<String> sheetNames = new ArrayList<>();
+
+    private int sheetRows; // 현재 시트에 기록한 행 수 (헤더 포함)
+    private long dataRows;
+    private boolean closed;
+
+    public XlsxStreamWriter(OutputStream out, List<String> columns, String sheetName) {
+        this(out, columns, sheetName, MAX_SHEET_ROWS);
+    }
+
+    XlsxStreamWriter(OutputStream out, List<String> columns, String sheetName, int maxSheetRows) {
+        if (maxSheetRows < 2) {
+            throw new IllegalArgumentException("maxSheetRows must leave room for a header and one row");
+        }
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 64 * 1024);
+        this.columns = List.copyOf(columns);
+        this.baseName = sanitizeSheetName(sheetName);
+        this.maxSheetRows = maxSheetRows;
+    }
+
+    /**
+     * 행 기록 - 시트가 가득 차면 새 시트로 넘어간다
+     */
+    public void writeRow(Map<String, Object> row) throws IOException {
+        if (sheetNames.isEmpty() || sheetRows >= maxSheetRows) {
+            startSheet();
+        }
+        sheetRows++;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(sheetRows));
+        writer.write("\">");
+        for (String column : columns) {
+            writeCell(row.get(column));
+        }
+        writer.write("</row>");
+        dataRows++;
+    }
+
+    public long getRowCount() {
+        return dataRows;
+    }
+
+    public int getSheetCount() {
+        return sheetNames.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (sheetNames.isEmpty()) {
+            startSheet(); // 행이 없어도 헤더만 있는 시트 하나는 만든다
+        }
+        endSheet();
+        writeWorkbookParts();
+        writer.flush();
+        zip.finish(); // 하부 스트림(응답)은 호출자가 닫는다
+    }
+
+    private void startSheet() throws IOException {
+        if (!sheetNames.isEmpty()) {
+            endSheet();
+        }
+        int index = sheetNames.size() + 1;
+        String suffix = index == 1 ? "" : " (" + index + ")";
+        String name = baseName.length() + suffix.length() > MAX_SHEET_NAME
+                ? baseName.substring(0, MAX_SHEET_NAME - suffix.length()) + suffix
+                : baseName + suffix;
+        sheetNames.add(name);
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + index + ".xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">");
+        writer.write("<sheetViews><sheetView workbookViewId=\"0\"><pane ySplit=\"1\" topLeftCell=\"A2\""
+                + " activePane=\"bottomLeft\" state=\"frozen\"/></sheetView></sheetViews>");
+        writer.write("<sheetData>");
+        sheetRows = 1;
+        writer.write("<row r=\"1\">");
+        for (String column : columns) {
+            writeCell(column);
+        }
+        writer.write("</row>");
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            writer.write("<c/>");
+            return;
+        }
+        if (value instanceof Boolean bool) {
+            writer.write(bool ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+            return;
+        }
+        String number = numberText(value);
+        if (number != null) {
+            writer.write("<c><v>");
+            writer.write(number);
+            writer.write("</v></c>");
+            return;
+        }
+        writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        CellTextWriter text = new CellTextWriter(writer);
+        if (value instanceof LobValue lob) {
+            lob.writeTo(text); // LOB은 문자열로 만들지 않고 셀 한도까지만 흘려 쓴다
+        } else {
+            text.write(value.toString());
+        }
+        writer.write("</t></is></c>");
+    }
+
+    /**
+     * Excel 숫자로 정확히 쓸 수 있는 값이면 표기 문자열, 아니면 null (문자열 셀로 기록)
+     */
+    private static String numberText(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.toString();
+        }
+        if (value instanceof Long l) {
+            return Math.abs(l) <= MAX_EXACT_NUMBER ? l.toString() : null;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return Double.isFinite(d) ? value.toString() : null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.precision() <= 15 ? decimal.toPlainString() : null;
+        }
+        return null;
+    }
+
+    private void writeWorkbookParts() throws IOException {
+        StringBuilder sheets = new StringBuilder();
+        StringBuilder relations = new StringBuilder();
+        StringBuilder overrides = new StringBuilder();
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            sheets.append("<sheet name=\"").append(escapeAttribute(sheetNames.get(i - 1)))
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+            relations.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\"")
+                    .append(" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+            overrides.append("<Override PartName=\"/xl/worksheets/sheet").append(i).append(".xml\"")
+                    .append(" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+
+        part("xl/workbook.xml", "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\""
+                + " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+                + "<sheets>" + sheets + "</sheets></workbook>");
+        part("xl/_rels/workbook.xml.rels",
+                "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                        + relations + "</Relationships>");
+        part("_rels/.rels", "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                + "<Relationship Id=\"rId1\""
+                + " Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\""
+                + " Target=\"xl/workbook.xml\"/></Relationships>");
+        part("[Content_Types].xml", "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                + "<Override PartName=\"/xl/workbook.xml\""
+                + " ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+                + overrides + "</Types>");
+    }
+
+    private void part(String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        writer.write(xml);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * 시트 이름 규칙 - 31자 이내, []:*?/\ 제외, 비어 있으면 Sheet
+     */
+    static String sanitizeSheetName(String name) {
+        String cleaned = name == null ? "" : name.replaceAll("[\\[\\]:*?/\\\\]", "_").strip();
+        if (cleaned.isEmpty()) {
+            cleaned = "Sheet";
+        }
+        return cleaned.length() > MAX_SHEET_NAME ? cleaned.substring(0, MAX_SHEET_NAME) : cleaned;
+    }
+
+    private static String escapeAttribute(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * 셀 텍스트용 Writer - XML 이스케이프, XML 1.0에서 허용되지 않는 제어 문자 제거, 셀 한도에서 자름
+     */
+    private static final class CellTextWriter extends Writer {
+        private final Writer out;
+        private int written;
+
+        CellTextWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length && written < MAX_CELL_CHARS; i++) {
+                char c = buffer[i];
+                switch (c) {
+                    case '&' -> out.write("&amp;");
+                    case '<' -> out.write("&lt;");
+                    case '>' -> out.write("&gt;");
+                    default -> {
+                        if (c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == 0xFFFE || c == 0xFFFF) {
+                            continue;
+                        }
+                        out.write(c);
+                    }
+                }
+                written++;
+            }
+        }
+
+        @Override
+        public void write(String text) throws IOException {
+            write(text.toCharArray(), 0, text.length());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
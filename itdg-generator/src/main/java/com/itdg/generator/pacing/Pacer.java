@@ -0,0 +1,113 @@
+package com.itdg.generator.pacing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 행 방출 속도 조절기 - 스트림 하나가 단일 스레드로 사용
+ *
+ * n번째 행은 첫 행 시각 + {@link RateCurve#timeOfRow(long)}까지 기다린다. 대기 기준이 항상 시작 시각이라
+ * park가 늦게 깨어나도 다음 행들은 밀린 만큼 바로 방출되어 누적 오차(drift)가 없다.
+ * 앞서 있을 때는 대부분 park로 쉬고 마지막 {@link #SPIN_NANOS}만 spin해 마이크로초 단위로 맞춘다.
+ */
+public final class Pacer implements AutoCloseable {
+
+    /** 이보다 짧은 남은 대기는 park 대신 spin (park 해상도가 수십 µs) */
+    static final long SPIN_NANOS = 50_000;
+    /** 이보다 오래 쉬게 되면 대기 전에 idle 콜백(출력 flush 등)을 호출 */
+    static final long IDLE_NANOS = 1_000_000;
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private final RateCurve curve;
+    private final Timer lag;
+    private final DistributionSummary rate;
+    private final Runnable onClose;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+
+    private long startNanos = -1;
+    private long rows;
+    private long windowStart;
+    private long windowRows;
+    private boolean closed;
+
+    Pacer(RateCurve curve, Timer lag, DistributionSummary rate, Runnable onClose) {
+        this(curve, lag, rate, onClose, System::nanoTime, nanos -> {
+            if (nanos > SPIN_NANOS) {
+                LockSupport.parkNanos(nanos - SPIN_NANOS);
+            }
+        });
+    }
+
+    Pacer(RateCurve curve, Timer lag, DistributionSummary rate, Runnable onClose, LongSupplier clock,
+            Sleeper sleeper) {
+        this.curve = curve;
+        this.lag = lag;
+        this.rate = rate;
+        this.onClose = onClose;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * 다음 행의 예정 시각까지 대기
+     *
+     * @param idle 오래 쉬게 될 때 대기 전에 한 번 호출 (버퍼 flush로 이미 만든 행을 내보내기 위함, null 가능)
+     */
+    public void awaitNext(Runnable idle) {
+        long now = clock.getAsLong();
+        if (startNanos < 0) {
+            startNanos = now;
+            windowStart = now;
+        }
+        long deadline = startNanos + (long) (curve.timeOfRow(rows) * 1e9);
+        if (deadline - now > IDLE_NANOS && idle != null) {
+            idle.run();
+            now = clock.getAsLong();
+        }
+        while (deadline - now > 0) {
+            long remaining = deadline - now;
+            if (remaining > SPIN_NANOS) {
+                sleeper.sleep(remaining);
+            } else {
+                Thread.onSpinWait();
+            }
+            now = clock.getAsLong();
+        }
+        lag.record(now - deadline, TimeUnit.NANOSECONDS);
+        rows++;
+        windowRows++;
+        if (now - windowStart >= RATE_WINDOW_NANOS) {
+            rate.record(windowRows * 1e9 / (now - windowStart));
+            windowStart = now;
+            windowRows = 0;
+        }
+    }
+
+    /**
+     * 방출한 행 수
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            onClose.run();
+        }
+    }
+
+    /**
+     * 대기 방식 (테스트에서 가상 시계로 교체)
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos);
+    }
+}
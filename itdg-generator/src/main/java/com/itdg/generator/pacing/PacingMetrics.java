@@ -0,0 +1,54 @@
+package com.itdg.generator.pacing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 속도 조절 스트림 지표 (actuator /metrics, /prometheus로 노출)
+ *
+ * - itdg.pacing.lag: 행의 예정 시각 대비 실제 방출 지연 (Timer, 백분위/히스토그램은 Micrometer의 HdrHistogram 기반)
+ * - itdg.pacing.rate: 1초 구간별 실제 방출률 rows/s (DistributionSummary)
+ * - itdg.pacing.active: 진행 중인 속도 조절 스트림 수
+ * 모두 format 태그(csv, json, ndjson 등)로 구분한다.
+ */
+@Component
+public class PacingMetrics {
+
+    private final MeterRegistry registry;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public PacingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("itdg.pacing.active", active, AtomicInteger::get)
+                .description("Paced streams in progress")
+                .register(registry);
+    }
+
+    /**
+     * 새 스트림용 Pacer (사용 후 close 필요)
+     */
+    public Pacer pacer(RateCurve curve, String format) {
+        Timer lag = Timer.builder("itdg.pacing.lag")
+                .description("Delay between a row's scheduled and actual emit time")
+                .tag("format", format)
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+        DistributionSummary rate = DistributionSummary.builder("itdg.pacing.rate")
+                .description("Achieved rows per second, per one-second window")
+                .baseUnit("rows/s")
+                .tag("format", format)
+                .publishPercentiles(0.01, 0.5, 0.99)
+                .register(registry);
+        active.incrementAndGet();
+        return new Pacer(curve, lag, rate, active::decrementAndGet);
+    }
+}
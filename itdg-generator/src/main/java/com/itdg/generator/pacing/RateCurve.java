@@ -0,0 +1,154 @@
+package com.itdg.generator.pacing;
+
+import java.util.Locale;
+
+/**
+ * 시간에 따른 목표 행 방출률 (rows/s)
+ *
+ * 누적 행 수 N(t) = ∫rate의 역함수로 n번째 행의 예정 시각을 바로 계산하므로, 스케줄러는 직전 행 기준이 아닌
+ * 시작 시각 기준 절대 시각으로 대기해 오차가 누적되지 않는다.
+ *
+ * <pre>
+ * 50000                       상수 50k rows/s (= constant:50000)
+ * ramp:1000:50000:60          60초 동안 1k → 50k 선형 증가 후 50k 유지
+ * burst:1000:50000:10:2       10초 주기마다 처음 2초는 50k, 나머지는 1k
+ * </pre>
+ */
+public sealed interface RateCurve {
+
+    /**
+     * n번째 행(0부터)의 예정 방출 시각 - 시작 후 경과 초
+     */
+    double timeOfRow(long n);
+
+    /**
+     * t초 시점의 목표 방출률 (rows/s)
+     */
+    double rateAt(double seconds);
+
+    /**
+     * @throws IllegalArgumentException 문법 오류 또는 양수가 아닌 방출률/기간
+     */
+    static RateCurve parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("Rate must not be blank");
+        }
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        try {
+            return switch (parts[0]) {
+                case "constant" -> {
+                    expectArgs(spec, parts, 1);
+                    yield new Constant(Double.parseDouble(parts[1]));
+                }
+                case "ramp" -> {
+                    expectArgs(spec, parts, 3);
+                    yield new Ramp(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                            Double.parseDouble(parts[3]));
+                }
+                case "burst" -> {
+                    expectArgs(spec, parts, 4);
+                    yield new Burst(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                            Double.parseDouble(parts[3]), Double.parseDouble(parts[4]));
+                }
+                default -> {
+                    expectArgs(spec, parts, 0);
+                    yield new Constant(Double.parseDouble(parts[0]));
+                }
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid rate: " + spec, e);
+        }
+    }
+
+    private static void expectArgs(String spec, String[] parts, int count) {
+        if (parts.length != count + 1) {
+            throw new IllegalArgumentException("Invalid rate: " + spec
+                    + " (expected rows/s, constant:R, ramp:FROM:TO:SECONDS or burst:BASE:PEAK:PERIOD:SECONDS)");
+        }
+    }
+
+    private static void requirePositive(double value, String name) {
+        if (!(value > 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " must be a positive number: " + value);
+        }
+    }
+
+    /**
+     * 일정한 방출률
+     */
+    record Constant(double rate) implements RateCurve {
+        public Constant {
+            requirePositive(rate, "rate");
+        }
+
+        @Override
+        public double timeOfRow(long n) {
+            return n / rate;
+        }
+
+        @Override
+        public double rateAt(double seconds) {
+            return rate;
+        }
+    }
+
+    /**
+     * from → to 선형 증가(감소) 후 to 유지
+     */
+    record Ramp(double from, double to, double seconds) implements RateCurve {
+        public Ramp {
+            requirePositive(from, "ramp start rate");
+            requirePositive(to, "ramp end rate");
+            requirePositive(seconds, "ramp duration");
+        }
+
+        @Override
+        public double timeOfRow(long n) {
+            double rampRows = (from + to) / 2 * seconds;
+            if (n >= rampRows) {
+                return seconds + (n - rampRows) / to;
+            }
+            double slope = (to - from) / seconds;
+            if (Math.abs(slope) < 1e-12) {
+                return n / from;
+            }
+            // slope·t²/2 + from·t = n 의 양의 근
+            return (-from + Math.sqrt(from * from + 2 * slope * n)) / slope;
+        }
+
+        @Override
+        public double rateAt(double t) {
+            return t >= seconds ? to : from + (to - from) * t / seconds;
+        }
+    }
+
+    /**
+     * 주기마다 burstSeconds 동안 peak, 나머지는 base
+     */
+    record Burst(double base, double peak, double period, double burstSeconds) implements RateCurve {
+        public Burst {
+            requirePositive(base, "base rate");
+            requirePositive(peak, "peak rate");
+            requirePositive(period, "burst period");
+            requirePositive(burstSeconds, "burst duration");
+            if (burstSeconds > period) {
+                throw new IllegalArgumentException("burst duration must not exceed the period");
+            }
+        }
+
+        @Override
+        public double timeOfRow(long n) {
+            double burstRows = peak * burstSeconds;
+            double periodRows = burstRows + base * (period - burstSeconds);
+            long cycles = (long) Math.floor(n / periodRows);
+            double rest = n - cycles * periodRows;
+            double offset = rest < burstRows ? rest / peak : burstSeconds + (rest - burstRows) / base;
+            return cycles * period + offset;
+        }
+
+        @Override
+        public double rateAt(double t) {
+            return t % period < burstSeconds ? peak : base;
+        }
+    }
+}
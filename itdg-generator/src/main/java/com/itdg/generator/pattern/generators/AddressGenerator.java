@@ -9,7 +9,7 @@ import org.springframework.stereotype.Component;
 import java.util.Random;
 
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class AddressGenerator implements DataGeneratorStrategy {
     private static final String[] CITIES = { "서울시", "부산시", "대구시", "인천시", "광주시", "대전시", "울산시", "경기도", "강원도" };
     private static final String[] DISTRICTS = { "강남구", "강서구", "서초구", "송파구", "영등포구", "마포구", "종로구", "중구", "동대문구", "분당구" };
@@ -30,4 +30,9 @@ public class AddressGenerator implements DataGeneratorStrategy {
                 ROADS[random.nextInt(ROADS.length)] + " " +
                 (random.nextInt(100) + 1) + "길 " + (random.nextInt(50) + 1);
     }
+
+    @Override
+    public boolean poolable() {
+        return true;
+    }
 }
@@ -10,7 +10,7 @@ import java.util.Random;
 import java.util.UUID;
 
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE) // High precedence if explicit UUID type or name match
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // High precedence if explicit UUID type or name match
 public class UuidGenerator implements DataGeneratorStrategy {
 
     @Override
@@ -29,6 +29,15 @@ public class UuidGenerator implements DataGeneratorStrategy {
 
     @Override
     public Object generate(ColumnMetadata column, Random random) {
-        return UUID.randomUUID().toString();
+        return randomUuid(random).toString();
+    }
+
+    /**
+     * 주어진 Random으로 UUID v4 생성 (시드 재현성 보장)
+     */
+    public static UUID randomUuid(Random random) {
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
     }
 }
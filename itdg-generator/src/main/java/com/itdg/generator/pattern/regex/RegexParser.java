@@ -0,0 +1,285 @@
+package com.itdg.generator.pattern.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 생성용 정규식 파서 (부분 문법)
+ *
+ * 지원: 리터럴, . [] [^] 범위, \d \w \s (및 대문자 부정), 그룹 ( ) (?: ), |, * + ? {n} {n,} {n,m}
+ * 앵커 ^ $ 는 무시한다. 무한 반복(* + {n,})은 최소 횟수 + {@link #UNBOUNDED_EXTRA}회로 제한해
+ * 언어를 유한하게 만든다. 부정 클래스와 . 은 출력 가능한 ASCII(0x20~0x7E) 범위 안에서 해석한다.
+ */
+final class RegexParser {
+
+    static final int UNBOUNDED_EXTRA = 8;
+    static final int[] UNIVERSE = { 0x20, 0x7E };
+
+    private static final int[] DIGIT = { '0', '9' };
+    private static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+    private static final int[] SPACE = { ' ', ' ' };
+
+    sealed interface Node permits Chars, Concat, Alt, Repeat {
+    }
+
+    /** 정렬/병합된 [lo, hi] 쌍 배열 */
+    record Chars(int[] ranges) implements Node {
+    }
+
+    record Concat(List<Node> items) implements Node {
+    }
+
+    record Alt(List<Node> options) implements Node {
+    }
+
+    record Repeat(Node node, int min, int max) implements Node {
+    }
+
+    private final String pattern;
+    private int pos;
+
+    private RegexParser(String pattern) {
+        this.pattern = pattern;
+    }
+
+    static Node parse(String pattern) {
+        RegexParser parser = new RegexParser(pattern);
+        Node node = parser.parseAlt();
+        if (parser.pos < pattern.length()) {
+            throw parser.error("Unexpected ')'");
+        }
+        return node;
+    }
+
+    private Node parseAlt() {
+        List<Node> options = new ArrayList<>();
+        options.add(parseConcat());
+        while (pos < pattern.length() && pattern.charAt(pos) == '|') {
+            pos++;
+            options.add(parseConcat());
+        }
+        return options.size() == 1 ? options.get(0) : new Alt(options);
+    }
+
+    private Node parseConcat() {
+        List<Node> items = new ArrayList<>();
+        while (pos < pattern.length() && pattern.charAt(pos) != '|' && pattern.charAt(pos) != ')') {
+            Node item = parseRepeat();
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items.size() == 1 ? items.get(0) : new Concat(items);
+    }
+
+    private Node parseRepeat() {
+        Node atom = parseAtom();
+        if (atom == null) {
+            return null;
+        }
+        while (pos < pattern.length()) {
+            char c = pattern.charAt(pos);
+            int min;
+            int max;
+            if (c == '*') {
+                min = 0;
+                max = -1;
+                pos++;
+            } else if (c == '+') {
+                min = 1;
+                max = -1;
+                pos++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                pos++;
+            } else if (c == '{' && isBoundedQuantifier()) {
+                int close = pattern.indexOf('}', pos);
+                String body = pattern.substring(pos + 1, close);
+                int comma = body.indexOf(',');
+                if (comma < 0) {
+                    min = max = Integer.parseInt(body);
+                } else {
+                    min = Integer.parseInt(body.substring(0, comma));
+                    max = comma == body.length() - 1 ? -1 : Integer.parseInt(body.substring(comma + 1));
+                }
+                pos = close + 1;
+            } else {
+                break;
+            }
+            if (max >= 0 && max < min) {
+                throw error("Invalid repetition range");
+            }
+            // lazy/possessive 수식어는 생성 결과에 영향 없음
+            if (pos < pattern.length() && (pattern.charAt(pos) == '?' || pattern.charAt(pos) == '+')) {
+                pos++;
+            }
+            atom = new Repeat(atom, min, max < 0 ? min + UNBOUNDED_EXTRA : max);
+        }
+        return atom;
+    }
+
+    private boolean isBoundedQuantifier() {
+        int close = pattern.indexOf('}', pos);
+        return close > pos + 1 && pattern.substring(pos + 1, close).matches("\\d+(,\\d*)?");
+    }
+
+    private Node parseAtom() {
+        char c = pattern.charAt(pos);
+        switch (c) {
+            case '(' -> {
+                pos++;
+                if (pattern.startsWith("?:", pos)) {
+                    pos += 2;
+                } else if (pattern.startsWith("?<", pos) && pattern.indexOf('>', pos) > 0) {
+                    pos = pattern.indexOf('>', pos) + 1; // named group
+                }
+                Node inner = parseAlt();
+                if (pos >= pattern.length() || pattern.charAt(pos) != ')') {
+                    throw error("Missing ')'");
+                }
+                pos++;
+                return inner;
+            }
+            case '[' -> {
+                return new Chars(parseClass());
+            }
+            case '.' -> {
+                pos++;
+                return new Chars(UNIVERSE.clone());
+            }
+            case '^', '$' -> {
+                pos++;
+                return null;
+            }
+            case '\\' -> {
+                pos++;
+                return new Chars(parseEscape());
+            }
+            case '*', '+', '?' -> throw error("Dangling quantifier");
+            default -> {
+                int cp = pattern.codePointAt(pos);
+                pos += Character.charCount(cp);
+                return new Chars(new int[] { cp, cp });
+            }
+        }
+    }
+
+    private int[] parseClass() {
+        pos++; // '['
+        boolean negate = false;
+        if (pos < pattern.length() && pattern.charAt(pos) == '^') {
+            negate = true;
+            pos++;
+        }
+        List<int[]> ranges = new ArrayList<>();
+        boolean first = true;
+        while (pos < pattern.length() && (pattern.charAt(pos) != ']' || first)) {
+            first = false;
+            int lo;
+            if (pattern.charAt(pos) == '\\') {
+                pos++;
+                int[] escaped = parseEscape();
+                if (escaped.length > 2 || escaped[0] != escaped[1]) {
+                    ranges.add(escaped);
+                    continue;
+                }
+                lo = escaped[0];
+            } else {
+                lo = pattern.codePointAt(pos);
+                pos += Character.charCount(lo);
+            }
+            int hi = lo;
+            if (pos + 1 < pattern.length() && pattern.charAt(pos) == '-' && pattern.charAt(pos + 1) != ']') {
+                pos++;
+                if (pattern.charAt(pos) == '\\') {
+                    pos++;
+                    hi = parseEscape()[0];
+                } else {
+                    hi = pattern.codePointAt(pos);
+                    pos += Character.charCount(hi);
+                }
+                if (hi < lo) {
+                    throw error("Invalid character range");
+                }
+            }
+            ranges.add(new int[] { lo, hi });
+        }
+        if (pos >= pattern.length()) {
+            throw error("Missing ']'");
+        }
+        pos++; // ']'
+        int[] merged = normalize(ranges);
+        return negate ? complement(merged) : merged;
+    }
+
+    private int[] parseEscape() {
+        if (pos >= pattern.length()) {
+            throw error("Trailing backslash");
+        }
+        char c = pattern.charAt(pos++);
+        return switch (c) {
+            case 'd' -> DIGIT.clone();
+            case 'D' -> complement(DIGIT);
+            case 'w' -> WORD.clone();
+            case 'W' -> complement(WORD);
+            case 's' -> SPACE.clone();
+            case 'S' -> complement(SPACE);
+            case 't' -> new int[] { '\t', '\t' };
+            case 'n' -> new int[] { '\n', '\n' };
+            case 'r' -> new int[] { '\r', '\r' };
+            case 'u' -> {
+                int cp = Integer.parseInt(pattern.substring(pos, pos + 4), 16);
+                pos += 4;
+                yield new int[] { cp, cp };
+            }
+            default -> new int[] { c, c };
+        };
+    }
+
+    /**
+     * [lo, hi] 쌍 목록을 정렬/병합
+     */
+    static int[] normalize(List<int[]> ranges) {
+        List<int[]> pairs = new ArrayList<>();
+        for (int[] r : ranges) {
+            for (int i = 0; i < r.length; i += 2) {
+                pairs.add(new int[] { r[i], r[i + 1] });
+            }
+        }
+        pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] p : pairs) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && p[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], p[1]);
+            } else {
+                merged.add(p.clone());
+            }
+        }
+        return merged.stream().flatMapToInt(Arrays::stream).toArray();
+    }
+
+    /**
+     * UNIVERSE 기준 여집합
+     */
+    static int[] complement(int[] ranges) {
+        List<int[]> result = new ArrayList<>();
+        int next = UNIVERSE[0];
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next && next <= UNIVERSE[1]) {
+                result.add(new int[] { next, Math.min(ranges[i] - 1, UNIVERSE[1]) });
+            }
+            next = Math.max(next, ranges[i + 1] + 1);
+        }
+        if (next <= UNIVERSE[1]) {
+            result.add(new int[] { next, UNIVERSE[1] });
+        }
+        return normalize(result);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at index " + pos + " in pattern: " + pattern);
+    }
+}
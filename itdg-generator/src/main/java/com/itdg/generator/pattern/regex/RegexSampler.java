@@ -0,0 +1,360 @@
+package com.itdg.generator.pattern.regex;
+
+import com.itdg.generator.pattern.regex.RegexParser.Alt;
+import com.itdg.generator.pattern.regex.RegexParser.Chars;
+import com.itdg.generator.pattern.regex.RegexParser.Concat;
+import com.itdg.generator.pattern.regex.RegexParser.Node;
+import com.itdg.generator.pattern.regex.RegexParser.Repeat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * 정규식을 만족하는 문자열을 균등 분포로 샘플링하는 오토마톤
+ *
+ * 컴파일 시 정규식 → NFA(Thompson) → DFA(부분집합 구성)로 변환하고, 각 DFA 상태에서 수락 가능한
+ * 문자열 수를 미리 계산해 전이 확률로 저장한다. 샘플링은 확률에 따라 전이를 따라가기만 하므로
+ * 출력 길이에 비례하는 시간이 들며 백트래킹이나 재시도가 없다.
+ * 반복은 모두 유한하게 제한되므로 DFA는 비순환(DAG)이고 언어 전체에서 균등하게 뽑힌다.
+ */
+public final class RegexSampler {
+
+    private static final int MAX_NFA_STATES = 20_000;
+    private static final int MAX_DFA_STATES = 50_000;
+
+    private final String pattern;
+    private final int start;
+    private final double[] stopProbability;
+    private final double[][] cumulative; // 상태별 전이 누적 확률
+    private final int[][] targets;
+    private final int[][] charLow;
+    private final int[][] charCount;
+
+    private RegexSampler(String pattern, int start, double[] stopProbability, double[][] cumulative,
+            int[][] targets, int[][] charLow, int[][] charCount) {
+        this.pattern = pattern;
+        this.start = start;
+        this.stopProbability = stopProbability;
+        this.cumulative = cumulative;
+        this.targets = targets;
+        this.charLow = charLow;
+        this.charCount = charCount;
+    }
+
+    public static RegexSampler compile(String pattern) {
+        Nfa nfa = new Nfa();
+        int[] fragment = nfa.build(RegexParser.parse(pattern));
+        nfa.accept = fragment[1];
+        return new DfaBuilder(pattern, nfa, fragment[0]).build();
+    }
+
+    public String sample(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int state = start;
+        while (true) {
+            double r = random.nextDouble();
+            if (r < stopProbability[state]) {
+                return sb.toString();
+            }
+            double[] cum = cumulative[state];
+            int k = Arrays.binarySearch(cum, r);
+            k = k >= 0 ? k + 1 : -k - 1;
+            if (k >= cum.length) {
+                k = cum.length - 1; // 부동소수점 오차 보정
+            }
+            sb.appendCodePoint(charLow[state][k] + random.nextInt(charCount[state][k]));
+            state = targets[state][k];
+        }
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Thompson NFA (ε 전이 + 문자 범위 전이)
+     */
+    private static final class Nfa {
+        final List<List<int[]>> charEdges = new ArrayList<>(); // {target, lo1, hi1, lo2, hi2, ...}
+        final List<List<Integer>> epsilonEdges = new ArrayList<>();
+        int accept;
+
+        int newState() {
+            if (charEdges.size() >= MAX_NFA_STATES) {
+                throw new IllegalArgumentException("Pattern is too complex to compile");
+            }
+            charEdges.add(new ArrayList<>());
+            epsilonEdges.add(new ArrayList<>());
+            return charEdges.size() - 1;
+        }
+
+        int[] build(Node node) {
+            if (node instanceof Chars chars) {
+                int s = newState();
+                int e = newState();
+                int[] edge = new int[chars.ranges().length + 1];
+                edge[0] = e;
+                System.arraycopy(chars.ranges(), 0, edge, 1, chars.ranges().length);
+                charEdges.get(s).add(edge);
+                return new int[] { s, e };
+            }
+            if (node instanceof Concat concat) {
+                int s = newState();
+                int end = s;
+                for (Node item : concat.items()) {
+                    int[] f = build(item);
+                    epsilonEdges.get(end).add(f[0]);
+                    end = f[1];
+                }
+                return new int[] { s, end };
+            }
+            if (node instanceof Alt alt) {
+                int s = newState();
+                int e = newState();
+                for (Node option : alt.options()) {
+                    int[] f = build(option);
+                    epsilonEdges.get(s).add(f[0]);
+                    epsilonEdges.get(f[1]).add(e);
+                }
+                return new int[] { s, e };
+            }
+            Repeat repeat = (Repeat) node;
+            int s = newState();
+            int e = newState();
+            int current = s;
+            for (int i = 0; i < repeat.min(); i++) {
+                int[] f = build(repeat.node());
+                epsilonEdges.get(current).add(f[0]);
+                current = f[1];
+            }
+            for (int i = repeat.min(); i < repeat.max(); i++) {
+                int[] f = build(repeat.node());
+                epsilonEdges.get(current).add(f[0]);
+                epsilonEdges.get(current).add(e);
+                current = f[1];
+            }
+            epsilonEdges.get(current).add(e);
+            return new int[] { s, e };
+        }
+    }
+
+    /**
+     * 부분집합 구성으로 DFA를 만들고 상태별 수락 문자열 수(로그)를 계산
+     */
+    private static final class DfaBuilder {
+        private final String pattern;
+        private final Nfa nfa;
+        private final int nfaStart;
+        private final int[] atomLow;
+        private final int[] atomCount;
+
+        private final List<BitSet> states = new ArrayList<>();
+        private final List<int[]> transitions = new ArrayList<>(); // atom → target (-1: 없음)
+        private final Map<BitSet, Integer> index = new HashMap<>();
+
+        DfaBuilder(String pattern, Nfa nfa, int nfaStart) {
+            this.pattern = pattern;
+            this.nfa = nfa;
+            this.nfaStart = nfaStart;
+
+            // 모든 전이 범위의 경계로 알파벳을 서로소 구간(atom)으로 분할
+            TreeSet<Integer> bounds = new TreeSet<>();
+            for (List<int[]> edges : nfa.charEdges) {
+                for (int[] edge : edges) {
+                    for (int i = 1; i < edge.length; i += 2) {
+                        bounds.add(edge[i]);
+                        bounds.add(edge[i + 1] + 1);
+                    }
+                }
+            }
+            Integer[] points = bounds.toArray(new Integer[0]);
+            int atoms = Math.max(0, points.length - 1);
+            this.atomLow = new int[atoms];
+            this.atomCount = new int[atoms];
+            for (int i = 0; i < atoms; i++) {
+                atomLow[i] = points[i];
+                atomCount[i] = points[i + 1] - points[i];
+            }
+        }
+
+        RegexSampler build() {
+            int startState = stateOf(closure(singleton(nfaStart)));
+            Deque<Integer> queue = new ArrayDeque<>();
+            queue.add(startState);
+            while (!queue.isEmpty()) {
+                int d = queue.poll();
+                int[] row = transitions.get(d);
+                for (int a = 0; a < atomLow.length; a++) {
+                    BitSet moved = move(states.get(d), atomLow[a]);
+                    if (moved.isEmpty()) {
+                        continue;
+                    }
+                    int before = states.size();
+                    row[a] = stateOf(closure(moved));
+                    if (states.size() > before) {
+                        queue.add(row[a]);
+                    }
+                }
+            }
+            return toSampler(startState);
+        }
+
+        private RegexSampler toSampler(int startState) {
+            int n = states.size();
+            double[] logCount = new double[n];
+            Arrays.fill(logCount, Double.NaN);
+            computeLogCounts(startState, logCount);
+            if (logCount[startState] == Double.NEGATIVE_INFINITY) {
+                throw new IllegalArgumentException("Pattern matches no string: " + pattern);
+            }
+
+            double[] stop = new double[n];
+            double[][] cumulative = new double[n][];
+            int[][] targets = new int[n][];
+            int[][] lows = new int[n][];
+            int[][] counts = new int[n][];
+            for (int d = 0; d < n; d++) {
+                if (Double.isNaN(logCount[d]) || logCount[d] == Double.NEGATIVE_INFINITY) {
+                    continue;
+                }
+                stop[d] = isAccepting(d) ? Math.exp(-logCount[d]) : 0;
+                List<Integer> live = new ArrayList<>();
+                int[] row = transitions.get(d);
+                for (int a = 0; a < row.length; a++) {
+                    if (row[a] >= 0 && logCount[row[a]] != Double.NEGATIVE_INFINITY) {
+                        live.add(a);
+                    }
+                }
+                cumulative[d] = new double[live.size()];
+                targets[d] = new int[live.size()];
+                lows[d] = new int[live.size()];
+                counts[d] = new int[live.size()];
+                double acc = stop[d];
+                for (int k = 0; k < live.size(); k++) {
+                    int a = live.get(k);
+                    acc += Math.exp(Math.log(atomCount[a]) + logCount[row[a]] - logCount[d]);
+                    cumulative[d][k] = acc;
+                    targets[d][k] = row[a];
+                    lows[d][k] = atomLow[a];
+                    counts[d][k] = atomCount[a];
+                }
+            }
+            return new RegexSampler(pattern, startState, stop, cumulative, targets, lows, counts);
+        }
+
+        /**
+         * log(상태 d에서 수락되는 문자열 수) - 후위 순회 (DAG)
+         */
+        private void computeLogCounts(int root, double[] logCount) {
+            Deque<int[]> stack = new ArrayDeque<>();
+            boolean[] onStack = new boolean[states.size()];
+            stack.push(new int[] { root, 0 });
+            onStack[root] = true;
+            while (!stack.isEmpty()) {
+                int[] frame = stack.peek();
+                int d = frame[0];
+                int[] row = transitions.get(d);
+                if (frame[1] < row.length) {
+                    int t = row[frame[1]++];
+                    if (t >= 0 && Double.isNaN(logCount[t])) {
+                        if (onStack[t]) {
+                            throw new IllegalStateException("Unexpected cycle in bounded pattern: " + pattern);
+                        }
+                        onStack[t] = true;
+                        stack.push(new int[] { t, 0 });
+                    }
+                    continue;
+                }
+                stack.pop();
+                onStack[d] = false;
+                double max = isAccepting(d) ? 0 : Double.NEGATIVE_INFINITY;
+                for (int a = 0; a < row.length; a++) {
+                    if (row[a] >= 0) {
+                        max = Math.max(max, Math.log(atomCount[a]) + logCount[row[a]]);
+                    }
+                }
+                if (max == Double.NEGATIVE_INFINITY) {
+                    logCount[d] = max;
+                    continue;
+                }
+                double sum = isAccepting(d) ? Math.exp(-max) : 0;
+                for (int a = 0; a < row.length; a++) {
+                    if (row[a] >= 0) {
+                        sum += Math.exp(Math.log(atomCount[a]) + logCount[row[a]] - max);
+                    }
+                }
+                logCount[d] = max + Math.log(sum);
+            }
+        }
+
+        private boolean isAccepting(int d) {
+            return states.get(d).get(nfa.accept);
+        }
+
+        private int stateOf(BitSet set) {
+            Integer existing = index.get(set);
+            if (existing != null) {
+                return existing;
+            }
+            if (states.size() >= MAX_DFA_STATES) {
+                throw new IllegalArgumentException("Pattern is too complex to compile: " + pattern);
+            }
+            int[] row = new int[atomLow.length];
+            Arrays.fill(row, -1);
+            states.add(set);
+            transitions.add(row);
+            index.put(set, states.size() - 1);
+            return states.size() - 1;
+        }
+
+        private BitSet singleton(int s) {
+            BitSet set = new BitSet();
+            set.set(s);
+            return set;
+        }
+
+        private BitSet closure(BitSet set) {
+            BitSet result = (BitSet) set.clone();
+            Deque<Integer> stack = new ArrayDeque<>();
+            set.stream().forEach(stack::push);
+            while (!stack.isEmpty()) {
+                for (int next : nfa.epsilonEdges.get(stack.pop())) {
+                    if (!result.get(next)) {
+                        result.set(next);
+                        stack.push(next);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private BitSet move(BitSet set, int c) {
+            BitSet result = new BitSet();
+            for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                for (int[] edge : nfa.charEdges.get(s)) {
+                    if (contains(edge, c)) {
+                        result.set(edge[0]);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private boolean contains(int[] edge, int c) {
+            for (int i = 1; i < edge.length; i += 2) {
+                if (c >= edge[i] && c <= edge[i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.itdg.generator.plan;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 외래 키 의존 순서 - 참조되는 테이블을 참조하는 테이블보다 먼저 둔다
+ *
+ * 선언 순서를 최대한 유지하는 위상 정렬이다. 자기 참조와 스키마 밖의 대상은 무시한다.
+ * 순환이 있으면 순서로 풀 수 없으므로 남은 테이블을 선언 순서대로 마지막 묶음에 붙인다.
+ * 이 묶음의 테이블은 서로 참조하므로 외래 키 검사를 끄거나 미루고 적재해야 한다
+ * (SET FOREIGN_KEY_CHECKS = 0, SET session_replication_role = replica, DEFERRABLE 제약 등 - {@link #hasCycle}로 확인).
+ */
+@Slf4j
+public final class ForeignKeyOrder {
+
+    private ForeignKeyOrder() {
+    }
+
+    public static List<TableMetadata> sort(List<TableMetadata> tables) {
+        return levels(tables).stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * 의존 깊이별 묶음 - 같은 묶음의 테이블은 서로 참조하지 않으므로 동시에 적재할 수 있다
+     *
+     * 단, 순환이 있으면 마지막 묶음은 순환에 걸린(또는 그 뒤에 오는) 테이블 전부이며 서로 참조한다.
+     * 이 묶음은 외래 키 검사 없이만 적재할 수 있다 ({@link #hasCycle}).
+     */
+    public static List<List<TableMetadata>> levels(List<TableMetadata> tables) {
+        Map<String, TableMetadata> byName = byName(tables);
+        Map<String, Set<String>> dependencies = dependencies(tables, byName);
+
+        List<List<TableMetadata>> levels = new ArrayList<>();
+        Set<String> emitted = new LinkedHashSet<>();
+        while (emitted.size() < byName.size()) {
+            List<String> ready = byName.keySet().stream()
+                    .filter(name -> !emitted.contains(name) && emitted.containsAll(dependencies.get(name)))
+                    .toList();
+            if (ready.isEmpty()) {
+                List<String> cyclic = byName.keySet().stream().filter(name -> !emitted.contains(name)).toList();
+                log.warn("Foreign key cycle between tables {} - emitting them in declared order", cyclic);
+                levels.add(cyclic.stream().map(byName::get).toList());
+                break;
+            }
+            emitted.addAll(ready);
+            levels.add(ready.stream().map(byName::get).toList());
+        }
+        return levels;
+    }
+
+    /**
+     * 외래 키 순환이 있는지 - 있으면 {@link #levels}의 마지막 묶음은 외래 키 검사를 끄고 적재해야 한다
+     */
+    public static boolean hasCycle(List<TableMetadata> tables) {
+        Map<String, TableMetadata> byName = byName(tables);
+        Map<String, Set<String>> dependencies = dependencies(tables, byName);
+        Set<String> emitted = new LinkedHashSet<>();
+        boolean progressed = true;
+        while (progressed) {
+            List<String> ready = byName.keySet().stream()
+                    .filter(name -> !emitted.contains(name) && emitted.containsAll(dependencies.get(name)))
+                    .toList();
+            progressed = emitted.addAll(ready);
+        }
+        return emitted.size() < byName.size();
+    }
+
+    private static Map<String, TableMetadata> byName(List<TableMetadata> tables) {
+        Map<String, TableMetadata> byName = new LinkedHashMap<>();
+        for (TableMetadata table : tables) {
+            byName.put(key(table.getTableName()), table);
+        }
+        return byName;
+    }
+
+    /**
+     * 테이블 → 참조하는 스키마 안의 다른 테이블 (자기 참조 제외)
+     */
+    private static Map<String, Set<String>> dependencies(List<TableMetadata> tables,
+            Map<String, TableMetadata> byName) {
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (TableMetadata table : tables) {
+            Set<String> targets = new LinkedHashSet<>();
+            for (ColumnMetadata column : table.getColumns() != null ? table.getColumns() : List.<ColumnMetadata>of()) {
+                String target = column.getForeignKeyTargetTable();
+                if (Boolean.TRUE.equals(column.getIsForeignKey()) && target != null
+                        && byName.containsKey(key(target)) && !key(target).equals(key(table.getTableName()))) {
+                    targets.add(key(target));
+                }
+            }
+            dependencies.put(key(table.getTableName()), targets);
+        }
+        return dependencies;
+    }
+
+    /**
+     * 생성 PK가 1부터의 시퀀스인 테이블 → 행 수 (테이블 이름은 소문자)
+     *
+     * 정수형 단일 PK 테이블을 rowsPerTable 행 생성하면 PK는 1..rowsPerTable 이므로,
+     * 이 테이블을 참조하는 외래 키 값은 이 범위에서 뽑아야 제약을 지킨다 ({@link TablePlan#withKeyRanges}).
+     */
+    public static Map<String, Long> keyRanges(List<TableMetadata> tables, long rowsPerTable) {
+        Map<String, Long> ranges = new HashMap<>();
+        for (TableMetadata table : tables) {
+            List<ColumnMetadata> keys = (table.getColumns() != null ? table.getColumns() : List.<ColumnMetadata>of())
+                    .stream().filter(column -> Boolean.TRUE.equals(column.getIsPrimaryKey())).toList();
+            if (keys.size() == 1 && isSequential(keys.get(0))) {
+                ranges.put(key(table.getTableName()), rowsPerTable);
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * 생성 서비스가 시퀀스로 채우는 PK (자동 증가 또는 정수형)
+     */
+    private static boolean isSequential(ColumnMetadata column) {
+        String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase();
+        return Boolean.TRUE.equals(column.getIsAutoIncrement())
+                || type.contains("INT") || type.contains("SERIAL") || type.contains("LONG");
+    }
+
+    static String key(String tableName) {
+        return tableName.toLowerCase();
+    }
+}
@@ -0,0 +1,124 @@
+package com.itdg.generator.plan;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.filter.Predicate;
+import com.itdg.generator.filter.PredicateParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 생성 요청의 컬럼 선택(projection)과 조건(predicate)
+ *
+ * 컬럼은 "column" 또는 "table.column"으로 지정한다. 단일 테이블 요청({@link #of})은 없는 컬럼을 오류로 처리하고,
+ * 여러 테이블 요청({@link #lenient})은 한정하지 않은 컬럼/조건 중 테이블에 없는 것은 무시한다
+ * (한정한 컬럼/조건은 항상 검사).
+ */
+public final class Selection {
+
+    /** 모든 컬럼, 조건 없음 */
+    public static final Selection ALL = new Selection(List.of(), List.of(), false);
+
+    private final List<String> columns;
+    private final List<Predicate> predicates;
+    private final boolean strict;
+
+    private Selection(List<String> columns, List<Predicate> predicates, boolean strict) {
+        this.columns = columns;
+        this.predicates = predicates;
+        this.strict = strict;
+    }
+
+    /**
+     * @param columns 출력 컬럼 (null/빈 목록이면 전체)
+     * @param where   AND로 연결한 조건식 (null/빈 문자열이면 조건 없음)
+     * @throws IllegalArgumentException 조건식 문법 오류
+     */
+    public static Selection of(List<String> columns, String where) {
+        return new Selection(normalize(columns), PredicateParser.parse(where), true);
+    }
+
+    /**
+     * 여러 테이블에 같은 선택을 적용할 때 - 한정하지 않은 항목은 해당 컬럼이 있는 테이블에만 적용
+     */
+    public static Selection lenient(List<String> columns, String where) {
+        return new Selection(normalize(columns), PredicateParser.parse(where), false);
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty() && predicates.isEmpty();
+    }
+
+    /**
+     * 이 테이블의 출력 컬럼 (요청 순서). 선택이 없으면 null
+     *
+     * @throws IllegalArgumentException 존재하지 않는 컬럼
+     */
+    public List<String> columnsFor(TableMetadata table) {
+        Set<String> names = namesOf(table);
+        List<String> result = new ArrayList<>();
+        for (String entry : columns) {
+            int dot = entry.lastIndexOf('.');
+            String qualifier = dot > 0 ? entry.substring(0, dot) : null;
+            String column = dot > 0 ? entry.substring(dot + 1) : entry;
+            if (qualifier != null && !qualifier.equals(table.getTableName())) {
+                continue;
+            }
+            if (!names.contains(column)) {
+                if (strict || qualifier != null) {
+                    throw unknownColumn(table, column);
+                }
+                continue;
+            }
+            if (!result.contains(column)) {
+                result.add(column);
+            }
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    /**
+     * 이 테이블에 적용되는 조건
+     *
+     * @throws IllegalArgumentException 존재하지 않는 컬럼
+     */
+    public List<Predicate> predicatesFor(TableMetadata table) {
+        Set<String> names = namesOf(table);
+        List<Predicate> result = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            if (!predicate.appliesTo(table.getTableName())) {
+                continue;
+            }
+            if (!names.contains(predicate.column())) {
+                if (strict || predicate.table() != null) {
+                    throw unknownColumn(table, predicate.column());
+                }
+                continue;
+            }
+            result.add(predicate);
+        }
+        return result;
+    }
+
+    private static List<String> normalize(List<String> columns) {
+        if (columns == null) {
+            return List.of();
+        }
+        return columns.stream()
+                .filter(c -> c != null && !c.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static Set<String> namesOf(TableMetadata table) {
+        List<ColumnMetadata> columns = table.getColumns() != null ? table.getColumns() : List.of();
+        return columns.stream().map(ColumnMetadata::getName).collect(Collectors.toSet());
+    }
+
+    private static IllegalArgumentException unknownColumn(TableMetadata table, String column) {
+        return new IllegalArgumentException("Unknown column " + table.getTableName() + "." + column);
+    }
+}
@@ -0,0 +1,388 @@
+package com.itdg.generator.plan;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.CorrelationGroup;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.filter.ConditionedSampler;
+import com.itdg.generator.filter.Predicate;
+import com.itdg.generator.rule.CompiledExpression;
+import com.itdg.generator.rule.ExpressionCompiler;
+import com.itdg.generator.rule.RowContext;
+import com.itdg.generator.statistics.CorrelatedSampler;
+import com.itdg.generator.statistics.SortedColumnSampler;
+import com.itdg.generator.statistics.ValueRange;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 테이블 생성 계획 - 스트림 시작 시 한 번 만들고 모든 행에서 재사용
+ *
+ * 컬럼 expression 규칙을 컴파일해 보관하며, 규칙 컬럼(파생 컬럼)은 전략 생성 대상에서 빠지고
+ * 나머지 컬럼이 채워진 뒤 같은 행 값을 참조해 계산된다.
+ * 파생 컬럼끼리의 참조는 컴파일 시 위상 정렬해 두므로(예: total = qty * unit_price,
+ * grand_total = total + shipping) 각 행은 재생성 없이 한 번의 순회로 완성된다.
+ * 상관 그룹 컬럼은 Cholesky 인수를 미리 계산한 {@link CorrelatedSampler}가 함께 채우며,
+ * 파생 규칙보다 먼저 채워지므로 규칙에서 참조할 수 있다.
+ * 정렬 컬럼은 블록 단위로 생성되므로 {@link SortedColumnSampler}만 준비해 두고 생성 서비스가 사용한다.
+ * 선택({@link Selection})이 있으면 출력 컬럼과 그 컬럼이 의존하는 규칙 참조/상관 그룹만 남기고
+ * 나머지 컬럼은 아예 생성하지 않으며, 조건은 {@link ConditionedSampler}로 값 생성 자체를 제한한다.
+ * 여러 테이블을 함께 생성할 때는 {@link #withKeyRanges}로 외래 키 컬럼을 부모 PK 범위에 묶는다.
+ */
+public final class TablePlan {
+
+    /**
+     * 자기 참조 외래 키의 상한 표시 - 값은 앞서 생성한 행의 PK(1..행 위치)이고, 첫 행은 nullable이면 null,
+     * 아니면 자기 자신(1)을 가리킨다. 행 순서대로 적재하면 참조 대상이 항상 먼저 들어가 있다.
+     */
+    public static final long SELF_REFERENCE = -1;
+
+    private final TableMetadata table;
+    private final Map<String, CompiledExpression> rules;
+    private final List<CorrelatedSampler> correlations;
+    private final Set<String> correlatedColumns;
+    private final Map<String, SortedColumnSampler> sortedColumns;
+    private final Map<String, ConditionedSampler> conditionedColumns;
+    private final List<String> outputColumns; // null이면 전체 컬럼 출력
+    private final Map<String, Long> keyRanges; // 외래 키 컬럼 → 부모 PK 상한 (1..상한)
+
+    private TablePlan(TableMetadata table, Map<String, CompiledExpression> rules,
+            List<CorrelatedSampler> correlations, Set<String> correlatedColumns,
+            Map<String, SortedColumnSampler> sortedColumns, Map<String, ConditionedSampler> conditionedColumns,
+            List<String> outputColumns, Map<String, Long> keyRanges) {
+        this.table = table;
+        this.rules = rules;
+        this.correlations = correlations;
+        this.correlatedColumns = correlatedColumns;
+        this.sortedColumns = sortedColumns;
+        this.conditionedColumns = conditionedColumns;
+        this.outputColumns = outputColumns;
+        this.keyRanges = keyRanges;
+    }
+
+    /**
+     * @throws IllegalArgumentException 규칙 문법 오류, 존재하지 않는 컬럼 참조, 잘못된 정렬 옵션
+     */
+    public static TablePlan compile(TableMetadata table) {
+        return compile(table, Selection.ALL);
+    }
+
+    /**
+     * 컬럼 선택과 조건을 반영한 계획
+     *
+     * @throws IllegalArgumentException 위 오류 + 존재하지 않는 컬럼 선택, 파생/상관 컬럼 조건, 만족할 수 없는 조건
+     */
+    public static TablePlan compile(TableMetadata table, Selection selection) {
+        List<ColumnMetadata> columns = table.getColumns() != null ? table.getColumns() : List.of();
+        List<String> names = columns.stream().map(ColumnMetadata::getName).collect(Collectors.toList());
+
+        Map<String, CompiledExpression> rules = new LinkedHashMap<>();
+        for (ColumnMetadata column : columns) {
+            if (column.getExpression() != null && !column.getExpression().isBlank()) {
+                try {
+                    rules.put(column.getName(), ExpressionCompiler.compile(column.getExpression(), names));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(
+                            "Invalid rule for " + table.getTableName() + "." + column.getName() + ": " + e.getMessage(),
+                            e);
+                }
+            }
+        }
+
+        Map<String, ColumnMetadata> byName = columns.stream()
+                .collect(Collectors.toMap(ColumnMetadata::getName, Function.identity(), (a, b) -> a));
+        List<CorrelatedSampler> correlations = new ArrayList<>();
+        Set<String> correlatedColumns = new HashSet<>();
+        if (table.getCorrelationGroups() != null) {
+            for (CorrelationGroup group : table.getCorrelationGroups()) {
+                CorrelatedSampler sampler;
+                try {
+                    sampler = CorrelatedSampler.compile(group, byName);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(
+                            "Invalid correlation group in " + table.getTableName() + ": " + e.getMessage(), e);
+                }
+                for (String name : sampler.getColumns()) {
+                    if (rules.containsKey(name) || !correlatedColumns.add(name)) {
+                        throw new IllegalArgumentException("Column " + table.getTableName() + "." + name
+                                + " cannot belong to more than one rule or correlation group");
+                    }
+                }
+                correlations.add(sampler);
+            }
+        }
+
+        Map<String, SortedColumnSampler> sortedColumns = new HashMap<>();
+        for (ColumnMetadata column : columns) {
+            if (column.getSorted() == null) {
+                continue;
+            }
+            if (rules.containsKey(column.getName()) || correlatedColumns.contains(column.getName())) {
+                throw new IllegalArgumentException("Column " + table.getTableName() + "." + column.getName()
+                        + " cannot be sorted and belong to a rule or correlation group");
+            }
+            try {
+                sortedColumns.put(column.getName(), SortedColumnSampler.compile(column));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "Invalid sorted option for " + table.getTableName() + "." + column.getName() + ": "
+                                + e.getMessage(),
+                        e);
+            }
+        }
+
+        Map<String, CompiledExpression> ordered = sortByDependencies(table, rules);
+        Map<String, ConditionedSampler> conditionedColumns = new HashMap<>();
+        Map<String, List<Predicate>> predicates = selection.predicatesFor(table).stream()
+                .collect(Collectors.groupingBy(Predicate::column, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<String, List<Predicate>> entry : predicates.entrySet()) {
+            String name = entry.getKey();
+            if (rules.containsKey(name) || correlatedColumns.contains(name)) {
+                throw new IllegalArgumentException("Predicates are not supported on derived or correlated column "
+                        + table.getTableName() + "." + name);
+            }
+            SortedColumnSampler sorted = sortedColumns.get(name);
+            if (sorted != null) {
+                sortedColumns.put(name, narrowSorted(table, sorted, entry.getValue()));
+            } else {
+                conditionedColumns.put(name, ConditionedSampler.compile(byName.get(name), entry.getValue()));
+            }
+        }
+
+        List<String> outputColumns = selection.columnsFor(table);
+        TableMetadata planned = table;
+        if (outputColumns != null) {
+            // 출력 컬럼 + 규칙 참조 + 같은 상관 그룹만 생성
+            Set<String> needed = requiredColumns(outputColumns, rules, correlations);
+            planned = table.toBuilder()
+                    .columns(columns.stream().filter(c -> needed.contains(c.getName())).collect(Collectors.toList()))
+                    .build();
+            ordered.keySet().retainAll(needed);
+            correlations.removeIf(sampler -> !needed.contains(sampler.getColumns()[0]));
+            correlatedColumns.retainAll(needed);
+            sortedColumns.keySet().retainAll(needed);
+            conditionedColumns.keySet().retainAll(needed);
+        }
+
+        return new TablePlan(planned, Collections.unmodifiableMap(ordered),
+                List.copyOf(correlations), Set.copyOf(correlatedColumns), Map.copyOf(sortedColumns),
+                Map.copyOf(conditionedColumns), outputColumns == null ? null : List.copyOf(outputColumns), Map.of());
+    }
+
+    /**
+     * 외래 키 컬럼 값을 부모 테이블이 생성한 PK 범위(1..행 수)에서 뽑는 계획
+     *
+     * 자기 참조 컬럼은 자기 테이블 전체 범위가 아니라 앞서 생성한 행만 가리킨다 ({@link #SELF_REFERENCE}).
+     *
+     * @param parentRows 소문자 테이블 이름 → 행 수 ({@link ForeignKeyOrder#keyRanges}). 범위를 모르는 부모를
+     *                   참조하는 컬럼은 기존 방식(1~100)을 유지한다.
+     */
+    public TablePlan withKeyRanges(Map<String, Long> parentRows) {
+        String self = ForeignKeyOrder.key(table.getTableName());
+        Map<String, Long> ranges = new HashMap<>();
+        for (ColumnMetadata column : getColumns()) {
+            String target = column.getForeignKeyTargetTable();
+            if (Boolean.TRUE.equals(column.getIsForeignKey()) && !Boolean.TRUE.equals(column.getIsPrimaryKey())
+                    && target != null) {
+                Long rows = parentRows.get(ForeignKeyOrder.key(target));
+                if (rows != null && rows > 0) {
+                    ranges.put(column.getName(), self.equals(ForeignKeyOrder.key(target)) ? SELF_REFERENCE : rows);
+                }
+            }
+        }
+        return new TablePlan(table, rules, correlations, correlatedColumns, sortedColumns, conditionedColumns,
+                outputColumns, Map.copyOf(ranges));
+    }
+
+    /**
+     * 출력 컬럼이 의존하는 컬럼까지 포함한 생성 대상 (규칙 참조는 전이적으로, 상관 그룹은 통째로)
+     */
+    private static Set<String> requiredColumns(List<String> outputColumns, Map<String, CompiledExpression> rules,
+            List<CorrelatedSampler> correlations) {
+        Set<String> needed = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(outputColumns);
+        while (!pending.isEmpty()) {
+            String name = pending.pop();
+            if (!needed.add(name)) {
+                continue;
+            }
+            CompiledExpression rule = rules.get(name);
+            if (rule != null) {
+                pending.addAll(rule.getReferences());
+            }
+            for (CorrelatedSampler sampler : correlations) {
+                if (List.of(sampler.getColumns()).contains(name)) {
+                    pending.addAll(List.of(sampler.getColumns()));
+                }
+            }
+        }
+        return needed;
+    }
+
+    /**
+     * 정렬 컬럼의 범위 조건은 정렬 범위를 좁혀 반영 (값 목록 조건은 정렬과 함께 쓸 수 없음)
+     */
+    private static SortedColumnSampler narrowSorted(TableMetadata table, SortedColumnSampler sorted,
+            List<Predicate> predicates) {
+        String name = table.getTableName() + "." + sorted.getColumn();
+        if (predicates.stream().anyMatch(p -> !p.operator().isRange())) {
+            throw new IllegalArgumentException("Only range predicates are supported on sorted column " + name);
+        }
+        double[] bounds = ConditionedSampler.bounds(sorted.getRange().getKind(), predicates);
+        try {
+            return sorted.narrow(bounds[0], bounds[1]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Predicates on column " + name + " cannot be satisfied", e);
+        }
+    }
+
+    /**
+     * 파생 컬럼 간 참조를 위상 정렬 (Kahn). 같은 단계에서는 선언 순서를 유지한다.
+     *
+     * @throws IllegalArgumentException 순환 참조
+     */
+    private static Map<String, CompiledExpression> sortByDependencies(TableMetadata table,
+            Map<String, CompiledExpression> rules) {
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, CompiledExpression> rule : rules.entrySet()) {
+            int count = 0;
+            for (String reference : rule.getValue().getReferences()) {
+                if (rules.containsKey(reference)) {
+                    if (reference.equals(rule.getKey())) {
+                        throw new IllegalArgumentException(
+                                "Rule for " + table.getTableName() + "." + reference + " references itself");
+                    }
+                    dependents.computeIfAbsent(reference, k -> new ArrayList<>()).add(rule.getKey());
+                    count++;
+                }
+            }
+            pending.put(rule.getKey(), count);
+        }
+
+        Map<String, CompiledExpression> ordered = new LinkedHashMap<>();
+        while (ordered.size() < rules.size()) {
+            String next = pending.entrySet().stream()
+                    .filter(e -> e.getValue() == 0)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Circular rule dependency in " + table.getTableName() + ": " + pending.keySet()));
+            pending.remove(next);
+            ordered.put(next, rules.get(next));
+            for (String dependent : dependents.getOrDefault(next, List.of())) {
+                pending.computeIfPresent(dependent, (k, v) -> v - 1);
+            }
+        }
+        return ordered;
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public List<ColumnMetadata> getColumns() {
+        return table.getColumns() != null ? table.getColumns() : List.of();
+    }
+
+    /**
+     * 계획이 직접 채우는 컬럼 여부 - 파생 규칙 또는 상관 그룹 (전략 생성/제약 검사 대상 아님)
+     */
+    public boolean isPlanned(ColumnMetadata column) {
+        return rules.containsKey(column.getName()) || correlatedColumns.contains(column.getName());
+    }
+
+    /**
+     * 외래 키 값 상한 - 값은 1..상한 (자기 참조면 {@link #SELF_REFERENCE}, 부모 범위를 모르면 0)
+     */
+    public long getKeyRange(ColumnMetadata column) {
+        return keyRanges.getOrDefault(column.getName(), 0L);
+    }
+
+    /**
+     * 정렬 컬럼 샘플러 (정렬 옵션이 없으면 null)
+     */
+    public SortedColumnSampler getSorted(ColumnMetadata column) {
+        return sortedColumns.get(column.getName());
+    }
+
+    /**
+     * 조건부 샘플러 (조건이 없으면 null)
+     */
+    public ConditionedSampler getConditioned(ColumnMetadata column) {
+        return conditionedColumns.get(column.getName());
+    }
+
+    /**
+     * 출력 컬럼 이름 (선택 순서, 선택이 없으면 테이블 선언 순서)
+     */
+    public List<String> getOutputColumns() {
+        return outputColumns != null ? outputColumns
+                : getColumns().stream().map(ColumnMetadata::getName).collect(Collectors.toList());
+    }
+
+    /**
+     * 출력 컬럼 메타데이터 ({@link #getOutputColumns()} 순서, 타입이 필요한 컬럼형 출력용)
+     */
+    public List<ColumnMetadata> getOutputColumnMetadata() {
+        if (outputColumns == null) {
+            return getColumns();
+        }
+        Map<String, ColumnMetadata> byName = getColumns().stream()
+                .collect(Collectors.toMap(ColumnMetadata::getName, Function.identity(), (a, b) -> a));
+        return outputColumns.stream().map(byName::get).collect(Collectors.toList());
+    }
+
+    /**
+     * 완성된 행에서 출력 컬럼만 남긴 행 (선택이 없으면 그대로 반환)
+     */
+    public Map<String, Object> project(Map<String, Object> row) {
+        if (outputColumns == null) {
+            return row;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String name : outputColumns) {
+            projected.put(name, row.get(name));
+        }
+        return projected;
+    }
+
+    /**
+     * 파생 컬럼 규칙 (평가 순서 = 의존성 위상 정렬 순서)
+     */
+    public Map<String, CompiledExpression> getRules() {
+        return rules;
+    }
+
+    /**
+     * 상관 그룹 값을 뽑고 파생 컬럼을 의존성 순서대로 계산해 row를 완성
+     * (row에는 나머지 컬럼이 이미 채워져 있어야 함)
+     *
+     * @param streams 스트림 키 → Random. 상관 그룹은 {@link CorrelatedSampler#getStreamKey()},
+     *                파생 컬럼은 컬럼 이름을 키로 쓴다.
+     */
+    public void completeRow(Map<String, Object> row, Function<String, Random> streams) {
+        for (CorrelatedSampler sampler : correlations) {
+            sampler.sample(streams.apply(sampler.getStreamKey()), row);
+        }
+        if (rules.isEmpty()) {
+            return;
+        }
+        RowContext context = new RowContext(row, null);
+        for (Map.Entry<String, CompiledExpression> rule : rules.entrySet()) {
+            context.setRandom(streams.apply(rule.getKey()));
+            row.put(rule.getKey(), rule.getValue().evaluate(context));
+        }
+    }
+}
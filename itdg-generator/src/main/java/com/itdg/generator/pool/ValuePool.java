@@ -0,0 +1,33 @@
+package com.itdg.generator.pool;
+
+import java.util.Random;
+
+/**
+ * 미리 생성해 둔 불변 값 풀 - 요청 간 공유되며 요청의 Random으로 인덱스를 뽑아 사용
+ */
+public final class ValuePool {
+
+    private final Object[] values;
+
+    ValuePool(Object[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Value pool must not be empty");
+        }
+        this.values = values;
+    }
+
+    /**
+     * 값 하나 추출 (배열 읽기 1회)
+     */
+    public Object sample(Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public Object get(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,137 @@
+package com.itdg.generator.pool;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.strategy.DataGeneratorStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * 생성 비용이 큰 전략의 공유 값 풀 캐시 (LRU, 크기 제한)
+ *
+ * 풀은 (전략, 컬럼 설정) 키에서 유도한 고정 시드로 만들기 때문에 내용이 항상 같고,
+ * 요청은 자신의 Random으로 인덱스만 뽑으므로 시드 재현성이 유지된다.
+ * 같은 키를 동시에 요청하면 한 스레드만 풀을 만들고 나머지는 결과를 기다린다.
+ * LRU로 밀려난 풀은 다음 요청 때 같은 내용으로 다시 만들어진다.
+ * 풀은 값 다양성을 풀 크기로 제한하므로 기본은 꺼져 있으며, generator.pool.enabled=true로 켜고
+ * generator.pool.size=0이면 켜져 있어도 쓰지 않는다.
+ * 키에 컬럼 이름은 넣지 않으므로 설정이 같은 컬럼(예: 여러 테이블의 address)은 풀 하나를 공유한다.
+ */
+@Slf4j
+@Component
+public class ValuePoolCache {
+
+    private static final long POOL_SEED = 0x504F4F4CL; // "POOL"
+
+    private final boolean enabled;
+    private final int poolSize;
+    private final Map<PoolKey, FutureTask<ValuePool>> pools;
+
+    public ValuePoolCache(
+            @Value("${generator.pool.enabled:false}") boolean enabled,
+            @Value("${generator.pool.size:10000}") int poolSize,
+            @Value("${generator.pool.max-pools:256}") int maxPools) {
+        if (poolSize < 0 || maxPools <= 0) {
+            throw new IllegalArgumentException("Pool size must not be negative and max pools must be positive");
+        }
+        this.enabled = enabled && poolSize > 0;
+        this.poolSize = poolSize;
+        this.pools = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PoolKey, FutureTask<ValuePool>> eldest) {
+                return size() > maxPools;
+            }
+        };
+    }
+
+    /**
+     * 풀 사용 여부 (generator.pool.enabled이고 풀 크기가 양수)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 전략/컬럼 설정에 해당하는 풀 조회 (없으면 생성)
+     *
+     * @throws IllegalStateException 풀이 꺼져 있음
+     */
+    public ValuePool get(DataGeneratorStrategy strategy, ColumnMetadata column) {
+        if (!enabled) {
+            throw new IllegalStateException("Value pools are disabled (generator.pool.enabled / generator.pool.size)");
+        }
+        PoolKey key = PoolKey.of(strategy, column);
+        FutureTask<ValuePool> task;
+        boolean owner = false;
+        synchronized (pools) {
+            task = pools.get(key);
+            if (task == null) {
+                task = new FutureTask<>(() -> build(key, strategy, column));
+                pools.put(key, task);
+                owner = true;
+            }
+        }
+        if (owner) {
+            task.run();
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building value pool for " + column.getName(), e);
+        } catch (ExecutionException e) {
+            synchronized (pools) {
+                pools.remove(key, task);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Failed to build value pool for " + column.getName(), e.getCause());
+        }
+    }
+
+    /**
+     * 현재 캐시된 풀 개수
+     */
+    public int size() {
+        synchronized (pools) {
+            return pools.size();
+        }
+    }
+
+    boolean contains(DataGeneratorStrategy strategy, ColumnMetadata column) {
+        synchronized (pools) {
+            return pools.containsKey(PoolKey.of(strategy, column));
+        }
+    }
+
+    private ValuePool build(PoolKey key, DataGeneratorStrategy strategy, ColumnMetadata column) {
+        long started = System.nanoTime();
+        Random random = new Random(GenerationState.streamSeed(POOL_SEED, key.strategy().getName(), key.toString()));
+        Object[] values = new Object[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            values[i] = strategy.generate(column, random);
+        }
+        log.debug("Built value pool for {} ({} values) in {} ms", key, poolSize,
+                (System.nanoTime() - started) / 1_000_000);
+        return new ValuePool(values);
+    }
+
+    /**
+     * 풀 키 - 풀링 가능한 전략의 결과를 좌우하는 컬럼 설정만 포함 (이름은 전략 선택에만 쓰이므로 제외)
+     */
+    record PoolKey(Class<?> strategy, String dataType, Integer length, String pattern, String comment) {
+
+        static PoolKey of(DataGeneratorStrategy strategy, ColumnMetadata column) {
+            return new PoolKey(strategy.getClass(), column.getDataType(), column.getLength(), column.getPattern(),
+                    column.getComment());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.itdg.generator.rule;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Set;
+
+/**
+ * 컴파일된 컬럼 규칙 - (RowContext)Object 형태의 MethodHandle 트리
+ *
+ * 요청당 한 번 컴파일하고 행마다 {@link #evaluate}만 호출한다. 불변이므로 스레드 간 공유 가능.
+ */
+public final class CompiledExpression {
+
+    private final String source;
+    private final MethodHandle handle;
+    private final Set<String> references;
+
+    CompiledExpression(String source, MethodHandle handle, Set<String> references) {
+        this.source = source;
+        this.handle = handle;
+        this.references = Set.copyOf(references);
+    }
+
+    public Object evaluate(RowContext context) {
+        try {
+            return (Object) handle.invokeExact(context);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to evaluate rule: " + source, t);
+        }
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 규칙이 참조하는 같은 행의 컬럼 이름
+     */
+    public Set<String> getReferences() {
+        return references;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
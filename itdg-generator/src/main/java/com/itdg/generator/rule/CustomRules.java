@@ -0,0 +1,112 @@
+package com.itdg.generator.rule;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.ColumnOrdering;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.strategy.impl.RegexPatternStrategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * GenerateDataRequest.customRules 해석
+ *
+ * 키는 "table.column" 또는 "column" (table.column 우선).
+ * 값은 규칙 문자열(예: "regex:[A-Z]{3}-\d{6}", "price * 1.1") 또는 규칙 맵(예: {"regex": "..."}, {"expr": "..."}).
+ * "regex:" 접두사가 없는 문자열은 {@link ExpressionCompiler} 표현식으로 해석한다.
+ * 규칙 맵의 "sorted"는 정렬 생성 옵션이다. 예: {"sorted": true}, {"sorted": "desc"},
+ * {"sorted": true, "min": "2024-01-01", "max": "2024-12-31"}
+ */
+public final class CustomRules {
+
+    public static final String REGEX = "regex";
+    public static final String EXPRESSION = "expr";
+    public static final String SORTED = "sorted";
+
+    private CustomRules() {
+    }
+
+    public static Object lookup(Map<String, Object> customRules, String tableName, String columnName) {
+        if (customRules == null || customRules.isEmpty()) {
+            return null;
+        }
+        Object rule = customRules.get(tableName + "." + columnName);
+        return rule != null ? rule : customRules.get(columnName);
+    }
+
+    public static String regexOf(Object rule) {
+        if (rule instanceof Map<?, ?> map && map.get(REGEX) != null) {
+            return String.valueOf(map.get(REGEX));
+        }
+        if (rule instanceof String text && text.startsWith(RegexPatternStrategy.COMMENT_PREFIX)) {
+            return text.substring(RegexPatternStrategy.COMMENT_PREFIX.length()).trim();
+        }
+        return null;
+    }
+
+    public static String expressionOf(Object rule) {
+        if (rule instanceof Map<?, ?> map && map.get(EXPRESSION) != null) {
+            return String.valueOf(map.get(EXPRESSION));
+        }
+        if (rule instanceof String text && !text.startsWith(RegexPatternStrategy.COMMENT_PREFIX) && !text.isBlank()) {
+            return text.trim();
+        }
+        return null;
+    }
+
+    /**
+     * 규칙 맵의 정렬 옵션 (없거나 false면 null)
+     *
+     * @throws IllegalArgumentException 알 수 없는 정렬 방향
+     */
+    public static ColumnOrdering orderingOf(Object rule) {
+        if (!(rule instanceof Map<?, ?> map) || map.get(SORTED) == null) {
+            return null;
+        }
+        String direction = String.valueOf(map.get(SORTED)).trim().toLowerCase();
+        if (direction.equals("false")) {
+            return null;
+        }
+        if (!direction.equals("true") && !direction.equals("asc") && !direction.equals("desc")) {
+            throw new IllegalArgumentException("Unknown sorted direction: " + map.get(SORTED));
+        }
+        return ColumnOrdering.builder()
+                .descending(direction.equals("desc"))
+                .min(map.get("min") != null ? String.valueOf(map.get("min")) : null)
+                .max(map.get("max") != null ? String.valueOf(map.get("max")) : null)
+                .build();
+    }
+
+    /**
+     * 규칙을 컬럼 pattern/expression/sorted에 반영한 테이블 사본 반환 (요청 DTO는 변경하지 않음)
+     */
+    public static TableMetadata apply(TableMetadata table, Map<String, Object> customRules) {
+        if (customRules == null || customRules.isEmpty()) {
+            return table;
+        }
+        List<ColumnMetadata> columns = table.getColumns().stream()
+                .map(column -> {
+                    Object rule = lookup(customRules, table.getTableName(), column.getName());
+                    if (rule == null) {
+                        return column;
+                    }
+                    String regex = regexOf(rule);
+                    String expression = expressionOf(rule);
+                    ColumnOrdering ordering = orderingOf(rule);
+                    ColumnMetadata.ColumnMetadataBuilder builder = column.toBuilder();
+                    if (regex != null) {
+                        builder.pattern(regex);
+                    }
+                    if (expression != null) {
+                        builder.expression(expression);
+                    }
+                    if (ordering != null) {
+                        builder.sorted(ordering);
+                    }
+                    return builder.build();
+                })
+                .collect(Collectors.toList());
+        return table.toBuilder().columns(columns).build();
+    }
+}
@@ -0,0 +1,393 @@
+package com.itdg.generator.rule;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컬럼 규칙 표현식 컴파일러
+ *
+ * 재귀 하강 파서가 파싱과 동시에 {@link ExpressionFunctions}의 정적 메서드를 조합해
+ * (RowContext)Object MethodHandle 트리를 만든다. 행마다 AST를 순회하지 않으므로 JIT이
+ * 핸들 체인을 인라인할 수 있다.
+ *
+ * 문법 (우선순위 낮은 순):
+ * <pre>
+ *   a || b,  a &amp;&amp; b,  == !=,  &lt; &lt;= &gt; &gt;=,  + -,  * / %,  단항 - !
+ *   리터럴: 123, 1.5, 'text', "text", true, false, null
+ *   컬럼 참조: first_name
+ *   함수: concat(..), if(c, a, b), rand(a, b), pick(..), coalesce(..), min(..), max(..),
+ *         upper(s), lower(s), length(s), substr(s, from, len), abs(x), round(x, digits),
+ *         int(x), plusDays(d, n), plusSeconds(d, n)
+ * </pre>
+ */
+public final class ExpressionCompiler {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType EXPRESSION = MethodType.methodType(Object.class, RowContext.class);
+    private static final MethodType UNARY = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType BINARY = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType VARARGS = MethodType.methodType(Object.class, Object[].class);
+
+    private static final MethodHandle COLUMN = find("column",
+            MethodType.methodType(Object.class, String.class, RowContext.class));
+    private static final MethodHandle TRUTHY = find("truthy", MethodType.methodType(boolean.class, Object.class));
+    private static final MethodHandle AS_BOOLEAN = find("asBoolean", UNARY);
+    private static final MethodHandle RAND = find("rand",
+            MethodType.methodType(Object.class, RowContext.class, Object.class, Object.class));
+    private static final MethodHandle PICK = find("pick",
+            MethodType.methodType(Object.class, RowContext.class, Object[].class));
+
+    private static final Map<String, MethodHandle> BINARY_OPERATORS = Map.ofEntries(
+            Map.entry("+", find("add", BINARY)),
+            Map.entry("-", find("sub", BINARY)),
+            Map.entry("*", find("mul", BINARY)),
+            Map.entry("/", find("div", BINARY)),
+            Map.entry("%", find("mod", BINARY)),
+            Map.entry("==", find("eq", BINARY)),
+            Map.entry("!=", find("ne", BINARY)),
+            Map.entry("<", find("lt", BINARY)),
+            Map.entry("<=", find("le", BINARY)),
+            Map.entry(">", find("gt", BINARY)),
+            Map.entry(">=", find("ge", BINARY)));
+
+    private static final Map<String, MethodHandle> FIXED_FUNCTIONS = Map.ofEntries(
+            Map.entry("upper", find("upper", UNARY)),
+            Map.entry("lower", find("lower", UNARY)),
+            Map.entry("length", find("length", UNARY)),
+            Map.entry("abs", find("abs", UNARY)),
+            Map.entry("int", find("toInt", UNARY)),
+            Map.entry("round", find("round", BINARY)),
+            Map.entry("plusdays", find("plusDays", BINARY)),
+            Map.entry("plusseconds", find("plusSeconds", BINARY)),
+            Map.entry("substr", find("substr",
+                    MethodType.methodType(Object.class, Object.class, Object.class, Object.class))));
+
+    private static final Map<String, MethodHandle> VARARG_FUNCTIONS = Map.of(
+            "concat", find("concat", VARARGS),
+            "coalesce", find("coalesce", VARARGS),
+            "min", find("min", VARARGS),
+            "max", find("max", VARARGS));
+
+    private static final MethodHandle NEG = find("neg", UNARY);
+    private static final MethodHandle NOT = find("not", UNARY);
+
+    private final String source;
+    private final Set<String> knownColumns;
+    private final Set<String> references = new LinkedHashSet<>();
+    private int pos;
+
+    private ExpressionCompiler(String source, Set<String> knownColumns) {
+        this.source = source;
+        this.knownColumns = knownColumns;
+    }
+
+    /**
+     * @param knownColumns 참조 가능한 컬럼 이름 (null이면 검사하지 않음)
+     * @throws IllegalArgumentException 문법 오류 또는 알 수 없는 컬럼/함수
+     */
+    public static CompiledExpression compile(String source, Collection<String> knownColumns) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("Rule expression must not be empty");
+        }
+        ExpressionCompiler compiler = new ExpressionCompiler(source,
+                knownColumns == null ? null : Set.copyOf(knownColumns));
+        MethodHandle handle = compiler.parseOr();
+        compiler.skipSpaces();
+        if (compiler.pos < source.length()) {
+            throw compiler.error("Unexpected '" + source.charAt(compiler.pos) + "'");
+        }
+        return new CompiledExpression(source, handle, compiler.references);
+    }
+
+    // ---- 파서 ----
+
+    private MethodHandle parseOr() {
+        MethodHandle left = parseAnd();
+        while (accept("||")) {
+            MethodHandle right = parseAnd();
+            // 단락 평가: 왼쪽이 참이면 true
+            left = MethodHandles.guardWithTest(test(left), constant(Boolean.TRUE), bool(right));
+        }
+        return left;
+    }
+
+    private MethodHandle parseAnd() {
+        MethodHandle left = parseEquality();
+        while (accept("&&")) {
+            MethodHandle right = parseEquality();
+            left = MethodHandles.guardWithTest(test(left), bool(right), constant(Boolean.FALSE));
+        }
+        return left;
+    }
+
+    private MethodHandle parseEquality() {
+        MethodHandle left = parseComparison();
+        while (true) {
+            String op = acceptAny("==", "!=");
+            if (op == null) {
+                return left;
+            }
+            left = combine(BINARY_OPERATORS.get(op), left, parseComparison());
+        }
+    }
+
+    private MethodHandle parseComparison() {
+        MethodHandle left = parseAdditive();
+        while (true) {
+            String op = acceptAny("<=", ">=", "<", ">");
+            if (op == null) {
+                return left;
+            }
+            left = combine(BINARY_OPERATORS.get(op), left, parseAdditive());
+        }
+    }
+
+    private MethodHandle parseAdditive() {
+        MethodHandle left = parseMultiplicative();
+        while (true) {
+            String op = acceptAny("+", "-");
+            if (op == null) {
+                return left;
+            }
+            left = combine(BINARY_OPERATORS.get(op), left, parseMultiplicative());
+        }
+    }
+
+    private MethodHandle parseMultiplicative() {
+        MethodHandle left = parseUnary();
+        while (true) {
+            String op = acceptAny("*", "/", "%");
+            if (op == null) {
+                return left;
+            }
+            left = combine(BINARY_OPERATORS.get(op), left, parseUnary());
+        }
+    }
+
+    private MethodHandle parseUnary() {
+        if (accept("-")) {
+            return combine(NEG, parseUnary());
+        }
+        if (peek() == '!' && !source.startsWith("!=", pos)) {
+            pos++;
+            return combine(NOT, parseUnary());
+        }
+        return parsePrimary();
+    }
+
+    private MethodHandle parsePrimary() {
+        skipSpaces();
+        if (pos >= source.length()) {
+            throw error("Unexpected end of expression");
+        }
+        char c = source.charAt(pos);
+        if (c == '(') {
+            pos++;
+            MethodHandle inner = parseOr();
+            expect(")");
+            return inner;
+        }
+        if (c == '\'' || c == '"') {
+            return constant(parseString(c));
+        }
+        if (Character.isDigit(c) || (c == '.' && pos + 1 < source.length() && Character.isDigit(source.charAt(pos + 1)))) {
+            return constant(parseNumber());
+        }
+        if (Character.isJavaIdentifierStart(c)) {
+            String name = parseIdentifier();
+            if (peek() == '(') {
+                pos++;
+                return parseFunction(name);
+            }
+            return switch (name) {
+                case "true" -> constant(Boolean.TRUE);
+                case "false" -> constant(Boolean.FALSE);
+                case "null" -> constant(null);
+                default -> columnReference(name);
+            };
+        }
+        throw error("Unexpected '" + c + "'");
+    }
+
+    private MethodHandle parseFunction(String name) {
+        List<MethodHandle> args = new ArrayList<>();
+        if (!accept(")")) {
+            do {
+                args.add(parseOr());
+            } while (accept(","));
+            expect(")");
+        }
+        String key = name.toLowerCase();
+        MethodHandle[] argArray = args.toArray(new MethodHandle[0]);
+        switch (key) {
+            case "if" -> {
+                requireArity(name, args, 3);
+                return MethodHandles.guardWithTest(test(args.get(0)), args.get(1), args.get(2));
+            }
+            case "rand" -> {
+                requireArity(name, args, 2);
+                return combineWithContext(RAND, argArray);
+            }
+            case "pick" -> {
+                requireAtLeastOne(name, args);
+                return combineWithContext(PICK.asCollector(Object[].class, args.size()), argArray);
+            }
+            default -> {
+                MethodHandle varargs = VARARG_FUNCTIONS.get(key);
+                if (varargs != null) {
+                    requireAtLeastOne(name, args);
+                    return combine(varargs.asCollector(Object[].class, args.size()), argArray);
+                }
+                MethodHandle fixed = FIXED_FUNCTIONS.get(key);
+                if (fixed == null) {
+                    throw error("Unknown function '" + name + "'");
+                }
+                requireArity(name, args, fixed.type().parameterCount());
+                return combine(fixed, argArray);
+            }
+        }
+    }
+
+    private MethodHandle columnReference(String name) {
+        if (knownColumns != null && !knownColumns.contains(name)) {
+            throw error("Unknown column '" + name + "'");
+        }
+        references.add(name);
+        return MethodHandles.insertArguments(COLUMN, 0, name);
+    }
+
+    // ---- MethodHandle 조합 ----
+
+    /**
+     * op(Object...)의 각 인자를 (RowContext)Object 핸들로 채우고 컨텍스트 하나로 합친다.
+     */
+    private static MethodHandle combine(MethodHandle op, MethodHandle... args) {
+        MethodHandle filtered = MethodHandles.filterArguments(op, 0, args);
+        return MethodHandles.permuteArguments(filtered, EXPRESSION, new int[args.length]);
+    }
+
+    /**
+     * op(RowContext, Object...) - 첫 인자로 컨텍스트를 그대로 전달
+     */
+    private static MethodHandle combineWithContext(MethodHandle op, MethodHandle... args) {
+        MethodHandle filtered = MethodHandles.filterArguments(op, 1, args);
+        return MethodHandles.permuteArguments(filtered, EXPRESSION, new int[args.length + 1]);
+    }
+
+    private static MethodHandle test(MethodHandle expression) {
+        return MethodHandles.filterReturnValue(expression, TRUTHY);
+    }
+
+    private static MethodHandle bool(MethodHandle expression) {
+        return MethodHandles.filterReturnValue(expression, AS_BOOLEAN);
+    }
+
+    private static MethodHandle constant(Object value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, value), 0, RowContext.class);
+    }
+
+    private static MethodHandle find(String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(ExpressionFunctions.class, name, type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // ---- 토큰 ----
+
+    private String parseString(char quote) {
+        StringBuilder sb = new StringBuilder();
+        pos++;
+        while (pos < source.length()) {
+            char c = source.charAt(pos++);
+            if (c == quote) {
+                return sb.toString();
+            }
+            if (c == '\\' && pos < source.length()) {
+                c = source.charAt(pos++);
+            }
+            sb.append(c);
+        }
+        throw error("Unterminated string literal");
+    }
+
+    private Object parseNumber() {
+        int start = pos;
+        while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+            pos++;
+        }
+        String text = source.substring(start, pos);
+        try {
+            return text.contains(".") ? (Object) Double.parseDouble(text) : (Object) Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw error("Invalid number '" + text + "'");
+        }
+    }
+
+    private String parseIdentifier() {
+        int start = pos;
+        while (pos < source.length() && Character.isJavaIdentifierPart(source.charAt(pos))) {
+            pos++;
+        }
+        return source.substring(start, pos);
+    }
+
+    private boolean accept(String token) {
+        skipSpaces();
+        if (source.startsWith(token, pos)) {
+            pos += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private String acceptAny(String... tokens) {
+        for (String token : tokens) {
+            if (accept(token)) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    private void expect(String token) {
+        if (!accept(token)) {
+            throw error("Expected '" + token + "'");
+        }
+    }
+
+    private char peek() {
+        skipSpaces();
+        return pos < source.length() ? source.charAt(pos) : '\0';
+    }
+
+    private void skipSpaces() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private void requireArity(String name, List<MethodHandle> args, int expected) {
+        if (args.size() != expected) {
+            throw error("Function '" + name + "' expects " + expected + " arguments but got " + args.size());
+        }
+    }
+
+    private void requireAtLeastOne(String name, List<MethodHandle> args) {
+        if (args.isEmpty()) {
+            throw error("Function '" + name + "' expects at least one argument");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at index " + pos + " in rule: " + source);
+    }
+}
@@ -0,0 +1,316 @@
+package com.itdg.generator.rule;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.Objects;
+
+/**
+ * 규칙 표현식 런타임 연산 (MethodHandle 대상)
+ *
+ * 정수끼리의 + - * % 는 long, 그 외 숫자 연산은 double (BigDecimal 포함 시 BigDecimal).
+ * null 피연산자는 null로 전파되고, + 에 문자열이 있으면 문자열 연결로 동작한다.
+ */
+final class ExpressionFunctions {
+
+    private ExpressionFunctions() {
+    }
+
+    // ---- 산술 ----
+
+    static Object add(Object a, Object b) {
+        if (a == null || b == null)
+            return null;
+        if (a instanceof String || b instanceof String)
+            return String.valueOf(a) + b;
+        if (a instanceof Temporal t && b instanceof Number days)
+            return plusDays(t, days);
+        Number x = number(a, "+");
+        Number y = number(b, "+");
+        if (isIntegral(x) && isIntegral(y))
+            return x.longValue() + y.longValue();
+        if (x instanceof BigDecimal || y instanceof BigDecimal)
+            return decimal(x).add(decimal(y));
+        return x.doubleValue() + y.doubleValue();
+    }
+
+    static Object sub(Object a, Object b) {
+        if (a == null || b == null)
+            return null;
+        Number x = number(a, "-");
+        Number y = number(b, "-");
+        if (isIntegral(x) && isIntegral(y))
+            return x.longValue() - y.longValue();
+        if (x instanceof BigDecimal || y instanceof BigDecimal)
+            return decimal(x).subtract(decimal(y));
+        return x.doubleValue() - y.doubleValue();
+    }
+
+    static Object mul(Object a, Object b) {
+        if (a == null || b == null)
+            return null;
+        Number x = number(a, "*");
+        Number y = number(b, "*");
+        if (isIntegral(x) && isIntegral(y))
+            return x.longValue() * y.longValue();
+        if (x instanceof BigDecimal || y instanceof BigDecimal)
+            return decimal(x).multiply(decimal(y));
+        return x.doubleValue() * y.doubleValue();
+    }
+
+    static Object div(Object a, Object b) {
+        if (a == null || b == null)
+            return null;
+        Number x = number(a, "/");
+        Number y = number(b, "/");
+        if (isIntegral(x) && isIntegral(y) && y.longValue() != 0 && x.longValue() % y.longValue() == 0)
+            return x.longValue() / y.longValue();
+        return x.doubleValue() / y.doubleValue();
+    }
+
+    static Object mod(Object a, Object b) {
+        if (a == null || b == null)
+            return null;
+        Number x = number(a, "%");
+        Number y = number(b, "%");
+        if (isIntegral(x) && isIntegral(y))
+            return x.longValue() % y.longValue();
+        return x.doubleValue() % y.doubleValue();
+    }
+
+    static Object neg(Object a) {
+        if (a == null)
+            return null;
+        Number x = number(a, "-");
+        if (isIntegral(x))
+            return -x.longValue();
+        if (x instanceof BigDecimal bd)
+            return bd.negate();
+        return -x.doubleValue();
+    }
+
+    // ---- 비교/논리 ----
+
+    static Object eq(Object a, Object b) {
+        return equal(a, b);
+    }
+
+    static Object ne(Object a, Object b) {
+        return !equal(a, b);
+    }
+
+    static Object lt(Object a, Object b) {
+        return a != null && b != null && compare(a, b) < 0;
+    }
+
+    static Object le(Object a, Object b) {
+        return a != null && b != null && compare(a, b) <= 0;
+    }
+
+    static Object gt(Object a, Object b) {
+        return a != null && b != null && compare(a, b) > 0;
+    }
+
+    static Object ge(Object a, Object b) {
+        return a != null && b != null && compare(a, b) >= 0;
+    }
+
+    static Object not(Object a) {
+        return !truthy(a);
+    }
+
+    static boolean truthy(Object value) {
+        if (value == null)
+            return false;
+        if (value instanceof Boolean b)
+            return b;
+        if (value instanceof Number n)
+            return n.doubleValue() != 0;
+        if (value instanceof String s)
+            return !s.isEmpty();
+        return true;
+    }
+
+    static Object asBoolean(Object value) {
+        return truthy(value);
+    }
+
+    // ---- 함수 ----
+
+    static Object concat(Object[] args) {
+        StringBuilder sb = new StringBuilder();
+        for (Object arg : args) {
+            if (arg != null)
+                sb.append(arg);
+        }
+        return sb.toString();
+    }
+
+    static Object coalesce(Object[] args) {
+        for (Object arg : args) {
+            if (arg != null)
+                return arg;
+        }
+        return null;
+    }
+
+    static Object min(Object[] args) {
+        Object result = null;
+        for (Object arg : args) {
+            if (arg != null && (result == null || compare(arg, result) < 0))
+                result = arg;
+        }
+        return result;
+    }
+
+    static Object max(Object[] args) {
+        Object result = null;
+        for (Object arg : args) {
+            if (arg != null && (result == null || compare(arg, result) > 0))
+                result = arg;
+        }
+        return result;
+    }
+
+    static Object upper(Object a) {
+        return a == null ? null : a.toString().toUpperCase();
+    }
+
+    static Object lower(Object a) {
+        return a == null ? null : a.toString().toLowerCase();
+    }
+
+    static Object length(Object a) {
+        return a == null ? null : (long) a.toString().length();
+    }
+
+    static Object substr(Object s, Object start, Object length) {
+        if (s == null)
+            return null;
+        String str = s.toString();
+        int from = Math.min(str.length(), Math.max(0, number(start, "substr").intValue()));
+        int to = Math.min(str.length(), from + Math.max(0, number(length, "substr").intValue()));
+        return str.substring(from, to);
+    }
+
+    static Object abs(Object a) {
+        if (a == null)
+            return null;
+        Number x = number(a, "abs");
+        if (isIntegral(x))
+            return Math.abs(x.longValue());
+        if (x instanceof BigDecimal bd)
+            return bd.abs();
+        return Math.abs(x.doubleValue());
+    }
+
+    static Object round(Object a, Object digits) {
+        if (a == null)
+            return null;
+        Number x = number(a, "round");
+        int scale = number(digits, "round").intValue();
+        BigDecimal rounded = decimal(x).setScale(scale, RoundingMode.HALF_UP);
+        return scale <= 0 ? (Object) rounded.longValue() : (Object) rounded.doubleValue();
+    }
+
+    static Object toInt(Object a) {
+        if (a == null)
+            return null;
+        if (a instanceof String s)
+            return Long.parseLong(s.trim());
+        return number(a, "int").longValue();
+    }
+
+    static Object plusDays(Object date, Object days) {
+        if (date == null || days == null)
+            return null;
+        if (!(date instanceof Temporal t))
+            throw new IllegalArgumentException("plusDays requires a date value but got " + typeName(date));
+        return t.plus(number(days, "plusDays").longValue(), ChronoUnit.DAYS);
+    }
+
+    static Object plusSeconds(Object dateTime, Object seconds) {
+        if (dateTime == null || seconds == null)
+            return null;
+        if (dateTime instanceof LocalDate d)
+            return d.atStartOfDay().plusSeconds(number(seconds, "plusSeconds").longValue());
+        if (!(dateTime instanceof Temporal t))
+            throw new IllegalArgumentException("plusSeconds requires a date value but got " + typeName(dateTime));
+        return t.plus(number(seconds, "plusSeconds").longValue(), ChronoUnit.SECONDS);
+    }
+
+    /**
+     * rand(a, b): a 이상 b 이하 균등 난수 (둘 다 정수면 long, 아니면 double)
+     */
+    static Object rand(RowContext context, Object from, Object to) {
+        Number lo = number(from, "rand");
+        Number hi = number(to, "rand");
+        if (isIntegral(lo) && isIntegral(hi)) {
+            return context.getRandom().nextLong(lo.longValue(), hi.longValue() + 1);
+        }
+        return lo.doubleValue() + context.getRandom().nextDouble() * (hi.doubleValue() - lo.doubleValue());
+    }
+
+    /**
+     * pick(a, b, ...): 인자 중 하나를 균등 선택
+     */
+    static Object pick(RowContext context, Object[] options) {
+        return options[context.getRandom().nextInt(options.length)];
+    }
+
+    static Object column(String name, RowContext context) {
+        return context.getRow().get(name);
+    }
+
+    // ---- 내부 헬퍼 ----
+
+    private static boolean equal(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y) {
+            return isIntegral(x) && isIntegral(y) ? x.longValue() == y.longValue()
+                    : decimal(x).compareTo(decimal(y)) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compare(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y) {
+            return isIntegral(x) && isIntegral(y) ? Long.compare(x.longValue(), y.longValue())
+                    : decimal(x).compareTo(decimal(y));
+        }
+        if (a instanceof LocalDate d && b instanceof LocalDateTime)
+            a = d.atStartOfDay();
+        if (a instanceof LocalDateTime && b instanceof LocalDate d)
+            b = d.atStartOfDay();
+        if (a instanceof Comparable ca && a.getClass() == b.getClass())
+            return ca.compareTo(b);
+        return a.toString().compareTo(b.toString());
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+    }
+
+    private static BigDecimal decimal(Number n) {
+        if (n instanceof BigDecimal bd)
+            return bd;
+        if (isIntegral(n))
+            return BigDecimal.valueOf(n.longValue());
+        return BigDecimal.valueOf(n.doubleValue());
+    }
+
+    private static Number number(Object value, String op) {
+        if (value instanceof Number n)
+            return n;
+        if (value instanceof Boolean b)
+            return b ? 1L : 0L;
+        throw new IllegalArgumentException("Operator '" + op + "' expects a number but got " + typeName(value));
+    }
+
+    private static String typeName(Object value) {
+        return value == null ? "null" : value.getClass().getSimpleName() + "(" + value + ")";
+    }
+}
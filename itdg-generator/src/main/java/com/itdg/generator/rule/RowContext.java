@@ -0,0 +1,22 @@
+package com.itdg.generator.rule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 컴파일된 규칙 평가 시 전달되는 행 컨텍스트 (행 값 + 행 Random)
+ */
+@Getter
+@Setter
+public class RowContext {
+    private Map<String, Object> row;
+    private Random random;
+
+    public RowContext(Map<String, Object> row, Random random) {
+        this.row = row;
+        this.random = random;
+    }
+}
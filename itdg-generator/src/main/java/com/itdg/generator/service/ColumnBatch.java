@@ -0,0 +1,17 @@
+package com.itdg.generator.service;
+
+import java.util.List;
+
+/**
+ * 열 배치 - 한 RNG 블록의 출력 컬럼별 값 벡터
+ *
+ * @param columns 출력 컬럼 이름 (vectors와 같은 순서)
+ * @param vectors 컬럼별 값 배열 (길이 = rows, 값이 없으면 null 원소)
+ * @param rows    배치 행 수
+ */
+public record ColumnBatch(List<String> columns, Object[][] vectors, int rows) {
+
+    public Object[] column(int index) {
+        return vectors[index];
+    }
+}
@@ -5,6 +5,11 @@ import com.itdg.common.dto.metadata.TableMetadata;
 import com.itdg.common.dto.request.GenerateDataRequest;
 import com.itdg.common.dto.response.GenerateDataResponse;
 import com.itdg.generator.constraint.UniqueValueTracker;
+import com.itdg.generator.filter.ConditionedSampler;
+import com.itdg.generator.plan.Selection;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.rule.CustomRules;
+import com.itdg.generator.statistics.SortedColumnSampler;
 import com.itdg.generator.strategy.DataGeneratorStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,8 +23,9 @@ import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -48,12 +54,17 @@ public class DataGeneratorService {
                     .build();
         }
 
+        // 여러 테이블에 같은 선택을 적용하므로 한정하지 않은 컬럼/조건은 해당 컬럼이 있는 테이블에만 적용
+        Selection selection = Selection.lenient(request.getColumns(), request.getWhere());
+
         for (TableMetadata table : request.getSchema().getTables()) {
             log.info("Generating data for table: {}", table.getTableName());
-            int rowCount = request.getRowCount() != null ? request.getRowCount() : 100;
+            long rowCount = request.getRowCount() != null ? request.getRowCount() : 100;
 
             // 스트림을 리스트로 수집
-            List<Map<String, Object>> rows = generateDataStream(table, rowCount, seed)
+            TableMetadata effectiveTable = CustomRules.apply(table, request.getCustomRules());
+            List<Map<String, Object>> rows = generateDataStream(
+                    TablePlan.compile(effectiveTable, selection), rowCount, seed)
                     .collect(Collectors.toList());
 
             successData.put(table.getTableName(), rows);
@@ -75,22 +86,62 @@ public class DataGeneratorService {
      * 메모리 효율적 (O(1))
      */
     public Stream<Map<String, Object>> generateDataStream(
-            TableMetadata table, int rowCount, long seed) {
+            TableMetadata table, long rowCount, long seed) {
+        return generateDataStream(TablePlan.compile(table), rowCount, seed);
+    }
+
+    /**
+     * 컴파일된 계획(컬럼 선택/조건 포함)으로 생성
+     */
+    public Stream<Map<String, Object>> generateDataStream(
+            TablePlan plan, long rowCount, long seed) {
 
-        Random random = new Random(seed);
+        TableMetadata table = plan.getTable();
+        // One RNG stream per column, so adding/reordering columns leaves the others unchanged
+        Map<String, Random> streams = new HashMap<>();
+        Function<String, Random> streamOf = key -> streams.computeIfAbsent(key,
+                k -> new Random(GenerationState.streamSeed(seed, table.getTableName(), k)));
         UniqueValueTracker uniqueTracker = new UniqueValueTracker();
         AtomicLong pkSequence = new AtomicLong(1);
+        // Sorted columns are generated one RNG block ahead and read by row offset
+        Map<String, Object[]> sortedBlocks = new HashMap<>();
 
-        return IntStream.range(0, rowCount)
-                .mapToObj(i -> generateRow(table, random, uniqueTracker, pkSequence));
+        return LongStream.range(0, rowCount)
+                .mapToObj(i -> generateRow(plan, streamOf, uniqueTracker, pkSequence, sortedBlocks, i, rowCount))
+                .map(plan::project);
     }
 
-    private Map<String, Object> generateRow(TableMetadata table, Random random, UniqueValueTracker uniqueTracker,
-            AtomicLong pkSequence) {
+    private Map<String, Object> generateRow(TablePlan plan, Function<String, Random> streamOf,
+            UniqueValueTracker uniqueTracker, AtomicLong pkSequence, Map<String, Object[]> sortedBlocks,
+            long rowIndex, long rowCount) {
+        TableMetadata table = plan.getTable();
         Map<String, Object> row = new HashMap<>();
         int maxRetries = 5;
 
-        for (ColumnMetadata column : table.getColumns()) {
+        for (ColumnMetadata column : plan.getColumns()) {
+            // Derived and correlated columns are filled after the rest of the row
+            if (plan.isPlanned(column)) {
+                continue;
+            }
+
+            Random random = streamOf.apply(column.getName());
+            SortedColumnSampler sorted = plan.getSorted(column);
+            if (sorted != null) {
+                int offset = (int) (rowIndex % GenerationState.RNG_BLOCK_SIZE);
+                if (offset == 0) {
+                    sortedBlocks.put(column.getName(), sorted.sampleBlock(random, rowIndex,
+                            (int) Math.min(GenerationState.RNG_BLOCK_SIZE, rowCount - rowIndex), rowCount));
+                }
+                row.put(column.getName(), sortedBlocks.get(column.getName())[offset]);
+                continue;
+            }
+            // Predicate columns draw only values that satisfy the predicate
+            ConditionedSampler conditioned = plan.getConditioned(column);
+            if (conditioned != null) {
+                row.put(column.getName(), conditioned.sample(random));
+                continue;
+            }
+
             Object value = null;
             boolean valid = false;
 
@@ -128,6 +179,7 @@ public class DataGeneratorService {
 
             row.put(column.getName(), value);
         }
+        plan.completeRow(row, streamOf);
         return row;
     }
 
@@ -0,0 +1,169 @@
+package com.itdg.generator.service;
+
+import com.itdg.generator.checkpoint.GenerationCheckpoint;
+import com.itdg.generator.constraint.UniqueValueTracker;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블 단위 생성 상태 (PK 시퀀스, RNG 블록 위치, Unique 값)
+ *
+ * 난수는 컬럼마다 독립된 스트림을 쓰며, 스트림은 {@link #RNG_BLOCK_SIZE} 행 블록마다
+ * (seed, table, column, blockIndex)로 시드된다. 따라서 컬럼을 추가하거나 순서를 바꿔도
+ * 기존 컬럼 값은 변하지 않고, 블록 번호만 저장하면 난수 위치를 그대로 복원할 수 있다.
+ * 체크포인트에서 이어서 생성할 때는 다음 블록부터 새로 시작한다.
+ */
+@Getter
+public class GenerationState {
+
+    public static final int RNG_BLOCK_SIZE = 1024;
+
+    private final long seed;
+    private final AtomicLong pkSequence;
+    private final UniqueValueTracker uniqueTracker;
+    private final long baseRows;
+    private final long startBlock;
+
+    private long rowsInRun;
+    private long rowsStarted; // 이번 실행에서 블록에 배정한 행 수 (출력 전 블록 포함)
+    private long blocksStarted;
+    private long plannedRows; // 정렬 컬럼 범위 기준 전체 행 수 (0이면 생성 요청 행 수)
+
+    private GenerationState(long seed, long nextPrimaryKey, UniqueValueTracker uniqueTracker,
+            long baseRows, long startBlock) {
+        this.seed = seed;
+        this.pkSequence = new AtomicLong(nextPrimaryKey);
+        this.uniqueTracker = uniqueTracker;
+        this.baseRows = baseRows;
+        this.startBlock = startBlock;
+    }
+
+    public static GenerationState fresh(long seed) {
+        return new GenerationState(seed, 1, new UniqueValueTracker(), 0, 0);
+    }
+
+    /**
+     * 체크포인트 시점의 상태를 복원 (append 생성용)
+     */
+    public static GenerationState resume(GenerationCheckpoint checkpoint) {
+        return new GenerationState(
+                checkpoint.getSeed(),
+                checkpoint.getNextPrimaryKey(),
+                new UniqueValueTracker(checkpoint.getUniqueValues()),
+                checkpoint.getRowsGenerated(),
+                checkpoint.getNextBlock());
+    }
+
+    /**
+     * 다음 RNG 블록 번호를 할당 (블록은 최대 {@link #RNG_BLOCK_SIZE} 행)
+     */
+    public long nextBlock() {
+        return startBlock + blocksStarted++;
+    }
+
+    /**
+     * 다음 블록의 rows 행을 배정하고 첫 행의 전체 기준 위치를 반환 (체크포인트 이후 출력 행 수 기준)
+     */
+    public long startRows(int rows) {
+        long first = baseRows + rowsStarted;
+        rowsStarted += rows;
+        return first;
+    }
+
+    /**
+     * 마지막으로 배정한 블록에서 출력하지 않은 뒷부분 반납 (바이트 예산 생성용)
+     *
+     * 행 배정과 순차 PK를 출력한 행까지로 되돌리고, 한 행도 출력하지 않았으면 블록 번호도 돌려준다.
+     * 버린 행의 Unique 값 기록은 남는다 (다시 나오지 않을 뿐 유일성은 지켜짐).
+     *
+     * @param blockRows  블록에 배정한 행 수
+     * @param written    그중 출력한 앞쪽 행 수
+     * @param primaryKey 블록 생성 전의 PK 시퀀스 값
+     */
+    public void discardTail(int blockRows, int written, long primaryKey) {
+        rowsStarted -= blockRows - written;
+        if (written == 0) {
+            blocksStarted--;
+        }
+        long keysPerRow = (pkSequence.get() - primaryKey) / blockRows; // 순차 PK 컬럼 수
+        pkSequence.set(primaryKey + keysPerRow * written);
+    }
+
+    /**
+     * 정렬 컬럼의 값 범위를 나눌 전체 행 수 지정 - 여러 번의 생성 호출(청크)이 하나의 정렬 구간을 이룰 때 사용
+     */
+    public void planRows(long totalRows) {
+        this.plannedRows = totalRows;
+    }
+
+    /**
+     * 출력된 행 수 기록 (체크포인트의 rowsGenerated 기준)
+     */
+    public void rowEmitted() {
+        rowsInRun++;
+    }
+
+    /**
+     * 여러 행을 한 번에 기록 (열 배치 출력용)
+     */
+    public void rowsEmitted(long rows) {
+        rowsInRun += rows;
+    }
+
+    /**
+     * 블록 내 한 컬럼(또는 상관 그룹/규칙)의 난수 스트림
+     */
+    public Random streamRandom(String tableName, String streamKey, long block) {
+        return new Random(mixSeed(streamSeed(seed, tableName, streamKey), block));
+    }
+
+    /**
+     * (seed, table, stream key)에서 파생한 스트림 시드 - 문자열 해시는 FNV-1a 64
+     */
+    public static long streamSeed(long seed, String tableName, String streamKey) {
+        long hash = 0xCBF29CE484222325L;
+        String key = tableName + '\u0000' + streamKey;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mixSeed(seed, hash);
+    }
+
+    public long getRowsGenerated() {
+        return baseRows + rowsInRun;
+    }
+
+    /**
+     * 현재까지 사용한 블록의 다음 블록 번호
+     */
+    public long getNextBlock() {
+        return startBlock + blocksStarted;
+    }
+
+    public GenerationCheckpoint toCheckpoint(String checkpointId, String tableName) {
+        return GenerationCheckpoint.builder()
+                .checkpointId(checkpointId)
+                .tableName(tableName)
+                .seed(seed)
+                .rowsGenerated(getRowsGenerated())
+                .nextBlock(getNextBlock())
+                .nextPrimaryKey(pkSequence.get())
+                .uniqueValues(uniqueTracker.snapshot())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * SplitMix64 기반 시드 혼합
+     */
+    static long mixSeed(long seed, long salt) {
+        long z = seed + 0x9E3779B97F4A7C15L * (salt + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
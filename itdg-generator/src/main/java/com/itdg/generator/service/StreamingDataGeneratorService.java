@@ -3,28 +3,58 @@ package com.itdg.generator.service;
 import com.itdg.common.dto.metadata.ColumnMetadata;
 import com.itdg.common.dto.metadata.TableMetadata;
 import com.itdg.generator.constraint.UniqueValueTracker;
+import com.itdg.generator.filter.ConditionedSampler;
+import com.itdg.generator.output.ByteBudget;
+import com.itdg.generator.pattern.generators.UuidGenerator;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.pool.ValuePoolCache;
+import com.itdg.generator.statistics.SortedColumnSampler;
 import com.itdg.generator.strategy.DataGeneratorStrategy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
  * 스트리밍 기반 대용량 데이터 생성 서비스
  * 
- * 메모리 효율: O(1) - 한 번에 한 Row만 메모리에 존재
+ * 메모리 효율: O(1) - 한 번에 한 RNG 블록(최대 1024행)만 메모리에 존재
  * 100만 건 생성해도 메모리 ~50MB 고정
+ *
+ * 블록 단위로 컬럼별 값 벡터를 만든 뒤 행으로 조립한다. 컬럼마다 독립된 난수 스트림을 쓰므로
+ * 생성 컬럼이 {@link #PARALLEL_COLUMN_THRESHOLD}개 이상인 넓은 테이블은 컬럼을 병렬로 생성한다.
+ * 풀이 켜져 있으면({@link ValuePoolCache#isEnabled()}) 풀링 가능한 전략({@link DataGeneratorStrategy#poolable()})의
+ * Unique가 아닌 컬럼은 {@link ValuePoolCache}의 공유 풀에서 인덱스로 값을 뽑는다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StreamingDataGeneratorService {
 
+    /** 이 개수 이상의 컬럼을 생성하는 테이블은 블록 내 컬럼을 병렬 생성 */
+    static final int PARALLEL_COLUMN_THRESHOLD = 32;
+
+    /** 바이트 예산 생성 시 평균 행 크기를 재는 보정 배치 크기 */
+    static final int CALIBRATION_ROWS = GenerationState.RNG_BLOCK_SIZE;
+
     private final List<DataGeneratorStrategy> strategies;
+    private final ValuePoolCache poolCache; // null이거나 꺼져 있으면 풀 미사용
+
+    public StreamingDataGeneratorService(List<DataGeneratorStrategy> strategies) {
+        this(strategies, null);
+    }
+
+    @Autowired
+    public StreamingDataGeneratorService(List<DataGeneratorStrategy> strategies, ValuePoolCache poolCache) {
+        this.strategies = strategies;
+        this.poolCache = poolCache;
+    }
 
     /**
      * Stream 기반 대용량 데이터 생성
@@ -36,21 +66,128 @@ public class StreamingDataGeneratorService {
      */
     public Stream<Map<String, Object>> generateDataStream(
             TableMetadata table,
-            int rowCount,
+            long rowCount,
             long seed) {
 
-        log.info("Starting streaming data generation for table: {}, rows: {}, seed: {}",
-                table.getTableName(), rowCount, seed);
+        return generateDataStream(table, rowCount, GenerationState.fresh(seed));
+    }
+
+    /**
+     * 주어진 생성 상태에서 이어서 생성 (체크포인트 기반 append)
+     *
+     * @param state 생성 상태 - 스트림 소비가 끝나면 {@link GenerationState#toCheckpoint}로 저장 가능
+     */
+    public Stream<Map<String, Object>> generateDataStream(
+            TableMetadata table,
+            long rowCount,
+            GenerationState state) {
 
-        Random random = new Random(seed);
-        UniqueValueTracker uniqueTracker = new UniqueValueTracker();
-        AtomicLong pkSequence = new AtomicLong(1);
+        return generateDataStream(TablePlan.compile(table), rowCount, state); // 규칙은 스트림당 한 번만 컴파일
+    }
+
+    /**
+     * 컴파일된 계획으로 생성 - 컬럼 선택/조건({@link com.itdg.generator.plan.Selection})을 반영한 계획이면
+     * 선택되지 않은 컬럼은 생성하지 않고, 조건 컬럼은 조건을 만족하는 값만 생성한다.
+     */
+    public Stream<Map<String, Object>> generateDataStream(
+            TablePlan plan,
+            long rowCount,
+            GenerationState state) {
+
+        log.info("Starting streaming data generation for table: {}, rows: {}, seed: {}, offset: {}",
+                plan.getTable().getTableName(), rowCount, state.getSeed(), state.getRowsGenerated());
 
         // 컬럼이 하나도 없으면 루프가 안 돌아서 빈 Row가 생성되지만,
         // 굳이 기본값을 강제 주입하지 않고 그대로 둠 (사용자 요청: 학습 결과에 맡김)
 
-        return IntStream.range(0, rowCount)
-                .mapToObj(i -> generateRow(table, random, uniqueTracker, pkSequence));
+        long blocks = (rowCount + GenerationState.RNG_BLOCK_SIZE - 1) / GenerationState.RNG_BLOCK_SIZE;
+        if (state.getPlannedRows() == 0) {
+            state.planRows(state.getBaseRows() + rowCount); // 같은 상태의 이후 호출도 같은 정렬 구간 사용
+        }
+        long plannedRows = state.getPlannedRows();
+
+        // 행 수는 long - 블록 인덱스도 long 스트림으로 순회 (int 범위를 넘는 테이블 지원)
+        return LongStream.range(0, blocks)
+                .mapToObj(b -> generateBlock(plan, state, plannedRows,
+                        (int) Math.min(GenerationState.RNG_BLOCK_SIZE, rowCount - b * GenerationState.RNG_BLOCK_SIZE)))
+                .flatMap(List::stream)
+                .map(plan::project)
+                .peek(row -> state.rowEmitted());
+    }
+
+    /**
+     * 행 수 대신 바이트 예산이 찰 때까지 생성 (출력 크기 기준 부하 테스트용)
+     *
+     * 같은 시드의 별도 상태로 보정 배치를 인코딩해 평균 행 크기를 잰 뒤, RNG 블록 단위로 이어서 생성하므로
+     * 같은 행 수로 한 번에 생성한 결과와 같다. 다음 행이 예산을 넘으면 그 행은 버리고 종료한다.
+     * 행 수는 예산에 들어가 기록된 행만 세고, 마지막 블록의 기록하지 않은 행은 상태에 반납하므로
+     * ({@link GenerationState#discardTail}) 이후 체크포인트는 기록한 행까지만 생성한 것과 같다.
+     * 정렬 컬럼의 전체 행 수는 보정 추정치를 쓴다 ({@link GenerationState#planRows}를 미리 지정하지 않은 경우).
+     *
+     * @param encoder 행 → 출력 바이트 (구분자 포함)
+     * @param sink    예산 안에 들어간 행의 바이트
+     */
+    public void generateWithinBudget(
+            TablePlan plan,
+            GenerationState state,
+            ByteBudget budget,
+            Function<Map<String, Object>, byte[]> encoder,
+            Consumer<byte[]> sink) {
+
+        budget.calibrate(generateDataStream(plan, CALIBRATION_ROWS, GenerationState.fresh(state.getSeed()))
+                .mapToInt(row -> encoder.apply(row).length)
+                .average()
+                .orElse(1.0));
+        if (state.getPlannedRows() == 0) {
+            state.planRows(state.getBaseRows() + budget.estimateRemainingRows());
+        }
+
+        long plannedRows = state.getPlannedRows();
+
+        while (!budget.isExhausted()) {
+            long primaryKey = state.getPkSequence().get();
+            List<Map<String, Object>> block = generateBlock(plan, state, plannedRows,
+                    GenerationState.RNG_BLOCK_SIZE);
+            int written = 0;
+            for (Map<String, Object> row : block) {
+                byte[] bytes = encoder.apply(plan.project(row));
+                if (!budget.tryConsume(bytes.length)) {
+                    break;
+                }
+                sink.accept(bytes);
+                state.rowEmitted();
+                written++;
+            }
+            if (written < block.size()) {
+                state.discardTail(block.size(), written, primaryKey);
+            }
+        }
+        log.info("Byte-targeted generation completed for table: {}, rows: {}, bytes: {} / {}",
+                plan.getTable().getTableName(), budget.getRows(), budget.getBytesUsed(), budget.getTargetBytes());
+    }
+
+    /**
+     * 열 배치 단위 생성 (Parquet 등 컬럼형 출력용) - RNG 블록마다 출력 컬럼별 값 벡터를 그대로 넘기며,
+     * 같은 상태와 행 수의 {@link #generateDataStream(TablePlan, long, GenerationState)}와 같은 값을 같은 순서로 만든다.
+     */
+    public Stream<ColumnBatch> generateBatchStream(
+            TablePlan plan,
+            long rowCount,
+            GenerationState state) {
+
+        log.info("Starting columnar data generation for table: {}, rows: {}, seed: {}, offset: {}",
+                plan.getTable().getTableName(), rowCount, state.getSeed(), state.getRowsGenerated());
+
+        long blocks = (rowCount + GenerationState.RNG_BLOCK_SIZE - 1) / GenerationState.RNG_BLOCK_SIZE;
+        if (state.getPlannedRows() == 0) {
+            state.planRows(state.getBaseRows() + rowCount); // 같은 상태의 이후 호출도 같은 정렬 구간 사용
+        }
+        long plannedRows = state.getPlannedRows();
+
+        return LongStream.range(0, blocks)
+                .mapToObj(b -> generateBatch(plan, state, plannedRows,
+                        (int) Math.min(GenerationState.RNG_BLOCK_SIZE, rowCount - b * GenerationState.RNG_BLOCK_SIZE)))
+                .peek(batch -> state.rowsEmitted(batch.rows()));
     }
 
     /**
@@ -59,86 +196,260 @@ public class StreamingDataGeneratorService {
      */
     public Iterator<Map<String, Object>> generateDataIterator(
             TableMetadata table,
-            int rowCount,
+            long rowCount,
             long seed) {
 
         return generateDataStream(table, rowCount, seed).iterator();
     }
 
     /**
-     * 단일 Row 생성
+     * 한 RNG 블록 생성 - 컬럼별 값 벡터를 만든 뒤 선언 순서대로 행을 조립
      */
-    private Map<String, Object> generateRow(
-            TableMetadata table,
-            Random random,
-            UniqueValueTracker uniqueTracker,
-            AtomicLong pkSequence) {
+    private List<Map<String, Object>> generateBlock(TablePlan plan, GenerationState state, long plannedRows,
+            int rows) {
+        long block = state.nextBlock();
+        return assembleRows(plan, state, block, sampleVectors(plan, state, plannedRows, rows, block), rows);
+    }
 
-        Map<String, Object> row = new LinkedHashMap<>(); // 순서 유지
+    /**
+     * 한 RNG 블록을 열 배치로 생성 - 계획 컬럼(파생/상관)이 있을 때만 행을 조립해 계산한 뒤 벡터로 되돌린다
+     */
+    private ColumnBatch generateBatch(TablePlan plan, GenerationState state, long plannedRows, int rows) {
+        long block = state.nextBlock();
+        List<ColumnMetadata> columns = plan.getColumns();
+        Object[][] vectors = sampleVectors(plan, state, plannedRows, rows, block);
+        if (columns.stream().anyMatch(plan::isPlanned)) {
+            List<Map<String, Object>> completed = assembleRows(plan, state, block, vectors, rows);
+            for (int i = 0; i < columns.size(); i++) {
+                if (plan.isPlanned(columns.get(i))) {
+                    String name = columns.get(i).getName();
+                    Object[] values = new Object[rows];
+                    for (int r = 0; r < rows; r++) {
+                        values[r] = completed.get(r).get(name);
+                    }
+                    vectors[i] = values;
+                }
+            }
+        }
 
-        for (ColumnMetadata column : table.getColumns()) {
-            Object value = null;
-            boolean valid = false;
-            int maxRetries = 10; // Retry 횟수
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            indexes.put(columns.get(i).getName(), i);
+        }
+        List<String> output = plan.getOutputColumns();
+        Object[][] outputVectors = new Object[output.size()][];
+        for (int o = 0; o < output.size(); o++) {
+            Object[] values = vectors[indexes.get(output.get(o))];
+            outputVectors[o] = values != null ? values : new Object[rows];
+        }
+        return new ColumnBatch(output, outputVectors, rows);
+    }
 
-            // 1. Primary Key 처리
-            if (Boolean.TRUE.equals(column.getIsPrimaryKey())) {
-                value = generatePrimaryKey(column, pkSequence);
-                valid = true;
+    /**
+     * 계획 컬럼을 제외한 컬럼의 블록 값 벡터 (계획 컬럼 자리는 null)
+     */
+    private Object[][] sampleVectors(TablePlan plan, GenerationState state, long plannedRows, int rows,
+            long block) {
+        String tableName = plan.getTable().getTableName();
+        List<ColumnMetadata> columns = plan.getColumns();
+        Object[][] vectors = new Object[columns.size()][];
+        long firstRow = state.startRows(rows);
+
+        // PK는 시퀀스를 공유하므로 순차 생성, 나머지 컬럼은 독립 스트림이라 순서와 무관
+        List<Integer> generated = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnMetadata column = columns.get(i);
+            if (plan.isPlanned(column)) {
+                continue;
             }
-            // 2. Foreign Key 처리 (Mock)
-            else if (column.getName().toLowerCase().endsWith("_id")) {
-                value = random.nextInt(100) + 1; // 1-100 범위
-                valid = true;
+            SortedColumnSampler sorted = plan.getSorted(column);
+            ConditionedSampler conditioned = plan.getConditioned(column);
+            if (sorted != null) {
+                // 앞서 출력한 행 수로 전체 정렬 구간 내 위치가 정해짐
+                vectors[i] = sorted.sampleBlock(state.streamRandom(tableName, column.getName(), block),
+                        firstRow, rows, plannedRows);
+            } else if (conditioned != null) {
+                Random random = state.streamRandom(tableName, column.getName(), block);
+                Object[] values = new Object[rows];
+                for (int r = 0; r < rows; r++) {
+                    values[r] = conditioned.sample(random);
+                }
+                vectors[i] = values;
+            } else if (Boolean.TRUE.equals(column.getIsPrimaryKey())) {
+                vectors[i] = generateColumn(column, rows, state.streamRandom(tableName, column.getName(), block),
+                        state.getUniqueTracker(), state.getPkSequence(), 0, firstRow);
+            } else {
+                generated.add(i);
             }
-            // 3. 일반 컬럼 처리
-            else {
-                for (int retry = 0; retry < maxRetries && !valid; retry++) {
-                    value = generateColumnValue(column, random);
-
-                    // Unique 체크
-                    if (Boolean.TRUE.equals(column.getIsUnique())) {
-                        if (!uniqueTracker.isUnique(column.getName(), value)) {
-                            // 마지막 시도면 강제 유니크 값 생성
-                            if (retry == maxRetries - 1) {
-                                value = forceUniqueValue(column, value);
-                            } else {
-                                continue;
-                            }
-                        }
-                    }
+        }
+        IntStream indexes = generated.stream().mapToInt(Integer::intValue);
+        if (generated.size() >= PARALLEL_COLUMN_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> vectors[i] = generateColumn(columns.get(i), rows,
+                state.streamRandom(tableName, columns.get(i).getName(), block),
+                state.getUniqueTracker(), state.getPkSequence(), plan.getKeyRange(columns.get(i)), firstRow));
 
-                    // Not Null 체크
-                    if (!Boolean.TRUE.equals(column.getIsNullable()) && value == null) {
-                        continue;
-                    }
+        return vectors;
+    }
+
+    /**
+     * 값 벡터로 행을 조립하고 계획 컬럼을 계산
+     */
+    private List<Map<String, Object>> assembleRows(TablePlan plan, GenerationState state, long block,
+            Object[][] vectors, int rows) {
+        String tableName = plan.getTable().getTableName();
+        List<ColumnMetadata> columns = plan.getColumns();
+        Map<String, Random> planStreams = new HashMap<>();
+        List<Map<String, Object>> result = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            Map<String, Object> row = new LinkedHashMap<>(); // 순서 유지
+            for (int i = 0; i < columns.size(); i++) {
+                // 계획 컬럼(파생/상관 그룹)은 자리만 잡아두고 마지막에 계산
+                row.put(columns.get(i).getName(), vectors[i] != null ? vectors[i][r] : null);
+            }
+            plan.completeRow(row, key -> planStreams.computeIfAbsent(key,
+                    k -> state.streamRandom(tableName, k, block)));
+            result.add(row);
+        }
+        return result;
+    }
+
+    /**
+     * 한 컬럼의 블록 값 벡터 생성 (컬럼 전용 Random 사용)
+     *
+     * @param keyRange 외래 키 값 상한 - 양수면 값은 부모 PK 범위 1..keyRange ({@link TablePlan#getKeyRange})
+     * @param firstRow 블록 첫 행의 전체 기준 위치 (자기 참조 외래 키의 범위)
+     */
+    private Object[] generateColumn(
+            ColumnMetadata column,
+            int rows,
+            Random random,
+            UniqueValueTracker uniqueTracker,
+            AtomicLong pkSequence,
+            long keyRange,
+            long firstRow) {
 
-                    valid = true;
+        Object[] values = new Object[rows];
+        if (keyRange == TablePlan.SELF_REFERENCE) {
+            boolean nullable = Boolean.TRUE.equals(column.getIsNullable());
+            for (int r = 0; r < rows; r++) {
+                long row = firstRow + r; // 앞서 생성한 행 수 = 이 행보다 작은 PK 수
+                if (row > 0) {
+                    values[r] = random.nextLong(row) + 1;
+                } else if (!nullable) {
+                    values[r] = 1L;
                 }
             }
+            return values;
+        }
+        if (keyRange > 0) {
+            for (int r = 0; r < rows; r++) {
+                values[r] = random.nextLong(keyRange) + 1;
+            }
+            return values;
+        }
+        Function<Random, Object> source = valueSource(column); // 전략 선택은 블록당 한 번
+        for (int r = 0; r < rows; r++) {
+            values[r] = generateValue(column, source, random, uniqueTracker, pkSequence);
+        }
+        return values;
+    }
 
-            // Fallback: 여전히 유효하지 않다면 기본값 사용
-            if (!valid) {
-                if (Boolean.TRUE.equals(column.getIsNullable())) {
-                    value = null; // Nullable이면 null 허용
-                } else {
-                    value = getDefaultValue(column);
-                    // 기본값도 Unique여야 한다면 강제 변환
-                    if (Boolean.TRUE.equals(column.getIsUnique())) {
-                        value = forceUniqueValue(column, value);
+    /**
+     * 컬럼 값 공급원 결정 (Strategy Pattern 적용) - 풀링 가능한 전략이면 공유 풀에서 추출
+     */
+    private Function<Random, Object> valueSource(ColumnMetadata column) {
+        for (DataGeneratorStrategy strategy : strategies) {
+            if (strategy.supports(column)) {
+                if (poolCache != null && poolCache.isEnabled() && strategy.poolable() && isPoolCandidate(column)) {
+                    return poolCache.get(strategy, column)::sample;
+                }
+                return random -> strategy.generate(column, random);
+            }
+        }
+        // 기본값
+        return random -> generateDefaultByType(column, random);
+    }
+
+    /**
+     * 풀은 값이 반복되므로 Unique 컬럼과 PK/FK 처리 대상 컬럼은 제외
+     */
+    private boolean isPoolCandidate(ColumnMetadata column) {
+        return !Boolean.TRUE.equals(column.getIsUnique())
+                && !Boolean.TRUE.equals(column.getIsPrimaryKey())
+                && !column.getName().toLowerCase().endsWith("_id");
+    }
+
+    /**
+     * 단일 셀 값 생성 (PK/FK/Unique/Not Null 처리 포함)
+     */
+    private Object generateValue(
+            ColumnMetadata column,
+            Function<Random, Object> source,
+            Random random,
+            UniqueValueTracker uniqueTracker,
+            AtomicLong pkSequence) {
+
+        Object value = null;
+        boolean valid = false;
+        int maxRetries = 10; // Retry 횟수
+
+        // 1. Primary Key 처리
+        if (Boolean.TRUE.equals(column.getIsPrimaryKey())) {
+            value = generatePrimaryKey(column, pkSequence, random);
+            valid = true;
+        }
+        // 2. Foreign Key 처리 (Mock - 부모 PK 범위를 알면 generateColumn에서 그 범위로 생성)
+        else if (column.getName().toLowerCase().endsWith("_id")) {
+            value = random.nextInt(100) + 1; // 1-100 범위
+            valid = true;
+        }
+        // 3. 일반 컬럼 처리
+        else {
+            for (int retry = 0; retry < maxRetries && !valid; retry++) {
+                value = source.apply(random);
+
+                // Unique 체크
+                if (Boolean.TRUE.equals(column.getIsUnique())) {
+                    if (!uniqueTracker.isUnique(column.getName(), value)) {
+                        // 마지막 시도면 강제 유니크 값 생성
+                        if (retry == maxRetries - 1) {
+                            value = forceUniqueValue(column, value);
+                        } else {
+                            continue;
+                        }
                     }
                 }
+
+                // Not Null 체크
+                if (!Boolean.TRUE.equals(column.getIsNullable()) && value == null) {
+                    continue;
+                }
+
+                valid = true;
             }
+        }
 
-            // 최종 값 Unique 등록 (필수)
-            if (Boolean.TRUE.equals(column.getIsUnique()) && value != null) {
-                uniqueTracker.add(column.getName(), value);
+        // Fallback: 여전히 유효하지 않다면 기본값 사용
+        if (!valid) {
+            if (Boolean.TRUE.equals(column.getIsNullable())) {
+                value = null; // Nullable이면 null 허용
+            } else {
+                value = getDefaultValue(column);
+                // 기본값도 Unique여야 한다면 강제 변환
+                if (Boolean.TRUE.equals(column.getIsUnique())) {
+                    value = forceUniqueValue(column, value);
+                }
             }
+        }
 
-            row.put(column.getName(), value);
+        // 최종 값 Unique 등록 (필수)
+        if (Boolean.TRUE.equals(column.getIsUnique()) && value != null) {
+            uniqueTracker.add(column.getName(), value);
         }
 
-        return row;
+        return value;
     }
 
     /**
@@ -160,26 +471,13 @@ public class StreamingDataGeneratorService {
     /**
      * Primary Key 생성
      */
-    private Object generatePrimaryKey(ColumnMetadata column, AtomicLong pkSequence) {
+    private Object generatePrimaryKey(ColumnMetadata column, AtomicLong pkSequence, Random random) {
         String type = column.getDataType().toUpperCase();
         if (Boolean.TRUE.equals(column.getIsAutoIncrement()) ||
                 type.contains("INT") || type.contains("SERIAL") || type.contains("LONG")) {
             return pkSequence.getAndIncrement();
         }
-        return UUID.randomUUID().toString();
-    }
-
-    /**
-     * 컬럼 값 생성 (Strategy Pattern 적용)
-     */
-    private Object generateColumnValue(ColumnMetadata column, Random random) {
-        for (DataGeneratorStrategy strategy : strategies) {
-            if (strategy.supports(column)) {
-                return strategy.generate(column, random);
-            }
-        }
-        // 기본값
-        return generateDefaultByType(column, random);
+        return UuidGenerator.randomUuid(random).toString();
     }
 
     /**
@@ -202,7 +500,7 @@ public class StreamingDataGeneratorService {
         }
         // VARCHAR, TEXT 등
         int length = column.getLength() != null && column.getLength() > 0 ? Math.min(column.getLength(), 20) : 10;
-        return UUID.randomUUID().toString().substring(0, length);
+        return UuidGenerator.randomUuid(random).toString().substring(0, length);
     }
 
     /**
@@ -0,0 +1,206 @@
+package com.itdg.generator.statistics;
+
+import com.itdg.common.dto.metadata.ColumnDistribution;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.CorrelationGroup;
+import com.itdg.generator.strategy.StatisticalStrategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 상관 그룹 샘플러 (가우시안 코퓰러)
+ *
+ * 계획 수립 시 상관행렬의 Cholesky 인수 L을 한 번 계산하고, 행마다 독립 표준정규 벡터 z를 뽑아
+ * x = Lz 로 상관을 입힌 뒤 컬럼별 주변 분포로 변환한다. 행당 비용은 O(k²) 곱셈과 k번의 분포 변환뿐이다.
+ * 절단(min/max)은 재시도 없이 역CDF로 처리하므로 순위 상관이 그대로 유지된다.
+ */
+public final class CorrelatedSampler {
+
+    private final String[] columns;
+    private final boolean[] integral;
+    private final double[][] cholesky;
+    private final Marginal[] marginals;
+
+    private CorrelatedSampler(String[] columns, boolean[] integral, double[][] cholesky, Marginal[] marginals) {
+        this.columns = columns;
+        this.integral = integral;
+        this.cholesky = cholesky;
+        this.marginals = marginals;
+    }
+
+    /**
+     * @param tableColumns 그룹 컬럼 이름으로 찾을 테이블 컬럼
+     * @throws IllegalArgumentException 행렬 크기/대칭/양의 정부호 위반, 알 수 없는 컬럼, 분포 누락
+     */
+    public static CorrelatedSampler compile(CorrelationGroup group, Map<String, ColumnMetadata> tableColumns) {
+        List<String> names = group.getColumns();
+        if (names == null || names.size() < 2) {
+            throw new IllegalArgumentException("Correlation group needs at least two columns");
+        }
+        int k = names.size();
+        double[][] matrix = toMatrix(group.getMatrix(), k);
+
+        String[] columns = names.toArray(new String[0]);
+        boolean[] integral = new boolean[k];
+        Marginal[] marginals = new Marginal[k];
+        for (int i = 0; i < k; i++) {
+            ColumnMetadata column = tableColumns.get(columns[i]);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column in correlation group: " + columns[i]);
+            }
+            String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase();
+            integral[i] = type.contains("INT") || type.contains("SERIAL") || type.contains("LONG");
+            ColumnDistribution distribution = group.getMarginals() != null ? group.getMarginals().get(columns[i])
+                    : null;
+            if (distribution == null) {
+                distribution = StatisticalStrategy.defaultDistribution(columns[i]);
+            }
+            if (distribution == null) {
+                throw new IllegalArgumentException("No marginal distribution for correlated column: " + columns[i]);
+            }
+            marginals[i] = Marginal.of(columns[i], distribution);
+        }
+        return new CorrelatedSampler(columns, integral, decompose(matrix), marginals);
+    }
+
+    public String[] getColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * 이 그룹 전용 난수 스트림 키
+     */
+    public String getStreamKey() {
+        return "corr:" + String.join(",", columns);
+    }
+
+    /**
+     * 한 행 분량의 상관 벡터를 뽑아 row에 채움
+     */
+    public void sample(Random random, Map<String, Object> row) {
+        int k = columns.length;
+        double[] z = new double[k];
+        for (int i = 0; i < k; i++) {
+            z[i] = random.nextGaussian();
+        }
+        for (int i = 0; i < k; i++) {
+            double[] li = cholesky[i];
+            double x = 0;
+            for (int j = 0; j <= i; j++) {
+                x += li[j] * z[j];
+            }
+            double value = marginals[i].fromStandardNormal(x);
+            row.put(columns[i], integral[i] ? (Object) Math.round(value) : (Object) value);
+        }
+    }
+
+    private static double[][] toMatrix(List<List<Double>> rows, int k) {
+        if (rows == null || rows.size() != k) {
+            throw new IllegalArgumentException("Correlation matrix must be " + k + "x" + k);
+        }
+        double[][] matrix = new double[k][k];
+        for (int i = 0; i < k; i++) {
+            List<Double> row = rows.get(i);
+            if (row == null || row.size() != k) {
+                throw new IllegalArgumentException("Correlation matrix must be " + k + "x" + k);
+            }
+            for (int j = 0; j < k; j++) {
+                matrix[i][j] = row.get(j);
+            }
+        }
+        for (int i = 0; i < k; i++) {
+            if (Math.abs(matrix[i][i] - 1.0) > 1e-9) {
+                throw new IllegalArgumentException("Correlation matrix diagonal must be 1");
+            }
+            for (int j = 0; j < i; j++) {
+                if (Math.abs(matrix[i][j] - matrix[j][i]) > 1e-9 || Math.abs(matrix[i][j]) > 1) {
+                    throw new IllegalArgumentException("Correlation matrix must be symmetric with values in [-1, 1]");
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Cholesky–Banachiewicz 분해 (하삼각 L, LLᵀ = matrix)
+     */
+    static double[][] decompose(double[][] matrix) {
+        int k = matrix.length;
+        double[][] l = new double[k][];
+        for (int i = 0; i < k; i++) {
+            l[i] = new double[i + 1];
+            for (int j = 0; j <= i; j++) {
+                double sum = matrix[i][j];
+                for (int m = 0; m < j; m++) {
+                    sum -= l[i][m] * l[j][m];
+                }
+                if (i == j) {
+                    if (sum <= 1e-12) {
+                        throw new IllegalArgumentException("Correlation matrix must be positive definite");
+                    }
+                    l[i][i] = Math.sqrt(sum);
+                } else {
+                    l[i][j] = sum / l[j][j];
+                }
+            }
+        }
+        return l;
+    }
+
+    /**
+     * 표준정규 값 → 컬럼 주변 분포 값
+     */
+    private record Marginal(String type, double location, double scale, double lowerP, double upperP,
+            double min, double max) {
+
+        static Marginal of(String column, ColumnDistribution d) {
+            String type = d.getType() == null ? "NORMAL" : d.getType().toUpperCase();
+            double min = d.getMin() != null ? d.getMin() : Double.NEGATIVE_INFINITY;
+            double max = d.getMax() != null ? d.getMax() : Double.POSITIVE_INFINITY;
+            if (min > max) {
+                throw new IllegalArgumentException("min > max for correlated column: " + column);
+            }
+            switch (type) {
+                case "UNIFORM" -> {
+                    if (Double.isInfinite(min) || Double.isInfinite(max)) {
+                        throw new IllegalArgumentException("UNIFORM marginal needs min and max: " + column);
+                    }
+                    return new Marginal(type, 0, 1, 0, 1, min, max);
+                }
+                case "NORMAL", "LOGNORMAL" -> {
+                    double mean = d.getMean() != null ? d.getMean() : 0;
+                    double stdDev = d.getStdDev() != null ? d.getStdDev() : 1;
+                    if (stdDev <= 0) {
+                        throw new IllegalArgumentException("stdDev must be positive: " + column);
+                    }
+                    boolean log = type.equals("LOGNORMAL");
+                    double lo = log ? Math.log(Math.max(min, 0)) : min;
+                    double hi = log ? Math.log(max) : max;
+                    return new Marginal(type, mean, stdDev,
+                            NormalDistribution.cdf((lo - mean) / stdDev),
+                            NormalDistribution.cdf((hi - mean) / stdDev), min, max);
+                }
+                default -> throw new IllegalArgumentException("Unsupported distribution type: " + d.getType());
+            }
+        }
+
+        double fromStandardNormal(double x) {
+            if (type.equals("UNIFORM")) {
+                return min + NormalDistribution.cdf(x) * (max - min);
+            }
+            double z = x;
+            if (lowerP > 0 || upperP < 1) {
+                // 절단 정규: 코퓰러 분위수를 [Φ(a), Φ(b)] 구간으로 옮겨 역변환
+                double p = lowerP + NormalDistribution.cdf(x) * (upperP - lowerP);
+                z = NormalDistribution.inverseCdf(p);
+            }
+            double value = location + scale * z;
+            if (type.equals("LOGNORMAL")) {
+                value = Math.exp(value);
+            }
+            return Math.min(max, Math.max(min, value));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.itdg.generator.statistics;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.ColumnOrdering;
+
+import java.util.Random;
+
+/**
+ * 정렬 컬럼 샘플러 - 정렬 단계 없이 처음부터 정렬된 값을 생성
+ *
+ * 전체 N행의 값 범위를 분위수 [0, 1)로 보고, 출력 행 위치 o에서 시작하는 블록은 자기 행 구간에 해당하는
+ * 분위수 구간 [o/N, (o + rows)/N)을 맡는다. 블록 안에서는 지수 간격(exponential spacings)
+ * S_j / S_{rows+1}로 구간 내 균등 순서통계량을 만들어 값으로 변환한다.
+ * 위치는 블록 번호가 아니라 실제로 출력한 행 수 기준이라 블록 경계가 아닌 체크포인트에서 재개해도
+ * 구간이 겹치지 않는다. N은 계획마다 한 번 정해지며, N을 넘는 행은 범위 끝 값으로 고정되어 정렬이 유지된다.
+ * 메모리는 블록 하나 크기이고, 같은 시드와 위치면 체크포인트 재개 후에도 같은 값이 나온다.
+ */
+public final class SortedColumnSampler {
+
+    private final String column;
+    private final ValueRange range;
+    private final boolean descending;
+
+    private SortedColumnSampler(String column, ValueRange range, boolean descending) {
+        this.column = column;
+        this.range = range;
+        this.descending = descending;
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 타입, 잘못된 범위, PK/Unique 컬럼
+     */
+    public static SortedColumnSampler compile(ColumnMetadata column) {
+        ColumnOrdering ordering = column.getSorted();
+        if (Boolean.TRUE.equals(column.getIsPrimaryKey()) || Boolean.TRUE.equals(column.getIsUnique())) {
+            throw new IllegalArgumentException(
+                    "Sorted generation cannot be combined with primary key or unique column: " + column.getName());
+        }
+        if (ValueRange.kindOf(column) == null) {
+            throw new IllegalArgumentException(
+                    "Sorted generation is not supported for type " + column.getDataType() + ": " + column.getName());
+        }
+        ValueRange range;
+        try {
+            range = ValueRange.of(column, ordering.getMin(), ordering.getMax());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid sorted range for column " + column.getName() + ": " + e.getMessage(), e);
+        }
+        return new SortedColumnSampler(column.getName(), range, Boolean.TRUE.equals(ordering.getDescending()));
+    }
+
+    /**
+     * 범위를 좁힌 샘플러 (범위 조건과 함께 쓰일 때)
+     */
+    public SortedColumnSampler narrow(double lower, double upper) {
+        return new SortedColumnSampler(column, range.narrow(lower, upper, column), descending);
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public ValueRange getRange() {
+        return range;
+    }
+
+    /**
+     * 한 블록의 정렬된 값 벡터
+     *
+     * @param firstRow  블록 첫 행의 전체 기준 위치 (앞서 출력한 행 수)
+     * @param totalRows 값 범위를 나눌 전체 행 수 (계획마다 고정)
+     */
+    public Object[] sampleBlock(Random random, long firstRow, int rows, long totalRows) {
+        double total = Math.max(1, totalRows);
+        double[] quantiles = blockQuantiles(random, Math.min(firstRow, totalRows) / total,
+                Math.min(firstRow + rows, totalRows) / total, rows);
+        Object[] values = new Object[rows];
+        for (int r = 0; r < rows; r++) {
+            values[r] = range.at(descending ? 1.0 - quantiles[r] : quantiles[r]);
+        }
+        return values;
+    }
+
+    /**
+     * (lo, hi) 구간의 균등 순서통계량 rows개 - 지수 간격의 누적합을 전체 합으로 정규화
+     */
+    static double[] blockQuantiles(Random random, double lo, double hi, int rows) {
+        double[] sums = new double[rows];
+        double sum = 0.0;
+        for (int j = 0; j < rows; j++) {
+            sum += -Math.log(1.0 - random.nextDouble());
+            sums[j] = sum;
+        }
+        sum += -Math.log(1.0 - random.nextDouble()); // 마지막 간격 (구간 상한까지)
+        double width = hi - lo;
+        for (int j = 0; j < rows; j++) {
+            sums[j] = lo + width * (sums[j] / sum);
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,219 @@
+package com.itdg.generator.statistics;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 숫자/날짜 컬럼의 값 범위 - 값을 실수 단위(정수 값, epoch day, 초)로 다뤄 분위수와 값 사이를 변환
+ *
+ * 정렬 생성({@link SortedColumnSampler})과 범위 조건 생성이 공용으로 사용한다.
+ * 기본 범위는 같은 타입의 일반 생성 전략(NumericGeneratorStrategy, DateTimeGeneratorStrategy)과 맞춘다.
+ */
+public final class ValueRange {
+
+    public enum Kind {
+        INTEGER, LONG, DOUBLE, DECIMAL, DATE, TIME, TIMESTAMP;
+
+        public boolean isIntegral() {
+            return this != DOUBLE && this != DECIMAL;
+        }
+
+        public boolean isNumeric() {
+            return this == INTEGER || this == LONG || this == DOUBLE || this == DECIMAL;
+        }
+    }
+
+    private static final int DECIMAL_SCALE = 2;
+
+    private final Kind kind;
+    private final double min;
+    private final double max;
+
+    private ValueRange(Kind kind, double min, double max) {
+        this.kind = kind;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * @param min 하한 리터럴 (null이면 타입 기본값)
+     * @param max 상한 리터럴 (null이면 타입 기본값)
+     * @throws IllegalArgumentException 지원하지 않는 타입, 잘못된 리터럴, min > max
+     */
+    public static ValueRange of(ColumnMetadata column, String min, String max) {
+        Kind kind = kindOf(column);
+        if (kind == null) {
+            throw new IllegalArgumentException(
+                    "Range is not supported for type " + column.getDataType() + ": " + column.getName());
+        }
+        double lo = min != null ? toUnits(kind, min) : defaultMin(kind);
+        double hi = max != null ? toUnits(kind, max) : defaultMax(kind);
+        return new ValueRange(kind, lo, hi).validated(column.getName());
+    }
+
+    /**
+     * 범위 값을 지원하는 타입이면 Kind, 아니면 null
+     */
+    public static Kind kindOf(ColumnMetadata column) {
+        String type = column.getDataType() == null ? "" : column.getDataType().toUpperCase();
+        if (type.contains("BIGINT") || type.contains("LONG") || type.contains("BIGSERIAL")) {
+            return Kind.LONG;
+        }
+        if (type.contains("INT") || type.contains("SERIAL")) {
+            return Kind.INTEGER;
+        }
+        if (type.contains("DOUBLE") || type.contains("FLOAT") || type.contains("REAL")) {
+            return Kind.DOUBLE;
+        }
+        if (type.contains("DECIMAL") || type.contains("NUMERIC") || type.contains("NUMBER")) {
+            return Kind.DECIMAL;
+        }
+        if (type.equals("DATE")) {
+            return Kind.DATE;
+        }
+        if (type.startsWith("TIME") && !type.contains("STAMP")) {
+            return Kind.TIME;
+        }
+        if (type.contains("DATE") || type.contains("TIME")) {
+            return Kind.TIMESTAMP;
+        }
+        return null;
+    }
+
+    /**
+     * 리터럴 → 실수 단위
+     *
+     * @throws IllegalArgumentException 타입에 맞지 않는 리터럴
+     */
+    public static double toUnits(Kind kind, String text) {
+        String value = text.trim();
+        try {
+            return switch (kind) {
+                case INTEGER, LONG -> Long.parseLong(value);
+                case DOUBLE, DECIMAL -> Double.parseDouble(value);
+                case DATE -> LocalDate.parse(value).toEpochDay();
+                case TIME -> LocalTime.parse(value).toSecondOfDay();
+                case TIMESTAMP -> (value.length() == 10 ? LocalDate.parse(value).atStartOfDay()
+                        : LocalDateTime.parse(value)).toEpochSecond(ZoneOffset.UTC);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + kind + " value '" + text + "'", e);
+        }
+    }
+
+    /**
+     * 유한한 경계로 하한/상한을 교체한 범위. 한쪽만 주어져 기본 범위를 벗어나면 반대쪽 기본값을
+     * 같은 폭만큼 옮긴다 (예: INT 기본 [0, 9999]에서 x &gt; 20000 → [20001, 30000]).
+     *
+     * @throws IllegalArgumentException 결과가 비어 있음
+     */
+    public ValueRange withBounds(double lower, double upper, String column) {
+        double span = max - min;
+        double lo = Double.isInfinite(lower) ? min : lower;
+        double hi = Double.isInfinite(upper) ? max : upper;
+        if (Double.isInfinite(upper) && lo > hi) {
+            hi = lo + span;
+        }
+        if (Double.isInfinite(lower) && lo > hi) {
+            lo = hi - span;
+        }
+        if (kind.isIntegral()) {
+            lo = Math.ceil(lo);
+            hi = Math.floor(hi);
+        }
+        return new ValueRange(kind, lo, hi).validated(column);
+    }
+
+    /**
+     * 하한/상한을 좁힌 범위 (정수형은 정수 경계로 맞춤)
+     *
+     * @throws IllegalArgumentException 좁힌 결과가 비어 있음
+     */
+    public ValueRange narrow(double lower, double upper, String column) {
+        double lo = Math.max(min, kind.isIntegral() ? Math.ceil(lower) : lower);
+        double hi = Math.min(max, kind.isIntegral() ? Math.floor(upper) : upper);
+        return new ValueRange(kind, lo, hi).validated(column);
+    }
+
+    private ValueRange validated(String column) {
+        if (min > max) {
+            throw new IllegalArgumentException("Empty value range for column " + column);
+        }
+        return this;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * 분위수 q ∈ [0, 1) → 값 (단조 증가, 정수형은 상한 포함 균등)
+     */
+    public Object at(double quantile) {
+        double q = Math.min(Math.max(quantile, 0.0), Math.nextDown(1.0));
+        if (kind.isIntegral()) {
+            return fromUnits(min + Math.floor(q * (max - min + 1)));
+        }
+        return fromUnits(min + q * (max - min));
+    }
+
+    /**
+     * 실수 단위 → 컬럼 타입 값 (범위로 잘라냄, 정수형은 내림)
+     */
+    public Object fromUnits(double units) {
+        double v = Math.min(max, Math.max(min, units));
+        return switch (kind) {
+            case INTEGER -> (int) Math.floor(v);
+            case LONG -> (long) Math.floor(v);
+            case DOUBLE -> v;
+            case DECIMAL -> BigDecimal.valueOf(v).setScale(DECIMAL_SCALE, RoundingMode.FLOOR);
+            case DATE -> LocalDate.ofEpochDay((long) Math.floor(v));
+            case TIME -> LocalTime.ofSecondOfDay((long) Math.floor(v));
+            case TIMESTAMP -> LocalDateTime.ofEpochSecond((long) Math.floor(v), 0, ZoneOffset.UTC);
+        };
+    }
+
+    /**
+     * 리터럴 → 컬럼 타입 값 (범위 제한 없음)
+     */
+    public static Object typed(Kind kind, String text) {
+        if (kind == Kind.DECIMAL) {
+            return new BigDecimal(text.trim());
+        }
+        double units = toUnits(kind, text);
+        return new ValueRange(kind, units, units).fromUnits(units);
+    }
+
+    private static double defaultMin(Kind kind) {
+        return switch (kind) {
+            case INTEGER, LONG, DOUBLE, DECIMAL, TIME -> 0;
+            case DATE -> LocalDate.now().minusYears(1).toEpochDay();
+            case TIMESTAMP -> LocalDate.now().minusYears(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        };
+    }
+
+    private static double defaultMax(Kind kind) {
+        return switch (kind) {
+            case INTEGER, LONG, DECIMAL -> 9999;
+            case DOUBLE -> 1000;
+            case TIME -> LocalTime.MAX.toSecondOfDay();
+            case DATE -> LocalDate.now().plusYears(1).toEpochDay() - 1;
+            case TIMESTAMP -> LocalDate.now().plusYears(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC) - 1;
+        };
+    }
+}
@@ -7,4 +7,13 @@ public interface DataGeneratorStrategy {
     Object generate(ColumnMetadata column, Random random);
 
     boolean supports(ColumnMetadata column);
+
+    /**
+     * 값 풀 사용 가능 여부 - 생성 비용이 큰(정규식, 주소 조합 등) 전략 중 결과가 컬럼 설정(타입/길이/패턴)과
+     * Random에만 의존하는 전략만 true. 문자열 하나를 이어 붙이는 정도의 전략은 풀보다 직접 생성이 싸다.
+     * true이고 풀이 켜져 있으면 Unique가 아닌 컬럼은 미리 만든 공유 풀에서 인덱스로 뽑는다. (see ValuePoolCache)
+     */
+    default boolean poolable() {
+        return false;
+    }
 }
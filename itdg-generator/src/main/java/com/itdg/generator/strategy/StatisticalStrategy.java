@@ -1,5 +1,6 @@
 package com.itdg.generator.strategy;
 
+import com.itdg.common.dto.metadata.ColumnDistribution;
 import com.itdg.common.dto.metadata.ColumnMetadata;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -40,26 +41,43 @@ public class StatisticalStrategy implements DataGeneratorStrategy {
 
     @Override
     public Object generate(ColumnMetadata column, Random random) {
-        String name = column.getName().toLowerCase();
+        ColumnDistribution distribution = defaultDistribution(column.getName());
+        if (distribution == null) {
+            return random.nextInt(100);
+        }
+        return (int) generateGaussian(random, distribution.getMean(), distribution.getStdDev(),
+                distribution.getMin(), distribution.getMax());
+    }
+
+    /**
+     * 컬럼 이름 기반 기본 분포 (상관 그룹에서 marginal 미지정 시에도 사용)
+     *
+     * @return 알려진 통계 컬럼이 아니면 null
+     */
+    public static ColumnDistribution defaultDistribution(String columnName) {
+        String name = columnName.toLowerCase();
 
         if (name.contains("age")) {
             // Normal distribution: Mean=35, SD=15, Min=18, Max=90
-            return (int) generateGaussian(random, 35, 15, 18, 90);
+            return normal(35, 15, 18, 90);
         }
         if (name.contains("score") || name.contains("grade")) {
             // Normal distribution: Mean=75, SD=10, Min=0, Max=100
-            return (int) generateGaussian(random, 75, 10, 0, 100);
+            return normal(75, 10, 0, 100);
         }
         if (name.contains("level")) {
             // Skewed low: Mean=10, SD=20, Min=1, Max=99
-            return (int) generateGaussian(random, 10, 20, 1, 99);
+            return normal(10, 20, 1, 99);
         }
         if (name.contains("price") || name.contains("cost")) {
             // Mean=10000, SD=5000, Min=1000
-            return (int) generateGaussian(random, 10000, 5000, 1000, 1000000);
+            return normal(10000, 5000, 1000, 1000000);
         }
+        return null;
+    }
 
-        return random.nextInt(100);
+    private static ColumnDistribution normal(double mean, double stdDev, double min, double max) {
+        return ColumnDistribution.builder().type("NORMAL").mean(mean).stdDev(stdDev).min(min).max(max).build();
     }
 
     private double generateGaussian(Random random, double mean, double stdDev, double min, double max) {
@@ -0,0 +1,67 @@
+package com.itdg.generator.strategy.impl;
+
+import com.itdg.common.dto.metadata.ColumnDistribution;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.lob.LobValue;
+import com.itdg.generator.strategy.DataGeneratorStrategy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Random;
+
+/**
+ * 대용량 TEXT/CLOB/BLOB/JSON 컬럼 전략
+ *
+ * 값은 {@link LobValue}(종류, 시드, 크기)로만 만들고 내용은 출력 시 청크 단위로 생성한다.
+ * 크기는 컬럼 sizeDistribution을 따르며, 없으면 1KB~1MB 로그정규(중앙값 4KB)를 사용한다.
+ * sizeDistribution이 지정된 일반 TEXT/VARCHAR 컬럼도 이 전략으로 생성한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class LobGeneratorStrategy implements DataGeneratorStrategy {
+
+    static final ColumnDistribution DEFAULT_SIZE = ColumnDistribution.builder()
+            .type("LOGNORMAL").mean(Math.log(4096)).stdDev(1.2).min(1024.0).max(1024.0 * 1024).build();
+
+    @Override
+    public boolean supports(ColumnMetadata column) {
+        if (column.getDataType() == null) {
+            return false;
+        }
+        return column.getSizeDistribution() != null || isLobType(column.getDataType().toUpperCase());
+    }
+
+    @Override
+    public Object generate(ColumnMetadata column, Random random) {
+        String type = column.getDataType().toUpperCase();
+        LobValue.Kind kind = type.contains("JSON") ? LobValue.Kind.JSON
+                : type.contains("BLOB") || type.contains("BYTEA") || type.contains("BINARY") ? LobValue.Kind.BLOB
+                        : LobValue.Kind.TEXT;
+        return new LobValue(kind, random.nextLong(), sampleSize(column, random));
+    }
+
+    private static boolean isLobType(String type) {
+        return type.contains("LOB") || type.contains("JSON") || type.contains("BYTEA")
+                || type.equals("LONGTEXT") || type.equals("MEDIUMTEXT");
+    }
+
+    static int sampleSize(ColumnMetadata column, Random random) {
+        ColumnDistribution size = column.getSizeDistribution() != null ? column.getSizeDistribution() : DEFAULT_SIZE;
+        double min = size.getMin() != null ? size.getMin() : 0;
+        double max = size.getMax() != null ? size.getMax() : Integer.MAX_VALUE - 8;
+        if (column.getLength() != null && column.getLength() > 0) {
+            max = Math.min(max, column.getLength());
+        }
+        String type = size.getType() == null ? "LOGNORMAL" : size.getType().toUpperCase();
+        double mean = size.getMean() != null ? size.getMean() : 0;
+        double stdDev = size.getStdDev() != null ? size.getStdDev() : 1;
+        double value = switch (type) {
+            case "UNIFORM" -> min + random.nextDouble() * (max - min);
+            case "NORMAL" -> mean + stdDev * random.nextGaussian();
+            case "LOGNORMAL" -> Math.exp(mean + stdDev * random.nextGaussian());
+            default -> throw new IllegalArgumentException("Unsupported size distribution: " + size.getType());
+        };
+        return (int) Math.max(0, Math.min(max, Math.max(min, value)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.itdg.generator.strategy.impl;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.pattern.regex.RegexSampler;
+import com.itdg.generator.strategy.DataGeneratorStrategy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정규식 포맷 규칙 기반 생성 전략
+ *
+ * 컬럼의 pattern 필드(customRules의 regex 규칙이 여기로 반영됨) 또는 "regex:" 로 시작하는 컬럼 코멘트에서
+ * 정규식을 읽는다. 예: 상품코드 [A-Z]{3}-\d{6}, 사업자등록번호 \d{3}-\d{2}-\d{5}
+ * 명시적 규칙이므로 이름 기반 패턴 생성기보다 먼저 적용된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RegexPatternStrategy implements DataGeneratorStrategy {
+
+    public static final String COMMENT_PREFIX = "regex:";
+    private static final int MAX_CACHED_PATTERNS = 1024;
+
+    private final Map<String, RegexSampler> samplers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(ColumnMetadata column) {
+        return resolvePattern(column) != null;
+    }
+
+    @Override
+    public Object generate(ColumnMetadata column, Random random) {
+        return samplerFor(resolvePattern(column)).sample(random);
+    }
+
+    /**
+     * 정규식별로 한 번만 컴파일 (요청 간 공유)
+     */
+    public RegexSampler samplerFor(String pattern) {
+        RegexSampler sampler = samplers.get(pattern);
+        if (sampler == null) {
+            if (samplers.size() >= MAX_CACHED_PATTERNS) {
+                samplers.clear();
+            }
+            sampler = samplers.computeIfAbsent(pattern, RegexSampler::compile);
+        }
+        return sampler;
+    }
+
+    static String resolvePattern(ColumnMetadata column) {
+        if (column.getPattern() != null && !column.getPattern().isBlank()) {
+            return column.getPattern();
+        }
+        String comment = column.getComment();
+        if (comment != null) {
+            int idx = comment.indexOf(COMMENT_PREFIX);
+            if (idx >= 0) {
+                String pattern = comment.substring(idx + COMMENT_PREFIX.length()).trim();
+                return pattern.isEmpty() ? null : pattern;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean poolable() {
+        return true;
+    }
+}
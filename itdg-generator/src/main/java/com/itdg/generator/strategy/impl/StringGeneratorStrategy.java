@@ -1,11 +1,11 @@
 package com.itdg.generator.strategy.impl;
 
 import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.pattern.generators.UuidGenerator;
 import com.itdg.generator.strategy.DataGeneratorStrategy;
 import org.springframework.stereotype.Component;
 
 import java.util.Random;
-import java.util.UUID;
 
 @Component
 public class StringGeneratorStrategy implements DataGeneratorStrategy {
@@ -26,7 +26,7 @@ public class StringGeneratorStrategy implements DataGeneratorStrategy {
             length = 100; // 너무 긴 문자열 방지 (기본값)
 
         // 간단한 랜덤 문자열
-        String uuid = UUID.randomUUID().toString();
+        String uuid = UuidGenerator.randomUuid(random).toString();
         return uuid.substring(0, Math.min(length, uuid.length()));
     }
 }
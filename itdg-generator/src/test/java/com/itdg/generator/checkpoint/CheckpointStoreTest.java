@@ -0,0 +1,138 @@
+package com.itdg.generator.checkpoint;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 체크포인트 저장/복원 및 append 생성 테스트
+ */
+@DisplayName("CheckpointStore 테스트")
+class CheckpointStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CheckpointStore store;
+    private StreamingDataGeneratorService generatorService;
+
+    @BeforeEach
+    void setUp() {
+        store = new CheckpointStore(tempDir.toString());
+        generatorService = new StreamingDataGeneratorService(
+                List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+    }
+
+    private TableMetadata createTable() {
+        return TableMetadata.builder()
+                .tableName("users")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT")
+                                .isPrimaryKey(true).isNullable(false).build(),
+                        ColumnMetadata.builder().name("code").dataType("VARCHAR").length(8)
+                                .isUnique(true).isNullable(false).build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장한 체크포인트를 동일하게 복원한다")
+    void saveAndLoad_roundTrip() {
+        // Given
+        Set<Object> values = new HashSet<>(List.of(1L, 2, 3.5, "abc", true,
+                new BigDecimal("10.25"), LocalDate.of(2024, 1, 1), LocalDateTime.of(2024, 1, 1, 9, 30)));
+        GenerationCheckpoint checkpoint = GenerationCheckpoint.builder()
+                .checkpointId("ckpt-1")
+                .tableName("users")
+                .seed(42L)
+                .rowsGenerated(2048)
+                .nextBlock(2)
+                .nextPrimaryKey(2049)
+                .uniqueValues(Map.of("code", values))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // When
+        store.save(checkpoint);
+        GenerationCheckpoint loaded = store.load("ckpt-1");
+
+        // Then
+        assertThat(loaded.getTableName()).isEqualTo("users");
+        assertThat(loaded.getSeed()).isEqualTo(42L);
+        assertThat(loaded.getRowsGenerated()).isEqualTo(2048);
+        assertThat(loaded.getNextBlock()).isEqualTo(2);
+        assertThat(loaded.getNextPrimaryKey()).isEqualTo(2049);
+        assertThat(loaded.getUniqueValues().get("code")).containsExactlyInAnyOrderElementsOf(values);
+    }
+
+    @Test
+    @DisplayName("64KB를 넘는 문자열 값과 보조 평면 문자도 그대로 복원한다")
+    void saveAndLoad_largeStrings() {
+        // Given
+        String large = "가".repeat(30_000) + "😀" + "x".repeat(10_000);
+        GenerationCheckpoint checkpoint = GenerationCheckpoint.builder()
+                .checkpointId("ckpt-large")
+                .tableName("users")
+                .seed(1L)
+                .uniqueValues(Map.of("memo", Set.of(large, "short")))
+                .build();
+
+        // When
+        store.save(checkpoint);
+        GenerationCheckpoint loaded = store.load("ckpt-large");
+
+        // Then
+        assertThat(loaded.getUniqueValues().get("memo")).containsExactlyInAnyOrder(large, "short");
+    }
+
+    @Test
+    @DisplayName("잘못된 ID나 없는 체크포인트는 예외를 던진다")
+    void load_invalidId_throws() {
+        assertThatThrownBy(() -> store.load("../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.load("missing")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("체크포인트에서 이어서 생성하면 PK와 Unique 값이 충돌하지 않는다")
+    void resume_continuesPrimaryKeyAndUniqueState() {
+        // Given
+        TableMetadata table = createTable();
+        GenerationState first = GenerationState.fresh(12345L);
+        List<Map<String, Object>> seeded = generatorService.generateDataStream(table, 1500, first)
+                .collect(Collectors.toList());
+        store.save(first.toCheckpoint("users-ckpt", "users"));
+
+        // When
+        GenerationState resumed = GenerationState.resume(store.load("users-ckpt"));
+        List<Map<String, Object>> appended = generatorService.generateDataStream(table, 500, resumed)
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(appended.get(0).get("id")).isEqualTo(1501L);
+        assertThat(appended.get(499).get("id")).isEqualTo(2000L);
+        assertThat(resumed.getRowsGenerated()).isEqualTo(2000);
+
+        Set<Object> codes = new HashSet<>();
+        seeded.forEach(row -> codes.add(row.get("code")));
+        appended.forEach(row -> assertThat(codes.add(row.get("code"))).isTrue());
+    }
+}
@@ -0,0 +1,171 @@
+package com.itdg.generator.compression;
+
+import com.github.luben.zstd.ZstdInputStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("응답 압축 테스트")
+class CompressingOutputStreamTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CompressionMetrics metrics = new CompressionMetrics(registry);
+
+    private static byte[] rows(int from, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = from; i < from + count; i++) {
+            text.append("{\"id\":").append(i).append(",\"kind\":\"A\",\"amount\":").append(i % 97).append("}\n");
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("협상")
+    class Negotiation {
+
+        @Test
+        @DisplayName("q 값이 높은 코딩을 고르고, 같으면 zstd를 우선한다")
+        void picksHighestQuality() {
+            assertThat(ContentCoding.negotiate("gzip, deflate, br")).isEqualTo(ContentCoding.GZIP);
+            assertThat(ContentCoding.negotiate("gzip, zstd")).isEqualTo(ContentCoding.ZSTD);
+            assertThat(ContentCoding.negotiate("zstd;q=0.5, gzip;q=0.9")).isEqualTo(ContentCoding.GZIP);
+            assertThat(ContentCoding.negotiate("*")).isEqualTo(ContentCoding.ZSTD);
+            assertThat(ContentCoding.negotiate("*, zstd;q=0")).isEqualTo(ContentCoding.GZIP);
+        }
+
+        @Test
+        @DisplayName("헤더가 없거나 지원하는 코딩이 없으면 identity")
+        void fallsBackToIdentity() {
+            assertThat(ContentCoding.negotiate(null)).isEqualTo(ContentCoding.IDENTITY);
+            assertThat(ContentCoding.negotiate("br, deflate")).isEqualTo(ContentCoding.IDENTITY);
+            assertThat(ContentCoding.negotiate("gzip;q=0")).isEqualTo(ContentCoding.IDENTITY);
+        }
+
+        @Test
+        @DisplayName("압축 수준은 코딩별 범위 안에서만 허용하고 생략하면 기본 수준")
+        void validatesLevel() {
+            assertThat(ContentCoding.GZIP.level(null)).isEqualTo(6);
+            assertThat(ContentCoding.ZSTD.level(19)).isEqualTo(19);
+            assertThat(ContentCoding.IDENTITY.level(42)).isZero();
+            assertThatThrownBy(() -> ContentCoding.GZIP.level(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("between 1 and 9");
+        }
+    }
+
+    @Nested
+    @DisplayName("스트림")
+    class Stream {
+
+        @Test
+        @DisplayName("gzip은 flush 시점까지 쓴 데이터를 트레일러 없이도 모두 풀 수 있다 (동기 flush)")
+        void gzipFlush_emitsDecodableBlock() throws IOException, DataFormatException {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] first = rows(0, 500);
+
+            // When
+            try (CompressingOutputStream compressed = metrics.open(out, ContentCoding.GZIP, 6, "ndjson")) {
+                compressed.write(first);
+                compressed.flush();
+
+                // Then - 10바이트 gzip 헤더 뒤의 deflate 데이터만으로 복원
+                Inflater inflater = new Inflater(true);
+                byte[] flushed = out.toByteArray();
+                inflater.setInput(flushed, 10, flushed.length - 10);
+                byte[] restored = new byte[first.length];
+                assertThat(inflater.inflate(restored)).isEqualTo(first.length);
+                assertThat(restored).isEqualTo(first);
+                inflater.end();
+
+                compressed.write(rows(500, 500));
+                compressed.finish();
+            }
+            byte[] all = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes();
+            assertThat(all).hasSize(first.length + rows(500, 500).length);
+        }
+
+        @Test
+        @DisplayName("zstd도 flush 시점까지 쓴 데이터를 프레임 끝 없이 풀 수 있다")
+        void zstdFlush_emitsDecodableBlock() throws IOException {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] first = rows(0, 500);
+
+            // When
+            try (CompressingOutputStream compressed = metrics.open(out, ContentCoding.ZSTD, 3, "ndjson")) {
+                for (int i = 0; i < first.length; i += 100) { // 작은 쓰기는 버퍼에 모인다
+                    compressed.write(first, i, Math.min(100, first.length - i));
+                }
+                compressed.flush();
+
+                // Then
+                byte[] restored = new ZstdInputStream(new ByteArrayInputStream(out.toByteArray()))
+                        .readNBytes(first.length);
+                assertThat(restored).isEqualTo(first);
+                compressed.finish();
+            }
+            assertThat(new ZstdInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes())
+                    .isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("finish 없이 닫으면 트레일러를 쓰지 않아 잘린 응답이 온전한 파일로 보이지 않는다")
+        void closeWithoutFinish_omitsTrailer() throws IOException {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When - 생성 도중 실패한 응답
+            try (CompressingOutputStream compressed = metrics.open(out, ContentCoding.GZIP, 6, "csv")) {
+                compressed.write(rows(0, 100));
+                compressed.flush();
+            }
+
+            // Then
+            byte[] truncated = out.toByteArray();
+            assertThat(truncated).isNotEmpty();
+            assertThatThrownBy(() -> new GZIPInputStream(new ByteArrayInputStream(truncated)).readAllBytes())
+                    .isInstanceOf(EOFException.class);
+            assertThat(registry.find("itdg.compression.ratio").summary()).isNull();
+        }
+
+        @Test
+        @DisplayName("종료 시 압축률, CPU 시간, 압축 전후 바이트를 지표로 기록한다")
+        void finish_recordsMetrics() throws IOException {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] data = rows(0, 5000);
+
+            // When
+            CompressingOutputStream compressed = metrics.open(out, ContentCoding.GZIP, 1, "csv");
+            compressed.write(data);
+            compressed.finish();
+            compressed.close();
+
+            // Then
+            assertThat(compressed.getBytesIn()).isEqualTo(data.length);
+            assertThat(compressed.getBytesOut()).isEqualTo(out.size());
+            assertThat(compressed.getRatio()).isGreaterThan(3);
+            assertThat(registry.get("itdg.compression.ratio").tags("format", "csv", "encoding", "gzip")
+                    .summary().mean()).isEqualTo(compressed.getRatio());
+            assertThat(registry.get("itdg.compression.cpu").timer().count()).isEqualTo(1);
+            assertThat(registry.get("itdg.compression.bytes.in").counter().count()).isEqualTo(data.length);
+            assertThat(registry.get("itdg.compression.bytes.out").counter().count()).isEqualTo(out.size());
+            assertThat(Arrays.copyOf(out.toByteArray(), 2)).containsExactly(0x1f, 0x8b);
+        }
+    }
+}
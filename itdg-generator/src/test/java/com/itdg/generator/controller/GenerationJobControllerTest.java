@@ -0,0 +1,187 @@
+package com.itdg.generator.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.job.ActiveDownloads;
+import com.itdg.generator.job.ChunkJobRunner;
+import com.itdg.generator.job.GenerationJob;
+import com.itdg.generator.job.JobRepository;
+import com.itdg.generator.job.JobStatus;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 생성 작업 API 테스트 (컨트롤러 직접 호출)
+ */
+@DisplayName("GenerationJobController 테스트")
+class GenerationJobControllerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ChunkJobRunner jobRunner;
+    private GenerationJobController controller;
+
+    @BeforeEach
+    void setUp() {
+        JobRepository jobRepository = new JobRepository(
+                "jdbc:h2:file:" + tempDir.resolve("jobs").toAbsolutePath(), new ObjectMapper());
+        StreamingDataGeneratorService generatorService = new StreamingDataGeneratorService(
+                List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+        jobRunner = new ChunkJobRunner(generatorService, jobRepository, tempDir.toString(), 1024, false, 1);
+        controller = new GenerationJobController(jobRunner, new ActiveDownloads());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRunner.shutdown();
+    }
+
+    private GenerationJob completedJob(long rows) throws InterruptedException {
+        TableMetadata table = TableMetadata.builder()
+                .tableName("events")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("code").dataType("VARCHAR").length(20).build()))
+                .build();
+        GenerationJob job = jobRunner.submit(table, rows, 3L, null, "csv");
+        for (int i = 0; i < 500 && jobRunner.getJob(job.getJobId()).getStatus() == JobStatus.RUNNING; i++) {
+            Thread.sleep(20);
+        }
+        return jobRunner.getJob(job.getJobId());
+    }
+
+    private MockHttpServletResponse download(String jobId, String range, String ifRange) throws Exception {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/api/generator/jobs/" + jobId + "/download");
+        if (range != null) {
+            request.addHeader("Range", range);
+        }
+        if (ifRange != null) {
+            request.addHeader("If-Range", ifRange);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.download(jobId, request, response);
+        return response;
+    }
+
+    @Nested
+    @DisplayName("다운로드")
+    class Download {
+
+        @Test
+        @DisplayName("완료된 파일 전체를 Accept-Ranges, ETag와 함께 보낸다")
+        void fullDownload() throws Exception {
+            // Given
+            GenerationJob job = completedJob(3000);
+            byte[] file = Files.readAllBytes(Path.of(job.getOutputPath()));
+
+            // When
+            MockHttpServletResponse response = download(job.getJobId(), null, null);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+            assertThat(response.getHeader("ETag")).isEqualTo("\"" + job.getJobId() + "\"");
+            assertThat(response.getHeader("Content-Disposition")).contains("events.csv");
+            assertThat(response.getContentLengthLong()).isEqualTo(file.length);
+            assertThat(response.getContentAsByteArray()).isEqualTo(file);
+        }
+
+        @Test
+        @DisplayName("끊긴 지점부터 Range로 이어받은 조각을 붙이면 원본 파일과 같다")
+        void resumedDownload_matchesFile() throws Exception {
+            // Given
+            GenerationJob job = completedJob(3000);
+            byte[] file = Files.readAllBytes(Path.of(job.getOutputPath()));
+            int cut = file.length / 3;
+
+            // When
+            MockHttpServletResponse head = download(job.getJobId(), "bytes=0-" + (cut - 1), null);
+            MockHttpServletResponse tail = download(job.getJobId(), "bytes=" + cut + "-",
+                    "\"" + job.getJobId() + "\"");
+
+            // Then
+            assertThat(head.getStatus()).isEqualTo(206);
+            assertThat(head.getHeader("Content-Range")).isEqualTo("bytes 0-" + (cut - 1) + "/" + file.length);
+            assertThat(tail.getStatus()).isEqualTo(206);
+            assertThat(tail.getHeader("Content-Range"))
+                    .isEqualTo("bytes " + cut + "-" + (file.length - 1) + "/" + file.length);
+            ByteArrayOutputStream joined = new ByteArrayOutputStream();
+            joined.write(head.getContentAsByteArray());
+            joined.write(tail.getContentAsByteArray());
+            assertThat(joined.toByteArray()).isEqualTo(file);
+        }
+
+        @Test
+        @DisplayName("끝 구간, 범위 밖 구간, 다른 ETag의 If-Range를 RFC 9110대로 처리한다")
+        void rangeEdgeCases() throws Exception {
+            // Given
+            GenerationJob job = completedJob(1000);
+            byte[] file = Files.readAllBytes(Path.of(job.getOutputPath()));
+
+            // When
+            MockHttpServletResponse suffix = download(job.getJobId(), "bytes=-100", null);
+            MockHttpServletResponse beyond = download(job.getJobId(), "bytes=" + file.length + "-", null);
+            MockHttpServletResponse stale = download(job.getJobId(), "bytes=0-9", "\"other\"");
+            MockHttpServletResponse multi = download(job.getJobId(), "bytes=0-9,20-29", null);
+
+            // Then
+            assertThat(suffix.getStatus()).isEqualTo(206);
+            assertThat(suffix.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(file, file.length - 100,
+                    file.length));
+            assertThat(beyond.getStatus()).isEqualTo(416);
+            assertThat(beyond.getHeader("Content-Range")).isEqualTo("bytes */" + file.length);
+            assertThat(stale.getStatus()).isEqualTo(200);
+            assertThat(stale.getContentAsByteArray()).isEqualTo(file);
+            assertThat(multi.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("커넥터가 sendfile을 지원해도 본문을 직접 보내 전송이 끝날 때까지 파일을 붙잡는다")
+        void sendfileSupport_isNotUsed() throws Exception {
+            // Given
+            GenerationJob job = completedJob(1000);
+            byte[] file = Files.readAllBytes(Path.of(job.getOutputPath()));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+            request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+            request.addHeader("Range", "bytes=10-");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            controller.download(job.getJobId(), request, response);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(206);
+            assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(file, 10, file.length));
+            assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+        }
+
+        @Test
+        @DisplayName("없는 작업은 IllegalArgumentException")
+        void unknownJob_isRejected() {
+            assertThatThrownBy(() -> download("missing", null, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("missing");
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.itdg.generator.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.SchemaMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.common.dto.request.GenerateDataRequest;
+import com.itdg.generator.checkpoint.CheckpointStore;
+import com.itdg.generator.compression.CompressionMetrics;
+import com.itdg.generator.output.FixedWidthExporter;
+import com.itdg.generator.output.ParquetStreamWriter;
+import com.itdg.generator.pacing.PacingMetrics;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트리밍 생성 API 테스트 (컨트롤러 직접 호출)
+ */
+@DisplayName("StreamingGeneratorController 테스트")
+class StreamingGeneratorControllerTest {
+
+    @TempDir
+    Path checkpointDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StreamingGeneratorController controller() {
+        StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+                List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+        return new StreamingGeneratorController(service, objectMapper,
+                new CheckpointStore(checkpointDir.toString()), new FixedWidthExporter(service),
+                new PacingMetrics(new SimpleMeterRegistry()), new CompressionMetrics(new SimpleMeterRegistry()));
+    }
+
+    private TableMetadata createTable() {
+        return TableMetadata.builder()
+                .tableName("events")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("kind").dataType("VARCHAR").isNullable(false).build(),
+                        ColumnMetadata.builder().name("amount").dataType("INT").isNullable(false).build()))
+                .build();
+    }
+
+    private String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("NDJSON 스트리밍")
+    class Ndjson {
+
+        @Test
+        @DisplayName("한 줄에 한 행씩 기록하고 JSON 배열 응답과 같은 행을 만든다")
+        void ndjson_writesOneRowPerLine() throws IOException {
+            // Given
+            StreamingGeneratorController controller = controller();
+
+            // When
+            ResponseEntity<StreamingResponseBody> response = controller.streamNdjson(createTable(), 250, 7L, false,
+                    null, null, "kind IN ('A', 'B')", null, null, 100, 0, null, null,
+                    new MockHttpServletResponse());
+            String ndjson = body(response);
+            String array = body(controller.streamJson(createTable(), 250, 7L, false, null, null,
+                    "kind IN ('A', 'B')", null, null, null, null, new MockHttpServletResponse()));
+
+            // Then
+            assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+            assertThat(ndjson).endsWith("\n");
+            String[] lines = ndjson.split("\n");
+            assertThat(lines).hasSize(250);
+            Map<?, ?>[] rows = objectMapper.readValue(array, Map[].class);
+            for (int i = 0; i < lines.length; i++) {
+                Map<?, ?> row = objectMapper.readValue(lines[i], Map.class);
+                assertThat(row).isEqualTo(rows[i]);
+                assertThat(row.get("kind")).isIn("A", "B");
+            }
+        }
+
+        @Test
+        @DisplayName("targetBytes 모드는 목표 크기를 넘지 않는 완전한 줄만 기록한다")
+        void ndjson_respectsByteBudget() throws IOException {
+            // When
+            MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+            String ndjson = body(controller().streamNdjson(createTable(), 0, 3L, false, null, List.of("id", "kind"),
+                    null, 50_000L, null, 1000, 200, null, null, servletResponse));
+
+            // Then
+            byte[] bytes = ndjson.getBytes(StandardCharsets.UTF_8);
+            assertThat(bytes.length).isLessThanOrEqualTo(50_000).isGreaterThan(49_800);
+            assertThat(ndjson).endsWith("\n");
+            assertThat(ndjson.split("\n")).allSatisfy(line -> assertThat(objectMapper.readValue(line, Map.class))
+                    .containsOnlyKeys("id", "kind"));
+            assertThat(servletResponse.getHeader("Trailer")).isEqualTo("X-Row-Count, X-Byte-Count");
+        }
+    }
+
+    @Nested
+    @DisplayName("SQL 스크립트")
+    class Sql {
+
+        @Test
+        @DisplayName("스키마 스크립트는 참조되는 테이블을 먼저 적재해 FK 제약이 켜진 H2에 그대로 들어간다")
+        void schemaSql_emitsTablesInForeignKeyOrder() throws Exception {
+            // Given - 자식 테이블을 먼저 선언
+            TableMetadata orders = TableMetadata.builder()
+                    .tableName("orders")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                            ColumnMetadata.builder().name("customer_id").dataType("BIGINT").isForeignKey(true)
+                                    .foreignKeyTargetTable("customers").build(),
+                            ColumnMetadata.builder().name("amount").dataType("INT").isNullable(false).build()))
+                    .build();
+            TableMetadata customers = TableMetadata.builder()
+                    .tableName("customers")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                            ColumnMetadata.builder().name("name").dataType("VARCHAR").isNullable(false).build()))
+                    .build();
+            GenerateDataRequest request = GenerateDataRequest.builder()
+                    .schema(SchemaMetadata.builder().tables(List.of(orders, customers)).build())
+                    .rowCount(100L) // FK 컬럼은 1~100 범위
+                    .seed(5L)
+                    .build();
+
+            // When
+            ResponseEntity<StreamingResponseBody> response = controller().streamSchemaSql(request, "h2", 7, 2, false,
+                    null, null);
+            String sql = body(response);
+
+            // Then
+            assertThat(response.getHeaders().getContentType()).hasToString("application/sql;charset=UTF-8");
+            assertThat(sql.indexOf("INSERT INTO \"customers\"")).isLessThan(sql.indexOf("INSERT INTO \"orders\""));
+            Path script = checkpointDir.resolve("schema.sql");
+            Files.writeString(script, sql);
+            try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:schema-" + System.nanoTime());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE \"customers\" (\"id\" BIGINT PRIMARY KEY, \"name\" VARCHAR(255))");
+                statement.execute("CREATE TABLE \"orders\" (\"id\" BIGINT PRIMARY KEY, \"customer_id\" BIGINT"
+                        + " REFERENCES \"customers\"(\"id\"), \"amount\" INT)");
+                statement.execute("RUNSCRIPT FROM '" + script + "'");
+                try (ResultSet rs = statement.executeQuery("SELECT (SELECT COUNT(*) FROM \"customers\"),"
+                        + " (SELECT COUNT(*) FROM \"orders\")")) {
+                    rs.next();
+                    assertThat(rs.getLong(1)).isEqualTo(100);
+                    assertThat(rs.getLong(2)).isEqualTo(100);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("외래 키 순환이 있는 스키마는 disableConstraints 없이 요청하면 IllegalArgumentException")
+        void schemaSql_cycleRequiresDisabledConstraints() throws Exception {
+            // Given - 서로 참조하는 두 테이블
+            TableMetadata departments = TableMetadata.builder()
+                    .tableName("departments")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                            ColumnMetadata.builder().name("manager_id").dataType("BIGINT").isForeignKey(true)
+                                    .foreignKeyTargetTable("employees").build()))
+                    .build();
+            TableMetadata employees = TableMetadata.builder()
+                    .tableName("employees")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                            ColumnMetadata.builder().name("department_id").dataType("BIGINT").isForeignKey(true)
+                                    .foreignKeyTargetTable("departments").build()))
+                    .build();
+            GenerateDataRequest request = GenerateDataRequest.builder()
+                    .schema(SchemaMetadata.builder().tables(List.of(departments, employees)).build())
+                    .rowCount(10L)
+                    .seed(5L)
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> controller().streamSchemaSql(request, "mysql", 7, 0, false, null, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("disableConstraints");
+            String sql = body(controller().streamSchemaSql(request, "mysql", 7, 0, true, null, null));
+            assertThat(sql).startsWith("SET FOREIGN_KEY_CHECKS = 0;")
+                    .contains("INSERT INTO `departments`", "INSERT INTO `employees`");
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 압축")
+    class Compression {
+
+        private byte[] bytes(ResponseEntity<StreamingResponseBody> response) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            response.getBody().writeTo(out);
+            return out.toByteArray();
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding으로 협상한 코딩으로 압축하고 풀면 압축하지 않은 응답과 같다")
+        void negotiatedEncoding_roundTrips() throws IOException {
+            // Given
+            StreamingGeneratorController controller = controller();
+            String plain = body(controller.streamNdjson(createTable(), 2000, 9L, false, null, null, null, null,
+                    null, 100, 0, null, null, new MockHttpServletResponse()));
+
+            // When
+            ResponseEntity<StreamingResponseBody> gzip = controller.streamNdjson(createTable(), 2000, 9L, false,
+                    null, null, null, null, null, 100, 0, "gzip, deflate, br", 1, new MockHttpServletResponse());
+            ResponseEntity<StreamingResponseBody> zstd = controller.streamNdjson(createTable(), 2000, 9L, false,
+                    null, null, null, null, null, 100, 0, "gzip;q=0.8, zstd", null, new MockHttpServletResponse());
+            byte[] gzipBytes = bytes(gzip);
+            byte[] zstdBytes = bytes(zstd);
+
+            // Then
+            assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(zstd.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+            assertThat(gzip.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(gzipBytes)).readAllBytes(),
+                    StandardCharsets.UTF_8)).isEqualTo(plain);
+            assertThat(new String(new ZstdInputStream(new ByteArrayInputStream(zstdBytes)).readAllBytes(),
+                    StandardCharsets.UTF_8)).isEqualTo(plain);
+            assertThat(gzipBytes.length).isLessThan(plain.length() / 2);
+        }
+
+        @Test
+        @DisplayName("페이지를 압축하지 않는 Parquet은 Accept-Encoding으로 압축하고, gzip 페이지는 이중 압축하지 않는다")
+        void parquet_encodedOnlyWhenPagesUncompressed() throws IOException {
+            // Given
+            StreamingGeneratorController controller = controller();
+            byte[] plain = bytes(controller.streamParquet(createTable(), 2000, 9L, null, null, "none",
+                    ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES, null, null));
+
+            // When
+            ResponseEntity<StreamingResponseBody> encoded = controller.streamParquet(createTable(), 2000, 9L, null,
+                    null, "none", ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES, "gzip", null);
+            ResponseEntity<StreamingResponseBody> gzipPages = controller.streamParquet(createTable(), 2000, 9L,
+                    null, null, "gzip", ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES, "gzip", null);
+            byte[] encodedBytes = bytes(encoded);
+
+            // Then
+            assertThat(encoded.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(encoded.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(new GZIPInputStream(new ByteArrayInputStream(encodedBytes)).readAllBytes()).isEqualTo(plain);
+            assertThat(encodedBytes.length).isLessThan(plain.length);
+            assertThat(gzipPages.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding이 없으면 압축하지 않고, 범위를 벗어난 압축 수준은 IllegalArgumentException")
+        void identityAndInvalidLevel() throws IOException {
+            // When
+            ResponseEntity<StreamingResponseBody> response = controller().streamSql(createTable(), 10, 1L, null,
+                    null, "h2", 5, 0, false, null, 9);
+
+            // Then
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(body(response)).startsWith("INSERT INTO");
+            assertThatThrownBy(() -> controller().streamSql(createTable(), 10, 1L, null, null, "h2", 5, 0, false,
+                    "gzip", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("compressionLevel");
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.itdg.generator.filter;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.ColumnOrdering;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.plan.Selection;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컬럼 선택/조건 생성 테스트
+ */
+@DisplayName("컬럼 선택 및 조건 생성 테스트")
+class ConditionedSamplerTest {
+
+    private final StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+            List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+
+    private TableMetadata createTable() {
+        return TableMetadata.builder()
+                .tableName("members")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("status").dataType("VARCHAR").length(10).isNullable(false)
+                                .build(),
+                        ColumnMetadata.builder().name("age").dataType("INT").isNullable(false).build(),
+                        ColumnMetadata.builder().name("amount").dataType("DECIMAL").isNullable(false).build(),
+                        ColumnMetadata.builder().name("joined").dataType("DATE").isNullable(false).build(),
+                        ColumnMetadata.builder().name("memo").dataType("VARCHAR").isNullable(false).build(),
+                        ColumnMetadata.builder().name("doubled").dataType("INT").expression("age * 2").build()))
+                .build();
+    }
+
+    private List<Map<String, Object>> generate(TableMetadata table, List<String> columns, String where, long rows) {
+        TablePlan plan = TablePlan.compile(table, Selection.of(columns, where));
+        return service.generateDataStream(plan, rows, GenerationState.fresh(11L)).collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("조건식 파싱")
+    class Parsing {
+
+        @Test
+        @DisplayName("AND로 연결한 비교/IN/BETWEEN 조건과 테이블 한정 컬럼을 파싱한다")
+        void parse_supportedPredicates() {
+            // When
+            List<Predicate> predicates = PredicateParser.parse(
+                    "status IN ('ACTIVE', 'it''s') and members.age BETWEEN 20 AND 39 AND amount >= 10.5");
+
+            // Then
+            assertThat(predicates).containsExactly(
+                    new Predicate(null, "status", Predicate.Operator.IN, List.of("ACTIVE", "it's")),
+                    new Predicate("members", "age", Predicate.Operator.BETWEEN, List.of("20", "39")),
+                    new Predicate(null, "amount", Predicate.Operator.GE, List.of("10.5")));
+        }
+
+        @Test
+        @DisplayName("OR 조건과 문법 오류는 위치와 함께 거부한다")
+        void parse_rejectsUnsupported() {
+            assertThatThrownBy(() -> PredicateParser.parse("age > 1 OR age < 0"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Only AND-combined predicates are supported");
+            assertThatThrownBy(() -> PredicateParser.parse("age >"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at index");
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 생성")
+    class Conditioning {
+
+        @Test
+        @DisplayName("범주/범위 조건을 만족하는 값만 생성한다 (행을 버리지 않음)")
+        void predicates_areSatisfiedByEveryRow() {
+            // Given
+            String where = "status IN ('ACTIVE', 'DORMANT') AND age BETWEEN 20 AND 39 AND amount > 9000"
+                    + " AND joined >= '2024-03-01' AND joined < '2024-04-01'";
+
+            // When
+            List<Map<String, Object>> rows = generate(createTable(), null, where, 3000);
+
+            // Then
+            assertThat(rows).hasSize(3000).allSatisfy(row -> {
+                assertThat(row.get("status")).isIn("ACTIVE", "DORMANT");
+                assertThat((Integer) row.get("age")).isBetween(20, 39);
+                assertThat(((BigDecimal) row.get("amount")).doubleValue()).isGreaterThan(9000);
+                assertThat((LocalDate) row.get("joined"))
+                        .isBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+                assertThat(((Number) row.get("doubled")).intValue()).isEqualTo((Integer) row.get("age") * 2);
+            });
+            assertThat(rows.stream().map(row -> row.get("status")).distinct()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("분포가 있는 컬럼은 범위로 절단한 분포를 따른다")
+        void rangePredicate_followsTruncatedDistribution() {
+            // Given - age ~ N(35, 15): [20, 60] 구간에서 평균 근처 값이 더 많아야 함
+            ConditionedSampler sampler = ConditionedSampler.compile(createTable().getColumns().get(2),
+                    PredicateParser.parse("age BETWEEN 20 AND 60"));
+            Random random = new Random(5L);
+
+            // When
+            List<Integer> ages = IntStream.range(0, 20000)
+                    .mapToObj(i -> (Integer) sampler.sample(random))
+                    .collect(Collectors.toList());
+
+            // Then
+            long middle = ages.stream().filter(a -> a >= 30 && a < 40).count();
+            long upper = ages.stream().filter(a -> a >= 50 && a <= 60).count();
+            assertThat(ages).allSatisfy(a -> assertThat(a).isBetween(20, 60));
+            assertThat(middle).isGreaterThan(upper * 2);
+        }
+
+        @Test
+        @DisplayName("정렬 컬럼의 범위 조건은 정렬 범위를 좁힌다")
+        void sortedColumn_rangeNarrowsOrdering() {
+            // Given
+            TableMetadata table = createTable();
+            table.getColumns().get(2).setSorted(ColumnOrdering.builder().min("0").max("100").build());
+
+            // When
+            List<Integer> ages = generate(table, List.of("age"), "age >= 50", 2000).stream()
+                    .map(row -> (Integer) row.get("age"))
+                    .collect(Collectors.toList());
+
+            // Then
+            assertThat(ages).isSorted().allSatisfy(a -> assertThat(a).isBetween(50, 100));
+        }
+
+        @Test
+        @DisplayName("만족할 수 없는 조건, 파생 컬럼/PK 조건, 없는 컬럼은 오류")
+        void invalidPredicates_areRejected() {
+            TableMetadata table = createTable();
+            assertThatThrownBy(() -> generate(table, null, "age > 50 AND age < 40", 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be satisfied");
+            assertThatThrownBy(() -> generate(table, null, "status = 'A' AND status IN ('B')", 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be satisfied");
+            assertThatThrownBy(() -> generate(table, null, "doubled = 4", 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("derived or correlated");
+            assertThatThrownBy(() -> generate(table, null, "id = 1", 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("primary key");
+            assertThatThrownBy(() -> generate(table, List.of("nickname"), null, 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown column members.nickname");
+        }
+    }
+
+    @Nested
+    @DisplayName("컬럼 선택")
+    class Projection {
+
+        @Test
+        @DisplayName("선택한 컬럼만 요청 순서로 출력하고 의존 컬럼은 생성하되 출력하지 않는다")
+        void projection_keepsDependenciesOnly() {
+            // Given
+            TablePlan plan = TablePlan.compile(createTable(), Selection.of(List.of("doubled", "status"), null));
+
+            // When
+            List<Map<String, Object>> rows = service.generateDataStream(plan, 100, GenerationState.fresh(1L))
+                    .collect(Collectors.toList());
+
+            // Then
+            assertThat(plan.getColumns()).extracting(ColumnMetadata::getName)
+                    .containsExactly("status", "age", "doubled");
+            assertThat(plan.getOutputColumns()).containsExactly("doubled", "status");
+            assertThat(rows).allSatisfy(row -> assertThat(row.keySet()).containsExactly("doubled", "status"));
+        }
+
+        @Test
+        @DisplayName("선택한 컬럼의 값은 전체 생성 시와 같다 (컬럼별 독립 스트림)")
+        void projection_matchesFullGeneration() {
+            // When
+            List<Map<String, Object>> full = generate(createTable(), null, null, 2000);
+            List<Map<String, Object>> projected = generate(createTable(), List.of("memo", "doubled"), null, 2000);
+
+            // Then
+            for (int i = 0; i < full.size(); i++) {
+                assertThat(projected.get(i)).containsEntry("memo", full.get(i).get("memo"))
+                        .containsEntry("doubled", full.get(i).get("doubled"));
+            }
+        }
+    }
+}
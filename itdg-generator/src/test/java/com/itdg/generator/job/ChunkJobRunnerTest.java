@@ -0,0 +1,276 @@
+package com.itdg.generator.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.ColumnOrdering;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.DataGeneratorStrategy;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크 기반 작업 실행기 테스트 (커밋/재시작 결정성)
+ */
+@DisplayName("ChunkJobRunner 테스트")
+class ChunkJobRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JobRepository jobRepository;
+    private ChunkJobRunner jobRunner;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = new JobRepository("jdbc:h2:file:" + tempDir.resolve("jobs").toAbsolutePath(),
+                new ObjectMapper());
+        StreamingDataGeneratorService generatorService = new StreamingDataGeneratorService(
+                List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+        jobRunner = new ChunkJobRunner(generatorService, jobRepository, tempDir.toString(), 1024, false, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRunner.shutdown();
+    }
+
+    private TableMetadata createTable(boolean uniqueCode) {
+        return TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT")
+                                .isPrimaryKey(true).isNullable(false).build(),
+                        ColumnMetadata.builder().name("amount").dataType("INTEGER").isNullable(false).build(),
+                        ColumnMetadata.builder().name("code").dataType("VARCHAR").length(12)
+                                .isUnique(uniqueCode).isNullable(false).build()))
+                .build();
+    }
+
+    private GenerationJob createJob(String jobId, long totalRows, TableMetadata table) {
+        return createJob(jobId, totalRows, table, ".csv");
+    }
+
+    private GenerationJob createJob(String jobId, long totalRows, TableMetadata table, String extension) {
+        GenerationJob job = GenerationJob.builder()
+                .jobId(jobId)
+                .tableName(table.getTableName())
+                .status(JobStatus.RUNNING)
+                .seed(777L)
+                .totalRows(totalRows)
+                .chunkSize(1024)
+                .nextPrimaryKey(1)
+                .outputPath(tempDir.resolve(jobId + extension).toString())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        jobRepository.insert(job, table);
+        return job;
+    }
+
+    @Test
+    @DisplayName("청크 크기는 RNG 블록 크기의 배수로 맞춰진다")
+    void alignChunkSize_roundsUpToBlockSize() {
+        assertThat(ChunkJobRunner.alignChunkSize(1)).isEqualTo(1024);
+        assertThat(ChunkJobRunner.alignChunkSize(1024)).isEqualTo(1024);
+        assertThat(ChunkJobRunner.alignChunkSize(5000)).isEqualTo(5120);
+    }
+
+    @Test
+    @DisplayName("작업 완료 시 진행 상황과 처리량이 저장소에 커밋된다")
+    void run_commitsProgressPerChunk() throws Exception {
+        // Given
+        TableMetadata table = createTable(false);
+        GenerationJob job = createJob("job-complete", 2500, table);
+
+        // When
+        jobRunner.run(job, table);
+
+        // Then
+        GenerationJob stored = jobRepository.findById("job-complete").orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(stored.getRowsWritten()).isEqualTo(2500);
+        assertThat(stored.getCommittedChunks()).isEqualTo(3);
+        assertThat(stored.getLastChunkRows()).isEqualTo(2500 - 2 * 1024);
+        assertThat(stored.getNextPrimaryKey()).isEqualTo(2501);
+        assertThat(stored.getOutputBytes()).isEqualTo(Files.size(Paths.get(stored.getOutputPath())));
+        assertThat(Files.readAllLines(Paths.get(stored.getOutputPath()))).hasSize(2501);
+        assertThat(jobRepository.findTable("job-complete").getColumns()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("종료 중 청크 기록이 인터럽트되면 실패가 아니라 마지막 커밋 청크의 RUNNING 상태로 남는다")
+    void interruptDuringChunk_leavesJobRunning() throws Exception {
+        // Given - 두 번째 청크 생성 도중 작업 스레드를 인터럽트하는 전략 (shutdownNow와 같은 효과)
+        AtomicInteger calls = new AtomicInteger();
+        DataGeneratorStrategy interrupting = new DataGeneratorStrategy() {
+            @Override
+            public Object generate(ColumnMetadata column, Random random) {
+                if (calls.incrementAndGet() == 1500) {
+                    Thread.currentThread().interrupt();
+                }
+                return "c" + random.nextInt(1000);
+            }
+
+            @Override
+            public boolean supports(ColumnMetadata column) {
+                return column.getName().equals("code");
+            }
+        };
+        ChunkJobRunner runner = new ChunkJobRunner(new StreamingDataGeneratorService(
+                List.of(interrupting, new NumericGeneratorStrategy())), jobRepository, tempDir.toString(), 1024,
+                false, 1);
+        TableMetadata table = createTable(false);
+        GenerationJob job = createJob("job-interrupted", 3000, table);
+
+        // When
+        AtomicReference<Throwable> escaped = new AtomicReference<>();
+        Thread worker = new Thread(() -> runner.run(job, table));
+        worker.setUncaughtExceptionHandler((thread, e) -> escaped.set(e));
+        worker.start();
+        worker.join();
+        runner.shutdown();
+
+        // Then - 인터럽트된 스레드에서 저장소를 갱신하려다 예외가 새지 않는다
+        assertThat(escaped.get()).isNull();
+        GenerationJob stored = jobRepository.findById("job-interrupted").orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(stored.getErrorMessage()).isNull();
+        assertThat(stored.getRowsWritten()).isEqualTo(1024);
+        assertThat(stored.getCommittedChunks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크래시 후 재개하면 중단 없이 실행한 것과 동일한 파일을 만든다")
+    void restart_afterCrash_producesIdenticalOutput() throws Exception {
+        for (boolean unique : new boolean[] { false, true }) {
+            // Given - 중단 없이 실행한 기준 결과
+            TableMetadata table = createTable(unique);
+            GenerationJob reference = createJob("reference-" + unique, 3000, table);
+            jobRunner.run(reference, table);
+
+            // 첫 청크만 커밋된 뒤, 커밋되지 않은 일부 바이트가 남은 채로 중단된 상황
+            GenerationJob crashed = createJob("crashed-" + unique, 1024, table);
+            jobRunner.run(crashed, table);
+            Files.writeString(Paths.get(crashed.getOutputPath()), "9999,partial", StandardOpenOption.APPEND);
+
+            // When
+            GenerationJob resumed = jobRepository.findById("crashed-" + unique).orElseThrow();
+            resumed.setTotalRows(3000);
+            resumed.setStatus(JobStatus.RUNNING);
+            jobRunner.run(resumed, table);
+
+            // Then
+            assertThat(Files.readAllBytes(Paths.get(resumed.getOutputPath())))
+                    .isEqualTo(Files.readAllBytes(Paths.get(reference.getOutputPath())));
+        }
+    }
+
+    @Test
+    @DisplayName("정렬/Unique 컬럼이 있는 작업은 저장한 Unique 값으로도, 재생성으로도 재개해 같은 파일을 만든다")
+    void restart_withSortedAndUniqueColumns_producesIdenticalOutput() throws Exception {
+        TableMetadata table = TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT")
+                                .isPrimaryKey(true).isNullable(false).build(),
+                        ColumnMetadata.builder().name("score").dataType("INT").isNullable(false)
+                                .sorted(ColumnOrdering.builder().min("0").max("1000000").build()).build(),
+                        ColumnMetadata.builder().name("code").dataType("VARCHAR").length(12)
+                                .isUnique(true).isNullable(false).build()))
+                .build();
+        GenerationJob reference = createJob("reference-sorted", 3000, table);
+        jobRunner.run(reference, table);
+
+        for (boolean keepCheckpoint : new boolean[] { true, false }) {
+            // Given - 두 번째 청크 도중 인터럽트되어 첫 청크까지만 커밋된 작업 (값은 기준 실행과 같은 전략)
+            AtomicInteger calls = new AtomicInteger();
+            StringGeneratorStrategy strings = new StringGeneratorStrategy();
+            DataGeneratorStrategy interrupting = new DataGeneratorStrategy() {
+                @Override
+                public Object generate(ColumnMetadata column, Random random) {
+                    if (calls.incrementAndGet() == 1500) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return strings.generate(column, random);
+                }
+
+                @Override
+                public boolean supports(ColumnMetadata column) {
+                    return strings.supports(column);
+                }
+            };
+            ChunkJobRunner runner = new ChunkJobRunner(new StreamingDataGeneratorService(
+                    List.of(interrupting, new NumericGeneratorStrategy())), jobRepository, tempDir.toString(), 1024,
+                    false, 1);
+            GenerationJob crashed = createJob("crashed-sorted-" + keepCheckpoint, 3000, table);
+            Thread worker = new Thread(() -> runner.run(crashed, table));
+            worker.start();
+            worker.join();
+            runner.shutdown();
+            Path checkpoint = tempDir.resolve(crashed.getJobId() + ".ckpt");
+            assertThat(checkpoint).exists();
+            if (!keepCheckpoint) {
+                Files.delete(checkpoint);
+            }
+
+            // When
+            GenerationJob resumed = jobRepository.findById(crashed.getJobId()).orElseThrow();
+            assertThat(resumed.getRowsWritten()).isEqualTo(1024);
+            jobRunner.run(resumed, table);
+
+            // Then
+            assertThat(Files.readAllBytes(Paths.get(resumed.getOutputPath())))
+                    .isEqualTo(Files.readAllBytes(Paths.get(reference.getOutputPath())));
+        }
+    }
+
+    @Test
+    @DisplayName("Parquet 작업도 크래시 후 재개하면 동일한 파일을 만들고, 커밋되지 않은 로우 그룹은 버린다")
+    void parquetRestart_afterCrash_producesIdenticalOutput() throws Exception {
+        // Given
+        TableMetadata table = createTable(true);
+        GenerationJob reference = createJob("reference-parquet", 3000, table, ".parquet");
+        jobRunner.run(reference, table);
+
+        GenerationJob crashed = createJob("crashed-parquet", 1024, table, ".parquet");
+        jobRunner.run(crashed, table);
+        // footer와 다음 로우 그룹 일부, 사이드카의 미커밋 줄이 남은 채로 중단된 상황
+        Files.write(Paths.get(crashed.getOutputPath()), new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+        Files.writeString(Paths.get(crashed.getOutputPath() + ".meta"), "999999 1024 AA==\n",
+                StandardOpenOption.APPEND);
+
+        // When
+        GenerationJob resumed = jobRepository.findById("crashed-parquet").orElseThrow();
+        resumed.setTotalRows(3000);
+        resumed.setStatus(JobStatus.RUNNING);
+        jobRunner.run(resumed, table);
+
+        // Then
+        assertThat(jobRepository.findById("crashed-parquet").orElseThrow().getStatus())
+                .isEqualTo(JobStatus.COMPLETED);
+        byte[] bytes = Files.readAllBytes(Paths.get(resumed.getOutputPath()));
+        assertThat(bytes).isEqualTo(Files.readAllBytes(Paths.get(reference.getOutputPath())));
+        assertThat(new String(bytes, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("PAR1");
+        assertThat(new String(bytes, bytes.length - 4, 4, StandardCharsets.US_ASCII)).isEqualTo("PAR1");
+        assertThat(Files.readAllLines(Paths.get(resumed.getOutputPath() + ".meta"))).hasSize(3);
+    }
+}
@@ -0,0 +1,129 @@
+package com.itdg.generator.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 만료 작업 정리 테스트
+ */
+@DisplayName("ExpiredJobCleaner 테스트")
+class ExpiredJobCleanerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = new JobRepository("jdbc:h2:file:" + tempDir.resolve("jobs").toAbsolutePath(),
+                new ObjectMapper());
+    }
+
+    private GenerationJob insertJob(String jobId, JobStatus status, String extension) throws IOException {
+        Path output = Files.writeString(tempDir.resolve(jobId + extension), "id\n1\n");
+        GenerationJob job = GenerationJob.builder()
+                .jobId(jobId)
+                .tableName("orders")
+                .status(status)
+                .seed(1L)
+                .totalRows(1)
+                .chunkSize(1024)
+                .nextPrimaryKey(1)
+                .outputPath(output.toString())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        jobRepository.insert(job, TableMetadata.builder().tableName("orders")
+                .columns(List.of(ColumnMetadata.builder().name("id").dataType("BIGINT").build())).build());
+        return job;
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 완료/실패 작업의 파일과 기록을 지우고 실행 중인 작업은 남긴다")
+    void removesOnlyFinishedJobsPastTtl() throws IOException {
+        // Given
+        GenerationJob completed = insertJob("completed", JobStatus.COMPLETED, ".parquet");
+        Path sidecar = Files.writeString(Path.of(completed.getOutputPath() + ChunkJobRunner.ROW_GROUP_SIDECAR), "");
+        Path checkpoint = Files.writeString(tempDir.resolve("completed.ckpt"), "");
+        GenerationJob failed = insertJob("failed", JobStatus.FAILED, ".csv");
+        GenerationJob running = insertJob("running", JobStatus.RUNNING, ".csv");
+        ExpiredJobCleaner cleaner = new ExpiredJobCleaner(jobRepository, new ActiveDownloads(),
+                Duration.ofHours(1));
+
+        // When
+        int notYet = cleaner.removeExpired(LocalDateTime.now().plusMinutes(30));
+        int removed = cleaner.removeExpired(LocalDateTime.now().plusHours(2));
+
+        // Then
+        assertThat(notYet).isZero();
+        assertThat(removed).isEqualTo(2);
+        assertThat(Path.of(completed.getOutputPath())).doesNotExist();
+        assertThat(sidecar).doesNotExist();
+        assertThat(checkpoint).doesNotExist();
+        assertThat(Path.of(failed.getOutputPath())).doesNotExist();
+        assertThat(jobRepository.findById("completed")).isEmpty();
+        assertThat(jobRepository.findById("failed")).isEmpty();
+        assertThat(Path.of(running.getOutputPath())).exists();
+        assertThat(jobRepository.findById("running")).isPresent();
+    }
+
+    @Test
+    @DisplayName("전송 중인 다운로드가 있는 작업은 건너뛰고 반납된 뒤 다음 주기에 지운다")
+    void skipsJobsWithActiveDownloads() throws IOException {
+        // Given
+        GenerationJob completed = insertJob("completed", JobStatus.COMPLETED, ".csv");
+        ActiveDownloads activeDownloads = new ActiveDownloads();
+        ExpiredJobCleaner cleaner = new ExpiredJobCleaner(jobRepository, activeDownloads, Duration.ofHours(1));
+        ActiveDownloads.Lease lease = activeDownloads.acquire("completed");
+
+        // When
+        int whileDownloading = cleaner.removeExpired(LocalDateTime.now().plusHours(2));
+        lease.close();
+        int afterDownload = cleaner.removeExpired(LocalDateTime.now().plusHours(2));
+
+        // Then
+        assertThat(whileDownloading).isZero();
+        assertThat(afterDownload).isEqualTo(1);
+        assertThat(Path.of(completed.getOutputPath())).doesNotExist();
+        assertThat(jobRepository.findById("completed")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정리 중인 작업의 새 다운로드는 IllegalArgumentException")
+    void retiringJob_rejectsNewDownloads() {
+        // Given
+        ActiveDownloads activeDownloads = new ActiveDownloads();
+        activeDownloads.retire("completed");
+
+        // When & Then
+        assertThatThrownBy(() -> activeDownloads.acquire("completed"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expired");
+        activeDownloads.retired("completed");
+        activeDownloads.acquire("completed").close();
+    }
+
+    @Test
+    @DisplayName("보존 기간은 양수여야 한다")
+    void ttl_mustBePositive() {
+        assertThatThrownBy(() -> new ExpiredJobCleaner(jobRepository, new ActiveDownloads(), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ttl");
+    }
+}
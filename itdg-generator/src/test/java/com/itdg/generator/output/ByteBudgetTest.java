@@ -0,0 +1,177 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.checkpoint.GenerationCheckpoint;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 출력 크기 기준 생성 테스트
+ */
+@DisplayName("ByteBudget 테스트")
+class ByteBudgetTest {
+
+    private final StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+            List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+
+    private final TableMetadata table = TableMetadata.builder()
+            .tableName("logs")
+            .columns(List.of(
+                    ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                    ColumnMetadata.builder().name("message").dataType("VARCHAR").length(40).isNullable(false)
+                            .build(),
+                    ColumnMetadata.builder().name("count").dataType("INT").isNullable(false).build()))
+            .build();
+
+    private final List<String> columns = List.of("id", "message", "count");
+
+    private final Function<Map<String, Object>, byte[]> csv = row ->
+            (CsvLines.line(row, columns) + "\n").getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 행마다 100바이트로 맞춘 CSV (예산에 들어가는 행 수를 정확히 정하기 위함)
+     */
+    private final Function<Map<String, Object>, byte[]> padded = row ->
+            String.format("%-99s\n", CsvLines.line(row, columns)).getBytes(StandardCharsets.UTF_8);
+
+    private ByteArrayOutputStream generate(ByteBudget budget, long seed) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.generateWithinBudget(TablePlan.compile(table), GenerationState.fresh(seed), budget, csv,
+                out::writeBytes);
+        return out;
+    }
+
+    @Nested
+    @DisplayName("예산 생성")
+    class Generation {
+
+        @Test
+        @DisplayName("목표 바이트를 넘지 않고 한 행 이내로 채운다")
+        void output_fillsBudgetWithinOneRow() {
+            // Given
+            long target = 1_000_000;
+            ByteBudget budget = new ByteBudget(target);
+
+            // When
+            ByteArrayOutputStream out = generate(budget, 7L);
+
+            // Then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            int longest = Arrays.stream(lines).mapToInt(l -> l.length() + 1).max().orElse(0);
+            assertThat((long) out.size()).isEqualTo(budget.getBytesUsed()).isLessThanOrEqualTo(target)
+                    .isGreaterThan(target - longest);
+            assertThat(budget.getRows()).isEqualTo(lines.length);
+            assertThat(budget.isExhausted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("여러 구간으로 나눠 생성해도 행 수 기준 생성과 같은 행이 나온다")
+        void segments_matchRowCountGeneration() {
+            // Given
+            ByteBudget budget = new ByteBudget(300_000);
+
+            // When
+            ByteArrayOutputStream out = generate(budget, 3L);
+            String expected = service.generateDataStream(table, budget.getRows(), 3L)
+                    .map(row -> new String(csv.apply(row), StandardCharsets.UTF_8))
+                    .collect(Collectors.joining());
+
+            // Then
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("예산 생성 후 체크포인트에서 재개하면 한 번에 생성한 결과와 같다")
+        void budgetedRunThenResume_matchesContinuousRun() {
+            // Given - 행마다 100바이트, 2048행 뒤 다음 블록의 첫 행이 예산을 넘는다
+            ByteBudget budget = new ByteBudget(2048 * 100 + 50);
+            GenerationState state = GenerationState.fresh(3L);
+            StringBuilder resumed = new StringBuilder();
+
+            // When
+            service.generateWithinBudget(TablePlan.compile(table), state, budget, padded,
+                    bytes -> resumed.append(new String(bytes, StandardCharsets.UTF_8)));
+            service.generateDataStream(TablePlan.compile(table), 1000,
+                            GenerationState.resume(state.toCheckpoint("ckpt", "logs")))
+                    .forEach(row -> resumed.append(new String(padded.apply(row), StandardCharsets.UTF_8)));
+            String continuous = service.generateDataStream(table, 3048, 3L)
+                    .map(row -> new String(padded.apply(row), StandardCharsets.UTF_8))
+                    .collect(Collectors.joining());
+
+            // Then
+            assertThat(state.getRowsGenerated()).isEqualTo(2048);
+            assertThat(resumed.toString()).isEqualTo(continuous);
+        }
+
+        @Test
+        @DisplayName("블록 중간에서 예산이 차면 기록한 행까지만 생성한 것과 같은 체크포인트를 남긴다")
+        void unalignedBudget_checkpointCountsWrittenRows() {
+            // Given
+            ByteBudget budget = new ByteBudget(1500 * 100 + 50);
+            GenerationState budgeted = GenerationState.fresh(3L);
+            GenerationState counted = GenerationState.fresh(3L);
+
+            // When
+            service.generateWithinBudget(TablePlan.compile(table), budgeted, budget, padded, bytes -> {
+            });
+            service.generateDataStream(TablePlan.compile(table), 1500, counted).forEach(row -> {
+            });
+
+            // Then
+            GenerationCheckpoint expected = counted.toCheckpoint("ckpt", "logs");
+            GenerationCheckpoint actual = budgeted.toCheckpoint("ckpt", "logs");
+            assertThat(actual.getRowsGenerated()).isEqualTo(1500).isEqualTo(expected.getRowsGenerated());
+            assertThat(actual.getNextBlock()).isEqualTo(expected.getNextBlock());
+            assertThat(actual.getNextPrimaryKey()).isEqualTo(1501).isEqualTo(expected.getNextPrimaryKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("예산 계산")
+    class Accounting {
+
+        @Test
+        @DisplayName("고정 바이트 예약 후 남은 바이트와 실제 평균으로 행 수를 추정한다")
+        void estimate_usesObservedAverage() {
+            // Given
+            ByteBudget budget = new ByteBudget(1_000);
+            budget.reserve(100);
+            budget.calibrate(10);
+
+            // When & Then
+            assertThat(budget.estimateRemainingRows()).isEqualTo(90);
+            assertThat(budget.tryConsume(30)).isTrue();
+            assertThat(budget.estimateRemainingRows()).isEqualTo(29);
+            assertThat(budget.tryConsume(871)).isFalse();
+            assertThat(budget.tryConsume(1)).isFalse();
+            assertThat(budget.getBytesUsed()).isEqualTo(130);
+        }
+
+        @Test
+        @DisplayName("0 이하의 목표나 고정 바이트보다 작은 목표는 거부한다")
+        void invalidTargets_areRejected() {
+            assertThatThrownBy(() -> new ByteBudget(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new ByteBudget(10).reserve(11))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("fixed output overhead");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.lob.LobValue;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이트 단위 CSV 인코더 테스트
+ */
+@Slf4j
+@DisplayName("CsvEncoder 테스트")
+class CsvEncoderTest {
+
+    private final List<String> columns = List.of("id", "name", "amount", "active", "joined");
+
+    private Map<String, Object> row(Object id, Object name) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", name);
+        row.put("amount", new BigDecimal("12.50"));
+        row.put("active", true);
+        row.put("joined", LocalDate.of(2024, 3, 1));
+        return row;
+    }
+
+    private String encode(CsvEncoder.Format format, List<Map<String, Object>> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvEncoder encoder = new CsvEncoder(out, format)) {
+            encoder.writeHeader(columns);
+            for (Map<String, Object> row : rows) {
+                encoder.writeRow(row, columns);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("RFC 4180 인코딩")
+    class Encoding {
+
+        @Test
+        @DisplayName("기본 형식은 기존 CsvLines 출력과 같은 바이트를 만든다")
+        void default_matchesCsvLines() throws IOException {
+            // Given
+            List<Map<String, Object>> rows = List.of(
+                    row(1L, "plain"), row(-42, "a,b"), row(Long.MIN_VALUE, "say \"hi\""),
+                    row(0, "줄\n바꿈 한글"), row(7, null));
+
+            // When
+            String encoded = encode(CsvEncoder.Format.DEFAULT, rows);
+
+            // Then
+            String expected = CsvLines.header(columns) + System.lineSeparator() + rows.stream()
+                    .map(row -> CsvLines.line(row, columns) + System.lineSeparator())
+                    .collect(Collectors.joining());
+            assertThat(encoded).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("CR, 따옴표, 구분자, 서로게이트 쌍을 포함한 값을 파서가 그대로 복원한다")
+        void rfc4180_roundTrips() throws IOException {
+            // Given
+            String tricky = "x\r\ny, \"q\" 😀 é 中";
+
+            // When
+            String encoded = encode(CsvEncoder.Format.RFC4180, List.of(row(1, tricky)));
+
+            // Then
+            assertThat(encoded).contains("\r\n");
+            List<CSVRecord> records = CSVFormat.RFC4180.parse(new StringReader(encoded)).getRecords();
+            assertThat(records).hasSize(2);
+            assertThat(records.get(1).get(1)).isEqualTo(tricky);
+            assertThat(records.get(1).get(2)).isEqualTo("12.50");
+        }
+
+        @Test
+        @DisplayName("버퍼보다 긴 값과 LOB은 나눠 기록해도 손상되지 않는다")
+        void largeValues_spanBuffers() throws IOException {
+            // Given
+            String large = "가\"나".repeat(CsvEncoder.BUFFER_SIZE / 2);
+            LobValue lob = new LobValue(LobValue.Kind.JSON, 5L, 100_000);
+            Map<String, Object> row = row(1, large);
+            row.put("amount", lob);
+
+            // When
+            String encoded = encode(CsvEncoder.Format.RFC4180, List.of(row));
+
+            // Then
+            CSVRecord record = CSVFormat.RFC4180.parse(new StringReader(encoded)).getRecords().get(1);
+            assertThat(record.get(1)).isEqualTo(large);
+            assertThat(record.get(2)).isEqualTo(lob.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("형식 설정")
+    class Formats {
+
+        @Test
+        @DisplayName("구분자와 따옴표 정책을 바꿀 수 있다")
+        void delimiterAndQuoting_areConfigurable() throws IOException {
+            // Given
+            CsvEncoder.Format tsv = CsvEncoder.Format.RFC4180.withDelimiter('\t');
+
+            // When & Then
+            assertThat(encode(tsv, List.of(row(1, "a,b\tc"))))
+                    .endsWith("1\t\"a,b\tc\"\t12.50\ttrue\t2024-03-01\r\n");
+            assertThat(encode(tsv.withQuoting(CsvEncoder.Quoting.NON_NUMERIC), List.of(row(1, "a"))))
+                    .endsWith("1\t\"a\"\t12.50\ttrue\t\"2024-03-01\"\r\n");
+            assertThat(encode(tsv.withQuoting(CsvEncoder.Quoting.ALL), List.of(row(1, null))))
+                    .endsWith("\"1\"\t\t\"12.50\"\t\"true\"\t\"2024-03-01\"\r\n");
+        }
+
+        @Test
+        @DisplayName("ASCII가 아니거나 줄바꿈인 구분자, 구분자와 같은 따옴표는 거부한다")
+        void invalidFormats_areRejected() {
+            assertThatThrownBy(() -> CsvEncoder.Format.RFC4180.withDelimiter('\n'))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CsvEncoder.Format.RFC4180.withDelimiter('、'))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CsvEncoder.Format.RFC4180.withDelimiter('"'))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("distinct");
+        }
+    }
+
+    /**
+     * 기존 경로(CsvLines.line + PrintWriter)와 인코더의 처리량 비교 (-Ditdg.benchmark=true 일 때만 실행)
+     */
+    @Nested
+    @DisplayName("처리량 벤치마크")
+    @EnabledIfSystemProperty(named = "itdg.benchmark", matches = "true")
+    class Benchmark {
+
+        private static final int ROWS = 200_000;
+        private static final int ROUNDS = 10;
+
+        @Test
+        @DisplayName("생성된 행을 두 경로로 인코딩해 rows/s를 비교한다")
+        void encoder_vsPrintWriter() throws IOException {
+            // Given - 생성 비용을 제외하기 위해 행을 미리 만들어 둔다
+            StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+                    List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+            TableMetadata table = TableMetadata.builder()
+                    .tableName("orders")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                            ColumnMetadata.builder().name("customer").dataType("VARCHAR").length(30).build(),
+                            ColumnMetadata.builder().name("quantity").dataType("INT").build(),
+                            ColumnMetadata.builder().name("price").dataType("DECIMAL").build(),
+                            ColumnMetadata.builder().name("ordered").dataType("DATE").build(),
+                            ColumnMetadata.builder().name("note").dataType("VARCHAR").length(80).build()))
+                    .build();
+            List<String> names = List.of("id", "customer", "quantity", "price", "ordered", "note");
+            List<Map<String, Object>> rows = service.generateDataStream(table, ROWS, 1L).toList();
+
+            // When
+            double baseline = 0;
+            double encoder = 0;
+            for (int round = 0; round < ROUNDS; round++) { // 첫 라운드는 워밍업
+                long start = System.nanoTime();
+                try (PrintWriter writer = new PrintWriter(
+                        new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))) {
+                    for (Map<String, Object> row : rows) {
+                        writer.println(CsvLines.line(row, names));
+                    }
+                }
+                long middle = System.nanoTime();
+                try (CsvEncoder csv = new CsvEncoder(OutputStream.nullOutputStream(), CsvEncoder.Format.DEFAULT)) {
+                    for (Map<String, Object> row : rows) {
+                        csv.writeRow(row, names);
+                    }
+                }
+                long end = System.nanoTime();
+                if (round > 0) {
+                    baseline = Math.max(baseline, ROWS * 1e9 / (middle - start));
+                    encoder = Math.max(encoder, ROWS * 1e9 / (end - middle));
+                }
+            }
+
+            // Then
+            log.info("CSV encoding throughput - PrintWriter + CsvLines: {} rows/s, CsvEncoder: {} rows/s ({}x)",
+                    (long) baseline, (long) encoder, String.format("%.2f", encoder / baseline));
+            assertThat(encoder).isGreaterThan(baseline);
+        }
+    }
+}
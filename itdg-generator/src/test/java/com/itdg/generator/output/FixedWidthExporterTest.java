@@ -0,0 +1,147 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정폭 병렬 출력 테스트
+ */
+@DisplayName("FixedWidthExporter 테스트")
+class FixedWidthExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FixedWidthExporter exporter = new FixedWidthExporter(new StreamingDataGeneratorService(
+            List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy())));
+
+    private TableMetadata createTable() {
+        return TableMetadata.builder()
+                .tableName("accounts")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("balance").dataType("INT").isNullable(false).build(),
+                        ColumnMetadata.builder().name("owner").dataType("VARCHAR").length(12).isNullable(false)
+                                .build()))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("병렬 쓰기")
+    class ParallelWrite {
+
+        @Test
+        @DisplayName("워커 수와 무관하게 같은 파일이 만들어진다")
+        void parallelOutput_matchesSingleWorker() throws Exception {
+            // Given
+            Path single = tempDir.resolve("single.dat");
+            Path parallel = tempDir.resolve("parallel.dat");
+            long rows = 10_000; // 마지막 블록은 일부만 채워짐
+
+            // When
+            FixedWidthLayout layout = exporter.export(createTable(), rows, 21L, 1, single);
+            exporter.export(createTable(), rows, 21L, 4, parallel);
+
+            // Then
+            assertThat(Files.size(parallel)).isEqualTo(rows * layout.getRecordLength());
+            assertThat(Files.mismatch(single, parallel)).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("응답 스트림으로 바로 보낸 바이트는 워커 수와 무관하게 파일 결과와 같다")
+        void streamedOutput_matchesFile() throws Exception {
+            // Given
+            Path file = tempDir.resolve("accounts.dat");
+            long rows = 10_000;
+            exporter.export(createTable(), rows, 21L, 2, file);
+
+            // When
+            ByteArrayOutputStream single = new ByteArrayOutputStream();
+            ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+            exporter.export(createTable(), rows, 21L, 1, single);
+            exporter.export(createTable(), rows, 21L, 4, parallel);
+
+            // Then
+            byte[] expected = Files.readAllBytes(file);
+            assertThat(single.toByteArray()).isEqualTo(expected);
+            assertThat(parallel.toByteArray()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("n번째 레코드는 n * 레코드 길이 위치에 있다")
+        void recordOffsets_areComputable() throws Exception {
+            // Given
+            Path file = tempDir.resolve("accounts.dat");
+
+            // When
+            FixedWidthLayout layout = exporter.export(createTable(), 5000, 3L, 3, file);
+
+            // Then
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertThat(lines).hasSize(5000);
+            assertThat(layout.getRecordLength()).isEqualTo(20 + 11 + 12 + 1);
+            for (int n : new int[] { 0, 1023, 1024, 4999 }) {
+                assertThat(lines.get(n).substring(0, 20).trim()).isEqualTo(String.valueOf(n + 1));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("레이아웃")
+    class Layout {
+
+        @Test
+        @DisplayName("폭을 넘는 값은 UTF-8 문자 경계에서 자르고 공백으로 채운다")
+        void encode_truncatesOnCharacterBoundary() {
+            // Given
+            TableMetadata table = TableMetadata.builder().tableName("t").columns(List.of(
+                    ColumnMetadata.builder().name("name").dataType("VARCHAR").length(7).build(),
+                    ColumnMetadata.builder().name("memo").dataType("VARCHAR").length(4).build()))
+                    .build();
+            FixedWidthLayout layout = FixedWidthLayout.of(table);
+            ByteBuffer buffer = ByteBuffer.allocate(layout.getRecordLength());
+
+            // When - "홍길동"은 9바이트
+            layout.encode(Map.of("name", "홍길동", "memo", "a\nb"), buffer);
+
+            // Then
+            assertThat(buffer.position()).isEqualTo(12);
+            assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("홍길 a b \n");
+        }
+
+        @Test
+        @DisplayName("레이아웃 설명은 비ASCII와 구분자 문자를 퍼센트 인코딩해 ASCII 헤더 값이 된다")
+        void describe_percentEncodesNames() {
+            // Given
+            TableMetadata table = TableMetadata.builder().tableName("t").columns(List.of(
+                    ColumnMetadata.builder().name("id").dataType("BIGINT").build(),
+                    ColumnMetadata.builder().name("고객명").dataType("VARCHAR").length(30).build(),
+                    ColumnMetadata.builder().name("a:b,c d").dataType("VARCHAR").length(4).build()))
+                    .build();
+
+            // When
+            String description = FixedWidthLayout.of(table).describe();
+
+            // Then
+            assertThat(description).isEqualTo("id:20,%EA%B3%A0%EA%B0%9D%EB%AA%85:30,a%3Ab%2Cc%20d:4");
+            assertThat(description.chars()).allMatch(c -> c > ' ' && c < 0x7F);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.ColumnBatch;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.BooleanGeneratorStrategy;
+import com.itdg.generator.strategy.impl.DateTimeGeneratorStrategy;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트리밍 Parquet 기록기 테스트 - 독립 리더(DuckDB)로 다시 읽어 검증
+ */
+@DisplayName("ParquetStreamWriter 테스트")
+class ParquetStreamWriterTest {
+
+    private static final String[] CITIES = { "서울", "부산", "대구", "인천", "광주" };
+
+    @TempDir
+    Path tempDir;
+
+    private final StreamingDataGeneratorService generatorService = new StreamingDataGeneratorService(List.of(
+            new NumericGeneratorStrategy(), new StringGeneratorStrategy(), new DateTimeGeneratorStrategy(),
+            new BooleanGeneratorStrategy()));
+
+    private TableMetadata ordersTable() {
+        return TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("quantity").dataType("INT").isNullable(true).build(),
+                        ColumnMetadata.builder().name("price").dataType("DECIMAL").build(),
+                        ColumnMetadata.builder().name("ratio").dataType("DOUBLE").build(),
+                        ColumnMetadata.builder().name("ordered").dataType("DATE").build(),
+                        ColumnMetadata.builder().name("created").dataType("TIMESTAMP").build(),
+                        ColumnMetadata.builder().name("active").dataType("BOOLEAN").build(),
+                        ColumnMetadata.builder().name("customer").dataType("VARCHAR").length(20)
+                                .isNullable(true).build()))
+                .build();
+    }
+
+    private List<ColumnMetadata> cityColumns() {
+        return List.of(
+                ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                ColumnMetadata.builder().name("city").dataType("VARCHAR").build(),
+                ColumnMetadata.builder().name("note").dataType("VARCHAR").build());
+    }
+
+    /**
+     * id, city(5종 반복), note(행마다 다른 긴 문자열) 배치
+     */
+    private ColumnBatch cityBatch(int from, int rows) {
+        Object[] ids = new Object[rows];
+        Object[] cities = new Object[rows];
+        Object[] notes = new Object[rows];
+        for (int r = 0; r < rows; r++) {
+            ids[r] = (long) from + r;
+            cities[r] = (from + r) % 7 == 0 ? null : CITIES[(from + r) % CITIES.length];
+            notes[r] = "note-" + (from + r) + "-" + "x".repeat(40);
+        }
+        return new ColumnBatch(List.of("id", "city", "note"), new Object[][] { ids, cities, notes }, rows);
+    }
+
+    private Path writeCities(int rows, ParquetStreamWriter.Codec codec, long rowGroupBytes) throws IOException {
+        Path file = tempDir.resolve("cities-" + rows + "-" + codec + "-" + rowGroupBytes + ".parquet");
+        try (OutputStream out = Files.newOutputStream(file);
+             ParquetStreamWriter writer = new ParquetStreamWriter(out, cityColumns(), codec, rowGroupBytes)) {
+            for (int from = 0; from < rows; from += 1000) {
+                writer.writeBatch(cityBatch(from, Math.min(1000, rows - from)));
+            }
+        }
+        return file;
+    }
+
+    private static <T> List<T> query(String sql, SqlRow<T> mapper) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:duckdb:");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            List<T> result = new ArrayList<>();
+            while (rs.next()) {
+                result.add(mapper.map(rs));
+            }
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlRow<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    @Nested
+    @DisplayName("스키마와 값")
+    class SchemaAndValues {
+
+        @Test
+        @DisplayName("생성기 열 배치를 기록하면 행 스트림과 같은 값을 컬럼 타입대로 읽을 수 있다")
+        void generatedBatches_roundTrip() throws Exception {
+            // Given
+            TablePlan plan = TablePlan.compile(ordersTable());
+            List<Map<String, Object>> expected = generatorService
+                    .generateDataStream(plan, 3000, GenerationState.fresh(42L)).toList();
+            Path file = tempDir.resolve("orders.parquet");
+
+            // When
+            try (OutputStream out = Files.newOutputStream(file);
+                 ParquetStreamWriter writer = new ParquetStreamWriter(out, plan.getOutputColumnMetadata(),
+                         ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES)) {
+                generatorService.generateBatchStream(plan, 3000, GenerationState.fresh(42L)).forEach(batch -> {
+                    try {
+                        writer.writeBatch(batch);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+
+            // Then - 물리/논리 타입
+            List<String> types = query("DESCRIBE SELECT * FROM read_parquet('" + file + "')",
+                    rs -> rs.getString("column_name") + ":" + rs.getString("column_type"));
+            assertThat(types).containsExactly("id:BIGINT", "quantity:INTEGER", "price:DECIMAL(18,4)",
+                    "ratio:DOUBLE", "ordered:DATE", "created:TIMESTAMP", "active:BOOLEAN", "customer:VARCHAR");
+
+            // Then - 값 (DECIMAL은 소수 4자리, TIMESTAMP는 마이크로초 단위)
+            List<Object[]> actual = query("SELECT * FROM read_parquet('" + file + "')", rs -> new Object[] {
+                    rs.getObject(1), rs.getObject(2), rs.getBigDecimal(3), rs.getObject(4),
+                    rs.getObject(5, LocalDate.class), rs.getObject(6, LocalDateTime.class), rs.getObject(7),
+                    rs.getString(8) });
+            assertThat(actual).hasSize(expected.size());
+            for (int r = 0; r < expected.size(); r++) {
+                Map<String, Object> row = expected.get(r);
+                Object[] read = actual.get(r);
+                assertThat(read[0]).isEqualTo(((Number) row.get("id")).longValue());
+                assertThat(read[1]).isEqualTo(row.get("quantity") == null ? null
+                        : ((Number) row.get("quantity")).intValue());
+                assertThat(read[2]).isEqualTo(((BigDecimal) row.get("price")).setScale(4, RoundingMode.HALF_UP));
+                assertThat(read[3]).isEqualTo(row.get("ratio"));
+                assertThat(read[4]).isEqualTo(row.get("ordered"));
+                assertThat(read[5]).isEqualTo(((LocalDateTime) row.get("created")).truncatedTo(ChronoUnit.MICROS));
+                assertThat(read[6]).isEqualTo(row.get("active"));
+                assertThat(read[7]).isEqualTo(row.get("customer"));
+            }
+        }
+
+        @Test
+        @DisplayName("변환할 수 없는 값은 IllegalArgumentException")
+        void unconvertibleValue_isRejected() throws IOException {
+            // Given
+            ParquetStreamWriter writer = new ParquetStreamWriter(OutputStream.nullOutputStream(),
+                    List.of(ColumnMetadata.builder().name("qty").dataType("INT").build()),
+                    ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES);
+
+            // When & Then
+            assertThatThrownBy(() -> writer.writeBatch(new ColumnBatch(List.of("qty"),
+                    new Object[][] { { "many" } }, 1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("qty");
+        }
+
+        @Test
+        @DisplayName("INT32 범위를 넘는 숫자는 잘라 쓰지 않고 IllegalArgumentException")
+        void int32Overflow_isRejected() throws IOException {
+            // Given
+            ParquetStreamWriter writer = new ParquetStreamWriter(OutputStream.nullOutputStream(),
+                    List.of(ColumnMetadata.builder().name("qty").dataType("INT").build()),
+                    ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES);
+
+            // When & Then
+            assertThatThrownBy(() -> writer.writeBatch(new ColumnBatch(List.of("qty"),
+                    new Object[][] { { Integer.MAX_VALUE + 1L } }, 1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("2147483648");
+        }
+    }
+
+    @Nested
+    @DisplayName("인코딩")
+    class Encodings {
+
+        @Test
+        @DisplayName("저카디널리티 컬럼은 사전 인코딩, PK와 사전 한도를 넘는 컬럼은 PLAIN으로 기록한다")
+        void dictionary_forLowCardinalityOnly() throws Exception {
+            // Given - note 컬럼은 약 1.6 MiB로 사전 한도(1 MiB)를 넘는다
+            int rows = 30_000;
+
+            // When
+            Path file = writeCities(rows, ParquetStreamWriter.Codec.UNCOMPRESSED,
+                    ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES);
+
+            // Then
+            List<String> encodings = query("SELECT path_in_schema, encodings FROM parquet_metadata('" + file
+                    + "') ORDER BY column_id", rs -> rs.getString(1) + ":" + rs.getString(2));
+            assertThat(encodings).hasSize(3);
+            assertThat(encodings.get(0)).startsWith("id:").doesNotContain("DICTIONARY");
+            assertThat(encodings.get(1)).startsWith("city:").contains("DICTIONARY");
+            assertThat(encodings.get(2)).startsWith("note:").doesNotContain("DICTIONARY");
+
+            List<String> cities = query("SELECT city FROM read_parquet('" + file + "')", rs -> rs.getString(1));
+            List<String> notes = query("SELECT note FROM read_parquet('" + file + "')", rs -> rs.getString(1));
+            for (int r = 0; r < rows; r++) {
+                assertThat(cities.get(r)).isEqualTo(r % 7 == 0 ? null : CITIES[r % CITIES.length]);
+                assertThat(notes.get(r)).isEqualTo("note-" + r + "-" + "x".repeat(40));
+            }
+        }
+
+        @Test
+        @DisplayName("GZIP 코덱으로 압축한 페이지도 같은 값으로 읽힌다")
+        void gzip_roundTrips() throws Exception {
+            // When
+            Path plain = writeCities(5000, ParquetStreamWriter.Codec.UNCOMPRESSED,
+                    ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES);
+            Path gzip = writeCities(5000, ParquetStreamWriter.Codec.GZIP, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES);
+
+            // Then
+            assertThat(Files.size(gzip)).isLessThan(Files.size(plain));
+            assertThat(query("SELECT count(*) FROM (SELECT * FROM read_parquet('" + plain + "') EXCEPT ALL "
+                    + "SELECT * FROM read_parquet('" + gzip + "'))", rs -> rs.getLong(1))).containsExactly(0L);
+            assertThat(query("SELECT DISTINCT compression FROM parquet_metadata('" + gzip + "')",
+                    rs -> rs.getString(1))).containsExactly("GZIP");
+        }
+    }
+
+    @Nested
+    @DisplayName("로우 그룹")
+    class RowGroups {
+
+        @Test
+        @DisplayName("인코딩 크기가 한도에 닿을 때마다 로우 그룹을 나눠 기록한다")
+        void rowGroups_areBoundedBySize() throws Exception {
+            // When
+            Path file = writeCities(20_000, ParquetStreamWriter.Codec.UNCOMPRESSED, 256 << 10);
+
+            // Then - 행당 약 70바이트이므로 여러 그룹으로 나뉜다
+            List<Long> groupRows = query("SELECT row_group_id, any_value(row_group_num_rows) FROM parquet_metadata('"
+                    + file + "') GROUP BY row_group_id ORDER BY row_group_id", rs -> rs.getLong(2));
+            assertThat(groupRows).hasSizeGreaterThan(3);
+            assertThat(groupRows.stream().mapToLong(Long::longValue).sum()).isEqualTo(20_000);
+            assertThat(query("SELECT max(id), count(*) FROM read_parquet('" + file + "')",
+                    rs -> rs.getLong(1) + "/" + rs.getLong(2))).containsExactly("19999/20000");
+        }
+
+        @Test
+        @DisplayName("완료된 로우 그룹 메타데이터로 이어 쓰면 한 번에 쓴 파일과 같은 바이트가 된다")
+        void resume_fromCommittedRowGroups() throws Exception {
+            // Given - 두 번째 그룹까지 기록한 뒤 중단
+            Path reference = tempDir.resolve("reference.parquet");
+            try (OutputStream out = Files.newOutputStream(reference);
+                 ParquetStreamWriter writer = new ParquetStreamWriter(out, cityColumns(),
+                         ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES)) {
+                for (int from = 0; from < 3000; from += 1000) {
+                    writer.writeBatch(cityBatch(from, 1000));
+                    writer.flushRowGroup();
+                }
+            }
+            Path resumed = tempDir.resolve("resumed.parquet");
+            List<ParquetStreamWriter.RowGroup> committed;
+            try (OutputStream out = Files.newOutputStream(resumed)) {
+                ParquetStreamWriter writer = new ParquetStreamWriter(out, cityColumns(),
+                        ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES);
+                for (int from = 0; from < 2000; from += 1000) {
+                    writer.writeBatch(cityBatch(from, 1000));
+                    writer.flushRowGroup();
+                }
+                committed = writer.getRowGroups().stream()
+                        .map(group -> ParquetStreamWriter.RowGroup.decode(group.encode()))
+                        .toList();
+            }
+
+            // When
+            try (OutputStream out = Files.newOutputStream(resumed, StandardOpenOption.APPEND);
+                 ParquetStreamWriter writer = ParquetStreamWriter.resume(out, cityColumns(),
+                         ParquetStreamWriter.Codec.UNCOMPRESSED, ParquetStreamWriter.DEFAULT_ROW_GROUP_BYTES,
+                         committed)) {
+                writer.writeBatch(cityBatch(2000, 1000));
+            }
+
+            // Then
+            assertThat(Files.readAllBytes(resumed)).isEqualTo(Files.readAllBytes(reference));
+        }
+    }
+
+    @Nested
+    @DisplayName("설정 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("지원하지 않는 코덱과 범위를 벗어난 로우 그룹 크기는 거부한다")
+        void invalidSettings_areRejected() {
+            assertThat(ParquetStreamWriter.Codec.of("GZIP")).isEqualTo(ParquetStreamWriter.Codec.GZIP);
+            assertThat(ParquetStreamWriter.Codec.of("none")).isEqualTo(ParquetStreamWriter.Codec.UNCOMPRESSED);
+            assertThatThrownBy(() -> ParquetStreamWriter.Codec.of("snappy"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ParquetStreamWriter.requireRowGroupBytes(1024))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ParquetStreamWriter.requireRowGroupBytes(2L << 30))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.itdg.generator.output;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.ColumnBatch;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.BooleanGeneratorStrategy;
+import com.itdg.generator.strategy.impl.DateTimeGeneratorStrategy;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostgreSQL 바이너리 COPY 기록기 테스트 - 프로토콜 문서의 레이아웃과 numeric_send 결과로 검증
+ */
+@DisplayName("PgCopyWriter 테스트")
+class PgCopyWriterTest {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static ColumnMetadata column(String name, String type) {
+        return ColumnMetadata.builder().name(name).dataType(type).build();
+    }
+
+    private static byte[] write(List<ColumnMetadata> columns, Object[][] vectors, int rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PgCopyWriter writer = new PgCopyWriter(out, columns)) {
+            writer.writeBatch(new ColumnBatch(columns.stream().map(ColumnMetadata::getName).toList(), vectors, rows));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 튜플별 필드 바이트 (NULL은 null)
+     */
+    private static List<List<byte[]>> tuples(byte[] copy) {
+        ByteBuffer in = ByteBuffer.wrap(copy);
+        byte[] signature = new byte[11];
+        in.get(signature);
+        assertThat(HEX.formatHex(signature)).isEqualTo("5047434f50590aff0d0a00");
+        assertThat(in.getInt()).isZero();
+        assertThat(in.getInt()).isZero();
+        List<List<byte[]>> tuples = new ArrayList<>();
+        for (short fields = in.getShort(); fields != -1; fields = in.getShort()) {
+            List<byte[]> tuple = new ArrayList<>();
+            for (int f = 0; f < fields; f++) {
+                int length = in.getInt();
+                byte[] value = length < 0 ? null : new byte[length];
+                if (value != null) {
+                    in.get(value);
+                }
+                tuple.add(value);
+            }
+            tuples.add(tuple);
+        }
+        assertThat(in.remaining()).isZero();
+        return tuples;
+    }
+
+    private static String numericHex(String value) throws IOException {
+        return HEX.formatHex(tuples(write(List.of(column("n", "NUMERIC")),
+                new Object[][] { { new BigDecimal(value) } }, 1)).get(0).get(0));
+    }
+
+    @Nested
+    @DisplayName("필드 인코딩")
+    class Fields {
+
+        @Test
+        @DisplayName("정수/실수/불리언/날짜/시각/UUID/문자열/바이트/NULL을 빅엔디언 바이너리로 기록한다")
+        void scalarTypes() throws IOException {
+            // Given
+            UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            List<ColumnMetadata> columns = List.of(column("s", "SMALLINT"), column("i", "INT"),
+                    column("l", "BIGINT"), column("f", "REAL"), column("d", "DOUBLE"), column("b", "BOOLEAN"),
+                    column("day", "DATE"), column("at", "TIME"), column("ts", "TIMESTAMP"), column("u", "UUID"),
+                    column("t", "VARCHAR"), column("j", "JSONB"), column("raw", "BYTEA"), column("missing", "INT"));
+            Object[][] vectors = { { (short) -2 }, { 7 }, { 1L << 40 }, { 1.5f }, { -0.25 }, { true },
+                    { LocalDate.of(2000, 1, 2) }, { LocalTime.of(0, 0, 1) },
+                    { LocalDateTime.of(1999, 12, 31, 23, 59, 59, 500_000_000) }, { uuid.toString() },
+                    { "한글 😀 ok" }, { "{\"a\":1}" }, { new byte[] { 1, 2, (byte) 0xFF } }, { null } };
+
+            // When
+            List<byte[]> fields = tuples(write(columns, vectors, 1)).get(0);
+
+            // Then
+            assertThat(fields).extracting(field -> field == null ? null : HEX.formatHex(field)).containsExactly(
+                    "fffe",
+                    "00000007",
+                    "0000010000000000",
+                    "3fc00000",
+                    "bfd0000000000000",
+                    "01",
+                    "00000001", // 2000-01-01 기준 일 수
+                    "00000000000f4240", // 자정 기준 µs
+                    "fffffffffff85ee0", // 2000-01-01 기준 -0.5초
+                    "123e4567e89b12d3a456426614174000",
+                    HEX.formatHex("한글 😀 ok".getBytes(StandardCharsets.UTF_8)),
+                    "01" + HEX.formatHex("{\"a\":1}".getBytes(StandardCharsets.UTF_8)), // jsonb 버전 1
+                    "0102ff",
+                    null);
+        }
+
+        @Test
+        @DisplayName("numeric은 PostgreSQL numeric_send와 같은 10000진 표현으로 기록한다")
+        void numeric_matchesNumericSend() throws IOException {
+            // ndigits, weight, sign, dscale, digits...
+            assertThat(numericHex("1234.5600")).isEqualTo("0002" + "0000" + "0000" + "0004" + "04d2" + "15e0");
+            assertThat(numericHex("-12.5")).isEqualTo("0002" + "0000" + "4000" + "0001" + "000c" + "1388");
+            assertThat(numericHex("0.0001")).isEqualTo("0001" + "ffff" + "0000" + "0004" + "0001");
+            assertThat(numericHex("100000")).isEqualTo("0001" + "0001" + "0000" + "0000" + "000a");
+            assertThat(numericHex("0.00")).isEqualTo("0000" + "0000" + "0000" + "0002");
+            assertThat(numericHex("1E+5")).isEqualTo(numericHex("100000"));
+            // long 범위를 넘는 값: 1234|5678|9012|3456|7890|1234|.5000
+            assertThat(numericHex("123456789012345678901234.5")).isEqualTo("0007" + "0005" + "0000" + "0001"
+                    + "04d2" + "162e" + "2334" + "0d80" + "1ed2" + "04d2" + "1388");
+        }
+
+        @Test
+        @DisplayName("컬럼 타입으로 변환할 수 없는 값은 컬럼 이름과 함께 IllegalArgumentException")
+        void invalidValue_isRejected() {
+            assertThatThrownBy(() -> write(List.of(column("qty", "INT")), new Object[][] { { 1L << 40 } }, 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("qty")
+                    .hasMessageContaining("INT4");
+            assertThatThrownBy(() -> write(List.of(column("u", "UUID")), new Object[][] { { "nope" } }, 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("u");
+        }
+    }
+
+    @Test
+    @DisplayName("생성기 열 배치를 행 스트림과 같은 값으로 기록한다")
+    void generatedBatches_matchRowStream() throws IOException {
+        // Given
+        StreamingDataGeneratorService service = new StreamingDataGeneratorService(List.of(
+                new NumericGeneratorStrategy(), new StringGeneratorStrategy(), new DateTimeGeneratorStrategy(),
+                new BooleanGeneratorStrategy()));
+        TableMetadata table = TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("qty").dataType("INT").isNullable(true).build(),
+                        ColumnMetadata.builder().name("customer").dataType("VARCHAR").length(20).build(),
+                        ColumnMetadata.builder().name("created").dataType("TIMESTAMP").build()))
+                .build();
+        TablePlan plan = TablePlan.compile(table);
+        List<Map<String, Object>> expected = service.generateDataStream(plan, 1500, GenerationState.fresh(4L)).toList();
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PgCopyWriter writer = new PgCopyWriter(out, plan.getOutputColumnMetadata())) {
+            service.generateBatchStream(plan, 1500, GenerationState.fresh(4L)).forEach(batch -> {
+                try {
+                    writer.writeBatch(batch);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.close();
+            assertThat(writer.getRowCount()).isEqualTo(1500);
+            assertThat(writer.getBytesWritten()).isEqualTo(out.size());
+        }
+
+        // Then
+        List<List<byte[]>> tuples = tuples(out.toByteArray());
+        assertThat(tuples).hasSize(1500);
+        for (int r = 0; r < tuples.size(); r++) {
+            List<byte[]> tuple = tuples.get(r);
+            Map<String, Object> row = expected.get(r);
+            assertThat(ByteBuffer.wrap(tuple.get(0)).getLong()).isEqualTo(((Number) row.get("id")).longValue());
+            assertThat(tuple.get(1) == null ? null : ByteBuffer.wrap(tuple.get(1)).getInt()).isEqualTo(row.get("qty"));
+            assertThat(new String(tuple.get(2), StandardCharsets.UTF_8)).isEqualTo(row.get("customer"));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.itdg.generator.output;
+
+import com.itdg.generator.lob.LobValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 다중 행 INSERT 스크립트 기록기 테스트 - H2에 실제로 적재해 리터럴 인용을 검증
+ */
+@DisplayName("SqlInsertWriter 테스트")
+class SqlInsertWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "price", "active", "born", "created", "alarm",
+            "photo", "memo");
+
+    @TempDir
+    Path tempDir;
+
+    private static Map<String, Object> row(long id, String name) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("name", name);
+        row.put("price", new BigDecimal("1234.5600"));
+        row.put("active", id % 2 == 0);
+        row.put("born", LocalDate.of(1990, 1, 1).plusDays(id));
+        row.put("created", LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000).plusMinutes(id));
+        row.put("alarm", LocalTime.of(7, 45));
+        row.put("photo", new LobValue(LobValue.Kind.BLOB, id, 100));
+        row.put("memo", new LobValue(LobValue.Kind.TEXT, id, 20_000));
+        return row;
+    }
+
+    private static String write(SqlInsertWriter.Options options, List<Map<String, Object>> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SqlInsertWriter writer = new SqlInsertWriter(out, options)) {
+            writer.startTable("people", COLUMNS);
+            for (Map<String, Object> row : rows) {
+                writer.writeRow(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("H2 적재")
+    class LoadIntoH2 {
+
+        @Test
+        @DisplayName("따옴표/백슬래시/줄바꿈/유니코드 문자열과 모든 값 타입이 그대로 적재된다")
+        void script_roundTripsThroughH2() throws Exception {
+            // Given
+            List<String> names = List.of("O'Brien", "back\\slash", "줄\n바꿈", "세미;콜론 -- 주석 아님", "😀 '' \"x\"");
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                rows.add(row(i + 1, i < names.size() ? names.get(i) : null));
+            }
+            String sql = write(new SqlInsertWriter.Options(SqlDialect.H2, 3, 2, true), rows);
+            Path script = tempDir.resolve("people.sql");
+            Files.writeString(script, sql);
+
+            // When
+            try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:sql-" + System.nanoTime());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE \"people\" (\"id\" BIGINT PRIMARY KEY, \"name\" VARCHAR(100),"
+                        + " \"price\" DECIMAL(12, 4), \"active\" BOOLEAN, \"born\" DATE, \"created\" TIMESTAMP(6),"
+                        + " \"alarm\" TIME, \"photo\" VARBINARY(1000), \"memo\" CLOB)");
+                statement.execute("RUNSCRIPT FROM '" + script + "'");
+
+                // Then
+                try (ResultSet rs = statement.executeQuery("SELECT * FROM \"people\" ORDER BY \"id\"")) {
+                    for (Map<String, Object> expected : rows) {
+                        assertThat(rs.next()).isTrue();
+                        assertThat(rs.getLong("id")).isEqualTo(expected.get("id"));
+                        assertThat(rs.getString("name")).isEqualTo(expected.get("name"));
+                        assertThat(rs.getBigDecimal("price")).isEqualByComparingTo((BigDecimal) expected.get("price"));
+                        assertThat(rs.getBoolean("active")).isEqualTo(expected.get("active"));
+                        assertThat(rs.getObject("born", LocalDate.class)).isEqualTo(expected.get("born"));
+                        assertThat(rs.getObject("created", LocalDateTime.class)).isEqualTo(expected.get("created"));
+                        assertThat(rs.getObject("alarm", LocalTime.class)).isEqualTo(expected.get("alarm"));
+                        assertThat(rs.getBytes("photo")).isEqualTo(((LobValue) expected.get("photo")).toBytes());
+                        assertThat(rs.getString("memo"))
+                                .isEqualTo(new String(((LobValue) expected.get("memo")).toBytes(), StandardCharsets.UTF_8));
+                    }
+                    assertThat(rs.next()).isFalse();
+                }
+                assertThat(sql).startsWith("SET REFERENTIAL_INTEGRITY FALSE;\n")
+                        .endsWith("COMMIT;\nSET REFERENTIAL_INTEGRITY TRUE;\n");
+            } catch (SQLException e) {
+                throw new AssertionError("Script failed to load: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("스크립트 구조")
+    class Structure {
+
+        @Test
+        @DisplayName("batchRows 행마다 INSERT 문을 나누고 commitEvery 문마다 트랜잭션을 닫는다")
+        void batchesAndTransactions() throws IOException {
+            // Given
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                rows.add(Map.of("id", (long) i));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            SqlInsertWriter writer = new SqlInsertWriter(out,
+                    new SqlInsertWriter.Options(SqlDialect.POSTGRESQL, 4, 2, false));
+            writer.startTable("t", List.of("id"));
+            for (Map<String, Object> row : rows) {
+                writer.writeRow(row);
+            }
+            writer.close();
+            String sql = out.toString(StandardCharsets.UTF_8);
+
+            // Then - 4 + 4 | 2
+            assertThat(writer.getRowCount()).isEqualTo(10);
+            assertThat(writer.getStatementCount()).isEqualTo(3);
+            assertThat(sql).isEqualTo("BEGIN;\n"
+                    + "INSERT INTO \"t\" (\"id\") VALUES\n(0),\n(1),\n(2),\n(3);\n"
+                    + "INSERT INTO \"t\" (\"id\") VALUES\n(4),\n(5),\n(6),\n(7);\n"
+                    + "COMMIT;\n"
+                    + "BEGIN;\n"
+                    + "INSERT INTO \"t\" (\"id\") VALUES\n(8),\n(9);\n"
+                    + "COMMIT;\n");
+        }
+
+        @Test
+        @DisplayName("방언별 식별자 인용, 문자열 이스케이프, 바이너리 리터럴, 제약 비활성화 구문")
+        void dialectLiterals() throws IOException {
+            // Given
+            Map<String, Object> row = new HashMap<>();
+            row.put("na`me", "it's a \\ path");
+            row.put("bin", new byte[] { 0x0A, (byte) 0xFF });
+
+            // When
+            String mysql = render(SqlDialect.MYSQL, row);
+            String postgres = render(SqlDialect.POSTGRESQL, row);
+
+            // Then
+            assertThat(mysql).isEqualTo("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n"
+                    + "INSERT INTO `t` (`na``me`, `bin`) VALUES\n('it''s a \\\\ path', X'0AFF');\n"
+                    + "SET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+            assertThat(postgres).isEqualTo("SET session_replication_role = replica;\n"
+                    + "INSERT INTO \"t\" (\"na`me\", \"bin\") VALUES\n('it''s a \\ path', '\\x0AFF');\n"
+                    + "SET session_replication_role = DEFAULT;\n");
+        }
+
+        private String render(SqlDialect dialect, Map<String, Object> row) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (SqlInsertWriter writer = new SqlInsertWriter(out, new SqlInsertWriter.Options(dialect, 10, 0, true))) {
+                writer.startTable("t", List.of("na`me", "bin"));
+                writer.writeRow(row);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("PostgreSQL은 text에 넣을 수 없는 NUL 문자를 빼고 MySQL은 \\0으로 이스케이프한다")
+        void nulCharacter_perDialect() throws IOException {
+            // Given
+            Map<String, Object> row = new HashMap<>();
+            row.put("na`me", "a\u0000b");
+            row.put("bin", null);
+
+            // When
+            String postgres = render(SqlDialect.POSTGRESQL, row);
+            String mysql = render(SqlDialect.MYSQL, row);
+
+            // Then
+            assertThat(postgres).contains("('ab', NULL)").doesNotContain("\u0000");
+            assertThat(mysql).contains("('a\\0b', NULL)");
+        }
+
+        @Test
+        @DisplayName("잘못된 방언과 범위를 벗어난 옵션은 IllegalArgumentException")
+        void invalidOptions_areRejected() {
+            assertThatThrownBy(() -> SqlDialect.of("oracle"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("oracle");
+            assertThatThrownBy(() -> new SqlInsertWriter.Options(SqlDialect.H2, 0, 0, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SqlInsertWriter.Options(SqlDialect.H2, 10, -1, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(SqlDialect.of("Postgres")).isEqualTo(SqlDialect.POSTGRESQL);
+        }
+    }
+}
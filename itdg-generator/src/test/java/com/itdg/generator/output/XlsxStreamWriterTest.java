@@ -0,0 +1,160 @@
+package com.itdg.generator.output;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 XLSX 기록기 테스트 (POI로 다시 읽어 검증)
+ */
+@DisplayName("XlsxStreamWriter 테스트")
+class XlsxStreamWriterTest {
+
+    private final List<String> columns = List.of("id", "name", "amount", "active", "joined");
+
+    private Map<String, Object> row(int id) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", (long) id);
+        row.put("name", "user <" + id + "> & co");
+        row.put("amount", new BigDecimal("12.50"));
+        row.put("active", id % 2 == 0);
+        row.put("joined", LocalDate.of(2024, 1, 1).plusDays(id));
+        return row;
+    }
+
+    private byte[] write(int rows, int maxSheetRows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(out, columns, "members", maxSheetRows)) {
+            for (int i = 1; i <= rows; i++) {
+                writer.writeRow(row(i));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("워크북 구성")
+    class Workbook {
+
+        @Test
+        @DisplayName("헤더와 타입별 셀(숫자, 불리언, 인라인 문자열)을 기록한다")
+        void cells_areTyped() throws IOException {
+            // When
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(write(3, 100)))) {
+                Sheet sheet = workbook.getSheetAt(0);
+
+                // Then
+                assertThat(workbook.getNumberOfSheets()).isEqualTo(1);
+                assertThat(sheet.getSheetName()).isEqualTo("members");
+                assertThat(sheet.getLastRowNum()).isEqualTo(3);
+                Row header = sheet.getRow(0);
+                assertThat(header.getCell(0).getStringCellValue()).isEqualTo("id");
+                assertThat(header.getCell(4).getStringCellValue()).isEqualTo("joined");
+
+                Row second = sheet.getRow(2);
+                assertThat(second.getCell(0).getNumericCellValue()).isEqualTo(2.0);
+                assertThat(second.getCell(1).getStringCellValue()).isEqualTo("user <2> & co");
+                assertThat(second.getCell(2).getNumericCellValue()).isEqualTo(12.5);
+                assertThat(second.getCell(3).getCellType()).isEqualTo(CellType.BOOLEAN);
+                assertThat(second.getCell(3).getBooleanCellValue()).isTrue();
+                assertThat(second.getCell(4).getStringCellValue()).isEqualTo("2024-01-03");
+            }
+        }
+
+        @Test
+        @DisplayName("시트 행 한도에 닿으면 같은 헤더로 새 시트를 이어서 만든다")
+        void rows_rollOverToNewSheet() throws IOException {
+            // When - 시트당 헤더 포함 5행: 10행은 4 + 4 + 2
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(write(10, 5)))) {
+
+                // Then
+                assertThat(workbook.getNumberOfSheets()).isEqualTo(3);
+                assertThat(workbook.getSheetName(1)).isEqualTo("members (2)");
+                List<Double> ids = new ArrayList<>();
+                for (Sheet sheet : workbook) {
+                    assertThat(sheet.getLastRowNum()).isLessThanOrEqualTo(4);
+                    assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("id");
+                    for (int r = 1; r <= sheet.getLastRowNum(); r++) {
+                        ids.add(sheet.getRow(r).getCell(0).getNumericCellValue());
+                    }
+                }
+                assertThat(ids).hasSize(10).isSorted().startsWith(1.0).endsWith(10.0);
+            }
+        }
+
+        @Test
+        @DisplayName("시트 파트를 먼저 흘려 쓰고 워크북/콘텐츠 타입 파트는 마지막에 기록한다")
+        void sheetParts_areWrittenFirst() throws IOException {
+            // When
+            List<String> entries = new ArrayList<>();
+            try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(write(10, 5)))) {
+                for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                    entries.add(entry.getName());
+                }
+            }
+
+            // Then
+            assertThat(entries).containsExactly("xl/worksheets/sheet1.xml", "xl/worksheets/sheet2.xml",
+                    "xl/worksheets/sheet3.xml", "xl/workbook.xml", "xl/_rels/workbook.xml.rels", "_rels/.rels",
+                    "[Content_Types].xml");
+        }
+    }
+
+    @Nested
+    @DisplayName("셀 값 처리")
+    class Values {
+
+        @Test
+        @DisplayName("정밀도를 잃는 큰 정수는 문자열로, 허용되지 않는 제어 문자는 제거, 긴 문자열은 셀 한도로 자른다")
+        void unsafeValues_areSanitized() throws IOException {
+            // Given
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", 1234567890123456789L);
+            row.put("name", "a\u0001b\tc");
+            row.put("amount", "x".repeat(XlsxStreamWriter.MAX_CELL_CHARS + 10));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (XlsxStreamWriter writer = new XlsxStreamWriter(out, columns, "bad/name:[1]")) {
+                writer.writeRow(row);
+            }
+
+            // When
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+                Sheet sheet = workbook.getSheetAt(0);
+                Row first = sheet.getRow(1);
+
+                // Then
+                assertThat(sheet.getSheetName()).isEqualTo("bad_name__1_");
+                assertThat(first.getCell(0).getStringCellValue()).isEqualTo("1234567890123456789");
+                assertThat(first.getCell(1).getStringCellValue()).isEqualTo("ab\tc");
+                assertThat(first.getCell(2).getStringCellValue()).hasSize(XlsxStreamWriter.MAX_CELL_CHARS);
+            }
+        }
+
+        @Test
+        @DisplayName("행이 없어도 헤더만 있는 유효한 워크북을 만든다")
+        void empty_producesHeaderOnlyWorkbook() throws IOException {
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(write(0, 100)))) {
+                assertThat(workbook.getNumberOfSheets()).isEqualTo(1);
+                assertThat(workbook.getSheetAt(0).getLastRowNum()).isZero();
+            }
+        }
+    }
+}
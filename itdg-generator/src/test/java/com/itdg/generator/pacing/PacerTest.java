@@ -0,0 +1,149 @@
+package com.itdg.generator.pacing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 속도 조절 생성 테스트
+ */
+@DisplayName("Pacer 테스트")
+class PacerTest {
+
+    /**
+     * 가상 시계 - 읽을 때마다 1µs 진행, sleep은 요청보다 200µs 늦게 깨어남 (park 지연 흉내)
+     */
+    private static final class FakeClock {
+        long now = 1_000_000_000L;
+
+        long read() {
+            now += 1_000;
+            return now;
+        }
+
+        void sleep(long nanos) {
+            now += nanos + 200_000;
+        }
+    }
+
+    private Pacer pacer(RateCurve curve, FakeClock clock, SimpleMeterRegistry registry) {
+        Timer lag = Timer.builder("itdg.pacing.lag").register(registry);
+        DistributionSummary rate = DistributionSummary.builder("itdg.pacing.rate").register(registry);
+        return new Pacer(curve, lag, rate, () -> {
+        }, clock::read, clock::sleep);
+    }
+
+    @Nested
+    @DisplayName("방출률 곡선")
+    class Curves {
+
+        @Test
+        @DisplayName("상수/램프/버스트 곡선의 예정 시각은 누적 행 수의 역함수다")
+        void timeOfRow_invertsCumulativeRows() {
+            // Given
+            RateCurve constant = RateCurve.parse("50000");
+            RateCurve ramp = RateCurve.parse("ramp:1000:3000:10");
+            RateCurve burst = RateCurve.parse("burst:100:1000:10:2");
+
+            // When & Then
+            assertThat(constant.timeOfRow(50_000)).isCloseTo(1.0, within(1e-9));
+            // 램프 구간 누적 행 = (1000 + 3000) / 2 * 10 = 20000, 이후 3000 rows/s
+            assertThat(ramp.timeOfRow(20_000)).isCloseTo(10.0, within(1e-9));
+            assertThat(ramp.timeOfRow(23_000)).isCloseTo(11.0, within(1e-9));
+            assertThat(ramp.timeOfRow(1_000)).isCloseTo(0.9161, within(1e-3)); // 100t² + 1000t = 1000
+            // 주기당 2000(버스트) + 800(기본) 행
+            assertThat(burst.timeOfRow(2_000)).isCloseTo(2.0, within(1e-9));
+            assertThat(burst.timeOfRow(2_800 + 1_000)).isCloseTo(11.0, within(1e-9));
+            assertThat(burst.rateAt(12.5)).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("잘못된 곡선 지정은 거부한다")
+        void parse_rejectsInvalid() {
+            assertThatThrownBy(() -> RateCurve.parse("ramp:1000:5000"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("expected rows/s");
+            assertThatThrownBy(() -> RateCurve.parse("0")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> RateCurve.parse("fast")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> RateCurve.parse("burst:1:2:1:5"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must not exceed");
+        }
+    }
+
+    @Nested
+    @DisplayName("스케줄링")
+    class Scheduling {
+
+        @Test
+        @DisplayName("늦게 깨어나도 누적 오차 없이 목표 시각에 맞춰 방출한다")
+        void pacer_doesNotDrift() {
+            // Given - 1000 rows/s, 매 sleep이 200µs 늦음
+            FakeClock clock = new FakeClock();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            long start = clock.now;
+
+            // When
+            try (Pacer pacer = pacer(RateCurve.parse("1000"), clock, registry)) {
+                for (int i = 0; i <= 5_000; i++) {
+                    pacer.awaitNext(null);
+                }
+            }
+
+            // Then - 5000번째 행 예정 시각 5초, 지연은 한 번의 sleep 지연 수준으로 유지
+            double elapsed = (clock.now - start) / 1e9;
+            assertThat(elapsed).isCloseTo(5.0, within(0.001));
+            Timer lag = registry.get("itdg.pacing.lag").timer();
+            assertThat(lag.count()).isEqualTo(5_001);
+            assertThat(lag.max(TimeUnit.MICROSECONDS)).isLessThan(300);
+            assertThat(registry.get("itdg.pacing.rate").summary().mean()).isCloseTo(1000.0, within(5.0));
+        }
+
+        @Test
+        @DisplayName("오래 쉬게 되면 대기 전에 idle 콜백을 호출한다")
+        void pacer_flushesBeforeLongWaits() {
+            // Given - 10 rows/s: 행 간격 100ms
+            FakeClock clock = new FakeClock();
+            int[] flushes = { 0 };
+
+            // When
+            try (Pacer pacer = pacer(RateCurve.parse("constant:10"), clock, new SimpleMeterRegistry())) {
+                for (int i = 0; i < 5; i++) {
+                    pacer.awaitNext(() -> flushes[0]++);
+                }
+                assertThat(pacer.getRows()).isEqualTo(5);
+            }
+
+            // Then - 첫 행은 즉시, 나머지 4행은 대기 전 flush
+            assertThat(flushes[0]).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("PacingMetrics는 진행 중인 스트림 수를 게이지로 노출한다")
+        void metrics_trackActiveStreams() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            PacingMetrics metrics = new PacingMetrics(registry);
+
+            // When
+            Pacer pacer = metrics.pacer(RateCurve.parse("100"), "csv");
+            double during = registry.get("itdg.pacing.active").gauge().value();
+            pacer.close();
+            pacer.close();
+
+            // Then
+            assertThat(during).isEqualTo(1.0);
+            assertThat(registry.get("itdg.pacing.active").gauge().value()).isEqualTo(0.0);
+            assertThat(registry.get("itdg.pacing.lag").tag("format", "csv").timer()).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.itdg.generator.plan;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.DateTimeGeneratorStrategy;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파생 컬럼 의존성 정렬 테스트
+ */
+@DisplayName("TablePlan 테스트")
+class TablePlanTest {
+
+    private ColumnMetadata column(String name, String type, String expression) {
+        return ColumnMetadata.builder().name(name).dataType(type).isNullable(false).expression(expression).build();
+    }
+
+    @Test
+    @DisplayName("파생 컬럼은 선언 순서와 무관하게 의존성 순서로 평가된다")
+    void rules_areTopologicallySorted() {
+        // Given - grand_total이 total보다 먼저 선언됨
+        TableMetadata table = TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        column("grand_total", "BIGINT", "total + shipping"),
+                        column("total", "BIGINT", "qty * unit_price"),
+                        column("qty", "INT", null),
+                        column("unit_price", "INT", null),
+                        column("shipping", "INT", "if(qty > 10, 0, 3000)")))
+                .build();
+
+        // When
+        TablePlan plan = TablePlan.compile(table);
+
+        // Then
+        List<String> order = List.copyOf(plan.getRules().keySet());
+        assertThat(order.indexOf("total")).isLessThan(order.indexOf("grand_total"));
+        assertThat(order.indexOf("shipping")).isLessThan(order.indexOf("grand_total"));
+    }
+
+    @Test
+    @DisplayName("순환 참조는 계획 단계에서 거부한다")
+    void circularDependency_throws() {
+        TableMetadata table = TableMetadata.builder()
+                .tableName("t")
+                .columns(List.of(
+                        column("a", "INT", "b + 1"),
+                        column("b", "INT", "a + 1")))
+                .build();
+
+        assertThatThrownBy(() -> TablePlan.compile(table))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Circular rule dependency");
+    }
+
+    @Test
+    @DisplayName("한 번의 순회로 행 내 제약(email, total, updated_at >= created_at)을 만족한다")
+    void streamedRows_satisfyIntraRowDependencies() {
+        // Given
+        StreamingDataGeneratorService service = new StreamingDataGeneratorService(List.of(
+                new NumericGeneratorStrategy(), new DateTimeGeneratorStrategy(), new StringGeneratorStrategy()));
+        TableMetadata table = TableMetadata.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        column("email", "VARCHAR", "concat(lower(name), '@corp.kr')"),
+                        column("name", "VARCHAR", null),
+                        column("grand_total", "BIGINT", "total + 2500"),
+                        column("total", "BIGINT", "qty * unit_price"),
+                        column("qty", "INT", null),
+                        column("unit_price", "INT", null),
+                        column("created_at", "TIMESTAMP", null),
+                        column("updated_at", "TIMESTAMP", "plusSeconds(created_at, rand(0, 2592000))")))
+                .build();
+
+        // When
+        List<Map<String, Object>> rows = service.generateDataStream(table, 300, 11L).collect(Collectors.toList());
+
+        // Then
+        assertThat(rows).allSatisfy(row -> {
+            long qty = ((Number) row.get("qty")).longValue();
+            long unitPrice = ((Number) row.get("unit_price")).longValue();
+            assertThat(row.get("email")).isEqualTo(row.get("name").toString().toLowerCase() + "@corp.kr");
+            assertThat(row.get("total")).isEqualTo(qty * unitPrice);
+            assertThat(row.get("grand_total")).isEqualTo(qty * unitPrice + 2500);
+            assertThat((LocalDateTime) row.get("updated_at"))
+                    .isAfterOrEqualTo((LocalDateTime) row.get("created_at"));
+        });
+        assertThat(rows.get(0).keySet()).containsExactly(
+                "email", "name", "grand_total", "total", "qty", "unit_price", "created_at", "updated_at");
+    }
+}
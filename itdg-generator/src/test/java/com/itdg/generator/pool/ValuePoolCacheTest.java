@@ -0,0 +1,185 @@
+package com.itdg.generator.pool;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.pattern.generators.AddressGenerator;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.RegexPatternStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 값 풀 캐시 테스트
+ */
+@DisplayName("ValuePoolCache 테스트")
+class ValuePoolCacheTest {
+
+    private final AddressGenerator address = new AddressGenerator();
+    private final RegexPatternStrategy regex = new RegexPatternStrategy();
+
+    private ColumnMetadata column(String name, String pattern) {
+        return ColumnMetadata.builder().name(name).dataType("VARCHAR").isNullable(false).pattern(pattern).build();
+    }
+
+    private Set<Object> contents(ValuePool pool) {
+        return IntStream.range(0, pool.size()).mapToObj(pool::get).collect(Collectors.toSet());
+    }
+
+    @Nested
+    @DisplayName("캐시")
+    class Caching {
+
+        @Test
+        @DisplayName("같은 컬럼 설정은 같은 풀 인스턴스를 공유한다")
+        void sameKey_sharesPool() {
+            // Given
+            ValuePoolCache cache = new ValuePoolCache(true, 100, 8);
+
+            // When
+            ValuePool first = cache.get(address, column("address", null));
+            ValuePool second = cache.get(address, column("address", null));
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(first.size()).isEqualTo(100);
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("풀 내용은 키에서 유도한 고정 시드로 만들어져 캐시가 달라도 같다")
+        void poolContent_isDeterministic() {
+            ValuePool a = new ValuePoolCache(true, 50, 8).get(regex, column("code", "[A-Z]{3}-\\d{4}"));
+            ValuePool b = new ValuePoolCache(true, 50, 8).get(regex, column("code", "[A-Z]{3}-\\d{4}"));
+
+            assertThat(IntStream.range(0, 50).mapToObj(a::get).collect(Collectors.toList()))
+                    .isEqualTo(IntStream.range(0, 50).mapToObj(b::get).collect(Collectors.toList()));
+            assertThat(contents(a)).allSatisfy(v -> assertThat((String) v).matches("[A-Z]{3}-\\d{4}"));
+        }
+
+        @Test
+        @DisplayName("이름만 다르고 설정이 같은 컬럼은 풀 하나를 공유한다")
+        void sameSettingsDifferentNames_sharePool() {
+            // Given
+            ValuePoolCache cache = new ValuePoolCache(true, 20, 8);
+
+            // When
+            ValuePool billing = cache.get(regex, column("billing_code", "[A-Z]{3}"));
+            ValuePool shipping = cache.get(regex, column("shipping_code", "[A-Z]{3}"));
+
+            // Then
+            assertThat(shipping).isSameAs(billing);
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 풀을 제거한다")
+        void exceedingCapacity_evictsLeastRecentlyUsed() {
+            // Given
+            ValuePoolCache cache = new ValuePoolCache(true, 10, 2);
+            ColumnMetadata a = column("a", "A\\d");
+            ColumnMetadata b = column("b", "B\\d");
+            ColumnMetadata c = column("c", "C\\d");
+            cache.get(regex, a);
+            cache.get(regex, b);
+
+            // When - a를 다시 사용한 뒤 c 추가
+            cache.get(regex, a);
+            cache.get(regex, c);
+
+            // Then
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.contains(regex, a)).isTrue();
+            assertThat(cache.contains(regex, b)).isFalse();
+            assertThat(cache.contains(regex, c)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("서비스 연동")
+    class ServiceIntegration {
+
+        private TableMetadata createTable(boolean uniqueCode) {
+            return TableMetadata.builder()
+                    .tableName("shops")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("address").dataType("VARCHAR").isNullable(false).build(),
+                            ColumnMetadata.builder().name("code").dataType("VARCHAR").isNullable(false)
+                                    .isUnique(uniqueCode).pattern("[A-Z]{2}\\d{6}").build()))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Unique가 아닌 컬럼은 풀에서 뽑고 시드 재현성이 유지된다")
+        void nonUniqueColumns_sampleFromPool() {
+            // Given
+            ValuePoolCache cache = new ValuePoolCache(true, 64, 8);
+            StreamingDataGeneratorService service = new StreamingDataGeneratorService(List.of(regex, address), cache);
+            TableMetadata table = createTable(false);
+
+            // When
+            List<Map<String, Object>> first = service.generateDataStream(table, 2000, 5L).collect(Collectors.toList());
+            List<Map<String, Object>> second = service.generateDataStream(table, 2000, 5L).collect(Collectors.toList());
+
+            // Then
+            assertThat(first).isEqualTo(second);
+            Set<Object> addressPool = contents(cache.get(address, table.getColumns().get(0)));
+            Set<Object> codePool = contents(cache.get(regex, table.getColumns().get(1)));
+            assertThat(first).allSatisfy(row -> {
+                assertThat(addressPool).contains(row.get("address"));
+                assertThat(codePool).contains(row.get("code"));
+            });
+            assertThat(cache.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("풀이 꺼져 있거나 풀 크기가 0이면 전략으로 직접 생성한다")
+        void disabledPool_generatesDirectly() {
+            // Given
+            ValuePoolCache off = new ValuePoolCache(false, 64, 8);
+            ValuePoolCache empty = new ValuePoolCache(true, 0, 8);
+            TableMetadata table = createTable(false);
+
+            // When
+            List<Map<String, Object>> pooledOff = new StreamingDataGeneratorService(List.of(regex, address), off)
+                    .generateDataStream(table, 500, 5L).collect(Collectors.toList());
+            List<Map<String, Object>> direct = new StreamingDataGeneratorService(List.of(regex, address), empty)
+                    .generateDataStream(table, 500, 5L).collect(Collectors.toList());
+
+            // Then
+            assertThat(off.isEnabled()).isFalse();
+            assertThat(empty.isEnabled()).isFalse();
+            assertThat(off.size()).isZero();
+            assertThat(empty.size()).isZero();
+            assertThat(pooledOff).isEqualTo(direct);
+            assertThat(direct.stream().map(row -> row.get("code")).collect(Collectors.toSet())).hasSizeGreaterThan(64);
+        }
+
+        @Test
+        @DisplayName("Unique 컬럼은 풀을 쓰지 않는다")
+        void uniqueColumns_bypassPool() {
+            // Given
+            ValuePoolCache cache = new ValuePoolCache(true, 64, 8);
+            StreamingDataGeneratorService service = new StreamingDataGeneratorService(List.of(regex, address), cache);
+
+            // When
+            List<Map<String, Object>> rows = service.generateDataStream(createTable(true), 500, 5L)
+                    .collect(Collectors.toList());
+
+            // Then - 풀 크기(64)보다 많은 서로 다른 값
+            Set<Object> codes = new HashSet<>();
+            rows.forEach(row -> codes.add(row.get("code")));
+            assertThat(codes).hasSize(500);
+            assertThat(cache.contains(regex, createTable(true).getColumns().get(1))).isFalse();
+        }
+    }
+}
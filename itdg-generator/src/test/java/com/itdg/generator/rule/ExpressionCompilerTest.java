@@ -0,0 +1,193 @@
+package com.itdg.generator.rule;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.SchemaMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.common.dto.request.GenerateDataRequest;
+import com.itdg.common.dto.response.GenerateDataResponse;
+import com.itdg.generator.service.DataGeneratorService;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 컬럼 규칙 표현식 컴파일/평가 테스트
+ */
+@DisplayName("ExpressionCompiler 테스트")
+class ExpressionCompilerTest {
+
+    private Object eval(String expression, Map<String, Object> row) {
+        CompiledExpression compiled = ExpressionCompiler.compile(expression, row.keySet());
+        return compiled.evaluate(new RowContext(row, new Random(42)));
+    }
+
+    @Nested
+    @DisplayName("평가")
+    class Evaluation {
+
+        @Test
+        @DisplayName("산술 연산은 우선순위를 따른다")
+        void arithmetic_respectsPrecedence() {
+            assertThat(eval("1 + 2 * 3", Map.of())).isEqualTo(7L);
+            assertThat(eval("(1 + 2) * 3", Map.of())).isEqualTo(9L);
+            assertThat(eval("7 / 2", Map.of())).isEqualTo(3.5);
+            assertThat(eval("-4 % 3", Map.of())).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("컬럼 참조로 같은 행 값을 계산한다")
+        void columnReference_usesRowValues() {
+            // Given
+            Map<String, Object> row = Map.of("price", 1000, "first_name", "kim");
+
+            // When & Then
+            assertThat((Double) eval("price * 1.1", row)).isCloseTo(1100.0, within(1e-9));
+            assertThat(eval("concat(first_name, '@corp.kr')", row)).isEqualTo("kim@corp.kr");
+            assertThat(eval("upper(first_name) + '-' + length(first_name)", row)).isEqualTo("KIM-3");
+        }
+
+        @Test
+        @DisplayName("if는 조건에 따라 한쪽 분기만 평가한다")
+        void if_choosesBranch() {
+            for (int i = 0; i < 100; i++) {
+                long vip = (Long) eval("if(status=='VIP', rand(1000,5000), rand(0,100))", Map.of("status", "VIP"));
+                long normal = (Long) eval("if(status=='VIP', rand(1000,5000), rand(0,100))",
+                        Map.of("status", "NORMAL"));
+                assertThat(vip).isBetween(1000L, 5000L);
+                assertThat(normal).isBetween(0L, 100L);
+            }
+        }
+
+        @Test
+        @DisplayName("논리 연산은 단락 평가되고 null은 전파된다")
+        void logicAndNulls() {
+            Map<String, Object> row = new HashMap<>();
+            row.put("qty", null);
+            row.put("flag", true);
+
+            assertThat(eval("flag || 1 / 0 > 1", row)).isEqualTo(true);
+            assertThat(eval("!flag && qty > 1", row)).isEqualTo(false);
+            assertThat(eval("qty * 2", row)).isNull();
+            assertThat(eval("coalesce(qty, 5)", row)).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("날짜 함수와 비교를 지원한다")
+        void dates() {
+            Map<String, Object> row = Map.of("created_at", LocalDate.of(2024, 1, 31));
+
+            assertThat(eval("plusDays(created_at, 1)", row)).isEqualTo(LocalDate.of(2024, 2, 1));
+            assertThat(eval("plusDays(created_at, 1) > created_at", row)).isEqualTo(true);
+        }
+    }
+
+    @Nested
+    @DisplayName("컴파일 오류")
+    class CompileErrors {
+
+        @Test
+        @DisplayName("알 수 없는 컬럼과 함수는 컴파일 시 거부한다")
+        void unknownReferences_throw() {
+            assertThatThrownBy(() -> ExpressionCompiler.compile("missing + 1", List.of("price")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown column 'missing'");
+            assertThatThrownBy(() -> ExpressionCompiler.compile("nope(price)", List.of("price")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown function 'nope'");
+        }
+
+        @Test
+        @DisplayName("문법 오류는 위치를 포함해 보고한다")
+        void syntaxErrors_throw() {
+            assertThatThrownBy(() -> ExpressionCompiler.compile("rand(1,", List.of()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at index");
+            assertThatThrownBy(() -> ExpressionCompiler.compile("if(1, 2)", List.of()))
+                    .hasMessageContaining("expects 3 arguments");
+        }
+
+        @Test
+        @DisplayName("참조한 컬럼 목록을 노출한다")
+        void references() {
+            CompiledExpression compiled = ExpressionCompiler.compile("qty * unit_price + qty",
+                    List.of("qty", "unit_price"));
+
+            assertThat(compiled.getReferences()).containsExactlyInAnyOrder("qty", "unit_price");
+        }
+    }
+
+    @Nested
+    @DisplayName("서비스 연동")
+    class ServiceIntegration {
+
+        private TableMetadata createTable() {
+            return TableMetadata.builder()
+                    .tableName("orders")
+                    .columns(List.of(
+                            ColumnMetadata.builder().name("qty").dataType("INT").isNullable(false).build(),
+                            ColumnMetadata.builder().name("total").dataType("BIGINT").isNullable(false).build(),
+                            ColumnMetadata.builder().name("tag").dataType("VARCHAR").isNullable(false).build()))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("customRules 표현식이 요청 기반 생성에 적용된다")
+        void dataGeneratorService_appliesCustomRules() {
+            // Given
+            DataGeneratorService service = new DataGeneratorService(
+                    List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+            GenerateDataRequest request = GenerateDataRequest.builder()
+                    .schema(SchemaMetadata.builder().tables(List.of(createTable())).build())
+                    .rowCount(50L)
+                    .seed(7L)
+                    .customRules(Map.of("orders.total", "qty * 100", "tag", Map.of("expr", "'T' + qty")))
+                    .build();
+
+            // When
+            GenerateDataResponse response = service.generateData(request);
+
+            // Then
+            assertThat(response.getGeneratedData().get("orders")).hasSize(50).allSatisfy(row -> {
+                long qty = ((Number) row.get("qty")).longValue();
+                assertThat(row.get("total")).isEqualTo(qty * 100);
+                assertThat(row.get("tag")).isEqualTo("T" + qty);
+            });
+        }
+
+        @Test
+        @DisplayName("스트리밍 생성은 컬럼 expression을 사용하고 결과가 재현된다")
+        void streamingService_appliesColumnExpressions() {
+            // Given
+            StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+                    List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+            TableMetadata table = CustomRules.apply(createTable(),
+                    Map.of("total", "qty * 2 + rand(0, 9)"));
+
+            // When
+            List<Map<String, Object>> first = service.generateDataStream(table, 200, 1L).collect(Collectors.toList());
+            List<Map<String, Object>> second = service.generateDataStream(table, 200, 1L).collect(Collectors.toList());
+
+            // Then
+            assertThat(first).isEqualTo(second);
+            assertThat(first).allSatisfy(row -> {
+                long qty = ((Number) row.get("qty")).longValue();
+                assertThat((Long) row.get("total")).isBetween(qty * 2, qty * 2 + 9);
+            });
+            assertThat(first.get(0).keySet()).containsExactly("qty", "total", "tag");
+        }
+    }
+}
@@ -62,7 +62,7 @@ class DataGeneratorServiceTest {
                 .build();
     }
 
-    private GenerateDataRequest createRequest(SchemaMetadata schema, int rowCount, Long seed) {
+    private GenerateDataRequest createRequest(SchemaMetadata schema, long rowCount, Long seed) {
         return GenerateDataRequest.builder()
                 .schema(schema)
                 .rowCount(rowCount)
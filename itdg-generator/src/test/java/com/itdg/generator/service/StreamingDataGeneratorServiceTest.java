@@ -0,0 +1,128 @@
+package com.itdg.generator.service;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.checkpoint.GenerationCheckpoint;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컬럼별 난수 스트림 / 컬럼 병렬 생성 테스트
+ */
+@DisplayName("StreamingDataGeneratorService 테스트")
+class StreamingDataGeneratorServiceTest {
+
+    private StreamingDataGeneratorService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StreamingDataGeneratorService(
+                List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+    }
+
+    private ColumnMetadata column(String name, String type) {
+        return ColumnMetadata.builder().name(name).dataType(type).isNullable(false).build();
+    }
+
+    private TableMetadata table(List<ColumnMetadata> columns) {
+        return TableMetadata.builder().tableName("snapshot").columns(columns).build();
+    }
+
+    private List<Map<String, Object>> generate(TableMetadata table, int rows) {
+        return service.generateDataStream(table, rows, 99L).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("컬럼을 추가하거나 순서를 바꿔도 기존 컬럼 값은 그대로다")
+    void addingOrReorderingColumns_keepsExistingValues() {
+        // Given
+        List<ColumnMetadata> base = List.of(column("id", "BIGINT").toBuilder().isPrimaryKey(true).build(),
+                column("amount", "INT"), column("label", "VARCHAR"));
+        List<ColumnMetadata> extended = new ArrayList<>(base);
+        extended.add(1, column("added", "DOUBLE"));
+        List<ColumnMetadata> reordered = List.of(base.get(2), base.get(0), base.get(1));
+
+        // When
+        List<Map<String, Object>> before = generate(table(base), 2500);
+        List<Map<String, Object>> afterAdd = generate(table(extended), 2500);
+        List<Map<String, Object>> afterReorder = generate(table(reordered), 2500);
+
+        // Then
+        for (int i = 0; i < before.size(); i++) {
+            for (String name : List.of("id", "amount", "label")) {
+                assertThat(afterAdd.get(i).get(name)).isEqualTo(before.get(i).get(name));
+                assertThat(afterReorder.get(i).get(name)).isEqualTo(before.get(i).get(name));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("넓은 테이블은 컬럼 병렬 생성에도 결과가 재현되고 Unique를 지킨다")
+    void wideTable_parallelGenerationIsDeterministic() {
+        // Given - 병렬 임계값 이상의 컬럼
+        List<ColumnMetadata> columns = new ArrayList<>();
+        columns.add(column("id", "BIGINT").toBuilder().isPrimaryKey(true).build());
+        IntStream.range(0, StreamingDataGeneratorService.PARALLEL_COLUMN_THRESHOLD + 8)
+                .forEach(i -> columns.add(column("c" + i, i % 2 == 0 ? "INT" : "VARCHAR")));
+        columns.add(column("code", "VARCHAR").toBuilder().isUnique(true).length(12).build());
+        TableMetadata table = table(columns);
+
+        // When
+        List<Map<String, Object>> first = generate(table, 3000);
+        List<Map<String, Object>> second = generate(table, 3000);
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.stream().map(row -> row.get("code")).distinct().count()).isEqualTo(3000);
+        assertThat(first.get(2999).get("id")).isEqualTo(3000L);
+        assertThat(first.get(0).keySet()).first().isEqualTo("id");
+    }
+
+    @Test
+    @DisplayName("컬럼 스트림 시드는 테이블과 컬럼 이름에 따라 달라진다")
+    void streamSeed_dependsOnTableAndColumn() {
+        long a = GenerationState.streamSeed(1L, "users", "age");
+        long b = GenerationState.streamSeed(1L, "users", "name");
+        long c = GenerationState.streamSeed(1L, "orders", "age");
+
+        assertThat(a).isNotEqualTo(b).isNotEqualTo(c);
+        assertThat(GenerationState.streamSeed(1L, "users", "age")).isEqualTo(a);
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 행 수와 PK 시퀀스를 지원한다")
+    void rowCountsBeyondIntRange() {
+        // Given - 30억 번째 행 부근에서 이어서 생성
+        long rowsGenerated = 3_000_000_000L;
+        GenerationState state = GenerationState.resume(GenerationCheckpoint.builder()
+                .seed(5L)
+                .rowsGenerated(rowsGenerated)
+                .nextBlock(rowsGenerated / GenerationState.RNG_BLOCK_SIZE)
+                .nextPrimaryKey(rowsGenerated + 1)
+                .build());
+        TableMetadata table = table(List.of(column("id", "BIGINT").toBuilder().isPrimaryKey(true).build(),
+                column("amount", "INT")));
+
+        // When - 스트림은 지연 평가되므로 앞부분만 소비
+        List<Map<String, Object>> rows = service.generateDataStream(table, 5_000_000_000L, state)
+                .limit(2000)
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(rows).hasSize(2000);
+        assertThat(rows.get(0).get("id")).isEqualTo(rowsGenerated + 1);
+        assertThat(rows.get(1999).get("id")).isEqualTo(rowsGenerated + 2000);
+        assertThat(state.getRowsGenerated()).isEqualTo(rowsGenerated + 2000);
+    }
+}
@@ -0,0 +1,115 @@
+package com.itdg.generator.statistics;
+
+import com.itdg.common.dto.metadata.ColumnDistribution;
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.CorrelationGroup;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 상관 그룹 샘플링 테스트
+ */
+@DisplayName("CorrelatedSampler 테스트")
+class CorrelatedSamplerTest {
+
+    private TableMetadata createTable(List<List<Double>> matrix) {
+        return TableMetadata.builder()
+                .tableName("employees")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("id").dataType("BIGINT").isPrimaryKey(true).build(),
+                        ColumnMetadata.builder().name("age").dataType("INT").isNullable(false).build(),
+                        ColumnMetadata.builder().name("salary").dataType("DOUBLE").isNullable(false).build(),
+                        ColumnMetadata.builder().name("bonus").dataType("DOUBLE").isNullable(false)
+                                .expression("salary * 0.1").build()))
+                .correlationGroups(List.of(CorrelationGroup.builder()
+                        .columns(List.of("age", "salary"))
+                        .matrix(matrix)
+                        .marginals(Map.of("salary", ColumnDistribution.builder()
+                                .type("LOGNORMAL").mean(Math.log(4000)).stdDev(0.4).min(1500.0).build()))
+                        .build()))
+                .build();
+    }
+
+    private double pearson(List<Map<String, Object>> rows, String a, String b) {
+        double n = rows.size();
+        double sa = 0, sb = 0, saa = 0, sbb = 0, sab = 0;
+        for (Map<String, Object> row : rows) {
+            double x = ((Number) row.get(a)).doubleValue();
+            double y = ((Number) row.get(b)).doubleValue();
+            sa += x;
+            sb += y;
+            saa += x * x;
+            sbb += y * y;
+            sab += x * y;
+        }
+        return (sab - sa * sb / n) / Math.sqrt((saa - sa * sa / n) * (sbb - sb * sb / n));
+    }
+
+    @Test
+    @DisplayName("선언한 상관계수와 주변 분포를 따르는 값을 생성한다")
+    void generatesCorrelatedColumns() {
+        // Given
+        StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+                List.of(new NumericGeneratorStrategy()));
+        TableMetadata table = createTable(List.of(List.of(1.0, 0.8), List.of(0.8, 1.0)));
+
+        // When
+        List<Map<String, Object>> rows = service.generateDataStream(table, 20_000, 3L).collect(Collectors.toList());
+
+        // Then - 절단/로그 변환으로 선형 상관은 다소 줄어듦
+        assertThat(pearson(rows, "age", "salary")).isBetween(0.65, 0.85);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat((Long) row.get("age")).isBetween(18L, 90L); // StatisticalStrategy 기본 분포
+            assertThat((Double) row.get("salary")).isGreaterThanOrEqualTo(1500.0);
+            assertThat((Double) row.get("bonus")).isCloseTo((Double) row.get("salary") * 0.1, within(1e-6));
+        });
+    }
+
+    @Test
+    @DisplayName("양의 정부호가 아닌 행렬은 계획 단계에서 거부한다")
+    void nonPositiveDefiniteMatrix_throws() {
+        TableMetadata table = createTable(List.of(List.of(1.0, 1.0), List.of(1.0, 1.0)));
+
+        assertThatThrownBy(() -> TablePlan.compile(table))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("positive definite");
+    }
+
+    @Test
+    @DisplayName("Cholesky 인수는 원래 행렬을 복원한다")
+    void decompose_reconstructsMatrix() {
+        double[][] matrix = { { 1, 0.5, 0.2 }, { 0.5, 1, -0.3 }, { 0.2, -0.3, 1 } };
+
+        double[][] l = CorrelatedSampler.decompose(matrix);
+
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = 0;
+                for (int m = 0; m <= j; m++) {
+                    sum += l[i][m] * l[j][m];
+                }
+                assertThat(sum).isCloseTo(matrix[i][j], within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("정규분포 역CDF는 CDF의 역함수다")
+    void normalInverseCdf_roundTrips() {
+        for (double x = -4; x <= 4; x += 0.25) {
+            assertThat(NormalDistribution.inverseCdf(NormalDistribution.cdf(x))).isCloseTo(x, within(1e-4));
+        }
+    }
+}
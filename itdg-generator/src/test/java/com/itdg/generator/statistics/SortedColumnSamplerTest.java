@@ -0,0 +1,205 @@
+package com.itdg.generator.statistics;
+
+import com.itdg.common.dto.metadata.ColumnMetadata;
+import com.itdg.common.dto.metadata.ColumnOrdering;
+import com.itdg.common.dto.metadata.TableMetadata;
+import com.itdg.generator.plan.TablePlan;
+import com.itdg.generator.rule.CustomRules;
+import com.itdg.generator.service.GenerationState;
+import com.itdg.generator.service.StreamingDataGeneratorService;
+import com.itdg.generator.strategy.impl.NumericGeneratorStrategy;
+import com.itdg.generator.strategy.impl.StringGeneratorStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 정렬 컬럼 생성 테스트
+ */
+@DisplayName("SortedColumnSampler 테스트")
+class SortedColumnSamplerTest {
+
+    private final StreamingDataGeneratorService service = new StreamingDataGeneratorService(
+            List.of(new NumericGeneratorStrategy(), new StringGeneratorStrategy()));
+
+    private TableMetadata createTable(ColumnOrdering createdAt, ColumnOrdering score) {
+        return TableMetadata.builder()
+                .tableName("events")
+                .columns(List.of(
+                        ColumnMetadata.builder().name("created_at").dataType("TIMESTAMP").isNullable(false)
+                                .sorted(createdAt).build(),
+                        ColumnMetadata.builder().name("score").dataType("INT").isNullable(false)
+                                .sorted(score).build(),
+                        ColumnMetadata.builder().name("memo").dataType("VARCHAR").isNullable(false).build()))
+                .build();
+    }
+
+    private <T> List<T> column(List<Map<String, Object>> rows, String name, Class<T> type) {
+        return rows.stream().map(row -> type.cast(row.get(name))).collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("스트리밍 생성")
+    class Streaming {
+
+        @Test
+        @DisplayName("정렬 컬럼은 범위 안에서 정확히 정렬되어 생성되고 시드로 재현된다")
+        void sortedColumns_areOrderedAndSeeded() {
+            // Given
+            TableMetadata table = createTable(
+                    ColumnOrdering.builder().min("2024-01-01T00:00:00").max("2024-01-31T23:59:59").build(),
+                    ColumnOrdering.builder().descending(true).min("1").max("100").build());
+
+            // When
+            List<Map<String, Object>> rows = service.generateDataStream(table, 5000, 3L).collect(Collectors.toList());
+            List<Map<String, Object>> again = service.generateDataStream(table, 5000, 3L).collect(Collectors.toList());
+
+            // Then
+            List<LocalDateTime> createdAt = column(rows, "created_at", LocalDateTime.class);
+            List<Integer> scores = column(rows, "score", Integer.class);
+            assertThat(createdAt).isSorted()
+                    .allSatisfy(t -> assertThat(t).isBetween(LocalDateTime.of(2024, 1, 1, 0, 0),
+                            LocalDateTime.of(2024, 1, 31, 23, 59, 59)));
+            assertThat(scores).isSortedAccordingTo(Comparator.reverseOrder())
+                    .allSatisfy(s -> assertThat(s).isBetween(1, 100));
+            assertThat(createdAt.get(0)).isBefore(LocalDateTime.of(2024, 1, 2, 0, 0));
+            assertThat(createdAt.get(4999)).isAfter(LocalDateTime.of(2024, 1, 30, 0, 0));
+            assertThat(rows).isEqualTo(again);
+        }
+
+        @Test
+        @DisplayName("청크로 나눠 생성해도 전체 행 수를 지정하면 한 번에 생성한 결과와 같다")
+        void chunkedGeneration_matchesSingleRun() {
+            // Given
+            TableMetadata table = createTable(ColumnOrdering.builder().build(), null);
+            List<Map<String, Object>> single = service.generateDataStream(table, 4096, 9L)
+                    .collect(Collectors.toList());
+
+            // When
+            GenerationState state = GenerationState.fresh(9L);
+            state.planRows(4096);
+            List<Map<String, Object>> chunked = new ArrayList<>();
+            service.generateDataStream(table, 2048, state).forEach(chunked::add);
+            service.generateDataStream(table, 2048, state).forEach(chunked::add);
+
+            // Then
+            assertThat(column(chunked, "created_at", LocalDateTime.class))
+                    .isEqualTo(column(single, "created_at", LocalDateTime.class))
+                    .isSorted();
+        }
+
+        @Test
+        @DisplayName("블록 경계가 아닌 체크포인트에서 재개해도 전체가 정렬된다")
+        void unalignedCheckpointResume_staysSorted() {
+            // Given - 1500행(블록 경계 아님)에서 체크포인트
+            TableMetadata table = createTable(ColumnOrdering.builder().build(),
+                    ColumnOrdering.builder().min("0").max("1000000").build());
+            GenerationState first = GenerationState.fresh(21L);
+            first.planRows(5000);
+            List<Map<String, Object>> rows = new ArrayList<>();
+            service.generateDataStream(table, 1500, first).forEach(rows::add);
+
+            // When
+            GenerationState resumed = GenerationState.resume(first.toCheckpoint("ckpt", "events"));
+            resumed.planRows(5000);
+            service.generateDataStream(table, 3500, resumed).forEach(rows::add);
+
+            // Then
+            assertThat(rows).hasSize(5000);
+            assertThat(column(rows, "created_at", LocalDateTime.class)).isSorted();
+            assertThat(column(rows, "score", Integer.class)).isSorted()
+                    .allSatisfy(score -> assertThat(score).isBetween(0, 1000000));
+            assertThat(column(rows, "score", Integer.class).get(4999)).isGreaterThan(990000);
+        }
+
+        @Test
+        @DisplayName("계획보다 많은 행을 이어 생성해도 정렬 구간이 바뀌지 않아 정렬이 유지된다")
+        void appendedRuns_keepTotalFixed() {
+            // Given - 전체 행 수를 지정하지 않은 상태를 두 번 사용
+            TableMetadata table = createTable(null, ColumnOrdering.builder().min("1").max("100").build());
+            GenerationState state = GenerationState.fresh(4L);
+
+            // When
+            List<Map<String, Object>> rows = new ArrayList<>();
+            service.generateDataStream(table, 1500, state).forEach(rows::add);
+            service.generateDataStream(table, 1500, state).forEach(rows::add);
+
+            // Then
+            List<Integer> scores = column(rows, "score", Integer.class);
+            assertThat(scores).isSorted();
+            assertThat(scores.subList(1500, 3000)).containsOnly(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("순서통계량")
+    class OrderStatistics {
+
+        @Test
+        @DisplayName("블록 분위수는 구간 안에서 정렬되고 균등하게 퍼진다")
+        void blockQuantiles_areSortedUniform() {
+            // When
+            double[] quantiles = SortedColumnSampler.blockQuantiles(new Random(1), 0.25, 0.75, 20000);
+
+            // Then
+            assertThat(quantiles).isSorted();
+            assertThat(quantiles[0]).isGreaterThan(0.25);
+            assertThat(quantiles[quantiles.length - 1]).isLessThan(0.75);
+            assertThat(Arrays.stream(quantiles).average().orElseThrow()).isCloseTo(0.5, within(0.01));
+            assertThat(quantiles[10000]).isCloseTo(0.5, within(0.01));
+        }
+    }
+
+    @Nested
+    @DisplayName("옵션 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("지원하지 않는 타입이나 Unique 컬럼의 정렬은 계획 단계에서 거부한다")
+        void invalidOptions_throw() {
+            TableMetadata text = TableMetadata.builder().tableName("t").columns(List.of(
+                    ColumnMetadata.builder().name("memo").dataType("VARCHAR")
+                            .sorted(ColumnOrdering.builder().build()).build()))
+                    .build();
+            TableMetadata unique = TableMetadata.builder().tableName("t").columns(List.of(
+                    ColumnMetadata.builder().name("score").dataType("INT").isUnique(true)
+                            .sorted(ColumnOrdering.builder().build()).build()))
+                    .build();
+
+            assertThatThrownBy(() -> TablePlan.compile(text))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not supported for type");
+            assertThatThrownBy(() -> TablePlan.compile(unique))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("unique");
+        }
+
+        @Test
+        @DisplayName("customRules의 sorted 옵션이 컬럼에 반영된다")
+        void customRules_applySortedOption() {
+            // When
+            TableMetadata table = CustomRules.apply(createTable(null, null),
+                    Map.of("events.score", Map.of("sorted", "desc", "min", "10", "max", "20")));
+
+            // Then
+            ColumnOrdering ordering = table.getColumns().get(1).getSorted();
+            assertThat(ordering.getDescending()).isTrue();
+            assertThat(ordering.getMin()).isEqualTo("10");
+            assertThat(ordering.getMax()).isEqualTo("20");
+            assertThat(table.getColumns().get(0).getSorted()).isNull();
+        }
+    }
+}
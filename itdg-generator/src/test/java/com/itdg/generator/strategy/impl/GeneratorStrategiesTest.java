@@ -7,9 +7,12 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * 데이터 생성 전략 단위 테스트
@@ -299,4 +302,80 @@ class GeneratorStrategiesTest {
             assertThat(hasFalse).isTrue();
         }
     }
+
+    // ============================================
+    // RegexPatternStrategy 테스트
+    // ============================================
+    @Nested
+    @DisplayName("RegexPatternStrategy 테스트")
+    class RegexPatternStrategyTest {
+        private RegexPatternStrategy strategy;
+
+        @BeforeEach
+        void setUp() {
+            strategy = new RegexPatternStrategy();
+        }
+
+        private ColumnMetadata patternColumn(String pattern) {
+            return ColumnMetadata.builder().name("code").dataType("VARCHAR").pattern(pattern).build();
+        }
+
+        @Test
+        @DisplayName("pattern 필드나 regex: 코멘트가 있는 컬럼만 지원해야 함")
+        void supports_patternOrComment() {
+            assertThat(strategy.supports(patternColumn("[A-Z]{3}"))).isTrue();
+            assertThat(strategy.supports(ColumnMetadata.builder().name("biz_no").dataType("VARCHAR")
+                    .comment("사업자번호 regex:\\d{3}-\\d{2}-\\d{5}").build())).isTrue();
+            assertThat(strategy.supports(createColumn("code", "VARCHAR"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("정규식을 만족하는 문자열을 생성해야 함")
+        void generate_matchesPattern() {
+            String[] patterns = { "[A-Z]{3}-\\d{6}", "\\d{3}-\\d{2}-\\d{5}", "(SKU|PRD)_[a-f0-9]{4,8}",
+                    "^[가-힣]{2,4}$", "[^0-9]{5}", "ab*c?", "(?:0[1-9]|1[0-2])/\\d\\d" };
+            for (String pattern : patterns) {
+                ColumnMetadata column = patternColumn(pattern);
+                for (int i = 0; i < 200; i++) {
+                    String value = (String) strategy.generate(column, random);
+                    assertThat(value).matches(pattern);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("매칭 문자열을 균등하게 샘플링해야 함")
+        void generate_isUniform() {
+            ColumnMetadata column = patternColumn("a|b[xy]|c[0-9]");
+            Map<String, Integer> counts = new HashMap<>();
+            int samples = 130_000;
+            for (int i = 0; i < samples; i++) {
+                counts.merge((String) strategy.generate(column, random), 1, Integer::sum);
+            }
+
+            // 1 + 2 + 10 = 13개 문자열이 각각 약 1/13 확률
+            assertThat(counts).hasSize(13);
+            counts.values().forEach(count -> assertThat(count).isBetween(9_000, 11_000));
+        }
+
+        @Test
+        @DisplayName("같은 시드는 같은 값을 생성해야 함")
+        void generate_sameSeed_sameValues() {
+            ColumnMetadata column = patternColumn("[A-Z]{3}-\\d{6}");
+            Random first = new Random(99L);
+            Random second = new Random(99L);
+            for (int i = 0; i < 50; i++) {
+                assertThat(strategy.generate(column, first)).isEqualTo(strategy.generate(column, second));
+            }
+        }
+
+        @Test
+        @DisplayName("잘못된 정규식은 예외를 던져야 함")
+        void generate_invalidPattern_throws() {
+            assertThatThrownBy(() -> strategy.generate(patternColumn("[A-Z"), random))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> strategy.generate(patternColumn("(ab"), random))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
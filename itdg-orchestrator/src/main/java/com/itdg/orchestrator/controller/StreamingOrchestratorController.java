@@ -1,5 +1,6 @@
 package com.itdg.orchestrator.controller;
 
+import com.itdg.common.arrow.ArrowStreamWriter;
 import com.itdg.common.dto.metadata.TableMetadata;
 import com.itdg.orchestrator.dto.MlServerDto;
 import com.itdg.orchestrator.service.ServiceCommunicationService;
@@ -23,7 +24,8 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 스트리밍 기반 데이터 생성 API (Orchestrator)
@@ -59,8 +61,8 @@ public class StreamingOrchestratorController {
                 log.info("Starting SSE streaming - table: {}, rows: {}",
                                 request.getTableName(), request.getRowCount());
 
-                AtomicInteger processed = new AtomicInteger(0);
-                int totalRows = request.getRowCount();
+                AtomicLong processed = new AtomicLong(0);
+                long totalRows = request.getRowCount();
 
                 return generatorWebClient.post()
                                 .uri(uriBuilder -> uriBuilder
@@ -75,7 +77,7 @@ public class StreamingOrchestratorController {
                                 })
                                 .buffer(100) // 100개씩 묶어서 전송 (네트워크 효율)
                                 .map(rows -> {
-                                        int current = processed.addAndGet(rows.size());
+                                        long current = processed.addAndGet(rows.size());
                                         return ServerSentEvent.<DataChunk>builder()
                                                         .id(String.valueOf(current))
                                                         .event("data")
@@ -83,8 +85,7 @@ public class StreamingOrchestratorController {
                                                                         .rows(rows)
                                                                         .progress(current)
                                                                         .total(totalRows)
-                                                                        .percentComplete((int) ((current * 100L)
-                                                                                        / totalRows))
+                                                                        .percentComplete(percentOf(current, totalRows))
                                                                         .build())
                                                         .build();
                                 })
@@ -116,10 +117,15 @@ public class StreamingOrchestratorController {
                 log.info("Starting ML-based SSE streaming - table: {}, rows: {}, modelId: {}",
                                 request.getTableName(), request.getRowCount(), request.getMlModelId());
 
-                int totalRows = request.getRowCount();
+                long totalRows = request.getRowCount();
+                // ML 서버는 결과를 한 번에 메모리로 반환하므로 int 범위까지만 허용
+                if (totalRows > Integer.MAX_VALUE) {
+                        return Flux.error(new IllegalArgumentException(
+                                        "ML generation supports up to " + Integer.MAX_VALUE + " rows"));
+                }
 
                 // ML Server에서 합성 데이터 가져오기
-                return communicationService.generateMlSyntheticData(request.getMlModelId(), totalRows)
+                return communicationService.generateMlSyntheticData(request.getMlModelId(), (int) totalRows)
                                 .flatMapMany(mlResponse -> {
                                         if (!mlResponse.isSuccess() || mlResponse.getData() == null) {
                                                 return Flux.error(new RuntimeException("ML data generation failed"));
@@ -133,11 +139,11 @@ public class StreamingOrchestratorController {
                                                 chunks.add(allData.subList(i, Math.min(i + 100, allData.size())));
                                         }
 
-                                        AtomicInteger processed = new AtomicInteger(0);
+                                        AtomicLong processed = new AtomicLong(0);
 
                                         return Flux.fromIterable(chunks)
                                                         .map(rows -> {
-                                                                int current = processed.addAndGet(rows.size());
+                                                                long current = processed.addAndGet(rows.size());
                                                                 return ServerSentEvent.<DataChunk>builder()
                                                                                 .id(String.valueOf(current))
                                                                                 .event("data")
@@ -146,8 +152,7 @@ public class StreamingOrchestratorController {
                                                                                                 .progress(current)
                                                                                                 .total(totalRows)
                                                                                                 .percentComplete(
-                                                                                                                (int) ((current * 100L)
-                                                                                                                                / totalRows))
+                                                                                                                percentOf(current, totalRows))
                                                                                                 .mlGenerated(true)
                                                                                                 .build())
                                                                                 .build();
@@ -169,35 +174,22 @@ public class StreamingOrchestratorController {
 
         /**
          * CSV 파일 다운로드 프록시 (스트리밍 유지)
+         *
+         * 클라이언트의 Accept-Encoding과 compressionLevel을 Generator로 넘기고, 압축된 본문은 풀지 않고
+         * Content-Encoding과 함께 그대로 전달한다 (아래 다운로드 프록시 공통).
          */
         @PostMapping("/download/csv")
         public Mono<ResponseEntity<Flux<DataBuffer>>> downloadCsv(
-                        @RequestBody StreamGenerateRequest request) {
+                        @RequestBody StreamGenerateRequest request,
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                        @RequestParam(required = false) Integer compressionLevel) {
 
                 log.info("Starting CSV download proxy - table: {}, rows: {}",
                                 request.getTableName(), request.getRowCount());
 
-                return Mono.just(
-                                ResponseEntity.ok()
-                                                .header(HttpHeaders.CONTENT_DISPOSITION,
-                                                                "attachment; filename=\"" + request.getTableName()
-                                                                                + ".csv\"")
-                                                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-                                                .body(
-                                                                generatorWebClient.post()
-                                                                                .uri(uriBuilder -> uriBuilder
-                                                                                                .path("/api/generator/stream/csv")
-                                                                                                .queryParam("rowCount",
-                                                                                                                request.getRowCount())
-                                                                                                .queryParam("seed",
-                                                                                                                request.getSeed() != null
-                                                                                                                                ? request.getSeed()
-                                                                                                                                : 0)
-                                                                                                .build())
-                                                                                .contentType(MediaType.APPLICATION_JSON)
-                                                                                .bodyValue(request.getSchema())
-                                                                                .retrieve()
-                                                                                .bodyToFlux(DataBuffer.class)));
+                return proxyDownload("/api/generator/stream/csv", request, acceptEncoding, compressionLevel,
+                                request.getTableName() + ".csv",
+                                MediaType.parseMediaType("text/csv; charset=UTF-8"));
         }
 
         /**
@@ -205,36 +197,19 @@ public class StreamingOrchestratorController {
          */
         @PostMapping("/download/json")
         public Mono<ResponseEntity<Flux<DataBuffer>>> downloadJson(
-                        @RequestBody StreamGenerateRequest request) {
+                        @RequestBody StreamGenerateRequest request,
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                        @RequestParam(required = false) Integer compressionLevel) {
 
                 log.info("Starting JSON download proxy - table: {}, rows: {}",
                                 request.getTableName(), request.getRowCount());
 
-                return Mono.just(
-                                ResponseEntity.ok()
-                                                .header(HttpHeaders.CONTENT_DISPOSITION,
-                                                                "attachment; filename=\"" + request.getTableName()
-                                                                                + ".json\"")
-                                                .contentType(MediaType.APPLICATION_JSON)
-                                                .body(
-                                                                generatorWebClient.post()
-                                                                                .uri(uriBuilder -> uriBuilder
-                                                                                                .path("/api/generator/stream/json")
-                                                                                                .queryParam("rowCount",
-                                                                                                                request.getRowCount())
-                                                                                                .queryParam("seed",
-                                                                                                                request.getSeed() != null
-                                                                                                                                ? request.getSeed()
-                                                                                                                                : 0)
-                                                                                                .build())
-                                                                                .contentType(MediaType.APPLICATION_JSON)
-                                                                                .bodyValue(request.getSchema())
-                                                                                .retrieve()
-                                                                                .bodyToFlux(DataBuffer.class)));
+                return proxyDownload("/api/generator/stream/json", request, acceptEncoding, compressionLevel,
+                                request.getTableName() + ".json", MediaType.APPLICATION_JSON);
         }
 
         /**
-         * XLSX 파일 다운로드 프록시
+         * XLSX 파일 다운로드 프록시 (XLSX는 이미 zip 압축이라 Generator가 압축하지 않음)
          */
         @PostMapping("/download/xlsx")
         public Mono<ResponseEntity<Flux<DataBuffer>>> downloadXlsx(
@@ -243,28 +218,70 @@ public class StreamingOrchestratorController {
                 log.info("Starting XLSX download proxy - table: {}, rows: {}",
                                 request.getTableName(), request.getRowCount());
 
-                return Mono.just(
-                                ResponseEntity.ok()
-                                                .header(HttpHeaders.CONTENT_DISPOSITION,
-                                                                "attachment; filename=\"" + request.getTableName()
-                                                                                + ".xlsx\"")
-                                                .contentType(MediaType.parseMediaType(
-                                                                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                                                .body(
-                                                                generatorWebClient.post()
-                                                                                .uri(uriBuilder -> uriBuilder
-                                                                                                .path("/api/generator/stream/xlsx")
-                                                                                                .queryParam("rowCount",
-                                                                                                                request.getRowCount())
-                                                                                                .queryParam("seed",
-                                                                                                                request.getSeed() != null
-                                                                                                                                ? request.getSeed()
-                                                                                                                                : 0)
-                                                                                                .build())
-                                                                                .contentType(MediaType.APPLICATION_JSON)
-                                                                                .bodyValue(request.getSchema())
-                                                                                .retrieve()
-                                                                                .bodyToFlux(DataBuffer.class)));
+                return proxyDownload("/api/generator/stream/xlsx", request, null, null,
+                                request.getTableName() + ".xlsx",
+                                MediaType.parseMediaType(
+                                                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        }
+
+        /**
+         * Arrow IPC 스트림 프록시 (컬럼형 소비자용 - 레코드 배치를 그대로 전달)
+         */
+        @PostMapping("/download/arrow")
+        public Mono<ResponseEntity<Flux<DataBuffer>>> downloadArrow(
+                        @RequestBody StreamGenerateRequest request,
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                        @RequestParam(required = false) Integer compressionLevel) {
+
+                log.info("Starting Arrow download proxy - table: {}, rows: {}",
+                                request.getTableName(), request.getRowCount());
+
+                return proxyDownload("/api/generator/stream/arrow", request, acceptEncoding, compressionLevel,
+                                request.getTableName() + ".arrows",
+                                MediaType.parseMediaType(ArrowStreamWriter.MEDIA_TYPE));
+        }
+
+        /**
+         * Generator 스트리밍 응답 중계 (본문은 DataBuffer 단위로 그대로 흘려 보냄)
+         */
+        private Mono<ResponseEntity<Flux<DataBuffer>>> proxyDownload(String path, StreamGenerateRequest request,
+                        String acceptEncoding, Integer compressionLevel, String fileName, MediaType contentType) {
+                return generatorWebClient.post()
+                                .uri(uriBuilder -> uriBuilder
+                                                .path(path)
+                                                .queryParam("rowCount", request.getRowCount())
+                                                .queryParam("seed", request.getSeed() != null ? request.getSeed() : 0)
+                                                .queryParamIfPresent("compressionLevel",
+                                                                Optional.ofNullable(compressionLevel))
+                                                .build())
+                                .headers(headers -> {
+                                        if (acceptEncoding != null) {
+                                                headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+                                        }
+                                })
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(request.getSchema())
+                                .retrieve()
+                                .toEntityFlux(DataBuffer.class)
+                                .map(upstream -> {
+                                        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                                        "attachment; filename=\"" + fileName + "\"")
+                                                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                                                        .contentType(contentType);
+                                        String encoding = upstream.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+                                        if (encoding != null) {
+                                                builder.header(HttpHeaders.CONTENT_ENCODING, encoding);
+                                        }
+                                        return builder.body(upstream.getBody());
+                                });
+        }
+
+        /**
+         * 진행률(%) - 행 수가 커도 넘치지 않도록 double로 계산
+         */
+        static int percentOf(long current, long total) {
+                return total > 0 ? (int) Math.min(100, current * 100.0 / total) : 100;
         }
 
         /**
@@ -277,7 +294,7 @@ public class StreamingOrchestratorController {
         public static class StreamGenerateRequest {
                 private String tableName;
                 private TableMetadata schema;
-                private int rowCount;
+                private long rowCount;
                 private Long seed;
                 private String mlModelId; // ML 학습 모델 ID (있으면 ML 합성 데이터 사용)
         }
@@ -291,8 +308,8 @@ public class StreamingOrchestratorController {
         @AllArgsConstructor
         public static class DataChunk {
                 private List<Map<String, Object>> rows;
-                private int progress;
-                private int total;
+                private long progress;
+                private long total;
                 private int percentComplete;
                 private boolean mlGenerated; // ML 합성 데이터 여부
         }
@@ -22,7 +22,7 @@ public class DataGenerationException extends BusinessException {
         return new DataGenerationException(ErrorCode.DATA_GENERATION_FAILED, reason);
     }
 
-    public static DataGenerationException invalidRowCount(int rowCount) {
+    public static DataGenerationException invalidRowCount(long rowCount) {
         return new DataGenerationException(ErrorCode.INVALID_ROW_COUNT, "요청된 행 수: " + rowCount);
     }
 
@@ -57,7 +57,7 @@ public class OrchestrationService {
 
         GenerateDataRequest generateRequest = GenerateDataRequest.builder()
                 .schema(schemaMetadata)
-                .rowCount(5) // Default fallback, individual table row counts should be respected by
+                .rowCount(5L) // Default fallback, individual table row counts should be respected by
                              // Generator
                 .seed(request.getSeed() != null ? request.getSeed() : System.currentTimeMillis())
                 .build();
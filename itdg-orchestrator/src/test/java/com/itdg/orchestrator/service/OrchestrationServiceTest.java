@@ -57,7 +57,7 @@ class OrchestrationServiceTest {
         private OrchestrationRequest createOrchestrationRequest() {
                 return OrchestrationRequest.builder()
                                 .dbConnection(createDbConnection())
-                                .rowCount(100)
+                                .rowCount(100L)
                                 .seed(12345L)
                                 .build();
         }
@@ -215,7 +215,7 @@ class OrchestrationServiceTest {
                         // Given
                         OrchestrationRequest request = OrchestrationRequest.builder()
                                         .dbConnection(createDbConnection())
-                                        .rowCount(500)
+                                        .rowCount(500L)
                                         .seed(99999L)
                                         .build();
                         SchemaMetadata schema = createMockSchema();